@@ -0,0 +1,633 @@
+package io.github.onu_eccs1621_sp2025.westward.tools;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.TypeAdapter;
+import io.github.onu_eccs1621_sp2025.westward.data.StatusContainer;
+import io.github.onu_eccs1621_sp2025.westward.data.member.Gender;
+import io.github.onu_eccs1621_sp2025.westward.game.ItemStack;
+import io.github.onu_eccs1621_sp2025.westward.game.event.EventAction;
+import io.github.onu_eccs1621_sp2025.westward.game.event.EventConstraint;
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.BuiltInContent;
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.ContentBundle;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * Validates the default game data and compiles it into a binary content bundle.<p>
+ * Every cross-reference between data files is checked, and any error fails the build.
+ * The bundle stores items, statuses, roles, landmarks and events with their ids interned in a string table,
+ * serialized names resolved to enum constants and event constraints already decoded,
+ * so the game can load them without parsing JSON when the game data has not been modified.<p>
+ * Enum aliases, built-in ids and the bundle format are taken from the game's own classes, which are on the classpath.<p>
+ * Usage: {@code ContentCompiler <defaultData directory> <output bundle>}
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.1
+ */
+public final class ContentCompiler {
+    /**
+     * Screens that are built into the game instead of defined by data files
+     */
+    private static final Set<String> BUILT_IN_SCREENS = BuiltInContent.SCREENS.keySet();
+    /**
+     * Statuses that are built into the game instead of defined by data files
+     */
+    private static final Set<String> BUILT_IN_STATUSES = new HashSet<>();
+    /**
+     * The values each enum is read from, taken from the game's own adapters so aliases cannot drift
+     */
+    private static final Map<String, ItemStack.ItemType> ITEM_TYPES = aliases(ItemStack.ItemType.JSON_ADAPTER, ItemStack.ItemType.values());
+    private static final Map<String, EventConstraint.CompareOperator> COMPARE_OPERATORS =
+            aliases(EventConstraint.CompareOperator.JSON_ADAPTER, EventConstraint.CompareOperator.values());
+    private static final Map<String, EventConstraint.Argument> ARGUMENTS =
+            aliases(EventConstraint.Argument.JSON_ADAPTER, EventConstraint.Argument.values());
+    private static final Map<String, EventConstraint.Equation.ArithmeticOperator> ARITHMETIC_OPERATORS =
+            aliases(EventConstraint.Equation.ArithmeticOperator.JSON_ADAPTER, EventConstraint.Equation.ArithmeticOperator.values());
+    private static final Map<String, EventAction.Action> ACTIONS = aliases(EventAction.Action.JSON_ADAPTER, EventAction.Action.values());
+    private static final Map<String, Gender> GENDERS = aliases(Gender.JSON_ADAPTER, Gender.values());
+
+    static {
+        for (StatusContainer status : BuiltInContent.createStatuses()) {
+            BUILT_IN_STATUSES.add(status.getName());
+        }
+    }
+
+    private final Path dataPath;
+    private final List<String> errors = new ArrayList<>();
+    private final Map<String, Integer> strings = new LinkedHashMap<>();
+    private final Map<String, Long> checksums = new LinkedHashMap<>();
+    private final Set<String> itemIds = new HashSet<>();
+    private final Set<String> statusIds = new HashSet<>(BUILT_IN_STATUSES);
+    private final Set<String> screenIds = new HashSet<>(BUILT_IN_SCREENS);
+    private final Set<String> assetIds = new HashSet<>();
+
+    private ContentCompiler(final Path dataPath) {
+        this.dataPath = dataPath;
+    }
+
+    /**
+     * Compiles the game data
+     * @param args The defaultData directory and the bundle to write
+     * @throws IOException If the bundle cannot be written
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: ContentCompiler <defaultData directory> <output bundle>");
+            System.exit(2);
+        }
+        final ContentCompiler compiler = new ContentCompiler(Path.of(args[0]));
+        final Path output = Path.of(args[1]);
+        compiler.compile(output);
+        if (!compiler.errors.isEmpty()) {
+            for (String error : compiler.errors) {
+                System.err.println(error);
+            }
+            System.err.println("Content compilation failed with " + compiler.errors.size() + " error(s)");
+            Files.deleteIfExists(output);
+            System.exit(1);
+        }
+        System.out.println("Compiled content bundle to " + output);
+    }
+
+    private void compile(final Path output) throws IOException {
+        final JsonArray items = read("items.json");
+        final JsonArray statuses = read("statuses.json");
+        final JsonArray roles = read("roles.json");
+        final JsonArray landmarks = read("landmarks.json");
+        final JsonArray events = read("events.json");
+        final JsonArray perilScreens = read("screens/perilScreens.json");
+        final JsonArray landmarkScreens = read("screens/landmarkScreens.json");
+        final JsonArray shopScreens = read("screens/shopScreens.json");
+        final JsonArray tradingScreens = read("screens/tradingScreens.json");
+        final JsonArray huntingScreens = read("screens/huntingGameScreens.json");
+        collectAssets();
+
+        // Collect every id before checking references, so files can reference each other in any order
+        collectIds("items.json", items, "id", this.itemIds);
+        collectIds("statuses.json", statuses, "name", this.statusIds);
+        collectIds("screens/perilScreens.json", perilScreens, "id", this.screenIds);
+        collectIds("screens/landmarkScreens.json", landmarkScreens, "id", this.screenIds);
+        collectIds("screens/shopScreens.json", shopScreens, "id", this.screenIds);
+        collectIds("screens/tradingScreens.json", tradingScreens, "id", this.screenIds);
+        collectIds("screens/huntingGameScreens.json", huntingScreens, "id", new HashSet<>());
+
+        forEach("items.json", items, this::checkItem);
+        forEach("statuses.json", statuses, (location, status) -> requireString(location, status, "name"));
+        forEach("roles.json", roles, this::checkRole);
+        forEach("landmarks.json", landmarks, this::checkLandmark);
+        forEach("events.json", events, this::checkEvent);
+        forEach("screens/perilScreens.json", perilScreens, this::checkImageScreen);
+        forEach("screens/landmarkScreens.json", landmarkScreens, this::checkImageScreen);
+        forEach("screens/shopScreens.json", shopScreens, this::checkShopScreen);
+        forEach("screens/tradingScreens.json", tradingScreens, this::checkTradingScreen);
+        forEach("screens/huntingGameScreens.json", huntingScreens, this::checkHuntingScreen);
+
+        if (!this.errors.isEmpty()) {
+            return;
+        }
+
+        // Landmarks are stored in the order the game uses them
+        final List<JsonObject> sortedLandmarks = new ArrayList<>();
+        landmarks.forEach(landmark -> sortedLandmarks.add(landmark.getAsJsonObject()));
+        sortedLandmarks.sort(Comparator.comparingInt(landmark -> getInt(landmark, "mile")));
+
+        // The string table is written first, so every section has to be encoded before the file is written
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(body)) {
+            out.writeInt(this.checksums.size());
+            for (Map.Entry<String, Long> entry : this.checksums.entrySet()) {
+                out.writeInt(intern(entry.getKey()));
+                out.writeLong(entry.getValue());
+            }
+            writeSection(out, items, this::writeItem);
+            writeSection(out, statuses, this::writeStatus);
+            writeSection(out, roles, this::writeRole);
+            out.writeInt(sortedLandmarks.size());
+            for (JsonObject landmark : sortedLandmarks) {
+                writeLandmark(out, landmark);
+            }
+            writeSection(out, events, this::writeEvent);
+        }
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(output)))) {
+            out.writeInt(ContentBundle.MAGIC);
+            out.writeShort(ContentBundle.VERSION);
+            out.writeInt(this.strings.size());
+            for (String string : this.strings.keySet()) {
+                out.writeUTF(string);
+            }
+            body.writeTo(out);
+        }
+    }
+
+    private static <E extends Enum<E>> Map<String, E> aliases(final TypeAdapter<E> adapter, final E[] constants) {
+        final Map<String, E> aliases = new HashMap<>();
+        for (E constant : constants) {
+            aliases.put(adapter.toJsonTree(constant).getAsString(), constant);
+        }
+        return aliases;
+    }
+
+    // Reading
+
+    private JsonArray read(final String relativePath) throws IOException {
+        final Path path = this.dataPath.resolve(relativePath);
+        final byte[] bytes = Files.readAllBytes(path);
+        final CRC32 crc = new CRC32();
+        crc.update(bytes);
+        this.checksums.put(relativePath, crc.getValue());
+        try (Reader reader = Files.newBufferedReader(path)) {
+            final JsonElement root = JsonParser.parseReader(reader);
+            if (root.isJsonArray()) {
+                return root.getAsJsonArray();
+            }
+            this.errors.add(relativePath + ": expected an array");
+        } catch (JsonParseException e) {
+            this.errors.add(relativePath + ": " + e.getMessage());
+        }
+        return new JsonArray();
+    }
+
+    private void collectAssets() throws IOException {
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(this.dataPath.resolve("asset"))) {
+            for (Path path : stream) {
+                final String name = path.getFileName().toString();
+                this.assetIds.add(name.substring(0, name.lastIndexOf('.')));
+            }
+        }
+    }
+
+    private void collectIds(final String file, final JsonArray array, final String field, final Set<String> ids) {
+        forEach(file, array, (location, element) -> {
+            final String id = getString(element, field);
+            if (id != null && !ids.add(id)) {
+                error(location, "duplicate " + field + " [" + id + "]");
+            }
+        });
+    }
+
+    private void forEach(final String file, final JsonArray array, final ElementChecker checker) {
+        for (int i = 0; i < array.size(); i++) {
+            final String location = file + " $[" + i + "]";
+            if (!array.get(i).isJsonObject()) {
+                error(location, "expected an object");
+                continue;
+            }
+            checker.check(location, array.get(i).getAsJsonObject());
+        }
+    }
+
+    // Validation
+
+    private void checkItem(final String location, final JsonObject item) {
+        requireString(location, item, "id");
+        requireAlias(location, item, "type", ITEM_TYPES);
+        checkReference(location, item, "statusApplied", this.statusIds, "status");
+    }
+
+    private void checkRole(final String location, final JsonObject role) {
+        requireString(location, role, "id");
+        final String gender = getString(role, "preferredGender");
+        if (gender != null && !GENDERS.containsKey(gender)) {
+            error(location, "unknown preferredGender [" + gender + "]");
+        }
+    }
+
+    private void checkLandmark(final String location, final JsonObject landmark) {
+        requireString(location, landmark, "name");
+        requireString(location, landmark, "screenId");
+        checkReference(location, landmark, "screenId", this.screenIds, "screen");
+        checkReference(location, landmark, "shopScreenId", this.screenIds, "screen");
+        checkReference(location, landmark, "spritePath", this.assetIds, "asset");
+    }
+
+    private void checkEvent(final String location, final JsonObject event) {
+        requireString(location, event, "name");
+        requireString(location, event, "screenId");
+        checkReference(location, event, "screenId", this.screenIds, "screen");
+        if (!(event.get("action") instanceof JsonObject action)) {
+            error(location, "missing required field [action]");
+            return;
+        }
+        final String actionName = getString(action, "action");
+        final EventAction.Action actionType = actionName == null ? null : ACTIONS.get(actionName);
+        if (actionType == null) {
+            error(location, "unknown action [" + actionName + "]");
+            return;
+        }
+        switch (actionType) {
+            case ADD_STATUS_MEMBER, ADD_STATUS_ALL -> {
+                requireString(location, action, "type");
+                checkReference(location, action, "type", this.statusIds, "status");
+            }
+            case REMOVE_ITEMS -> checkReference(location, action, "type", this.itemIds, "item");
+            default -> {
+                // KILL uses the type as a translation key for the cause of death
+            }
+        }
+        if (actionType.rollsAmount() && !(action.get("amount") instanceof JsonObject)) {
+            error(location, "action " + actionName + " requires [amount]");
+        }
+        if (action.get("constraint") instanceof JsonArray constraints) {
+            for (int i = 0; i < constraints.size(); i++) {
+                if (constraints.get(i) instanceof JsonObject constraint) {
+                    checkConstraint(location + ".action.constraint[" + i + "]", constraint);
+                } else {
+                    error(location + ".action.constraint[" + i + "]", "expected an object");
+                }
+            }
+        }
+    }
+
+    private void checkConstraint(final String location, final JsonObject constraint) {
+        requireAlias(location, constraint, "compareOperator", COMPARE_OPERATORS);
+        if (constraint.has("argument")) {
+            requireAlias(location, constraint, "argument", ARGUMENTS);
+            final EventConstraint.Argument argument = ARGUMENTS.get(getString(constraint, "argument"));
+            if (argument == EventConstraint.Argument.STATUS) {
+                checkReference(location, constraint, "stringValue", this.statusIds, "status");
+            } else if (argument == EventConstraint.Argument.ROLE || argument == EventConstraint.Argument.GENDER) {
+                requireString(location, constraint, "stringValue");
+            } else {
+                requireInt(location, constraint, "intValue");
+            }
+        } else if (constraint.get("complexArgument") instanceof JsonObject complexArgument) {
+            checkComplexArgument(location + ".complexArgument", complexArgument);
+            requireInt(location, constraint, "intValue");
+        } else if (constraint.get("equation") instanceof JsonObject equation) {
+            requireAlias(location + ".equation", equation, "operator", ARITHMETIC_OPERATORS);
+            if (equation.has("argument")) {
+                requireAlias(location + ".equation", equation, "argument", ARGUMENTS);
+            } else if (equation.get("complexArgument") instanceof JsonObject complexArgument) {
+                checkComplexArgument(location + ".equation.complexArgument", complexArgument);
+            } else {
+                error(location + ".equation", "missing [argument] or [complexArgument]");
+            }
+            if (ARITHMETIC_OPERATORS.get(getString(equation, "operator")) == EventConstraint.Equation.ArithmeticOperator.DIVIDE
+                    && getInt(equation, "modifier") == 0) {
+                error(location + ".equation", "division by zero");
+            }
+            requireInt(location, constraint, "intValue");
+        } else {
+            error(location, "missing [argument], [complexArgument] or [equation]");
+        }
+    }
+
+    private void checkComplexArgument(final String location, final JsonObject complexArgument) {
+        requireAlias(location, complexArgument, "argument", ARGUMENTS);
+        if (ARGUMENTS.get(getString(complexArgument, "argument")) == EventConstraint.Argument.ITEM_COUNT) {
+            checkReference(location, complexArgument, "value", this.itemIds, "item");
+        }
+    }
+
+    private void checkImageScreen(final String location, final JsonObject screen) {
+        requireString(location, screen, "id");
+        requireString(location, screen, "translationKey");
+        checkImage(location, screen, "imagePath");
+    }
+
+    private void checkShopScreen(final String location, final JsonObject screen) {
+        requireString(location, screen, "id");
+        if (!(screen.get("items") instanceof JsonArray listings)) {
+            error(location, "missing required field [items]");
+            return;
+        }
+        for (int i = 0; i < listings.size(); i++) {
+            final String listingLocation = location + ".items[" + i + "]";
+            if (listings.get(i) instanceof JsonObject listing) {
+                requireString(listingLocation, listing, "itemId");
+                checkReference(listingLocation, listing, "itemId", this.itemIds, "item");
+                requireAlias(listingLocation, listing, "itemType", ITEM_TYPES);
+            } else {
+                error(listingLocation, "expected an object");
+            }
+        }
+    }
+
+    private void checkTradingScreen(final String location, final JsonObject screen) {
+        checkImageScreen(location, screen);
+        if (screen.get("possibleItems") instanceof JsonArray possibleItems) {
+            for (int i = 0; i < possibleItems.size(); i++) {
+                final String itemLocation = location + ".possibleItems[" + i + "]";
+                if (possibleItems.get(i) instanceof JsonObject possibleItem) {
+                    requireString(itemLocation, possibleItem, "id");
+                    checkReference(itemLocation, possibleItem, "id", this.itemIds, "item");
+                } else {
+                    error(itemLocation, "expected an object");
+                }
+            }
+        }
+    }
+
+    private void checkHuntingScreen(final String location, final JsonObject screen) {
+        requireString(location, screen, "id");
+        if (!(screen.get("animals") instanceof JsonArray animals)) {
+            error(location, "missing required field [animals]");
+            return;
+        }
+        for (int i = 0; i < animals.size(); i++) {
+            final String animalLocation = location + ".animals[" + i + "]";
+            if (!(animals.get(i) instanceof JsonObject animal)) {
+                error(animalLocation, "expected an object");
+                continue;
+            }
+            final String animalId = getString(animal, "animalId");
+            if (animalId == null) {
+                error(animalLocation, "missing required field [animalId]");
+            } else {
+                // Animals are drawn facing the direction they move
+                for (String sprite : new String[] {animalId + "-left", animalId + "-right"}) {
+                    if (!this.assetIds.contains(sprite)) {
+                        error(animalLocation, "unknown asset [" + sprite + "]");
+                    }
+                }
+            }
+            if (animal.get("drop") instanceof JsonObject drop && drop.get("entries") instanceof JsonArray entries) {
+                for (int j = 0; j < entries.size(); j++) {
+                    final String entryLocation = animalLocation + ".drop.entries[" + j + "]";
+                    if (!(entries.get(j) instanceof JsonObject entry)) {
+                        error(entryLocation, "expected an object");
+                        continue;
+                    }
+                    final String returnType = getString(entry, "returnType");
+                    if ("item".equals(returnType)) {
+                        checkReference(entryLocation, entry, "identifier", this.itemIds, "item");
+                    } else if ("status".equals(returnType)) {
+                        checkReference(entryLocation, entry, "identifier", this.statusIds, "status");
+                    } else {
+                        error(entryLocation, "unknown returnType [" + returnType + "]");
+                    }
+                    requireString(entryLocation, entry, "identifier");
+                }
+            }
+        }
+    }
+
+    private void checkImage(final String location, final JsonObject object, final String field) {
+        final String image = getString(object, field);
+        // An empty image path means the screen has no image
+        if (image != null && !image.isEmpty() && !this.assetIds.contains(image)) {
+            error(location, "unknown asset [" + image + "] in [" + field + "]");
+        }
+    }
+
+    private void checkReference(final String location, final JsonObject object, final String field, final Set<String> ids, final String kind) {
+        final String id = getString(object, field);
+        if (id != null && !ids.contains(id)) {
+            error(location, "unknown " + kind + " [" + id + "] in [" + field + "]");
+        }
+    }
+
+    private void requireString(final String location, final JsonObject object, final String field) {
+        if (getString(object, field) == null) {
+            error(location, "missing required field [" + field + "]");
+        }
+    }
+
+    private void requireInt(final String location, final JsonObject object, final String field) {
+        final JsonElement value = object.get(field);
+        try {
+            if (value == null || value.isJsonNull()) {
+                error(location, "missing required field [" + field + "]");
+            } else {
+                // Gson also accepts numbers written as strings
+                Integer.parseInt(value.getAsString());
+            }
+        } catch (NumberFormatException | UnsupportedOperationException | IllegalStateException e) {
+            error(location, "[" + field + "] is not an integer");
+        }
+    }
+
+    private void requireAlias(final String location, final JsonObject object, final String field, final Map<String, ?> aliases) {
+        final String value = getString(object, field);
+        if (value == null) {
+            error(location, "missing required field [" + field + "]");
+        } else if (!aliases.containsKey(value)) {
+            error(location, "unknown " + field + " [" + value + "]");
+        }
+    }
+
+    private void error(final String location, final String message) {
+        this.errors.add(location + ": " + message);
+    }
+
+    // Writing
+
+    private void writeSection(final DataOutputStream out, final JsonArray array, final ElementWriter writer) throws IOException {
+        out.writeInt(array.size());
+        for (JsonElement element : array) {
+            writer.write(out, element.getAsJsonObject());
+        }
+    }
+
+    private void writeItem(final DataOutputStream out, final JsonObject item) throws IOException {
+        writeString(out, getString(item, "id"));
+        out.writeShort(getInt(item, "count"));
+        out.writeFloat(getFloat(item, "barterValue"));
+        writeEnum(out, ITEM_TYPES, getString(item, "type"));
+        writeString(out, getString(item, "statusApplied"));
+    }
+
+    private void writeStatus(final DataOutputStream out, final JsonObject status) throws IOException {
+        writeString(out, getString(status, "name"));
+        writeString(out, getString(status, "obtainedTranslationKey"));
+        out.writeBoolean(getBoolean(status, "healable"));
+        out.writeByte(getInt(status, "level"));
+        out.writeByte(getInt(status, "maxLevel"));
+        out.writeFloat(getFloat(status, "baseChance"));
+    }
+
+    private void writeRole(final DataOutputStream out, final JsonObject role) throws IOException {
+        writeString(out, getString(role, "id"));
+        writeEnum(out, GENDERS, getString(role, "preferredGender"));
+        writeOptionalInt(out, role, "bonusMoney");
+        writeOptionalInt(out, role, "bonusPoints");
+        out.writeInt(getInt(role, "bonusHealth"));
+        out.writeBoolean(getBoolean(role, "canHealPlayers"));
+    }
+
+    private void writeLandmark(final DataOutputStream out, final JsonObject landmark) throws IOException {
+        writeString(out, getString(landmark, "name"));
+        writeString(out, getString(landmark, "screenId"));
+        writeString(out, getString(landmark, "shopScreenId"));
+        writeString(out, getString(landmark, "spritePath"));
+        out.writeInt(getInt(landmark, "mile"));
+        out.writeBoolean(getBoolean(landmark, "hasRiver"));
+    }
+
+    private void writeEvent(final DataOutputStream out, final JsonObject event) throws IOException {
+        writeString(out, getString(event, "name"));
+        writeString(out, getString(event, "screenId"));
+        out.writeFloat(getFloat(event, "chance"));
+        final JsonObject action = event.getAsJsonObject("action");
+        writeEnum(out, ACTIONS, getString(action, "action"));
+        writeString(out, getString(action, "type"));
+        writeRange(out, action.get("amount") instanceof JsonObject amount ? amount : null);
+        if (action.get("constraint") instanceof JsonArray constraints) {
+            out.writeInt(constraints.size());
+            for (JsonElement constraint : constraints) {
+                writeConstraint(out, constraint.getAsJsonObject());
+            }
+        } else {
+            out.writeInt(-1);
+        }
+    }
+
+    private void writeConstraint(final DataOutputStream out, final JsonObject constraint) throws IOException {
+        writeEnum(out, ARGUMENTS, getString(constraint, "argument"));
+        writeComplexArgument(out, constraint.get("complexArgument") instanceof JsonObject complexArgument ? complexArgument : null);
+        writeEnum(out, COMPARE_OPERATORS, getString(constraint, "compareOperator"));
+        writeOptionalInt(out, constraint, "intValue");
+        writeString(out, getString(constraint, "stringValue"));
+        if (constraint.get("equation") instanceof JsonObject equation) {
+            out.writeBoolean(true);
+            writeEnum(out, ARGUMENTS, getString(equation, "argument"));
+            writeComplexArgument(out, equation.get("complexArgument") instanceof JsonObject complexArgument ? complexArgument : null);
+            writeEnum(out, ARITHMETIC_OPERATORS, getString(equation, "operator"));
+            out.writeInt(getInt(equation, "modifier"));
+        } else {
+            out.writeBoolean(false);
+        }
+    }
+
+    private void writeComplexArgument(final DataOutputStream out, final JsonObject complexArgument) throws IOException {
+        out.writeBoolean(complexArgument != null);
+        if (complexArgument != null) {
+            writeEnum(out, ARGUMENTS, getString(complexArgument, "argument"));
+            writeString(out, getString(complexArgument, "value"));
+        }
+    }
+
+    private void writeRange(final DataOutputStream out, final JsonObject range) throws IOException {
+        out.writeBoolean(range != null);
+        if (range != null) {
+            out.writeInt(getInt(range, "min"));
+            out.writeInt(getInt(range, "max"));
+            out.writeBoolean(getBoolean(range, "normal"));
+            writeOptionalDouble(out, range, "mean");
+            writeOptionalDouble(out, range, "stdDev");
+        }
+    }
+
+    private void writeOptionalInt(final DataOutputStream out, final JsonObject object, final String field) throws IOException {
+        final boolean present = object.has(field) && !object.get(field).isJsonNull();
+        out.writeBoolean(present);
+        if (present) {
+            out.writeInt(getInt(object, field));
+        }
+    }
+
+    private void writeOptionalDouble(final DataOutputStream out, final JsonObject object, final String field) throws IOException {
+        final boolean present = object.has(field) && !object.get(field).isJsonNull();
+        out.writeBoolean(present);
+        if (present) {
+            out.writeDouble(object.get(field).getAsDouble());
+        }
+    }
+
+    private void writeEnum(final DataOutputStream out, final Map<String, ? extends Enum<?>> aliases, final String value) throws IOException {
+        final Enum<?> constant = value == null ? null : aliases.get(value);
+        writeString(out, constant == null ? null : constant.name());
+    }
+
+    private void writeString(final DataOutputStream out, final String value) throws IOException {
+        out.writeInt(value == null ? -1 : intern(value));
+    }
+
+    private int intern(final String value) {
+        return this.strings.computeIfAbsent(value, key -> this.strings.size());
+    }
+
+    // Fields are read the same way Gson reads them into the game's classes, where missing primitives are zero
+
+    private static String getString(final JsonObject object, final String field) {
+        final JsonElement value = object.get(field);
+        return value == null || value.isJsonNull() || !value.isJsonPrimitive() ? null : value.getAsString();
+    }
+
+    private static int getInt(final JsonObject object, final String field) {
+        final JsonElement value = object.get(field);
+        return value == null || value.isJsonNull() ? 0 : Integer.parseInt(value.getAsString());
+    }
+
+    private static float getFloat(final JsonObject object, final String field) {
+        final JsonElement value = object.get(field);
+        return value == null || value.isJsonNull() ? 0F : value.getAsFloat();
+    }
+
+    private static boolean getBoolean(final JsonObject object, final String field) {
+        final JsonElement value = object.get(field);
+        return value != null && !value.isJsonNull() && value.getAsBoolean();
+    }
+
+    @FunctionalInterface
+    private interface ElementChecker {
+        void check(String location, JsonObject element);
+    }
+
+    @FunctionalInterface
+    private interface ElementWriter {
+        void write(DataOutputStream out, JsonObject element) throws IOException;
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.onu_eccs1621_sp2025.westward.benchmark;
+
+import io.github.onu_eccs1621_sp2025.westward.data.member.Member;
+import io.github.onu_eccs1621_sp2025.westward.game.Game;
+import io.github.onu_eccs1621_sp2025.westward.game.event.EventConstraint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures checking event constraints, which happens for every event selected each mile.<p>
+ * Selecting events is measured by {@link EventSelectionBenchmark}, since events that run change the game
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventBenchmark {
+    /**
+     * The number of stacks in the inventory, which the item count arguments add up
+     */
+    @Param({ "8", "64", "512" })
+    public int stacks;
+    /**
+     * The game value the constraint compares
+     */
+    @Param({ "DAY", "MONEY", "FOOD_COUNT", "ITEM_COUNT", "MEMBER_COUNT" })
+    public EventConstraint.Argument argument;
+    private EventConstraint constraint;
+    private EventConstraint memberConstraint;
+    private Member member;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        GameData.load();
+        final Game game = GameData.startGame(4, this.stacks);
+        this.member = game.getMembers().getFirst();
+        this.constraint = new EventConstraint(this.argument, null, EventConstraint.CompareOperator.GREATER_THAN, 0, null, null);
+        this.memberConstraint = new EventConstraint(EventConstraint.Argument.HEALTH, null, EventConstraint.CompareOperator.GREATER_THAN, 0, null, null);
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return this.constraint.validate("benchmark");
+    }
+
+    @Benchmark
+    public boolean validateMember() {
+        return this.memberConstraint.validate("benchmark", this.member);
+    }
+}
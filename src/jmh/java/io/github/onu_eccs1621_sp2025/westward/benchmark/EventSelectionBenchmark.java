@@ -0,0 +1,65 @@
+package io.github.onu_eccs1621_sp2025.westward.benchmark;
+
+import io.github.onu_eccs1621_sp2025.westward.game.Game;
+import io.github.onu_eccs1621_sp2025.westward.game.event.Event;
+import io.github.onu_eccs1621_sp2025.westward.screen.Renderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures selecting a random event for each mile of a day of travel.<p>
+ * Events that run change the game and queue screens, so every invocation starts from a copy of the same game
+ * with an empty render queue. Without this, members would die and later selections would return early
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventSelectionBenchmark {
+    /**
+     * The number of events selected per invocation, about one day of travel
+     */
+    private static final int MILES = 15;
+    /**
+     * The number of stacks in the inventory, which the item count arguments add up
+     */
+    @Param({ "8", "64", "512" })
+    public int stacks;
+    /**
+     * The game every invocation is copied from. It is never played
+     */
+    private Game start;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        GameData.load();
+        this.start = GameData.startGame(4, this.stacks);
+    }
+
+    @Setup(Level.Invocation)
+    public void reset() {
+        // Copying the game also gives it an empty list of recorded events
+        Renderer.RENDER_QUEUE.clear();
+        Game.resetInstance(this.start.createSnapshot());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MILES)
+    public void selectRandomEvent() {
+        for (int i = 0; i < MILES; i++) {
+            Event.selectRandomEvent();
+        }
+    }
+}
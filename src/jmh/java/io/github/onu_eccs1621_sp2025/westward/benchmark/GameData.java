@@ -0,0 +1,93 @@
+package io.github.onu_eccs1621_sp2025.westward.benchmark;
+
+import io.github.onu_eccs1621_sp2025.westward.TrailApplication;
+import io.github.onu_eccs1621_sp2025.westward.data.SaveData;
+import io.github.onu_eccs1621_sp2025.westward.game.Game;
+import io.github.onu_eccs1621_sp2025.westward.game.Inventory;
+import io.github.onu_eccs1621_sp2025.westward.game.ItemStack;
+import io.github.onu_eccs1621_sp2025.westward.screen.Renderer;
+import io.github.onu_eccs1621_sp2025.westward.utils.Config;
+import io.github.onu_eccs1621_sp2025.westward.utils.DebugLogger;
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.Registry;
+import io.github.onu_eccs1621_sp2025.westward.utils.text.Translations;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Loads the default game data for benchmarks the same way the game does before it opens the window,
+ * and builds games and inventories of a given size.<p>
+ * The game data is copied into gameData in the working directory if it is missing
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.0
+ */
+final class GameData {
+    private static boolean loaded;
+
+    /**
+     * Loads the config, translations and Registry. Only the first call loads anything
+     */
+    static synchronized void load() {
+        if (loaded) {
+            return;
+        }
+        try {
+            TrailApplication.checkFiles();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // Benchmarks would otherwise measure the console
+        DebugLogger.setLevel(DebugLogger.Level.WARN);
+        Translations.loadTranslations(Config.getConfig().getLanguage());
+        Registry.loadAssets();
+        loaded = true;
+    }
+
+    /**
+     * Creates an inventory with a number of separate stacks, using the items in the Registry as templates
+     * @param stacks The number of stacks
+     * @return The inventory
+     */
+    static Inventory inventory(final int stacks) {
+        final ItemStack[] templates = (ItemStack[]) Registry.getAssets(Registry.AssetType.ITEM);
+        final Inventory inventory = new Inventory();
+        for (int i = 0; i < stacks; i++) {
+            final ItemStack template = templates[i % templates.length];
+            // Ids past the Registry are made unique so the stacks are not merged
+            final String id = i < templates.length ? template.getId() : template.getId() + "#" + i;
+            inventory.addItemStack(new ItemStack(id, (short) 100, template.getType(), template.getBarterValue()));
+        }
+        return inventory;
+    }
+
+    /**
+     * Creates a save with random members
+     * @param members The number of members
+     * @param stacks The number of stacks in the inventory
+     * @return The save
+     */
+    static SaveData save(final int members, final int stacks) {
+        final SaveData.SaveDataBuilder builder = new SaveData.SaveDataBuilder()
+                .saveName("benchmark")
+                .difficulty((short) 2);
+        for (int i = 0; i < members; i++) {
+            builder.addMember();
+        }
+        final SaveData save = builder.build();
+        return new SaveData(save.saveName(), save.members(), inventory(stacks), save.money(), save.mile(),
+                save.difficulty(), save.date(), save.nextLandmarkIndex(), save.canSleep(), save.dateSaved());
+    }
+
+    /**
+     * Starts a new game, replacing the current one. Screens queued by the last game are cleared
+     * @param members The number of members
+     * @param stacks The number of stacks in the inventory
+     * @return The game
+     */
+    static Game startGame(final int members, final int stacks) {
+        Renderer.RENDER_QUEUE.clear();
+        Game.resetInstance(save(members, stacks));
+        return Game.getInstance();
+    }
+}
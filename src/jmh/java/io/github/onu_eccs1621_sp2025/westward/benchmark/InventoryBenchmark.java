@@ -0,0 +1,77 @@
+package io.github.onu_eccs1621_sp2025.westward.benchmark;
+
+import io.github.onu_eccs1621_sp2025.westward.game.Inventory;
+import io.github.onu_eccs1621_sp2025.westward.game.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the Inventory operations that run every travel day.<p>
+ * Operations that change the inventory run on a copy, so every call starts from the same inventory.
+ * Subtract {@link InventoryBenchmark#copy()} from them to get the cost of the operation alone
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InventoryBenchmark {
+    /**
+     * The number of stacks in the inventory
+     */
+    @Param({ "8", "64", "512" })
+    public int stacks;
+    private Inventory inventory;
+    private String existingId;
+
+    @Setup
+    public void setup() {
+        GameData.load();
+        this.inventory = GameData.inventory(this.stacks);
+        this.existingId = this.inventory.getItems().getLast().getId();
+    }
+
+    @Benchmark
+    public int countOfType() {
+        return this.inventory.countOfType(ItemStack.ItemType.FOOD);
+    }
+
+    @Benchmark
+    public Inventory copy() {
+        return this.inventory.copy();
+    }
+
+    @Benchmark
+    public boolean removeOfType() {
+        return this.inventory.copy().removeOfType(ItemStack.ItemType.FOOD, 4);
+    }
+
+    @Benchmark
+    public boolean removeOfTypeRandom() {
+        // How food is eaten at the end of each day
+        return this.inventory.copy().removeOfType(ItemStack.ItemType.FOOD, 4, 0.5);
+    }
+
+    @Benchmark
+    public Inventory addItemStackMerged() {
+        final Inventory copy = this.inventory.copy();
+        copy.addItemStack(new ItemStack(this.existingId, (short) 1, ItemStack.ItemType.FOOD, 1));
+        return copy;
+    }
+
+    @Benchmark
+    public Inventory addItemStackNew() {
+        final Inventory copy = this.inventory.copy();
+        copy.addItemStack(new ItemStack("benchmarkItem", (short) 1, ItemStack.ItemType.FOOD, 1));
+        return copy;
+    }
+}
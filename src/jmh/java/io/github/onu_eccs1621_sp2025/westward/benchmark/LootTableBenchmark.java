@@ -0,0 +1,60 @@
+package io.github.onu_eccs1621_sp2025.westward.benchmark;
+
+import io.github.onu_eccs1621_sp2025.westward.data.loot_table.LootTable;
+import io.github.onu_eccs1621_sp2025.westward.data.loot_table.LootTableEntry;
+import io.github.onu_eccs1621_sp2025.westward.game.ItemStack;
+import io.github.onu_eccs1621_sp2025.westward.utils.math.IntegerRange;
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.Registry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures rolling a loot table, which hunting and trading screens use to hand out items
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LootTableBenchmark {
+    /**
+     * The number of entries in the table
+     */
+    @Param({ "1", "8", "32" })
+    public int entries;
+    /**
+     * The number of times the table is rolled
+     */
+    @Param({ "1", "4" })
+    public int rolls;
+    private LootTable table;
+
+    @Setup
+    public void setup() {
+        GameData.load();
+        final ItemStack[] items = (ItemStack[]) Registry.getAssets(Registry.AssetType.ITEM);
+        final IntegerRange count = new IntegerRange(1, 5, false, null, null);
+        final List<LootTableEntry> list = new ArrayList<>(this.entries);
+        for (int i = 0; i < this.entries; i++) {
+            // Every other entry always drops, so both paths of a roll are measured
+            list.add(new LootTableEntry(Registry.AssetType.ITEM, items[i % items.length].getId(), 0.5F, count, i % 2 == 0));
+        }
+        this.table = new LootTable(this.rolls, list);
+    }
+
+    @Benchmark
+    public List<?> run() {
+        return this.table.run();
+    }
+}
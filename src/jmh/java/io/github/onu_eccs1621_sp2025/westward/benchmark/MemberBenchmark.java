@@ -0,0 +1,61 @@
+package io.github.onu_eccs1621_sp2025.westward.benchmark;
+
+import io.github.onu_eccs1621_sp2025.westward.data.StatusContainer;
+import io.github.onu_eccs1621_sp2025.westward.data.member.Member;
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.Registry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures ticking a member, which rolls every status the member has.<p>
+ * The member has enough health that it never dies during an iteration
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MemberBenchmark {
+    /**
+     * The number of statuses the member has, limited to the statuses in the Registry
+     */
+    @Param({ "0", "2", "8" })
+    public int statuses;
+    /**
+     * The level of each status, which is how many times it is rolled
+     */
+    @Param({ "1", "3" })
+    public int level;
+    private Member member;
+    private ListIterator<Member> iterator;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        GameData.load();
+        final Member template = GameData.startGame(1, 8).getMembers().getFirst();
+        this.member = new Member(template.getName(), template.getRole(), template.getGender(), Integer.MAX_VALUE, Integer.MAX_VALUE);
+        final StatusContainer[] available = (StatusContainer[]) Registry.getAssets(Registry.AssetType.STATUS);
+        for (int i = 0; i < Math.min(this.statuses, available.length); i++) {
+            this.member.getStatuses().add(available[i].cloneWithLevel((byte) this.level));
+        }
+        this.iterator = List.of(this.member).listIterator();
+    }
+
+    @Benchmark
+    public Member tick() {
+        this.member.tick(this.iterator);
+        return this.member;
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.onu_eccs1621_sp2025.westward.benchmark;
+
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.Registry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures looking up assets, which screens and events do while they run
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RegistryBenchmark {
+    /**
+     * The type of asset looked up
+     */
+    @Param({ "ITEM", "STATUS", "SCREEN", "EVENT", "ROLE" })
+    public Registry.AssetType type;
+    private String[] ids;
+    private int index;
+
+    @Setup
+    public void setup() {
+        GameData.load();
+        this.ids = Registry.getAssetIdentifiers(this.type);
+    }
+
+    @Benchmark
+    public Object getAsset() {
+        // Cycle through the identifiers so one hot entry does not stand in for the whole map
+        this.index = this.index + 1 == this.ids.length ? 0 : this.index + 1;
+        return Registry.getAsset(this.type, this.ids[this.index]);
+    }
+}
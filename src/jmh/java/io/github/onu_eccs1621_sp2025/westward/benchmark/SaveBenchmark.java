@@ -0,0 +1,71 @@
+package io.github.onu_eccs1621_sp2025.westward.benchmark;
+
+import io.github.onu_eccs1621_sp2025.westward.data.SaveData;
+import io.github.onu_eccs1621_sp2025.westward.data.save.SaveCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures encoding and decoding saves in memory, without the disk.<p>
+ * Saves are compressed if the config compresses saves
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SaveBenchmark {
+    /**
+     * The number of members in the save
+     */
+    @Param({ "4", "16" })
+    public int members;
+    /**
+     * The number of stacks in the inventory
+     */
+    @Param({ "8", "64", "512" })
+    public int stacks;
+    private SaveData save;
+    private byte[] encoded;
+
+    @Setup
+    public void setup() throws IOException {
+        GameData.load();
+        this.save = GameData.save(this.members, this.stacks);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SaveCodec.write(this.save, out);
+        this.encoded = out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] write() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(this.encoded.length);
+        SaveCodec.write(this.save, out);
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public SaveData read() throws IOException {
+        return SaveCodec.read(new ByteArrayInputStream(this.encoded));
+    }
+
+    @Benchmark
+    public String exportJson() {
+        final StringWriter writer = new StringWriter();
+        SaveCodec.exportJson(this.save, writer);
+        return writer.toString();
+    }
+}
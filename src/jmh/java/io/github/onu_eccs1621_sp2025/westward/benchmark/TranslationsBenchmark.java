@@ -0,0 +1,56 @@
+package io.github.onu_eccs1621_sp2025.westward.benchmark;
+
+import io.github.onu_eccs1621_sp2025.westward.utils.text.Translations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures translating text with arguments, as notifications and screens without a text cache do
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TranslationsBenchmark {
+    /**
+     * The number of arguments filled into the translation
+     */
+    @Param({ "0", "1", "2" })
+    public int args;
+    private String key;
+    private String[] values;
+
+    @Setup
+    public void setup() {
+        GameData.load();
+        switch (this.args) {
+            case 0 -> {
+                this.key = "notification.wagonFixed";
+                this.values = new String[0];
+            }
+            case 1 -> {
+                this.key = "notification.addDays";
+                this.values = new String[] { "3" };
+            }
+            default -> {
+                this.key = "notification.removeItem";
+                this.values = new String[] { "3", "flour" };
+            }
+        }
+    }
+
+    @Benchmark
+    public String getTranslatedText() {
+        return Translations.getTranslatedText(this.key, this.values);
+    }
+}
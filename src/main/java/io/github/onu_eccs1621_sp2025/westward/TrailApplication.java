@@ -7,11 +7,19 @@ import imgui.app.Application;
 import imgui.app.Configuration;
 import io.github.onu_eccs1621_sp2025.westward.data.Audio;
 import io.github.onu_eccs1621_sp2025.westward.data.DataPaths;
+import io.github.onu_eccs1621_sp2025.westward.data.save.SaveWriter;
 import io.github.onu_eccs1621_sp2025.westward.game.Game;
 import io.github.onu_eccs1621_sp2025.westward.screen.Renderer;
 import io.github.onu_eccs1621_sp2025.westward.utils.*;
+import io.github.onu_eccs1621_sp2025.westward.utils.profiling.PerformanceOverlay;
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.AssetPersister;
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.DataWatcher;
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.JsonAdapters;
 import io.github.onu_eccs1621_sp2025.westward.utils.registry.Registry;
+import io.github.onu_eccs1621_sp2025.westward.utils.rendering.FrameScheduler;
+import io.github.onu_eccs1621_sp2025.westward.utils.rendering.HardwareCursors;
 import io.github.onu_eccs1621_sp2025.westward.utils.rendering.RenderUtils;
+import io.github.onu_eccs1621_sp2025.westward.utils.rendering.TextureAtlas;
 import io.github.onu_eccs1621_sp2025.westward.utils.sound.SoundEngine;
 import io.github.onu_eccs1621_sp2025.westward.utils.text.Translations;
 import org.lwjgl.glfw.GLFW;
@@ -22,7 +30,10 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.*;
 import java.util.Collections;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The main class for the game.
@@ -30,7 +41,7 @@ import java.util.concurrent.Semaphore;
  * Contains global data such as the DebugLogger and version
  * @author Dylan Catte
  * @since 1.0.0 Alpha 1
- * @version 1.2.1
+ * @version 1.2.12
  */
 public class TrailApplication extends Application {
     /**
@@ -57,6 +68,10 @@ public class TrailApplication extends Application {
      * The thread lock to prevent Concurrent Modification Exceptions when ending the game
      */
     private static final Semaphore GAME_LOCK = new Semaphore(1, true);
+    /**
+     * Tasks queued by other threads that run on the GL thread before the next frame
+     */
+    private static final Queue<Runnable> GL_TASKS = new ConcurrentLinkedQueue<>();
     /**
      * The paths for each data file/folder
      */
@@ -76,22 +91,19 @@ public class TrailApplication extends Application {
             DATA_PATH.resolve("audio"),
             DATA_PATH.resolve("sfx"),
             DATA_PATH.resolve("config.json"),
-            DATA_PATH.resolve("lang")
+            DATA_PATH.resolve("lang"),
+            DATA_PATH.resolve("packs"),
+            DATA_PATH.resolve("cache")
     );
     /**
      * The GSON instance for (de)serialization
      */
-    private static final Gson GSON = new Gson();
+    private static final Gson GSON = JsonAdapters.builder().create();
     /**
      * The main rendering class for GUIs
      */
     private static Renderer renderer;
 
-    /**
-     * The framerate of the game
-     */
-    private static float MS_PER_FRAME = 1 / 30F * 1000;
-
     // Set default data path
     static {
         NativeUtils.init();
@@ -130,16 +142,20 @@ public class TrailApplication extends Application {
         DebugLogger.info("Initializing Westward Game {}", VERSION);
         // If there is no game data, copy default data from inside the jar
         try {
-            this.checkFiles();
+            checkFiles();
         } catch (IOException e) {
             DebugLogger.error("Failed to load game data", e.toString());
             System.exit(1);
         }
+        DebugLogger.setLevel(Config.getConfig().getLogLevel());
         setFPSLimit(Config.getConfig().getFpsLimit());
         DebugLogger.info("Loading Translation: {}", Config.getConfig().getLanguage());
         Translations.loadTranslations(Config.getConfig().getLanguage());
         DebugLogger.info("Loading Game Assets");
         Registry.loadAssets();
+        if (Config.getConfig().isDevMode()) {
+            DataWatcher.start();
+        }
         DebugLogger.info("Reading Saves");
         DebugLogger.info("Starting Audio Loader");
         SoundEngine.init();
@@ -160,6 +176,7 @@ public class TrailApplication extends Application {
                         Game.getInstance().tickGame();
                     }
                     GAME_LOCK.release();
+                    FrameScheduler.requestRedraw();
                 } else {
                     try {
                         Thread.sleep(100);
@@ -190,7 +207,12 @@ public class TrailApplication extends Application {
         return GSON;
     }
 
-    private void checkFiles() throws IOException {
+    /**
+     * Copies the default game data into the game data directory for every file that is missing.<p>
+     * Called once when the game starts, and by tools that read game data without opening the window
+     * @throws IOException If the game data cannot be copied
+     */
+    public static void checkFiles() throws IOException {
         if (Files.notExists(DATA_PATH)) {
             DebugLogger.info("Creating assets");
             Files.createDirectory(DATA_PATH);
@@ -259,6 +281,8 @@ public class TrailApplication extends Application {
                                 DebugLogger.warn("Failed to load sfx [{}]", file);
                             }
                         }
+                        case "packs" -> DebugLogger.info("Content packs can be added to [{}]", path);
+                        case "cache" -> DebugLogger.info("Created cache [{}]", path);
                         default -> DebugLogger.warn("Checking an invalid file [{}]; skipping", file);
                     }
                 }
@@ -293,7 +317,7 @@ public class TrailApplication extends Application {
             }
 
             if (save) {
-                // Save
+                // Only the snapshot is taken while the game is locked, the save is written in the background
                 Game.getInstance().saveGame();
             }
 
@@ -320,11 +344,27 @@ public class TrailApplication extends Application {
     }
 
     /**
-     * Runs the UI rendering code every frame.<p>
-     * The frame rate can be controlled with {@link TrailApplication#MS_PER_FRAME}
+     * Runs a task on the GL thread before the next frame, waking the GL thread if it is idle.<p>
+     * Used by other threads to change state that is only read while rendering
+     * @param task The task to run
+     */
+    public static void runOnGlThread(final Runnable task) {
+        GL_TASKS.add(task);
+        FrameScheduler.requestRedraw();
+    }
+
+    /**
+     * Runs the UI rendering code every frame
      */
     @Override
     public void process() {
+        PerformanceOverlay.beginFrame();
+        Runnable task;
+        while ((task = GL_TASKS.poll()) != null) {
+            task.run();
+        }
+        // Images are still streaming in after the window appears
+        TextureAtlas.update(TimeUnit.MILLISECONDS.toNanos(Config.getConfig().getTextureUploadMillis()));
         // Lock while rendering
         try {
             RENDERING_LOCK.acquire();
@@ -334,17 +374,19 @@ public class TrailApplication extends Application {
         renderer.render();
         RENDERING_LOCK.release();
 
+        PerformanceOverlay.render();
         renderer.renderCursor();
-        if (MS_PER_FRAME != 0) {
-            try {
-                // Render cursor at 2x the frame rate for maximum smoothness
-                Thread.sleep((long) MS_PER_FRAME / 2);
-                renderer.renderCursor();
-                Thread.sleep((long) MS_PER_FRAME / 2);
-            } catch (InterruptedException e) {
-                throw new RuntimeException(e);
-            }
-        }
+        FrameScheduler.setAnimating(renderer.isAnimating() || !TextureAtlas.isIdle() || PerformanceOverlay.isEnabled());
+    }
+
+    /**
+     * Presents the frame, then waits out the rest of it.<p>
+     * The frame rate can be controlled with {@link TrailApplication#setFPSLimit(int)}
+     */
+    @Override
+    protected void endFrame() {
+        super.endFrame();
+        FrameScheduler.endFrame();
     }
 
     @Override
@@ -386,6 +428,8 @@ public class TrailApplication extends Application {
         super.initWindow(config);
         RenderUtils.setWindowHandle(this.getHandle());
         RenderUtils.setIcon();
+        FrameScheduler.init(Config.getConfig().isVsync(), Config.getConfig().isIdleRendering());
+        PerformanceOverlay.init(Config.getConfig().isPerformanceOverlay());
         Registry.loadImages();
         Registry.loadAudio();
         Registry.loadSFX();
@@ -407,7 +451,11 @@ public class TrailApplication extends Application {
      */
     @Override
     protected void disposeImGui() {
+        DataWatcher.stop();
+        HardwareCursors.destroy();
         super.disposeImGui();
+        AssetPersister.flush();
+        SaveWriter.awaitPending();
         SoundEngine.destroy();
         System.exit(0);
     }
@@ -417,10 +465,6 @@ public class TrailApplication extends Application {
      * @param fps The Frames Per Second limit
      */
     public static void setFPSLimit(int fps) {
-        if (fps <= 0) {
-            MS_PER_FRAME = 0;
-        } else {
-            MS_PER_FRAME = 1F / fps * 1000;
-        }
+        FrameScheduler.setTargetFps(fps);
     }
 }
\ No newline at end of file
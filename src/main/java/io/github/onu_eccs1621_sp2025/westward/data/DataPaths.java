@@ -6,7 +6,7 @@ import java.nio.file.Path;
  * Paths to game data.
  * @author Dylan Catte, Ben Westover, Noah Sumerauer, Micah Lee
  * @since 1.0.0 Alpha 1
- * @version 1.0
+ * @version 1.2
  * @param perilScreensPath Path to files containing perils screen information.
  * @param landmarkScreensPath Path to the files containing landmark screen information.
  * @param shopScreensPath Path to files containing shop screen information.
@@ -23,6 +23,8 @@ import java.nio.file.Path;
  * @param sfxPath Path to the game sound effects directory
  * @param configPath Path to game config file.
  * @param translationsPath Path to translation directory.
+ * @param packsPath Path to the content pack directory.
+ * @param cachePath Path to files the game can recreate, such as downscaled images.
  */
 public record DataPaths(
         Path perilScreensPath,
@@ -40,6 +42,8 @@ public record DataPaths(
         Path audioPath,
         Path sfxPath,
         Path configPath,
-        Path translationsPath
+        Path translationsPath,
+        Path packsPath,
+        Path cachePath
 ) {
 }
@@ -1,14 +1,19 @@
 package io.github.onu_eccs1621_sp2025.westward.data;
 
-import com.google.gson.annotations.SerializedName;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import io.github.onu_eccs1621_sp2025.westward.utils.WeatherHelper;
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.JsonAdapters;
 import io.github.onu_eccs1621_sp2025.westward.utils.text.Translations;
 
+import java.io.IOException;
+
 /**
  * Stores the data for the current Date
  * @author Dylan Catte
  * @since 1.0.0 Alpha 1
- * @version 1.0
+ * @version 1.2
  */
 public class Date {
     private Month month;
@@ -71,6 +76,14 @@ public class Date {
         }
     }
 
+    /**
+     * Creates a copy of the Date
+     * @return Copy of the Date
+     */
+    public Date copy() {
+        return new Date(this.month, this.day, 0);
+    }
+
     /**
      * Formats the Date into the <b>Month, Day</b> format
      * @return Formatted Date
@@ -96,33 +109,26 @@ public class Date {
      * The Month of the year
      */
     public enum Month {
-        @SerializedName("none")
         NONE(0, "month.none"),
-        @SerializedName("jan")
         JAN(1, "month.jan"),
-        @SerializedName("feb")
         FEB(2, "month.feb"),
-        @SerializedName("mar")
         MAR(3, "month.mar"),
-        @SerializedName("apr")
         APR(4, "month.apr"),
-        @SerializedName("may")
         MAY(5, "month.may"),
-        @SerializedName("jun")
         JUN(6, "month.jun"),
-        @SerializedName("jul")
         JUL(7, "month.jul"),
-        @SerializedName("aug")
         AUG(8, "month.aug"),
-        @SerializedName("sep")
         SEP(9, "month.sep"),
-        @SerializedName("oct")
         OCT(10, "month.oct"),
-        @SerializedName("nov")
         NOV(11, "month.nov"),
-        @SerializedName("dec")
         DEC(12, "month.dec");
 
+        /**
+         * Reads and writes months by their JSON names
+         */
+        public static final TypeAdapter<Month> JSON_ADAPTER = JsonAdapters.enumAdapter(values(),
+                "none", "jan", "feb", "mar", "apr", "may", "jun", "jul", "aug", "sep", "oct", "nov", "dec");
+
         private final String translation;
         private final int index;
         Month(int index, String translation) {
@@ -172,4 +178,34 @@ public class Date {
             return Translations.getTranslatedText(this.translation);
         }
     }
+
+    /**
+     * Reads and writes Dates without reflection
+     */
+    public static final class JsonAdapter extends TypeAdapter<Date> {
+        @Override
+        public void write(JsonWriter out, Date value) throws IOException {
+            out.beginObject();
+            out.name("month");
+            Month.JSON_ADAPTER.write(out, value.month);
+            out.name("day").value(value.day);
+            out.endObject();
+        }
+
+        @Override
+        public Date read(JsonReader in) throws IOException {
+            Month month = null;
+            int day = 0;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "month" -> month = Month.JSON_ADAPTER.read(in);
+                    case "day" -> day = in.nextInt();
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new Date(month, day, 0);
+        }
+    }
 }
@@ -1,10 +1,17 @@
 package io.github.onu_eccs1621_sp2025.westward.data;
 
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.JsonAdapters;
+
+import java.io.IOException;
+
 /**
  * Contains landmark data
  * @author Dylan Catte, Ben Westover, Noah Sumerauer, Micah Lee
  * @since 1.0.0 Alpha 1
- * @version 1.2
+ * @version 1.3
  * @param name Landmark's name
  * @param screenId The screen identifier to open
  * @param shopScreenId The screen identifier to open the shop
@@ -26,4 +33,45 @@ public record Landmark(String name, String screenId, String shopScreenId, String
     public boolean hasShop() {
         return this.shopScreenId != null;
     }
+
+    /**
+     * Reads and writes Landmarks without reflection
+     */
+    public static final class JsonAdapter extends TypeAdapter<Landmark> {
+        @Override
+        public void write(JsonWriter out, Landmark value) throws IOException {
+            out.beginObject();
+            out.name("name").value(value.name);
+            out.name("screenId").value(value.screenId);
+            out.name("shopScreenId").value(value.shopScreenId);
+            out.name("spritePath").value(value.spritePath);
+            out.name("mile").value(value.mile);
+            out.name("hasRiver").value(value.hasRiver);
+            out.endObject();
+        }
+
+        @Override
+        public Landmark read(JsonReader in) throws IOException {
+            String name = null;
+            String screenId = null;
+            String shopScreenId = null;
+            String spritePath = null;
+            int mile = 0;
+            boolean hasRiver = false;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "name" -> name = JsonAdapters.nextString(in);
+                    case "screenId" -> screenId = JsonAdapters.nextString(in);
+                    case "shopScreenId" -> shopScreenId = JsonAdapters.nextString(in);
+                    case "spritePath" -> spritePath = JsonAdapters.nextString(in);
+                    case "mile" -> mile = in.nextInt();
+                    case "hasRiver" -> hasRiver = in.nextBoolean();
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new Landmark(name, screenId, shopScreenId, spritePath, mile, hasRiver);
+        }
+    }
 }
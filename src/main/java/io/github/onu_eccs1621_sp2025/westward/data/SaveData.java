@@ -1,11 +1,16 @@
 package io.github.onu_eccs1621_sp2025.westward.data;
 
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import io.github.onu_eccs1621_sp2025.westward.data.member.Member;
 import io.github.onu_eccs1621_sp2025.westward.game.Inventory;
 import io.github.onu_eccs1621_sp2025.westward.utils.Config;
 import io.github.onu_eccs1621_sp2025.westward.utils.DebugLogger;
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.JsonAdapters;
 import io.github.onu_eccs1621_sp2025.westward.utils.rendering.MemberPlaqueData;
 
+import java.io.IOException;
 import java.text.SimpleDateFormat;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -26,7 +31,7 @@ import java.util.concurrent.ThreadLocalRandom;
  * @param dateSaved When the file was last saved
  * @author Dylan Catte
  * @since 1.0.0 Alpha 1
- * @version 1.1
+ * @version 1.2
  */
 public record SaveData(
         String saveName,
@@ -198,4 +203,64 @@ public record SaveData(
                 Next Landmark Index: %s
                 """, this.saveName, this.members.toString(), this.money, this.mile, this.nextLandmarkIndex);
     }
+
+    /**
+     * Reads and writes SaveData without reflection, in the same form as older JSON saves
+     */
+    public static final class JsonAdapter extends TypeAdapter<SaveData> {
+        private static final TypeAdapter<Member> MEMBER = new Member.JsonAdapter().nullSafe();
+        private static final TypeAdapter<Inventory> INVENTORY = new Inventory.JsonAdapter().nullSafe();
+        private static final TypeAdapter<Date> DATE = new Date.JsonAdapter().nullSafe();
+
+        @Override
+        public void write(JsonWriter out, SaveData value) throws IOException {
+            out.beginObject();
+            out.name("saveName").value(value.saveName);
+            out.name("members");
+            JsonAdapters.writeList(out, value.members, MEMBER);
+            out.name("inventory");
+            INVENTORY.write(out, value.inventory);
+            out.name("money").value(value.money);
+            out.name("mile").value(value.mile);
+            out.name("difficulty").value(value.difficulty);
+            out.name("date");
+            DATE.write(out, value.date);
+            out.name("nextLandmarkIndex").value(value.nextLandmarkIndex);
+            out.name("canSleep").value(value.canSleep);
+            out.name("dateSaved").value(value.dateSaved);
+            out.endObject();
+        }
+
+        @Override
+        public SaveData read(JsonReader in) throws IOException {
+            String saveName = null;
+            List<Member> members = null;
+            Inventory inventory = null;
+            float money = 0;
+            int mile = 0;
+            short difficulty = 0;
+            Date date = null;
+            int nextLandmarkIndex = 0;
+            boolean canSleep = false;
+            String dateSaved = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "saveName" -> saveName = JsonAdapters.nextString(in);
+                    case "members" -> members = JsonAdapters.readList(in, MEMBER);
+                    case "inventory" -> inventory = INVENTORY.read(in);
+                    case "money" -> money = (float) in.nextDouble();
+                    case "mile" -> mile = in.nextInt();
+                    case "difficulty" -> difficulty = JsonAdapters.nextShort(in);
+                    case "date" -> date = DATE.read(in);
+                    case "nextLandmarkIndex" -> nextLandmarkIndex = in.nextInt();
+                    case "canSleep" -> canSleep = in.nextBoolean();
+                    case "dateSaved" -> dateSaved = JsonAdapters.nextString(in);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new SaveData(saveName, members, inventory, money, mile, difficulty, date, nextLandmarkIndex, canSleep, dateSaved);
+        }
+    }
 }
@@ -1,13 +1,19 @@
 package io.github.onu_eccs1621_sp2025.westward.data;
 
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import io.github.onu_eccs1621_sp2025.westward.game.Game;
 import io.github.onu_eccs1621_sp2025.westward.game.ItemStack;
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.JsonAdapters;
+
+import java.io.IOException;
 
 /**
  * The items for sale in a shop
  * @author Dylan Catte, Ben Westover, Noah Sumerauer, Micah Lee
  * @since 1.0.0 Alpha 1
- * @version 1.2
+ * @version 1.3
  * @param itemId The id of the item
  * @param itemType The type of item
  * @param price The price of the item
@@ -26,4 +32,37 @@ public record ShopListing(String itemId, ItemStack.ItemType itemType, float pric
     private ItemStack getItem(short amount) {
         return new ItemStack(this.itemId, this.itemType, amount);
     }
+
+    /**
+     * Reads and writes ShopListings without reflection
+     */
+    public static final class JsonAdapter extends TypeAdapter<ShopListing> {
+        @Override
+        public void write(JsonWriter out, ShopListing value) throws IOException {
+            out.beginObject();
+            out.name("itemId").value(value.itemId);
+            out.name("itemType");
+            ItemStack.ItemType.JSON_ADAPTER.write(out, value.itemType);
+            out.name("price").value(value.price);
+            out.endObject();
+        }
+
+        @Override
+        public ShopListing read(JsonReader in) throws IOException {
+            String itemId = null;
+            ItemStack.ItemType itemType = null;
+            float price = 0;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "itemId" -> itemId = JsonAdapters.nextString(in);
+                    case "itemType" -> itemType = ItemStack.ItemType.JSON_ADAPTER.read(in);
+                    case "price" -> price = (float) in.nextDouble();
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new ShopListing(itemId, itemType, price);
+        }
+    }
 }
@@ -1,16 +1,21 @@
 package io.github.onu_eccs1621_sp2025.westward.data;
 
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import io.github.onu_eccs1621_sp2025.westward.game.Game;
 import io.github.onu_eccs1621_sp2025.westward.utils.ShallowClone;
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.JsonAdapters;
 import io.github.onu_eccs1621_sp2025.westward.utils.registry.Registry;
 import io.github.onu_eccs1621_sp2025.westward.utils.text.Translations;
 
+import java.io.IOException;
 import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Contains data for statuses (change of intensity)
  * @author Dylan Catte, Ben Westover, Noah Sumerauer, Micah Lee
- * @version 1.2
+ * @version 1.4
  * @since 1.0.0 Alpha 1
  */
 public class StatusContainer implements ShallowClone<StatusContainer> {
@@ -145,8 +150,58 @@ public class StatusContainer implements ShallowClone<StatusContainer> {
         return new StatusContainer(this.name, (byte) 1, this.maxLevel, this.obtainedTranslationKey, this.healable, this.baseChance);
     }
 
+    /**
+     * Gets a clone of the StatusContainer with a specific level
+     * @param level The level of the clone
+     * @return Clone of StatusContainer
+     */
+    public StatusContainer cloneWithLevel(byte level) {
+        return new StatusContainer(this.name, level, this.maxLevel, this.obtainedTranslationKey, this.healable, this.baseChance);
+    }
+
     @Override
     public String toString() {
         return Translations.getTranslatedText("status.string", this.name, String.valueOf(this.level));
     }
+
+    /**
+     * Reads and writes StatusContainers without reflection
+     */
+    public static final class JsonAdapter extends TypeAdapter<StatusContainer> {
+        @Override
+        public void write(JsonWriter out, StatusContainer value) throws IOException {
+            out.beginObject();
+            out.name("name").value(value.name);
+            out.name("obtainedTranslationKey").value(value.obtainedTranslationKey);
+            out.name("healable").value(value.healable);
+            out.name("level").value(value.level);
+            out.name("maxLevel").value(value.maxLevel);
+            out.name("baseChance").value(value.baseChance);
+            out.endObject();
+        }
+
+        @Override
+        public StatusContainer read(JsonReader in) throws IOException {
+            String name = null;
+            String obtainedTranslationKey = null;
+            boolean healable = false;
+            byte level = 0;
+            byte maxLevel = 0;
+            float baseChance = 0;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "name" -> name = JsonAdapters.nextString(in);
+                    case "obtainedTranslationKey" -> obtainedTranslationKey = JsonAdapters.nextString(in);
+                    case "healable" -> healable = in.nextBoolean();
+                    case "level" -> level = JsonAdapters.nextByte(in);
+                    case "maxLevel" -> maxLevel = JsonAdapters.nextByte(in);
+                    case "baseChance" -> baseChance = (float) in.nextDouble();
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new StatusContainer(name, level, maxLevel, obtainedTranslationKey, healable, baseChance);
+        }
+    }
 }
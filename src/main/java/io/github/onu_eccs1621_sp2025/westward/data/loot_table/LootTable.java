@@ -1,7 +1,12 @@
 package io.github.onu_eccs1621_sp2025.westward.data.loot_table;
 
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import io.github.onu_eccs1621_sp2025.westward.game.ItemStack;
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.JsonAdapters;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -10,7 +15,7 @@ import java.util.Optional;
  * Represents a loot table, which is a collection of loot table entries.
  * Each entry in the loot table has an item, a weight, a count range, and a boolean indicating whether the item should always drop.
  * @author Dylan Catte, Ben Westover, Noah Sumerauer, Micah Lee
- * @version 1.0
+ * @version 1.1
  * @since 1.0.0 Alpha 1
  * @param entries A list of loot table entries
  * @param rolls The number of times the loot table should be rolled/executed.
@@ -42,4 +47,36 @@ public record LootTable(int rolls, List<LootTableEntry> entries) {
         }
         items.add(merge);
     }
+
+    /**
+     * Reads and writes LootTables without reflection
+     */
+    public static final class JsonAdapter extends TypeAdapter<LootTable> {
+        private static final TypeAdapter<LootTableEntry> ENTRY = new LootTableEntry.JsonAdapter().nullSafe();
+
+        @Override
+        public void write(JsonWriter out, LootTable value) throws IOException {
+            out.beginObject();
+            out.name("rolls").value(value.rolls);
+            out.name("entries");
+            JsonAdapters.writeList(out, value.entries, ENTRY);
+            out.endObject();
+        }
+
+        @Override
+        public LootTable read(JsonReader in) throws IOException {
+            int rolls = 0;
+            List<LootTableEntry> entries = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "rolls" -> rolls = in.nextInt();
+                    case "entries" -> entries = JsonAdapters.readList(in, ENTRY);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new LootTable(rolls, entries);
+        }
+    }
 }
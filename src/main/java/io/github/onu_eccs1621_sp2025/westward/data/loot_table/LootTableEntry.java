@@ -1,17 +1,22 @@
 package io.github.onu_eccs1621_sp2025.westward.data.loot_table;
 
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import io.github.onu_eccs1621_sp2025.westward.data.StatusContainer;
 import io.github.onu_eccs1621_sp2025.westward.game.ItemStack;
 import io.github.onu_eccs1621_sp2025.westward.utils.math.IntegerRange;
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.JsonAdapters;
 import io.github.onu_eccs1621_sp2025.westward.utils.registry.Registry;
 
+import java.io.IOException;
 import java.util.Optional;
 import java.util.OptionalInt;
 
 /**
  * An entry in a loot table that describes the object and probability of obtaining different amounts of that object.
  * @author Dylan Catte, Ben Westover, Noah Sumerauer, Micah Lee
- * @version 1.1
+ * @version 1.2
  * @since 1.0.0 Alpha 1
  */
 public class LootTableEntry {
@@ -66,4 +71,46 @@ public class LootTableEntry {
         }
         return Optional.empty();
     }
+
+    /**
+     * Reads and writes LootTableEntries without reflection
+     */
+    public static final class JsonAdapter extends TypeAdapter<LootTableEntry> {
+        private static final TypeAdapter<IntegerRange> RANGE = new IntegerRange.JsonAdapter().nullSafe();
+
+        @Override
+        public void write(JsonWriter out, LootTableEntry value) throws IOException {
+            out.beginObject();
+            out.name("returnType");
+            Registry.AssetType.JSON_ADAPTER.write(out, value.returnType);
+            out.name("identifier").value(value.identifier);
+            out.name("weight").value(value.weight);
+            out.name("count");
+            RANGE.write(out, value.count);
+            out.name("alwaysDrop").value(value.alwaysDrop);
+            out.endObject();
+        }
+
+        @Override
+        public LootTableEntry read(JsonReader in) throws IOException {
+            Registry.AssetType returnType = null;
+            String identifier = null;
+            float weight = 0;
+            IntegerRange count = null;
+            boolean alwaysDrop = false;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "returnType" -> returnType = Registry.AssetType.JSON_ADAPTER.read(in);
+                    case "identifier" -> identifier = JsonAdapters.nextString(in);
+                    case "weight" -> weight = (float) in.nextDouble();
+                    case "count" -> count = RANGE.read(in);
+                    case "alwaysDrop" -> alwaysDrop = in.nextBoolean();
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new LootTableEntry(returnType, identifier, weight, count, alwaysDrop);
+        }
+    }
 }
@@ -1,12 +1,20 @@
 package io.github.onu_eccs1621_sp2025.westward.data.member;
 
+import com.google.gson.TypeAdapter;
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.JsonAdapters;
+
 /**
  * The possible genders of a member
  * @author Dylan Catte, Ben Westover, Noah Sumerauer, Micah Lee
- * @version 1.0
+ * @version 1.1
  * @since 1.0.0 Alpha 1
  */
 public enum Gender {
     MALE,
-    FEMALE
+    FEMALE;
+
+    /**
+     * Reads and writes genders by their names
+     */
+    public static final TypeAdapter<Gender> JSON_ADAPTER = JsonAdapters.enumAdapter(values());
 }
@@ -1,24 +1,38 @@
 package io.github.onu_eccs1621_sp2025.westward.data.member;
 
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import io.github.onu_eccs1621_sp2025.westward.data.StatusContainer;
 import io.github.onu_eccs1621_sp2025.westward.game.Game;
 import io.github.onu_eccs1621_sp2025.westward.screen.Dashboard;
 import io.github.onu_eccs1621_sp2025.westward.screen.Renderer;
 import io.github.onu_eccs1621_sp2025.westward.utils.Config;
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.JsonAdapters;
 import io.github.onu_eccs1621_sp2025.westward.utils.registry.Registry;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Contains all the data for a member of the party.
  * @author Dylan Catte, Ben Westover, Noah Sumerauer, Micah Lee
- * @version 1.0
+ * @version 1.3
  * @since 1.0.0 Alpha 1
  */
 public class Member {
+    /**
+     * The next session id
+     */
+    private static final AtomicLong NEXT_SESSION_ID = new AtomicLong();
+    /**
+     * Identifies the member and its copies for the rest of the session, since names are not unique. It is not saved
+     */
+    private final long sessionId;
     private final String name;
     private final List<StatusContainer> statuses = new ArrayList<>();
     private final Role role;
@@ -35,6 +49,11 @@ public class Member {
      * @param maxHealth The max health the member can have
      */
     public Member(String name, Role role, Gender gender, int health, int maxHealth) {
+        this(NEXT_SESSION_ID.getAndIncrement(), name, role, gender, health, maxHealth);
+    }
+
+    private Member(long sessionId, String name, Role role, Gender gender, int health, int maxHealth) {
+        this.sessionId = sessionId;
         this.name = name;
         this.role = role;
         this.gender = gender;
@@ -60,6 +79,14 @@ public class Member {
         return this.name;
     }
 
+    /**
+     * Gets the id shared by the Member and its copies for the rest of the session
+     * @return Member's session id
+     */
+    public long getSessionId() {
+        return this.sessionId;
+    }
+
     /**
      * Gets the Role of the Member
      * @return Member's Role
@@ -192,6 +219,18 @@ public class Member {
         }
     }
 
+    /**
+     * Creates an independent copy of the member and its statuses, with the same session id
+     * @return Copy of the member
+     */
+    public Member copy() {
+        Member copy = new Member(this.sessionId, this.name, this.role, this.gender, this.health, this.maxHealth);
+        for (StatusContainer status : this.statuses) {
+            copy.statuses.add(status.cloneWithLevel(status.getLevel()));
+        }
+        return copy;
+    }
+
     /**
      * Creates a randomized member
      * @return Randomized gender, role, and name of a member
@@ -229,4 +268,55 @@ public class Member {
         }
         return finalName;
     }
+
+    /**
+     * Reads and writes Members without reflection
+     */
+    public static final class JsonAdapter extends TypeAdapter<Member> {
+        private static final TypeAdapter<StatusContainer> STATUS = new StatusContainer.JsonAdapter().nullSafe();
+        private static final TypeAdapter<Role> ROLE = new Role.JsonAdapter().nullSafe();
+
+        @Override
+        public void write(JsonWriter out, Member value) throws IOException {
+            out.beginObject();
+            out.name("name").value(value.name);
+            out.name("statuses");
+            JsonAdapters.writeList(out, value.statuses, STATUS);
+            out.name("role");
+            ROLE.write(out, value.role);
+            out.name("gender");
+            Gender.JSON_ADAPTER.write(out, value.gender);
+            out.name("health").value(value.health);
+            out.name("maxHealth").value(value.maxHealth);
+            out.endObject();
+        }
+
+        @Override
+        public Member read(JsonReader in) throws IOException {
+            String name = null;
+            List<StatusContainer> statuses = null;
+            Role role = null;
+            Gender gender = null;
+            int health = 0;
+            int maxHealth = 0;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "name" -> name = JsonAdapters.nextString(in);
+                    case "statuses" -> statuses = JsonAdapters.readList(in, STATUS);
+                    case "role" -> role = ROLE.read(in);
+                    case "gender" -> gender = Gender.JSON_ADAPTER.read(in);
+                    case "health" -> health = in.nextInt();
+                    case "maxHealth" -> maxHealth = in.nextInt();
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            final Member member = new Member(name, role, gender, health, maxHealth);
+            if (statuses != null) {
+                member.statuses.addAll(statuses);
+            }
+            return member;
+        }
+    }
 }
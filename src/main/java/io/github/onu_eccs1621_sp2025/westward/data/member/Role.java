@@ -1,16 +1,21 @@
 package io.github.onu_eccs1621_sp2025.westward.data.member;
 
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import io.github.onu_eccs1621_sp2025.westward.utils.ShallowClone;
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.JsonAdapters;
 import io.github.onu_eccs1621_sp2025.westward.utils.registry.Registry;
 import io.github.onu_eccs1621_sp2025.westward.utils.text.Translations;
 
+import java.io.IOException;
 import java.util.Arrays;
 
 /**
  * Contains all the data for a member role.<p>
  * Roles can add custom abilities/perks to a member.
  * @author Dylan Catte, Ben Westover, Noah Sumerauer, Micah Lee
- * @version 1.0
+ * @version 1.1
  * @since 1.0.0 Alpha 1
  * @param id The identifier for the role (also the translation key for its name)
  * @param preferredGender The preferred gender for the profession (leave blank if none)
@@ -76,4 +81,46 @@ public record Role(
 
         return rolesFiltered;
     }
+
+    /**
+     * Reads and writes Roles without reflection
+     */
+    public static final class JsonAdapter extends TypeAdapter<Role> {
+        @Override
+        public void write(JsonWriter out, Role value) throws IOException {
+            out.beginObject();
+            out.name("id").value(value.id);
+            out.name("preferredGender");
+            Gender.JSON_ADAPTER.write(out, value.preferredGender);
+            out.name("bonusMoney").value(value.bonusMoney);
+            out.name("bonusPoints").value(value.bonusPoints);
+            out.name("bonusHealth").value(value.bonusHealth);
+            out.name("canHealPlayers").value(value.canHealPlayers);
+            out.endObject();
+        }
+
+        @Override
+        public Role read(JsonReader in) throws IOException {
+            String id = null;
+            Gender preferredGender = null;
+            Integer bonusMoney = null;
+            Integer bonusPoints = null;
+            int bonusHealth = 0;
+            boolean canHealPlayers = false;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id" -> id = JsonAdapters.nextString(in);
+                    case "preferredGender" -> preferredGender = Gender.JSON_ADAPTER.read(in);
+                    case "bonusMoney" -> bonusMoney = JsonAdapters.nextInteger(in);
+                    case "bonusPoints" -> bonusPoints = JsonAdapters.nextInteger(in);
+                    case "bonusHealth" -> bonusHealth = in.nextInt();
+                    case "canHealPlayers" -> canHealPlayers = in.nextBoolean();
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new Role(id, preferredGender, bonusMoney, bonusPoints, bonusHealth, canHealPlayers);
+        }
+    }
 }
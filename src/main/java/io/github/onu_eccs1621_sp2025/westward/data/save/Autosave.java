@@ -0,0 +1,95 @@
+package io.github.onu_eccs1621_sp2025.westward.data.save;
+
+import io.github.onu_eccs1621_sp2025.westward.data.SaveData;
+import io.github.onu_eccs1621_sp2025.westward.game.Game;
+import io.github.onu_eccs1621_sp2025.westward.utils.Config;
+import io.github.onu_eccs1621_sp2025.westward.utils.DebugLogger;
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.Registry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Saves a game automatically at the end of each in-game day.<p>
+ * Every few days the whole game is saved. On the days in between only the changes made that day
+ * are appended to the save's {@link SaveJournal}, which is much cheaper than rewriting the save.
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.2
+ */
+public final class Autosave {
+    /**
+     * The names of the events that fired since the last autosave
+     */
+    private final List<String> events = new ArrayList<>();
+    /**
+     * The game as it was last autosaved, or null if it has not been autosaved yet
+     */
+    private SaveData lastSave;
+    /**
+     * The number of days journaled since the game was last fully saved
+     */
+    private int daysSinceSnapshot;
+    /**
+     * Set when an autosave fails, so the next autosave rewrites the whole game
+     */
+    private volatile boolean failed;
+
+    /**
+     * Records that an event fired during the current day
+     * @param name The name of the event
+     */
+    public void recordEvent(final String name) {
+        this.events.add(name);
+    }
+
+    /**
+     * Records that the whole game is being saved, so following days are journaled against it
+     * @param save The save being written
+     */
+    public void onSaved(final SaveData save) {
+        this.lastSave = save;
+        this.daysSinceSnapshot = 0;
+        this.failed = false;
+    }
+
+    /**
+     * Records that a save of the whole game failed, so the next autosave rewrites the whole game
+     * instead of journaling against a save that is not on disk
+     */
+    public void onSaveFailed() {
+        this.failed = true;
+    }
+
+    /**
+     * Autosaves the game after a day has passed
+     * @param game The game
+     */
+    public void onDayEnded(final Game game) {
+        final int snapshotDays = Config.getConfig().getAutosaveSnapshotDays();
+        if (snapshotDays <= 0) {
+            this.events.clear();
+            return;
+        }
+
+        final SaveData current = game.createSnapshot();
+        if (this.lastSave == null || this.failed || this.daysSinceSnapshot >= snapshotDays) {
+            game.saveGame(current);
+        } else {
+            final byte[] record = SaveJournal.encodeDay(this.lastSave, current, this.events);
+            this.daysSinceSnapshot++;
+            SaveWriter.appendJournal(current.saveName(), record).whenComplete((ignored, error) -> {
+                if (error != null) {
+                    DebugLogger.error("Failed to journal day for save [{}]", current.saveName(), error);
+                    this.failed = true;
+                } else {
+                    // The save list shows the journaled progress, not the progress when the game was last saved
+                    Registry.replaceSaveData(current);
+                }
+            });
+            // The snapshot is never modified, so it can be compared against tomorrow
+            this.lastSave = current;
+        }
+        this.events.clear();
+    }
+}
@@ -0,0 +1,325 @@
+package io.github.onu_eccs1621_sp2025.westward.data.save;
+
+import io.github.onu_eccs1621_sp2025.westward.utils.DebugLogger;
+import io.github.onu_eccs1621_sp2025.westward.utils.rendering.FrameScheduler;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The index of every save, used to list saves without reading them.<p>
+ * Saves are listed through sorted and filtered queries. The result of the last query is kept
+ * until the catalog changes, so a list that is drawn every frame is only sorted once.<p>
+ * The saves directory may be changed by other instances of the game. The catalog is refreshed by
+ * only reading the headers of saves whose size or modification time changed.
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.1
+ */
+public final class SaveCatalog {
+    /**
+     * The minimum time between refreshes requested by {@link SaveCatalog#requestRefresh()}
+     */
+    private static final long REFRESH_INTERVAL_MILLIS = 1000;
+    /**
+     * Some file systems only store modification times to the nearest two seconds
+     */
+    private static final long TIMESTAMP_PRECISION_MILLIS = 2000;
+    /**
+     * The thread that refreshes catalogs
+     */
+    private static final ExecutorService REFRESHER = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "Save Catalog");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /**
+     * The saves directory
+     */
+    private final Path directory;
+    /**
+     * The size and modification time of each save file when its header was read. Only used while refreshing
+     */
+    private final Map<String, FileState> files = new HashMap<>();
+    /**
+     * The modification time of the saves directory when it was last listed, or null to list it again
+     */
+    private FileTime directoryModified;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile long lastRefresh;
+    /**
+     * The saves by name
+     */
+    private final Map<String, SaveSummary> saves = new HashMap<>();
+    /**
+     * Incremented whenever a save is added, changed or removed
+     */
+    private int modifications;
+    /**
+     * The last query and its result
+     */
+    private SaveQuery cachedQuery;
+    private int cachedModifications = -1;
+    private List<SaveSummary> cachedResult = List.of();
+
+    /**
+     * How saves can be ordered
+     */
+    public enum Sort {
+        /**
+         * By when the save was last saved
+         */
+        DATE(Comparator.comparingLong(SaveSummary::savedAt)),
+        /**
+         * By name, ignoring case
+         */
+        NAME(Comparator.comparing(SaveSummary::name, String.CASE_INSENSITIVE_ORDER)),
+        /**
+         * By difficulty
+         */
+        DIFFICULTY(Comparator.comparingInt(SaveSummary::difficulty)),
+        /**
+         * By how far along the trail the party is
+         */
+        PROGRESS(Comparator.comparingInt(SaveSummary::mile));
+
+        private final Comparator<SaveSummary> comparator;
+
+        Sort(Comparator<SaveSummary> comparator) {
+            // Ties are always broken by name so the order is stable
+            this.comparator = comparator.thenComparing(SaveSummary::name);
+        }
+    }
+
+    /**
+     * A request for a list of saves
+     * @param sort The order of the saves
+     * @param descending If the order is reversed
+     * @param filter Only saves with a name containing this text are included, ignoring case
+     * @param difficulty Only saves with this difficulty are included, or 0 for every difficulty
+     */
+    public record SaveQuery(Sort sort, boolean descending, String filter, short difficulty) {
+        /**
+         * Lists every save, most recently saved first
+         */
+        public static final SaveQuery DEFAULT = new SaveQuery(Sort.DATE, true, "", (short) 0);
+    }
+
+    /**
+     * Part of the result of a query
+     * @param saves The saves in the requested range
+     * @param total The number of saves matching the query
+     */
+    public record Page(List<SaveSummary> saves, int total) {}
+
+    /**
+     * The state of a save file when its header was read
+     * @param modified The modification time of the file
+     * @param size The size of the file
+     */
+    private record FileState(FileTime modified, long size) {}
+
+    /**
+     * Creates an empty catalog
+     * @param directory The saves directory
+     */
+    public SaveCatalog(final Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Brings the catalog up to date with the saves directory.<p>
+     * The directory is only listed if it changed, and only new or changed saves are read
+     * @throws IOException If the directory cannot be listed
+     */
+    public void refresh() throws IOException {
+        // Other instances finish writing a save and its journal before the directory is read
+        SaveLock.withLock(() -> {
+            this.refreshLocked();
+            return null;
+        });
+    }
+
+    private void refreshLocked() throws IOException {
+        synchronized (this.files) {
+            final FileTime modified = Files.getLastModifiedTime(this.directory);
+            if (modified.equals(this.directoryModified)) {
+                return;
+            }
+            // A change in the same timestamp tick would not change the time again, so list again next time
+            final boolean settled = System.currentTimeMillis() - modified.toMillis() > TIMESTAMP_PRECISION_MILLIS;
+
+            final Set<String> found = new HashSet<>();
+            int read = 0;
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(this.directory, "*" + SaveCodec.EXTENSION)) {
+                for (Path path : stream) {
+                    final String fileName = path.getFileName().toString();
+                    final String name = fileName.substring(0, fileName.length() - SaveCodec.EXTENSION.length());
+                    final BasicFileAttributes attributes;
+                    try {
+                        attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                    } catch (IOException e) {
+                        // Deleted since it was listed
+                        continue;
+                    }
+                    found.add(name);
+                    final FileState state = new FileState(attributes.lastModifiedTime(), attributes.size());
+                    if (state.equals(this.files.get(name))) {
+                        continue;
+                    }
+                    try {
+                        this.put(SaveCodec.readSummary(path));
+                        this.files.put(name, state);
+                        SaveThumbnails.invalidate(name);
+                        read++;
+                    } catch (IOException e) {
+                        DebugLogger.error("Failed to load {}", fileName, e);
+                    }
+                }
+            }
+
+            final List<String> removed = new ArrayList<>();
+            for (String name : this.files.keySet()) {
+                if (!found.contains(name)) {
+                    removed.add(name);
+                }
+            }
+            for (String name : removed) {
+                this.files.remove(name);
+                this.remove(name);
+                SaveThumbnails.invalidate(name);
+            }
+            this.directoryModified = settled ? modified : null;
+            if (read > 0 || !removed.isEmpty()) {
+                DebugLogger.info("Refreshed saves: {} read, {} removed", read, removed.size());
+            }
+        }
+    }
+
+    /**
+     * Refreshes the catalog in the background, at most once a second.<p>
+     * Should be called while the saves are shown
+     */
+    public void requestRefresh() {
+        final long now = System.currentTimeMillis();
+        if (now - this.lastRefresh < REFRESH_INTERVAL_MILLIS || !this.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        this.lastRefresh = now;
+        REFRESHER.execute(() -> {
+            try {
+                this.refresh();
+            } catch (IOException e) {
+                DebugLogger.warn("Failed to refresh saves", e);
+            } finally {
+                this.refreshing.set(false);
+            }
+        });
+    }
+
+    /**
+     * Adds a save or replaces the summary of an existing save
+     * @param summary The summary of the save
+     */
+    public synchronized void put(final SaveSummary summary) {
+        this.saves.put(summary.name(), summary);
+        this.modifications++;
+        FrameScheduler.requestRedraw();
+    }
+
+    /**
+     * Removes a save
+     * @param name The name of the save
+     * @return True if the save was in the catalog
+     */
+    public synchronized boolean remove(final String name) {
+        if (this.saves.remove(name) == null) {
+            return false;
+        }
+        this.modifications++;
+        FrameScheduler.requestRedraw();
+        return true;
+    }
+
+    /**
+     * Gets the summary of a save
+     * @param name The name of the save
+     * @return The summary, or null if the save does not exist
+     */
+    public synchronized SaveSummary get(final String name) {
+        return this.saves.get(name);
+    }
+
+    /**
+     * Checks if a save exists
+     * @param name The name of the save
+     * @return True if the save is in the catalog
+     */
+    public synchronized boolean contains(final String name) {
+        return this.saves.containsKey(name);
+    }
+
+    /**
+     * Gets the number of saves
+     * @return The number of saves
+     */
+    public synchronized int size() {
+        return this.saves.size();
+    }
+
+    /**
+     * Gets the names of every save
+     * @return The names of the saves in no particular order
+     */
+    public synchronized String[] names() {
+        return this.saves.keySet().toArray(new String[0]);
+    }
+
+    /**
+     * Lists a range of the saves matching a query
+     * @param query The query
+     * @param offset The index of the first save to list
+     * @param limit The maximum number of saves to list
+     * @return The saves in the range and the total number of matching saves
+     */
+    public synchronized Page query(final SaveQuery query, final int offset, final int limit) {
+        final List<SaveSummary> result = this.query(query);
+        final int from = Math.clamp(offset, 0, result.size());
+        final int to = Math.clamp((long) from + limit, from, result.size());
+        return new Page(result.subList(from, to), result.size());
+    }
+
+    private List<SaveSummary> query(final SaveQuery query) {
+        if (query.equals(this.cachedQuery) && this.modifications == this.cachedModifications) {
+            return this.cachedResult;
+        }
+        final String filter = query.filter().toLowerCase(Locale.ROOT);
+        final List<SaveSummary> result = new ArrayList<>(this.saves.size());
+        for (SaveSummary save : this.saves.values()) {
+            if ((query.difficulty() == 0 || save.difficulty() == query.difficulty())
+                    && (filter.isEmpty() || save.name().toLowerCase(Locale.ROOT).contains(filter))) {
+                result.add(save);
+            }
+        }
+        result.sort(query.descending() ? query.sort().comparator.reversed() : query.sort().comparator);
+        this.cachedQuery = query;
+        this.cachedModifications = this.modifications;
+        this.cachedResult = List.copyOf(result);
+        return this.cachedResult;
+    }
+}
@@ -0,0 +1,350 @@
+package io.github.onu_eccs1621_sp2025.westward.data.save;
+
+import com.google.gson.JsonParseException;
+import io.github.onu_eccs1621_sp2025.westward.TrailApplication;
+import io.github.onu_eccs1621_sp2025.westward.data.Date;
+import io.github.onu_eccs1621_sp2025.westward.data.SaveData;
+import io.github.onu_eccs1621_sp2025.westward.data.StatusContainer;
+import io.github.onu_eccs1621_sp2025.westward.data.member.Gender;
+import io.github.onu_eccs1621_sp2025.westward.data.member.Member;
+import io.github.onu_eccs1621_sp2025.westward.data.member.Role;
+import io.github.onu_eccs1621_sp2025.westward.game.Inventory;
+import io.github.onu_eccs1621_sp2025.westward.game.ItemStack;
+import io.github.onu_eccs1621_sp2025.westward.utils.Compression;
+import io.github.onu_eccs1621_sp2025.westward.utils.DebugLogger;
+import io.github.onu_eccs1621_sp2025.westward.utils.FileUtils;
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.Registry;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads and writes game saves in a compact binary format.<p>
+ * A save starts with a header containing its name, when it was saved, its difficulty and its progress,
+ * so it can be listed without decoding the rest.
+ * Ids and names are written once to a string table and referenced by index.
+ * Statuses and roles are stored by id and rebuilt from the Registry when the save is read.
+ * Saves are GZIP compressed when {@link Compression} is enabled.<p>
+ * Saves can also be exported to and imported from the JSON format used by older versions.
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.5
+ */
+public final class SaveCodec {
+    /**
+     * The file extension of binary saves
+     */
+    public static final String EXTENSION = ".sav";
+    /**
+     * The file extension of JSON saves
+     */
+    public static final String JSON_EXTENSION = ".json";
+    /**
+     * The extension added to JSON saves once they are converted
+     */
+    private static final String BACKUP_EXTENSION = ".bak";
+    /**
+     * Identifies a save file
+     */
+    private static final int MAGIC = 0x57575356;
+    /**
+     * The format version written by this class
+     */
+    private static final short VERSION = 1;
+
+    /**
+     * Gets the path of a binary save
+     * @param saveName The name of the save
+     * @return The save file in the saves directory
+     */
+    public static Path getSavePath(final String saveName) {
+        return TrailApplication.getDataPaths().savesDirectoryPath().resolve(saveName + EXTENSION);
+    }
+
+    /**
+     * Writes a save to a file.<p>
+     * The file is written to a temporary file that replaces it, so it is never left partially written
+     * @param save The save
+     * @param path The file to write
+     * @throws IOException If the file cannot be written
+     */
+    public static void write(final SaveData save, final Path path) throws IOException {
+        FileUtils.writeAtomically(path, stream -> {
+            final OutputStream out = new BufferedOutputStream(stream);
+            write(save, out);
+            out.flush();
+        });
+    }
+
+    /**
+     * Writes a save to a stream
+     * @param save The save
+     * @param out The stream to write to. It is not closed
+     * @throws IOException If the stream cannot be written
+     */
+    public static void write(final SaveData save, final OutputStream out) throws IOException {
+        final StringTable strings = new StringTable();
+        final ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream();
+        final DataOutputStream body = new DataOutputStream(bodyBytes);
+
+        body.writeFloat(save.money());
+        body.writeInt(strings.intern(save.date().getMonth().name()));
+        body.writeByte(save.date().getDay());
+        body.writeInt(save.nextLandmarkIndex());
+        body.writeBoolean(save.canSleep());
+
+        body.writeShort(save.members().size());
+        for (Member member : save.members()) {
+            body.writeInt(strings.intern(member.getName()));
+            body.writeInt(strings.intern(member.getRole().id()));
+            body.writeByte(member.getGender() == null ? -1 : member.getGender().ordinal());
+            body.writeInt(member.getHealth());
+            body.writeInt(member.getMaxHealth());
+            body.writeByte(member.getStatuses().size());
+            for (StatusContainer status : member.getStatuses()) {
+                body.writeInt(strings.intern(status.getName()));
+                body.writeByte(status.getLevel());
+            }
+        }
+
+        final List<ItemStack> items = save.inventory().getItems();
+        body.writeShort(items.size());
+        for (ItemStack item : items) {
+            body.writeInt(strings.intern(item.getId()));
+            body.writeShort(item.getCount());
+            body.writeFloat(item.getBarterValue());
+            body.writeInt(strings.intern(item.getType().name()));
+            body.writeInt(strings.intern(item.getStatusApplied()));
+        }
+        body.flush();
+
+        Compression.write(out, stream -> {
+            final DataOutputStream data = new DataOutputStream(stream);
+            data.writeInt(MAGIC);
+            data.writeShort(VERSION);
+            data.writeUTF(save.saveName());
+            data.writeUTF(save.dateSaved());
+            data.writeShort(save.difficulty());
+            data.writeInt(save.mile());
+            data.writeByte(save.members().size());
+            data.writeInt(strings.size());
+            for (String string : strings.values()) {
+                data.writeUTF(string);
+            }
+            bodyBytes.writeTo(data);
+            data.flush();
+        });
+    }
+
+    /**
+     * Reads a save from a file
+     * @param path The save file
+     * @return The save
+     * @throws IOException If the file cannot be read or is not a valid save
+     */
+    public static SaveData read(final Path path) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Reads a save from a stream
+     * @param in The stream to read from. It is not closed
+     * @return The save
+     * @throws IOException If the stream cannot be read or is not a valid save
+     */
+    public static SaveData read(final InputStream in) throws IOException {
+        final DataInputStream data = new DataInputStream(Compression.decompress(in));
+        readVersion(data);
+        final String saveName = data.readUTF();
+        final String dateSaved = data.readUTF();
+        final short difficulty = data.readShort();
+        final int mile = data.readInt();
+        // The member count is only used by the save list
+        data.readByte();
+        final String[] strings = new String[data.readInt()];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = data.readUTF();
+        }
+
+        try {
+            final float money = data.readFloat();
+            final Date.Month month = Date.Month.valueOf(readString(data, strings));
+            final int day = data.readByte();
+            final int nextLandmarkIndex = data.readInt();
+            final boolean canSleep = data.readBoolean();
+
+            final int memberCount = data.readShort();
+            final List<Member> members = new ArrayList<>(memberCount);
+            for (int i = 0; i < memberCount; i++) {
+                final String name = readString(data, strings);
+                final String roleId = readString(data, strings);
+                final byte genderIndex = data.readByte();
+                final Gender gender = genderIndex == -1 ? null : Gender.values()[genderIndex];
+                final Member member = new Member(name, getRole(roleId, gender), gender, data.readInt(), data.readInt());
+                for (int j = data.readByte(); j > 0; j--) {
+                    final String statusName = readString(data, strings);
+                    final byte level = data.readByte();
+                    final StatusContainer status = StatusContainer.getDefaultInstance(statusName);
+                    if (status == null) {
+                        DebugLogger.warn("Removing unknown status [{}] from save [{}]", statusName, saveName);
+                    } else {
+                        member.getStatuses().add(status.cloneWithLevel(level));
+                    }
+                }
+                members.add(member);
+            }
+
+            final Inventory inventory = new Inventory();
+            for (int i = data.readShort(); i > 0; i--) {
+                final String id = readString(data, strings);
+                final short count = data.readShort();
+                final float barterValue = data.readFloat();
+                final ItemStack.ItemType type = ItemStack.ItemType.valueOf(readString(data, strings));
+                // Saves converted from older JSON saves can have several stacks of the same item
+                inventory.addItemStack(new ItemStack(id, count, readString(data, strings), barterValue, type));
+            }
+
+            return new SaveData(saveName, members, inventory, money, mile, difficulty, new Date(month, day, 0), nextLandmarkIndex, canSleep, dateSaved);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IOException("Corrupted save [" + saveName + "]", e);
+        }
+    }
+
+    /**
+     * Reads the summary of a save shown in the save list without reading the rest of the save
+     * @param path The save file
+     * @return The summary of the save
+     * @throws IOException If the file cannot be read or is not a valid save
+     */
+    public static SaveSummary readSummary(final Path path) throws IOException {
+        try (DataInputStream data = new DataInputStream(Compression.decompress(Files.newInputStream(path)))) {
+            readVersion(data);
+            final String saveName = data.readUTF();
+            final String dateSaved = data.readUTF();
+            return new SaveSummary(saveName, dateSaved, SaveSummary.parseTime(dateSaved), data.readShort(), data.readInt(), data.readByte());
+        }
+    }
+
+    /**
+     * Exports a save as JSON for debugging
+     * @param save The save
+     * @param writer Where the JSON is written
+     */
+    public static void exportJson(final SaveData save, final Writer writer) {
+        Registry.getGsonInstance().toJson(save, SaveData.class, writer);
+    }
+
+    /**
+     * Imports a save from JSON
+     * @param reader The JSON save
+     * @return The save
+     * @throws IOException If the JSON is not a valid save
+     */
+    public static SaveData importJson(final Reader reader) throws IOException {
+        try {
+            final SaveData save = TrailApplication.getGsonInstance().fromJson(reader, SaveData.class);
+            if (save == null) {
+                throw new IOException("Empty save");
+            }
+            return save;
+        } catch (JsonParseException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Converts a JSON save from an older version into a binary save.
+     * The JSON save may be GZIP compressed.<p>
+     * Once the binary save has been written, the JSON save is kept as a backup with the {@code .bak} extension added.
+     * A binary save with the same name is never replaced
+     * @param jsonSave The JSON save file
+     * @return The converted save
+     * @throws IOException If the JSON save cannot be read, a binary save with the same name exists,
+     * or the binary save cannot be written
+     */
+    public static SaveData migrate(final Path jsonSave) throws IOException {
+        final String fileName = jsonSave.getFileName().toString();
+        final Path binarySave = jsonSave.resolveSibling(fileName.substring(0, fileName.length() - JSON_EXTENSION.length()) + EXTENSION);
+        if (Files.exists(binarySave)) {
+            throw new FileAlreadyExistsException(binarySave.toString(), null, "A save with the same name already exists");
+        }
+        final SaveData save;
+        try (Reader reader = new InputStreamReader(Compression.decompress(Files.newInputStream(jsonSave)), StandardCharsets.UTF_8)) {
+            save = importJson(reader);
+        }
+        write(save, binarySave);
+        Files.move(jsonSave, jsonSave.resolveSibling(fileName + BACKUP_EXTENSION));
+        DebugLogger.info("Converted save [{}] to the binary format", fileName);
+        return save;
+    }
+
+    private static void readVersion(final DataInputStream data) throws IOException {
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a save file");
+        }
+        final short version = data.readShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported save version " + version);
+        }
+    }
+
+    private static String readString(final DataInputStream data, final String[] strings) throws IOException {
+        final int index = data.readInt();
+        return index == -1 ? null : strings[index];
+    }
+
+    private static Role getRole(final String roleId, final Gender gender) {
+        final Role role = (Role) Registry.getAsset(Registry.AssetType.ROLE, roleId);
+        if (role == null) {
+            // The role was removed from the game data, so keep its name without any bonuses
+            DebugLogger.warn("Unknown role [{}] in save", roleId);
+            return new Role(roleId, gender, null, null, 0, false);
+        }
+        return role;
+    }
+
+    /**
+     * Assigns each String an index in the order they are first written
+     */
+    private static final class StringTable {
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        private int intern(final String value) {
+            if (value == null) {
+                return -1;
+            }
+            return this.indexes.computeIfAbsent(value, key -> {
+                this.values.add(key);
+                return this.values.size() - 1;
+            });
+        }
+
+        private int size() {
+            return this.values.size();
+        }
+
+        private List<String> values() {
+            return this.values;
+        }
+    }
+}
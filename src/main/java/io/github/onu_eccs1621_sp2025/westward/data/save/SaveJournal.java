@@ -0,0 +1,465 @@
+package io.github.onu_eccs1621_sp2025.westward.data.save;
+
+import io.github.onu_eccs1621_sp2025.westward.TrailApplication;
+import io.github.onu_eccs1621_sp2025.westward.data.Date;
+import io.github.onu_eccs1621_sp2025.westward.data.SaveData;
+import io.github.onu_eccs1621_sp2025.westward.data.StatusContainer;
+import io.github.onu_eccs1621_sp2025.westward.data.member.Member;
+import io.github.onu_eccs1621_sp2025.westward.game.Inventory;
+import io.github.onu_eccs1621_sp2025.westward.game.ItemStack;
+import io.github.onu_eccs1621_sp2025.westward.utils.Compression;
+import io.github.onu_eccs1621_sp2025.westward.utils.DebugLogger;
+import io.github.onu_eccs1621_sp2025.westward.utils.FileUtils;
+import io.github.onu_eccs1621_sp2025.westward.utils.profiling.SaveLoadEvent;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+/**
+ * An append-only log of the changes made to a save each in-game day.<p>
+ * The journal belongs to the save written before it and records the checksum of that save,
+ * so a journal left over from an older save is ignored. Each record stores the new values of
+ * everything that changed during a day, and a save is recovered by replaying every complete
+ * record on top of it. A record that was only partly written when the game stopped is discarded.<p>
+ * Records are compressed individually when {@link Compression} is enabled and it makes them smaller.
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.3
+ */
+public final class SaveJournal {
+    /**
+     * The file extension of journals
+     */
+    public static final String EXTENSION = ".journal";
+    /**
+     * Identifies a journal file
+     */
+    private static final int MAGIC = 0x57574A4C;
+    /**
+     * The format version written by this class
+     */
+    private static final short VERSION = 1;
+    /**
+     * The size of the journal header
+     */
+    private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + Long.BYTES;
+
+    private static final int MONEY_CHANGED = 1;
+    private static final int MILE_CHANGED = 1 << 1;
+    private static final int DATE_CHANGED = 1 << 2;
+    private static final int LANDMARK_CHANGED = 1 << 3;
+    private static final int SLEEP_CHANGED = 1 << 4;
+
+    /**
+     * Gets the path of the journal of a save
+     * @param saveName The name of the save
+     * @return The journal file in the saves directory
+     */
+    public static Path getJournalPath(final String saveName) {
+        return TrailApplication.getDataPaths().savesDirectoryPath().resolve(saveName + EXTENSION);
+    }
+
+    /**
+     * Starts a new empty journal for a save that was just written
+     * @param journal The journal file
+     * @param saveChecksum The CRC32 of the save file
+     * @throws IOException If the journal cannot be written
+     */
+    static void reset(final Path journal, final long saveChecksum) throws IOException {
+        FileUtils.writeAtomically(journal, out -> {
+            final DataOutputStream data = new DataOutputStream(out);
+            data.writeInt(MAGIC);
+            data.writeShort(VERSION);
+            data.writeLong(saveChecksum);
+            data.flush();
+        });
+    }
+
+    /**
+     * Appends a day to a journal and waits for it to reach the disk
+     * @param journal The journal file. It must have been started with {@link SaveJournal#reset(Path, long)}
+     * @param record The encoded day
+     * @param saveChecksum The CRC32 of the save the day follows
+     * @throws IOException If the record cannot be written, or the journal belongs to a different save
+     */
+    static void append(final Path journal, final byte[] record, final long saveChecksum) throws IOException {
+        final CRC32 crc = new CRC32();
+        crc.update(record);
+        final ByteBuffer buffer = ByteBuffer.allocate(record.length + Integer.BYTES * 2);
+        buffer.putInt(record.length).put(record).putInt((int) crc.getValue()).flip();
+        try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining() && channel.read(header, header.position()) > 0) {
+                // Read the whole header
+            }
+            header.flip();
+            if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC || header.getShort() != VERSION || header.getLong() != saveChecksum) {
+                // Another instance saved the game since this one did
+                throw new IOException("Journal [" + journal.getFileName() + "] no longer belongs to this save");
+            }
+            long position = channel.size();
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Computes the checksum a journal uses to identify its save
+     * @param save The save file
+     * @return The CRC32 of the save file
+     * @throws IOException If the save cannot be read
+     */
+    static long checksum(final Path save) throws IOException {
+        final CRC32 crc = new CRC32();
+        try (CheckedInputStream in = new CheckedInputStream(Files.newInputStream(save), crc)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Encodes the changes between two snapshots of the same game
+     * @param previous The game at the end of the previous journaled day
+     * @param current The game now
+     * @param events The names of the events that fired since the previous snapshot
+     * @return The encoded record, compressed if compression is enabled
+     */
+    public static byte[] encodeDay(final SaveData previous, final SaveData current, final List<String> events) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        final DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeUTF(current.dateSaved());
+            int changes = 0;
+            if (previous.money() != current.money()) {
+                changes |= MONEY_CHANGED;
+            }
+            if (previous.mile() != current.mile()) {
+                changes |= MILE_CHANGED;
+            }
+            if (previous.date().getMonth() != current.date().getMonth() || previous.date().getDay() != current.date().getDay()) {
+                changes |= DATE_CHANGED;
+            }
+            if (previous.nextLandmarkIndex() != current.nextLandmarkIndex()) {
+                changes |= LANDMARK_CHANGED;
+            }
+            if (previous.canSleep() != current.canSleep()) {
+                changes |= SLEEP_CHANGED;
+            }
+            out.writeByte(changes);
+            if ((changes & MONEY_CHANGED) != 0) {
+                out.writeFloat(current.money());
+            }
+            if ((changes & MILE_CHANGED) != 0) {
+                out.writeInt(current.mile());
+            }
+            if ((changes & DATE_CHANGED) != 0) {
+                out.writeUTF(current.date().getMonth().name());
+                out.writeByte(current.date().getDay());
+            }
+            if ((changes & LANDMARK_CHANGED) != 0) {
+                out.writeInt(current.nextLandmarkIndex());
+            }
+            if ((changes & SLEEP_CHANGED) != 0) {
+                out.writeBoolean(current.canSleep());
+            }
+            writeMembers(out, previous.members(), current.members());
+            writeItems(out, previous.inventory().getItems(), current.inventory().getItems());
+            out.writeShort(events.size());
+            for (String event : events) {
+                out.writeUTF(event);
+            }
+        } catch (IOException e) {
+            // Writing to memory cannot fail
+            throw new RuntimeException(e);
+        }
+        return Compression.compress(bytes.toByteArray());
+    }
+
+    private static void writeMembers(final DataOutputStream out, final List<Member> previous, final List<Member> current) throws IOException {
+        // Members are only ever removed, so the current members are the previous members in the same order.
+        // Names are not unique, so members are matched by the session id that snapshots of a member share
+        final List<Integer> removed = new ArrayList<>();
+        int next = 0;
+        for (int i = 0; i < previous.size(); i++) {
+            if (next < current.size() && previous.get(i).getSessionId() == current.get(next).getSessionId()) {
+                next++;
+            } else {
+                removed.add(i);
+            }
+        }
+        out.writeShort(removed.size());
+        for (int index : removed) {
+            out.writeShort(index);
+        }
+
+        final List<Integer> changed = new ArrayList<>();
+        int previousIndex = 0;
+        for (int i = 0; i < current.size(); i++) {
+            while (removed.contains(previousIndex)) {
+                previousIndex++;
+            }
+            if (!isSameMember(previous.get(previousIndex), current.get(i))) {
+                changed.add(i);
+            }
+            previousIndex++;
+        }
+        out.writeShort(changed.size());
+        for (int index : changed) {
+            final Member member = current.get(index);
+            out.writeShort(index);
+            out.writeInt(member.getHealth());
+            out.writeInt(member.getMaxHealth());
+            out.writeByte(member.getStatuses().size());
+            for (StatusContainer status : member.getStatuses()) {
+                out.writeUTF(status.getName());
+                out.writeByte(status.getLevel());
+            }
+        }
+    }
+
+    private static boolean isSameMember(final Member previous, final Member current) {
+        if (previous.getHealth() != current.getHealth() || previous.getMaxHealth() != current.getMaxHealth()
+                || previous.getStatuses().size() != current.getStatuses().size()) {
+            return false;
+        }
+        for (int i = 0; i < previous.getStatuses().size(); i++) {
+            final StatusContainer previousStatus = previous.getStatuses().get(i);
+            final StatusContainer currentStatus = current.getStatuses().get(i);
+            if (!previousStatus.getName().equals(currentStatus.getName()) || previousStatus.getLevel() != currentStatus.getLevel()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeItems(final DataOutputStream out, final List<ItemStack> previous, final List<ItemStack> current) throws IOException {
+        // Inventories hold one stack per id, since stacks are merged when they are added, read or imported
+        final Map<String, ItemStack> previousById = new HashMap<>();
+        for (ItemStack stack : previous) {
+            previousById.put(stack.getId(), stack);
+        }
+        final List<ItemStack> changed = new ArrayList<>();
+        for (ItemStack stack : current) {
+            final ItemStack previousStack = previousById.remove(stack.getId());
+            if (previousStack == null || !isSameItem(previousStack, stack)) {
+                changed.add(stack);
+            }
+        }
+        // Anything left was removed from the inventory
+        out.writeShort(previousById.size());
+        for (String id : previousById.keySet()) {
+            out.writeUTF(id);
+        }
+        out.writeShort(changed.size());
+        for (ItemStack stack : changed) {
+            out.writeUTF(stack.getId());
+            out.writeShort(stack.getCount());
+            out.writeFloat(stack.getBarterValue());
+            out.writeUTF(stack.getType().name());
+            out.writeBoolean(stack.getStatusApplied() != null);
+            if (stack.getStatusApplied() != null) {
+                out.writeUTF(stack.getStatusApplied());
+            }
+        }
+    }
+
+    private static boolean isSameItem(final ItemStack previous, final ItemStack current) {
+        return previous.getCount() == current.getCount()
+                && previous.getBarterValue() == current.getBarterValue()
+                && previous.getType() == current.getType()
+                && Objects.equals(previous.getStatusApplied(), current.getStatusApplied());
+    }
+
+    /**
+     * Reads a save and replays its journal on top of it.<p>
+     * An incomplete record at the end of the journal is removed, so this should only be used to load a game
+     * @param saveName The name of the save
+     * @return The save with every journaled day applied
+     * @throws IOException If the save cannot be read
+     */
+    public static SaveData recover(final String saveName) throws IOException {
+        // Other instances must not append while the journal is repaired
+        return SaveLock.withLock(() -> recordedReplay(saveName, true));
+    }
+
+    /**
+     * Reads a save and replays its journal on top of it without changing the journal
+     * @param saveName The name of the save
+     * @return The save with every journaled day applied
+     * @throws IOException If the save cannot be read
+     */
+    public static SaveData read(final String saveName) throws IOException {
+        return recordedReplay(saveName, false);
+    }
+
+    /**
+     * Replays a save, recording how long it took for the flight recorder
+     */
+    private static SaveData recordedReplay(final String saveName, final boolean repair) throws IOException {
+        final SaveLoadEvent event = new SaveLoadEvent();
+        event.begin();
+        final SaveData save = replay(saveName, repair);
+        if (event.shouldCommit()) {
+            final Path journal = getJournalPath(saveName);
+            event.saveName = saveName;
+            event.bytes = Files.size(SaveCodec.getSavePath(saveName)) + (Files.exists(journal) ? Files.size(journal) : 0);
+            event.repair = repair;
+            event.commit();
+        }
+        return save;
+    }
+
+    private static SaveData replay(final String saveName, final boolean repair) throws IOException {
+        final Path journal = getJournalPath(saveName);
+        if (Files.notExists(journal)) {
+            return SaveCodec.read(SaveCodec.getSavePath(saveName));
+        }
+        final CRC32 saveCrc = new CRC32();
+        SaveData save;
+        try (CheckedInputStream in = new CheckedInputStream(Files.newInputStream(SaveCodec.getSavePath(saveName)), saveCrc)) {
+            save = SaveCodec.read(in);
+            // Include anything after the save in the checksum
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+
+        final byte[] journalBytes = Files.readAllBytes(journal);
+        final ByteBuffer buffer = ByteBuffer.wrap(journalBytes);
+        if (journalBytes.length < HEADER_SIZE || buffer.getInt() != MAGIC || buffer.getShort() != VERSION) {
+            DebugLogger.warn("Ignoring invalid journal for save [{}]", saveName);
+            return save;
+        }
+        if (buffer.getLong() != saveCrc.getValue()) {
+            // The save was rewritten after the journal was started, so it already contains these days
+            return save;
+        }
+
+        int days = 0;
+        int validLength = buffer.position();
+        while (buffer.remaining() >= Integer.BYTES) {
+            final int length = buffer.getInt();
+            if (length < 0 || buffer.remaining() < length + Integer.BYTES) {
+                break;
+            }
+            final byte[] record = new byte[length];
+            buffer.get(record);
+            final CRC32 crc = new CRC32();
+            crc.update(record);
+            if ((int) crc.getValue() != buffer.getInt()) {
+                break;
+            }
+            save = replayDay(save, record);
+            days++;
+            validLength = buffer.position();
+        }
+        if (repair && validLength != journalBytes.length) {
+            // Drop the partly written record so new days are appended after the last complete one
+            DebugLogger.warn("Discarding incomplete journal record for save [{}]", saveName);
+            try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.WRITE)) {
+                channel.truncate(validLength);
+            }
+        }
+        if (repair) {
+            DebugLogger.info("Replayed {} journaled days for save [{}]", days, saveName);
+        }
+        return save;
+    }
+
+    private static SaveData replayDay(final SaveData save, final byte[] record) throws IOException {
+        final DataInputStream in = new DataInputStream(Compression.decompress(new ByteArrayInputStream(record)));
+        try {
+            final String dateSaved = in.readUTF();
+            final int changes = in.readByte();
+            final float money = (changes & MONEY_CHANGED) != 0 ? in.readFloat() : save.money();
+            final int mile = (changes & MILE_CHANGED) != 0 ? in.readInt() : save.mile();
+            final Date date = (changes & DATE_CHANGED) != 0 ? new Date(Date.Month.valueOf(in.readUTF()), in.readByte(), 0) : save.date();
+            final int nextLandmarkIndex = (changes & LANDMARK_CHANGED) != 0 ? in.readInt() : save.nextLandmarkIndex();
+            final boolean canSleep = (changes & SLEEP_CHANGED) != 0 ? in.readBoolean() : save.canSleep();
+
+            final List<Member> members = new ArrayList<>(save.members());
+            final int removedMembers = in.readShort();
+            final int[] removed = new int[removedMembers];
+            for (int i = 0; i < removedMembers; i++) {
+                removed[i] = in.readShort();
+            }
+            // Remove from the end so the earlier indexes stay valid
+            for (int i = removedMembers - 1; i >= 0; i--) {
+                members.remove(removed[i]);
+            }
+            for (int i = in.readShort(); i > 0; i--) {
+                final int index = in.readShort();
+                final Member previous = members.get(index);
+                final Member member = new Member(previous.getName(), previous.getRole(), previous.getGender(), in.readInt(), in.readInt());
+                for (int j = in.readByte(); j > 0; j--) {
+                    final String statusName = in.readUTF();
+                    final byte level = in.readByte();
+                    final StatusContainer status = StatusContainer.getDefaultInstance(statusName);
+                    if (status != null) {
+                        member.getStatuses().add(status.cloneWithLevel(level));
+                    }
+                }
+                members.set(index, member);
+            }
+
+            final Inventory inventory = save.inventory();
+            for (int i = in.readShort(); i > 0; i--) {
+                final String id = in.readUTF();
+                inventory.getItems().removeIf(stack -> stack.getId().equals(id));
+            }
+            for (int i = in.readShort(); i > 0; i--) {
+                final String id = in.readUTF();
+                final short count = in.readShort();
+                final float barterValue = in.readFloat();
+                final ItemStack.ItemType type = ItemStack.ItemType.valueOf(in.readUTF());
+                final String statusApplied = in.readBoolean() ? in.readUTF() : null;
+                final ItemStack stack = new ItemStack(id, count, statusApplied, barterValue, type);
+                final int index = indexOfItem(inventory, id);
+                if (index == -1) {
+                    inventory.getItems().add(stack);
+                } else {
+                    inventory.getItems().set(index, stack);
+                }
+            }
+
+            final int eventCount = in.readShort();
+            if (eventCount > 0) {
+                final List<String> events = new ArrayList<>(eventCount);
+                for (int i = 0; i < eventCount; i++) {
+                    events.add(in.readUTF());
+                }
+                DebugLogger.info("Replayed day on {} with events {}", date.getMonth() + " " + date.getDay(), events);
+            }
+            return new SaveData(save.saveName(), members, inventory, money, mile, save.difficulty(), date, nextLandmarkIndex, canSleep, dateSaved);
+        } catch (EOFException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IOException("Corrupted journal record", e);
+        }
+    }
+
+    private static int indexOfItem(final Inventory inventory, final String id) {
+        final List<ItemStack> items = inventory.getItems();
+        for (int i = 0; i < items.size(); i++) {
+            if (items.get(i).getId().equals(id)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
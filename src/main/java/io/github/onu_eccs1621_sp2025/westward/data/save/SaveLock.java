@@ -0,0 +1,143 @@
+package io.github.onu_eccs1621_sp2025.westward.data.save;
+
+import io.github.onu_eccs1621_sp2025.westward.TrailApplication;
+import io.github.onu_eccs1621_sp2025.westward.utils.DebugLogger;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Guards the saves directory against other threads and other instances of the game.<p>
+ * Several instances may share a saves directory, for example on a network drive. Anything that
+ * changes the directory holds a lock on the {@code .lock} file in it, so changes made by different
+ * instances never interleave. Some file systems do not support file locks, in which case only
+ * threads of this instance are excluded.
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.2
+ */
+public final class SaveLock {
+    /**
+     * The name of the lock file in the saves directory
+     */
+    public static final String LOCK_FILE = ".lock";
+    /**
+     * Excludes other threads. A FileLock is held by the whole process, so it cannot do this
+     */
+    private static final ReentrantLock THREAD_LOCK = new ReentrantLock();
+    /**
+     * The open lock file, kept open because closing it releases every lock on it
+     */
+    private static FileChannel channel;
+    /**
+     * Set when the file system cannot lock files
+     */
+    private static boolean unsupported;
+    /**
+     * The messages of the errors reported by file systems that cannot lock files
+     */
+    private static final List<String> UNSUPPORTED_MESSAGES = List.of("No locks available", "Function not implemented", "Operation not supported");
+
+    /**
+     * Work done while holding the lock
+     * @param <T> The result of the work
+     */
+    @FunctionalInterface
+    public interface LockedAction<T> {
+        /**
+         * Does the work
+         * @return The result
+         * @throws IOException If the work fails
+         */
+        T run() throws IOException;
+    }
+
+    /**
+     * Runs an action while holding the lock. The lock may be taken again by the same thread
+     * @param action The action
+     * @param <T> The result of the action
+     * @return The result of the action
+     * @throws IOException If the action fails or the lock cannot be taken
+     */
+    public static <T> T withLock(final LockedAction<T> action) throws IOException {
+        THREAD_LOCK.lock();
+        try {
+            if (THREAD_LOCK.getHoldCount() > 1) {
+                return action.run();
+            }
+            final FileLock fileLock = lockFile();
+            try {
+                return action.run();
+            } finally {
+                if (fileLock != null) {
+                    fileLock.release();
+                }
+            }
+        } finally {
+            THREAD_LOCK.unlock();
+        }
+    }
+
+    private static FileLock lockFile() throws IOException {
+        if (unsupported) {
+            return null;
+        }
+        if (channel == null || !channel.isOpen()) {
+            channel = FileChannel.open(TrailApplication.getDataPaths().savesDirectoryPath().resolve(LOCK_FILE),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        }
+        return lock(channel);
+    }
+
+    /**
+     * Locks the lock file, or falls back to only excluding threads if its file system cannot lock files
+     * @param lockChannel The open lock file
+     * @return The lock, or null if the file system cannot lock files
+     * @throws IOException If the lock cannot be taken for any other reason
+     */
+    static FileLock lock(final FileChannel lockChannel) throws IOException {
+        try {
+            // Blocks until other instances are done with the directory
+            return lockChannel.lock();
+        } catch (UnsupportedOperationException e) {
+            disableFileLocks(e);
+            return null;
+        } catch (IOException e) {
+            // Other failures are passed on, since they may not last
+            if (!isLockUnsupported(e)) {
+                throw e;
+            }
+            disableFileLocks(e);
+            return null;
+        }
+    }
+
+    /**
+     * Checks if a lock failed because the file system does not support locks.<p>
+     * Network and FUSE file systems without lock support report ENOLCK, ENOSYS or EOPNOTSUPP,
+     * which only appear in the message of the exception
+     * @param e The exception thrown while locking
+     * @return If the file system cannot lock files
+     */
+    static boolean isLockUnsupported(final IOException e) {
+        final String message = e.getMessage();
+        if (message == null) {
+            return false;
+        }
+        for (String unsupportedMessage : UNSUPPORTED_MESSAGES) {
+            if (message.contains(unsupportedMessage)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void disableFileLocks(final Exception e) {
+        DebugLogger.warn("Saves directory cannot be locked, so it must not be shared with other instances", e);
+        unsupported = true;
+    }
+}
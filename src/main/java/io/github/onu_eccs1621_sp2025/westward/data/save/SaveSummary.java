@@ -0,0 +1,52 @@
+package io.github.onu_eccs1621_sp2025.westward.data.save;
+
+import io.github.onu_eccs1621_sp2025.westward.data.SaveData;
+import io.github.onu_eccs1621_sp2025.westward.utils.Config;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+
+/**
+ * The details of a save shown in the save list
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.0
+ * @param name The name of the save
+ * @param dateSaved The formatted date the save was last saved
+ * @param savedAt When the save was last saved in milliseconds since the epoch, or 0 if unknown
+ * @param difficulty The difficulty of the game
+ * @param mile The mile the party has reached
+ * @param memberCount The number of members still alive
+ */
+public record SaveSummary(String name, String dateSaved, long savedAt, short difficulty, int mile, int memberCount) {
+
+    /**
+     * Creates the summary of a save
+     * @param save The save
+     * @return The summary of the save
+     */
+    public static SaveSummary of(final SaveData save) {
+        return new SaveSummary(save.saveName(), save.dateSaved(), parseTime(save.dateSaved()), save.difficulty(), save.mile(), save.members().size());
+    }
+
+    /**
+     * Gets how far along the trail the party is
+     * @return Progress from 0 to 1
+     */
+    public float getProgress() {
+        return Math.min(1F, (float) this.mile / Config.getConfig().getTotalMiles());
+    }
+
+    /**
+     * Parses a date formatted by {@link SaveData#getTimeNow()}
+     * @param dateSaved The formatted date
+     * @return The date in milliseconds since the epoch, or 0 if it cannot be parsed
+     */
+    static long parseTime(final String dateSaved) {
+        try {
+            return new SimpleDateFormat("MMMM dd, yyyy hh:mm a").parse(dateSaved).getTime();
+        } catch (ParseException e) {
+            return 0;
+        }
+    }
+}
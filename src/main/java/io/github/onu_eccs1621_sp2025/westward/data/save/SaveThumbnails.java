@@ -0,0 +1,109 @@
+package io.github.onu_eccs1621_sp2025.westward.data.save;
+
+import io.github.onu_eccs1621_sp2025.westward.data.SaveData;
+import io.github.onu_eccs1621_sp2025.westward.data.member.Member;
+import io.github.onu_eccs1621_sp2025.westward.utils.DebugLogger;
+import io.github.onu_eccs1621_sp2025.westward.utils.rendering.FrameScheduler;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Loads the thumbnails shown in the save list in the background.<p>
+ * Thumbnails need the whole save, so they are only loaded for saves that are visible and
+ * the most recently shown thumbnails are kept in memory.
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.1
+ */
+public final class SaveThumbnails {
+    /**
+     * The maximum number of thumbnails kept in memory
+     */
+    private static final int CAPACITY = 128;
+    /**
+     * The thread that reads saves for thumbnails
+     */
+    private static final ExecutorService LOADER = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "Save Thumbnails");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /**
+     * Loaded thumbnails by save name, least recently used first
+     */
+    private static final Map<String, Thumbnail> CACHE = new LinkedHashMap<>(CAPACITY, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Thumbnail> eldest) {
+            return this.size() > CAPACITY;
+        }
+    };
+    /**
+     * Saves with a thumbnail being loaded
+     */
+    private static final Set<String> LOADING = new HashSet<>();
+
+    /**
+     * A small picture of a party's progress
+     * @param savedAt When the save the thumbnail was made from was saved
+     * @param progress How far along the trail the party is, from 0 to 1
+     * @param memberHealth The health of each member, from 0 to 1
+     */
+    public record Thumbnail(long savedAt, float progress, float[] memberHealth) {}
+
+    /**
+     * Gets the thumbnail of a save, loading it in the background if it is not loaded
+     * @param summary The summary of the save
+     * @return The thumbnail, or null while it is loading
+     */
+    public static synchronized Thumbnail get(final SaveSummary summary) {
+        final Thumbnail thumbnail = CACHE.get(summary.name());
+        if (thumbnail != null && thumbnail.savedAt() == summary.savedAt()) {
+            return thumbnail;
+        }
+        if (LOADING.add(summary.name())) {
+            LOADER.execute(() -> load(summary));
+        }
+        // Keep showing the old thumbnail until the new one is loaded
+        return thumbnail;
+    }
+
+    /**
+     * Removes the thumbnail of a save
+     * @param name The name of the save
+     */
+    public static synchronized void invalidate(final String name) {
+        CACHE.remove(name);
+    }
+
+    private static void load(final SaveSummary summary) {
+        Thumbnail thumbnail = null;
+        try {
+            final SaveData save = SaveJournal.read(summary.name());
+            final float[] memberHealth = new float[save.members().size()];
+            for (int i = 0; i < memberHealth.length; i++) {
+                final Member member = save.members().get(i);
+                memberHealth[i] = Math.clamp((float) member.getHealth() / member.getMaxHealth(), 0F, 1F);
+            }
+            // The journal may have moved the party further than the summary shows
+            thumbnail = new Thumbnail(summary.savedAt(), SaveSummary.of(save).getProgress(), memberHealth);
+        } catch (IOException | RuntimeException e) {
+            DebugLogger.warn("Failed to load thumbnail for save [{}]", summary.name(), e);
+            // Cache an empty thumbnail so a broken save is not read every frame
+            thumbnail = new Thumbnail(summary.savedAt(), summary.getProgress(), new float[0]);
+        } finally {
+            synchronized (SaveThumbnails.class) {
+                LOADING.remove(summary.name());
+                if (thumbnail != null) {
+                    CACHE.put(summary.name(), thumbnail);
+                }
+            }
+            FrameScheduler.requestRedraw();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package io.github.onu_eccs1621_sp2025.westward.data.save;
+
+import io.github.onu_eccs1621_sp2025.westward.TrailApplication;
+import io.github.onu_eccs1621_sp2025.westward.data.SaveData;
+import io.github.onu_eccs1621_sp2025.westward.utils.Config;
+import io.github.onu_eccs1621_sp2025.westward.utils.DebugLogger;
+import io.github.onu_eccs1621_sp2025.westward.utils.FileUtils;
+import io.github.onu_eccs1621_sp2025.westward.utils.profiling.SaveWriteEvent;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Writes saves on a background thread.<p>
+ * Saves are given as snapshots that are not shared with the running game, so they can be
+ * serialized after the game has moved on. Each save is written to a temporary file that
+ * replaces the save once it is fully on disk, so a crash never leaves a partially written save.
+ * Saves are written one at a time in the order they were requested.<p>
+ * Writing a save also starts a new {@link SaveJournal} for it, and journaled days are
+ * appended on the same thread so they always follow the save they belong to.<p>
+ * Every change to the saves directory holds the {@link SaveLock}. If another instance of the game
+ * saves the same game, this instance stops journaling and writes a full save instead.
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.4
+ */
+public final class SaveWriter {
+    /**
+     * The thread that writes saves
+     */
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "Save Writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /**
+     * The checksum of the last save written by this instance for each save name. Only used on the writer thread
+     */
+    private static final Map<String, Long> WRITTEN = new HashMap<>();
+
+    /**
+     * Writes a save in the background
+     * @param snapshot The save. It must not be modified after it is passed in
+     * @return Completes when the save is on disk, or completes exceptionally if it cannot be written
+     */
+    public static CompletableFuture<Void> write(final SaveData snapshot) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                writeNow(snapshot);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, WRITER);
+    }
+
+    /**
+     * Appends a day to a save's journal in the background
+     * @param saveName The name of the save
+     * @param record The day encoded by {@link SaveJournal#encodeDay(SaveData, SaveData, java.util.List)}
+     * @return Completes when the day is on disk, or completes exceptionally if it cannot be written
+     */
+    public static CompletableFuture<Void> appendJournal(final String saveName, final byte[] record) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                final Long saveChecksum = WRITTEN.get(saveName);
+                if (saveChecksum == null) {
+                    throw new IOException("Save [" + saveName + "] has not been written");
+                }
+                SaveLock.withLock(() -> {
+                    SaveJournal.append(SaveJournal.getJournalPath(saveName), record, saveChecksum);
+                    return null;
+                });
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, WRITER);
+    }
+
+    /**
+     * Deletes a save and its journal in the background, after any pending writes to it
+     * @param saveName The name of the save
+     * @return Completes when the save is deleted, or completes exceptionally if it cannot be deleted
+     */
+    public static CompletableFuture<Void> delete(final String saveName) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                WRITTEN.remove(saveName);
+                SaveLock.withLock(() -> {
+                    Files.deleteIfExists(SaveCodec.getSavePath(saveName));
+                    Files.deleteIfExists(SaveJournal.getJournalPath(saveName));
+                    return null;
+                });
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, WRITER);
+    }
+
+    /**
+     * Waits for every requested save to be written.<p>
+     * Should be called before the game exits.
+     */
+    public static void awaitPending() {
+        try {
+            WRITER.submit(() -> {}).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            DebugLogger.error("Failed to wait for saves", e.getCause());
+        }
+    }
+
+    private static void writeNow(final SaveData snapshot) throws IOException {
+        final SaveWriteEvent event = new SaveWriteEvent();
+        event.begin();
+        final Path path = SaveCodec.getSavePath(snapshot.saveName());
+        final CRC32 crc = new CRC32();
+        try {
+            SaveLock.withLock(() -> {
+                final Long written = WRITTEN.get(snapshot.saveName());
+                if (written != null && Files.exists(path) && SaveJournal.checksum(path) != written) {
+                    DebugLogger.warn("Save [{}] was changed by another instance and will be replaced", snapshot.saveName());
+                }
+                FileUtils.writeAtomically(path, out -> {
+                    final CheckedOutputStream checked = new CheckedOutputStream(out, crc);
+                    SaveCodec.write(snapshot, checked);
+                    checked.flush();
+                });
+                // The old journal only applies to the save that was just replaced
+                SaveJournal.reset(SaveJournal.getJournalPath(snapshot.saveName()), crc.getValue());
+                return null;
+            });
+        } catch (IOException | RuntimeException e) {
+            // Days queued after this save were journaled against it, so they must not reach the old save's journal
+            WRITTEN.remove(snapshot.saveName());
+            throw e;
+        }
+        WRITTEN.put(snapshot.saveName(), crc.getValue());
+        if (event.shouldCommit()) {
+            event.saveName = snapshot.saveName();
+            event.bytes = Files.size(path);
+            event.commit();
+        }
+        if (Config.getConfig().isDevMode()) {
+            // Readable copy for debugging, outside the saves directory listing
+            final Path exportDirectory = Files.createDirectories(TrailApplication.getDataPaths().savesDirectoryPath().resolve("json"));
+            try (Writer writer = Files.newBufferedWriter(exportDirectory.resolve(snapshot.saveName() + SaveCodec.JSON_EXTENSION))) {
+                SaveCodec.exportJson(snapshot, writer);
+            }
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package io.github.onu_eccs1621_sp2025.westward.game;
 
-import com.google.gson.reflect.TypeToken;
 import imgui.type.ImInt;
 import io.github.onu_eccs1621_sp2025.westward.TrailApplication;
 import io.github.onu_eccs1621_sp2025.westward.data.Date;
@@ -8,28 +7,31 @@ import io.github.onu_eccs1621_sp2025.westward.data.Landmark;
 import io.github.onu_eccs1621_sp2025.westward.data.SaveData;
 import io.github.onu_eccs1621_sp2025.westward.data.StatusContainer;
 import io.github.onu_eccs1621_sp2025.westward.data.member.Member;
+import io.github.onu_eccs1621_sp2025.westward.data.save.Autosave;
+import io.github.onu_eccs1621_sp2025.westward.data.save.SaveWriter;
 import io.github.onu_eccs1621_sp2025.westward.game.event.Event;
 import io.github.onu_eccs1621_sp2025.westward.screen.Renderer;
 import io.github.onu_eccs1621_sp2025.westward.screen.Screen;
 import io.github.onu_eccs1621_sp2025.westward.screen.default_screens.travel.TravelingScreen;
 import io.github.onu_eccs1621_sp2025.westward.utils.Config;
 import io.github.onu_eccs1621_sp2025.westward.utils.DebugLogger;
+import io.github.onu_eccs1621_sp2025.westward.utils.profiling.PerformanceOverlay;
+import io.github.onu_eccs1621_sp2025.westward.utils.profiling.TravelDayEvent;
 import io.github.onu_eccs1621_sp2025.westward.utils.registry.Registry;
+import io.github.onu_eccs1621_sp2025.westward.utils.rendering.FrameScheduler;
 import io.github.onu_eccs1621_sp2025.westward.utils.rendering.RenderUtils;
 import io.github.onu_eccs1621_sp2025.westward.utils.sound.SoundEngine;
 import io.github.onu_eccs1621_sp2025.westward.utils.text.Translations;
 
-import java.io.FileWriter;
-import java.io.IOException;
-import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Contains the data for the game.
  * Handles all game actions such as ticking, data retrieval, and rendering.
  * @author Dylan Catte, Ben Westover, Noah Sumerauer, Micah Lee
- * @version 1.2
+ * @version 1.7
  * @since 1.0.0 Alpha 1
  */
 public class Game {
@@ -46,13 +48,18 @@ public class Game {
     private int lastLandmarkMileCache;
     private boolean lastLandmarkHasShop;
     private boolean canCrossRiver;
-    private boolean waitingForUserInput;
+    private volatile boolean waitingForUserInput;
     private boolean canSleep;
     private MiniGame currentMinigame = MiniGame.NONE;
     private final ImInt selectedPace = new ImInt(1);
+    private final Autosave autosave = new Autosave();
     private String[] pacesTranslations = WagonPace.getTranslations();
     private static Game instance;
-    private boolean stopFlag = false;
+    private volatile boolean stopFlag = false;
+    /**
+     * The game thread waits on this while screens are shown or input is needed
+     */
+    private static final Object WAKE_LOCK = new Object();
 
     /**
      * Creates the game from data
@@ -110,6 +117,17 @@ public class Game {
      */
     public void markAsEnded() {
         this.stopFlag = true;
+        wakeGameThread();
+    }
+
+    /**
+     * Wakes the game thread so it checks again whether it can continue.<p>
+     * Must be called after a screen is closed or the game stops waiting for input
+     */
+    public static void wakeGameThread() {
+        synchronized (WAKE_LOCK) {
+            WAKE_LOCK.notifyAll();
+        }
     }
 
     /**
@@ -278,6 +296,7 @@ public class Game {
      */
     public void setNotWaiting() {
         this.waitingForUserInput = false;
+        wakeGameThread();
     }
 
     // If the members are at a landmark
@@ -332,15 +351,19 @@ public class Game {
     public void tickGame() {
         if (this.nextLandmarkIndex == 0) {
             Renderer.RENDER_QUEUE.add("intro");
+            FrameScheduler.requestRedraw();
         }
 
         // Pause game until no screens are present
-        while (!Renderer.RENDER_QUEUE.isEmpty() || this.waitingForUserInput) {
-            if (this.stopFlag) {
-                return;
-            }
+        if (!this.await(true)) {
+            return;
         }
 
+        final TravelDayEvent day = new TravelDayEvent();
+        day.begin();
+        // Only the simulation is timed, not the delays between miles or the screens shown during the day
+        long simulatedNanos = 0;
+        long resumedAt = System.nanoTime();
         int milesTravelledToday = (int) Math.round(ThreadLocalRandom.current().nextGaussian(15 * WagonPace.getPace().getMileageMultiplier(), 2));
         int milesTravelledCopy = milesTravelledToday;
 
@@ -354,6 +377,7 @@ public class Game {
                 Landmark landmark = Registry.getLandmarkAsset(this.nextLandmarkIndex);
                 Screen screen = (Screen)Registry.getAsset(Registry.AssetType.SCREEN, landmark.screenId());
                 Renderer.RENDER_QUEUE.add(screen.getId());
+                FrameScheduler.requestRedraw();
                 this.getNextLandmark();
                 if (this.currentMile < Config.getConfig().getTotalMiles()) {
                     break;
@@ -362,8 +386,13 @@ public class Game {
 
             // End of the game check
             if (this.currentMile >= Config.getConfig().getTotalMiles()) {
-                this.pause();
+                simulatedNanos += System.nanoTime() - resumedAt;
+                if (!this.pause()) {
+                    return;
+                }
+                resumedAt = System.nanoTime();
                 onGameWon();
+                this.commitDay(day, milesTravelledCopy - milesTravelledToday, simulatedNanos + System.nanoTime() - resumedAt);
                 return;
             }
 
@@ -381,16 +410,18 @@ public class Game {
 
             // Check for game over
             if (this.members.isEmpty()) {
-                if (this.stopFlag) {
+                simulatedNanos += System.nanoTime() - resumedAt;
+                if (!this.pause()) {
                     return;
-                } else {
-                    this.markAsEnded();
                 }
-                this.pause();
+                resumedAt = System.nanoTime();
+                this.markAsEnded();
                 onGameLost();
+                this.commitDay(day, milesTravelledCopy - milesTravelledToday, simulatedNanos + System.nanoTime() - resumedAt);
                 return;
             }
             milesTravelledToday--;
+            simulatedNanos += System.nanoTime() - resumedAt;
 
             // A delay between miles
             try {
@@ -398,8 +429,13 @@ public class Game {
             } catch (InterruptedException e) {
                 throw new RuntimeException(e);
             }
+            // The wagon on the dashboard moves every mile
+            FrameScheduler.requestRedraw();
 
-            this.pause();
+            if (!this.pause()) {
+                return;
+            }
+            resumedAt = System.nanoTime();
         }
 
         // Eat food
@@ -433,14 +469,34 @@ public class Game {
             Renderer.RENDER_QUEUE.add(travelScreen.getId());
             this.canSleep = true;
             this.currentMinigame = MiniGame.getRandom(this.canCrossRiver);
+            this.autosave.onDayEnded(this);
         }
 
         // Force player feedback
         this.waitingForUserInput = true;
+        this.commitDay(day, milesTravelledCopy - milesTravelledToday, simulatedNanos + System.nanoTime() - resumedAt);
 
         tickGame();
     }
 
+    /**
+     * Records a day of travel for the flight recorder and the performance overlay
+     * @param event The event begun when the day started
+     * @param miles The miles travelled during the day
+     * @param simulatedNanos How long the day was simulated for, without the time spent waiting
+     */
+    private void commitDay(final TravelDayEvent event, final int miles, final long simulatedNanos) {
+        if (PerformanceOverlay.isEnabled()) {
+            PerformanceOverlay.recordTick(simulatedNanos);
+        }
+        if (event.shouldCommit()) {
+            event.day = this.date.getDay();
+            event.miles = miles;
+            event.members = this.members.size();
+            event.commit();
+        }
+    }
+
     private void getNextLandmark() {
         this.lastLandmarkIndex = this.nextLandmarkIndex;
         this.lastLandmarkMileCache = this.nextLandmarkMileCache;
@@ -456,10 +512,30 @@ public class Game {
         this.canCrossRiver = next.hasRiver();
     }
 
-    private void pause() {
-        // Pause game until no screens are present
-        while (!Renderer.RENDER_QUEUE.isEmpty()) {
+    /**
+     * Pauses the game until no screens are present
+     * @return False if the game was stopped while paused
+     */
+    private boolean pause() {
+        return this.await(false);
+    }
+
+    /**
+     * Blocks the game thread until no screens are present, without using the CPU while it waits
+     * @param forInput If the game also waits for the user to continue
+     * @return False if the game was stopped while waiting
+     */
+    private boolean await(final boolean forInput) {
+        synchronized (WAKE_LOCK) {
+            while (!this.stopFlag && (!Renderer.RENDER_QUEUE.isEmpty() || (forInput && this.waitingForUserInput))) {
+                try {
+                    WAKE_LOCK.wait();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }
         }
+        return !this.stopFlag;
     }
 
     /**
@@ -509,32 +585,62 @@ public class Game {
     }
 
     /**
-     * Saves all data in the game to a file
+     * Copies the state of the game into a SaveData that is not shared with the game
+     * @return Snapshot of the game
      */
-    public void saveGame() {
-        SaveData save = new SaveData(
+    public SaveData createSnapshot() {
+        List<Member> members = new ArrayList<>(this.members.size());
+        for (Member member : this.members) {
+            members.add(member.copy());
+        }
+        return new SaveData(
                 this.saveName,
-                this.members,
-                this.inventory,
+                members,
+                this.inventory.copy(),
                 this.money,
                 this.currentMile,
                 this.difficulty,
-                this.date,
+                this.date.copy(),
                 this.nextLandmarkIndex,
                 this.canSleep,
                 SaveData.getTimeNow()
         );
+    }
 
-        Path path = TrailApplication.getDataPaths().savesDirectoryPath().resolve(this.saveName + ".json");
+    /**
+     * Saves all data in the game to a file.<p>
+     * The game is copied on the calling thread and written to disk in the background.
+     * @return Completes when the save has been written
+     */
+    public CompletableFuture<Void> saveGame() {
+        return this.saveGame(this.createSnapshot());
+    }
 
-        try (FileWriter writer = new FileWriter(path.toFile())) {
-            Registry.getGsonInstance().toJson(save, new TypeToken<SaveData>(){}.getType(), writer);
-        } catch (IOException e) {
-            DebugLogger.warn("Failed to save game");
-            throw new RuntimeException(e);
-        }
-        Registry.replaceSaveData(this.saveName);
-        DebugLogger.info("Game saved successfully");
+    /**
+     * Saves a snapshot of the game to a file in the background
+     * @param snapshot Snapshot from {@link Game#createSnapshot()}
+     * @return Completes when the save has been written
+     */
+    public CompletableFuture<Void> saveGame(SaveData snapshot) {
+        // Set before the write finishes, since days journaled after it are written after the save
+        this.autosave.onSaved(snapshot);
+        return SaveWriter.write(snapshot).whenComplete((ignored, error) -> {
+            if (error != null) {
+                DebugLogger.error("Failed to save game", error);
+                this.autosave.onSaveFailed();
+            } else {
+                Registry.replaceSaveData(snapshot);
+                DebugLogger.info("Game saved successfully");
+            }
+        });
+    }
+
+    /**
+     * Records that an event fired, for the next autosave
+     * @param name The name of the event
+     */
+    public void recordEvent(String name) {
+        this.autosave.recordEvent(name);
     }
 
     /**
@@ -1,7 +1,12 @@
 package io.github.onu_eccs1621_sp2025.westward.game;
 
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.JsonAdapters;
 import io.github.onu_eccs1621_sp2025.westward.utils.registry.Registry;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -10,7 +15,7 @@ import java.util.concurrent.ThreadLocalRandom;
 /**
  * Contains the items that the pioneers have
  * @author Dylan Catte, Ben Westover, Noah Sumerauer, Micah Lee
- * @version 1.0
+ * @version 1.3
  * @since 1.0.0 Alpha 1
  */
 public class Inventory {
@@ -258,6 +263,18 @@ public class Inventory {
         }
     }
 
+    /**
+     * Creates an independent copy of the Inventory and its ItemStacks
+     * @return Copy of the Inventory
+     */
+    public Inventory copy() {
+        Inventory copy = new Inventory();
+        for (ItemStack stack : this.items) {
+            copy.items.add(new ItemStack(stack.getId(), stack.getCount(), stack.getStatusApplied(), stack.getBarterValue(), stack.getType()));
+        }
+        return copy;
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
@@ -266,4 +283,40 @@ public class Inventory {
         }
         return sb.toString();
     }
+
+    /**
+     * Reads and writes Inventories without reflection
+     */
+    public static final class JsonAdapter extends TypeAdapter<Inventory> {
+        private static final TypeAdapter<ItemStack> ITEM = new ItemStack.JsonAdapter().nullSafe();
+
+        @Override
+        public void write(JsonWriter out, Inventory value) throws IOException {
+            out.beginObject();
+            out.name("items");
+            JsonAdapters.writeList(out, value.items, ITEM);
+            out.endObject();
+        }
+
+        @Override
+        public Inventory read(JsonReader in) throws IOException {
+            final Inventory inventory = new Inventory();
+            in.beginObject();
+            while (in.hasNext()) {
+                if (in.nextName().equals("items")) {
+                    final List<ItemStack> items = JsonAdapters.readList(in, ITEM);
+                    if (items != null) {
+                        // Older saves can have several stacks of the same item, which are merged like any added stack
+                        for (ItemStack item : items) {
+                            inventory.addItemStack(item);
+                        }
+                    }
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+            return inventory;
+        }
+    }
 }
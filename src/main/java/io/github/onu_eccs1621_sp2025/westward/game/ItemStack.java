@@ -1,18 +1,22 @@
 package io.github.onu_eccs1621_sp2025.westward.game;
 
-import com.google.gson.annotations.SerializedName;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import io.github.onu_eccs1621_sp2025.westward.data.StatusContainer;
 import io.github.onu_eccs1621_sp2025.westward.data.member.Member;
 import io.github.onu_eccs1621_sp2025.westward.utils.ShallowClone;
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.JsonAdapters;
 import io.github.onu_eccs1621_sp2025.westward.utils.registry.Registry;
 import io.github.onu_eccs1621_sp2025.westward.utils.text.Translations;
 
+import java.io.IOException;
 import java.util.Optional;
 
 /**
  * Keeps the type and number of a certain item
  * @author Dylan Catte, Ben Westover, Noah Sumerauer, Micah Lee
- * @version 1.0
+ * @version 1.1
  * @since 1.0.0 Alpha 1
  */
 public class ItemStack implements ShallowClone<ItemStack> {
@@ -26,24 +30,21 @@ public class ItemStack implements ShallowClone<ItemStack> {
      * The type of Item in the ItemStack
      */
     public enum ItemType {
-        @SerializedName("food")
         FOOD,
-        @SerializedName("foodIngredient")
         FOOD_INGREDIENT,
-        @SerializedName("weapon")
         WEAPON,
-        @SerializedName("ammo")
         AMMUNITION,
-        @SerializedName("wagonParts")
         WAGON_PARTS,
-        @SerializedName("medicine")
         MEDICINE,
-        @SerializedName("supplies")
         SUPPLIES,
-        @SerializedName("tool")
         TOOL,
-        @SerializedName("clothes")
-        CLOTHES
+        CLOTHES;
+
+        /**
+         * Reads and writes item types by their JSON names
+         */
+        public static final TypeAdapter<ItemType> JSON_ADAPTER = JsonAdapters.enumAdapter(values(),
+                "food", "foodIngredient", "weapon", "ammo", "wagonParts", "medicine", "supplies", "tool", "clothes");
     }
 
     /**
@@ -184,6 +185,14 @@ public class ItemStack implements ShallowClone<ItemStack> {
         return this.type;
     }
 
+    /**
+     * Gets the status applied when the item is consumed
+     * @return The status name, or null if the item does not apply a status
+     */
+    public String getStatusApplied() {
+        return this.statusApplied;
+    }
+
     /**
      * Checks if the amount of items can be consumed
      * @param amount The amount of items to consume
@@ -258,4 +267,43 @@ public class ItemStack implements ShallowClone<ItemStack> {
     public String toString() {
         return this.getName() + " (" + this.count + ")";
     }
+
+    /**
+     * Reads and writes ItemStacks without reflection
+     */
+    public static final class JsonAdapter extends TypeAdapter<ItemStack> {
+        @Override
+        public void write(JsonWriter out, ItemStack value) throws IOException {
+            out.beginObject();
+            out.name("id").value(value.id);
+            out.name("count").value(value.count);
+            out.name("barterValue").value(value.barterValue);
+            out.name("type");
+            ItemType.JSON_ADAPTER.write(out, value.type);
+            out.name("statusApplied").value(value.statusApplied);
+            out.endObject();
+        }
+
+        @Override
+        public ItemStack read(JsonReader in) throws IOException {
+            String id = null;
+            short count = 0;
+            float barterValue = 0;
+            ItemType type = null;
+            String statusApplied = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id" -> id = JsonAdapters.nextString(in);
+                    case "count" -> count = JsonAdapters.nextShort(in);
+                    case "barterValue" -> barterValue = (float) in.nextDouble();
+                    case "type" -> type = ItemType.JSON_ADAPTER.read(in);
+                    case "statusApplied" -> statusApplied = JsonAdapters.nextString(in);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new ItemStack(id, count, statusApplied, barterValue, type);
+        }
+    }
 }
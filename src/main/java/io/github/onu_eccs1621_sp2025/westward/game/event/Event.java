@@ -1,8 +1,15 @@
 package io.github.onu_eccs1621_sp2025.westward.game.event;
 
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import io.github.onu_eccs1621_sp2025.westward.game.Game;
 import io.github.onu_eccs1621_sp2025.westward.screen.Renderer;
+import io.github.onu_eccs1621_sp2025.westward.utils.profiling.EventRunEvent;
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.JsonAdapters;
 import io.github.onu_eccs1621_sp2025.westward.utils.registry.Registry;
 
+import java.io.IOException;
 import java.util.concurrent.ThreadLocalRandom;
 
 /**
@@ -10,7 +17,7 @@ import java.util.concurrent.ThreadLocalRandom;
  * They can be a member dying, a status being applied, or another random trail event
  * @author Dylan Catte, Ben Westover, Noah Sumerauer, Micah Lee
  * @since 1.0.0 Alpha 1
- * @version 1.1
+ * @version 1.4
  * @param name The name of the event
  * @param screenId The screen identifier to open
  * @param chance The chance that the event is selected randomly
@@ -22,10 +29,8 @@ public record Event(String name, String screenId, float chance, EventAction acti
      * Selects a random event and randomly determines if it should be applied
      */
     public static void selectRandomEvent() {
-        String[] events = Registry.getAssetIdentifiers(Registry.AssetType.EVENT);
-        int index = ThreadLocalRandom.current().nextInt(0, events.length);
-        Event event = (Event) Registry.getAsset(Registry.AssetType.EVENT, events[index]);
-        if (ThreadLocalRandom.current().nextFloat() < event.chance) {
+        Event event = (Event) Registry.randomAsset(Registry.AssetType.EVENT);
+        if (event != null && ThreadLocalRandom.current().nextFloat() < event.chance) {
             event.run();
         }
     }
@@ -34,9 +39,56 @@ public record Event(String name, String screenId, float chance, EventAction acti
      * Executes the event
      */
     public void run() {
-        if (this.action.execute(this.name)) {
+        final EventRunEvent event = new EventRunEvent();
+        event.begin();
+        final boolean executed = this.action.execute(this.name);
+        if (executed) {
             Renderer.RENDER_QUEUE.add(this.screenId);
+            Game.getInstance().recordEvent(this.name);
             this.action.getConsequence().run();
         }
+        if (event.shouldCommit()) {
+            event.eventName = this.name;
+            event.executed = executed;
+            event.commit();
+        }
+    }
+
+    /**
+     * Reads and writes Events without reflection
+     */
+    public static final class JsonAdapter extends TypeAdapter<Event> {
+        private static final TypeAdapter<EventAction> ACTION = new EventAction.JsonAdapter().nullSafe();
+
+        @Override
+        public void write(JsonWriter out, Event value) throws IOException {
+            out.beginObject();
+            out.name("name").value(value.name);
+            out.name("screenId").value(value.screenId);
+            out.name("chance").value(value.chance);
+            out.name("action");
+            ACTION.write(out, value.action);
+            out.endObject();
+        }
+
+        @Override
+        public Event read(JsonReader in) throws IOException {
+            String name = null;
+            String screenId = null;
+            float chance = 0;
+            EventAction action = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "name" -> name = JsonAdapters.nextString(in);
+                    case "screenId" -> screenId = JsonAdapters.nextString(in);
+                    case "chance" -> chance = (float) in.nextDouble();
+                    case "action" -> action = ACTION.read(in);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new Event(name, screenId, chance, action);
+        }
     }
 }
@@ -1,6 +1,8 @@
 package io.github.onu_eccs1621_sp2025.westward.game.event;
 
-import com.google.gson.annotations.Expose;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import io.github.onu_eccs1621_sp2025.westward.data.StatusContainer;
 import io.github.onu_eccs1621_sp2025.westward.data.member.Member;
 import io.github.onu_eccs1621_sp2025.westward.game.Game;
@@ -8,8 +10,11 @@ import io.github.onu_eccs1621_sp2025.westward.game.ItemStack;
 import io.github.onu_eccs1621_sp2025.westward.screen.Renderer;
 import io.github.onu_eccs1621_sp2025.westward.utils.DebugLogger;
 import io.github.onu_eccs1621_sp2025.westward.utils.math.IntegerRange;
+import io.github.onu_eccs1621_sp2025.westward.utils.profiling.EventActionEvent;
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.JsonAdapters;
 import io.github.onu_eccs1621_sp2025.westward.utils.registry.Registry;
 
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -17,40 +22,90 @@ import java.util.List;
  * @author Dylan Catte
  * @author Ben Westover
  * @since 1.0.0 Alpha 1
- * @version 1.0
+ * @version 1.3
  */
 public class EventAction {
-    @Expose
-    private final List<EventConstraint> constraint = null;
-    @Expose
-    private final IntegerRange amount = null;
-    @Expose
-    private final String type = null;
-    @Expose
+    /**
+     * Reads and writes the parts of an action
+     */
+    private static final TypeAdapter<EventConstraint> CONSTRAINT = new EventConstraint.JsonAdapter().nullSafe();
+    private static final TypeAdapter<IntegerRange> RANGE = new IntegerRange.JsonAdapter().nullSafe();
+    private final List<EventConstraint> constraint;
+    private final IntegerRange amount;
+    private final String type;
     private final Action action;
     private Runnable consequence;
 
-    // Fake constructor to make variables final
-    private EventAction() {
-        this.action = null;
+    /**
+     * Creates an action from compiled content
+     * @param constraint The constraints that must be met for the action to run, or null
+     * @param amount The range the amount is rolled from, or null
+     * @param type The status, item or cause of death the action uses, or null
+     * @param action The name of the action
+     */
+    public EventAction(List<EventConstraint> constraint, IntegerRange amount, String type, String action) {
+        this(constraint, amount, type, Action.valueOf(action));
     }
 
-    private enum Action {
-        ADD_DAYS,
-        REMOVE_MILES,
-        ADD_STATUS_MEMBER,
-        ADD_STATUS_ALL,
-        REMOVE_ITEMS,
-        REMOVE_MONEY,
-        KILL,
-        SHOW_SCREEN,
-        BREAK_WAGON,
+    private EventAction(List<EventConstraint> constraint, IntegerRange amount, String type, Action action) {
+        this.constraint = constraint;
+        this.amount = amount;
+        this.type = type;
+        this.action = action;
+    }
+
+    /**
+     * What an action does when it runs
+     */
+    public enum Action {
+        ADD_DAYS(true),
+        REMOVE_MILES(true),
+        ADD_STATUS_MEMBER(false),
+        ADD_STATUS_ALL(false),
+        REMOVE_ITEMS(true),
+        REMOVE_MONEY(true),
+        KILL(false),
+        SHOW_SCREEN(false),
+        BREAK_WAGON(false);
+
+        /**
+         * Reads and writes actions by their names
+         */
+        public static final TypeAdapter<Action> JSON_ADAPTER = JsonAdapters.enumAdapter(values());
+        private final boolean rollsAmount;
+
+        Action(final boolean rollsAmount) {
+            this.rollsAmount = rollsAmount;
+        }
+
+        /**
+         * Gets if the action rolls its amount when it runs, so the amount is required
+         * @return True if the action requires an amount
+         */
+        public boolean rollsAmount() {
+            return this.rollsAmount;
+        }
     }
 
     /**
      * Runs the action
+     * @param eventName The name of the Event running the action
+     * @return True if the constraints were met and the action ran
      */
     public boolean execute(String eventName) {
+        final EventActionEvent event = new EventActionEvent();
+        event.begin();
+        final boolean executed = this.apply(eventName);
+        if (event.shouldCommit()) {
+            event.eventName = eventName;
+            event.action = this.action.name();
+            event.executed = executed;
+            event.commit();
+        }
+        return executed;
+    }
+
+    private boolean apply(String eventName) {
         if (Game.getInstance().getMembers().isEmpty()) {
             return false;
         }
@@ -59,11 +114,11 @@ public class EventAction {
             for (EventConstraint eventConstraint : this.constraint) {
                 if (eventConstraint.requiresMember()) {
                     if (!eventConstraint.validate(eventName, randomMember)) {
-                        DebugLogger.info("Constraints not met for {}", eventName);
+                        DebugLogger.debug("Constraints not met for {}", eventName);
                         return false;
                     }
                 } else if (!eventConstraint.validate(eventName)) {
-                    DebugLogger.info("Constraints not met for {}", eventName);
+                    DebugLogger.debug("Constraints not met for {}", eventName);
                     return false;
                 }
             }
@@ -117,7 +172,7 @@ public class EventAction {
 
                 // Randomly select money to take from party but ensure it's not more than they have
                 float amountToTake = this.amount.random();
-                DebugLogger.info("Taking ${}", amountToTake);
+                DebugLogger.debug("Taking ${}", amountToTake);
                 if (amountToTake > currentMoney) {
                     amountToTake = currentMoney;
                 }
@@ -165,4 +220,42 @@ public class EventAction {
     public Runnable getConsequence() {
         return this.consequence;
     }
+
+    /**
+     * Reads and writes EventActions without reflection
+     */
+    public static final class JsonAdapter extends TypeAdapter<EventAction> {
+        @Override
+        public void write(JsonWriter out, EventAction value) throws IOException {
+            out.beginObject();
+            out.name("constraint");
+            JsonAdapters.writeList(out, value.constraint, CONSTRAINT);
+            out.name("amount");
+            RANGE.write(out, value.amount);
+            out.name("type").value(value.type);
+            out.name("action");
+            Action.JSON_ADAPTER.write(out, value.action);
+            out.endObject();
+        }
+
+        @Override
+        public EventAction read(JsonReader in) throws IOException {
+            List<EventConstraint> constraint = null;
+            IntegerRange amount = null;
+            String type = null;
+            Action action = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "constraint" -> constraint = JsonAdapters.readList(in, CONSTRAINT);
+                    case "amount" -> amount = RANGE.read(in);
+                    case "type" -> type = JsonAdapters.nextString(in);
+                    case "action" -> action = Action.JSON_ADAPTER.read(in);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new EventAction(constraint, amount, type, action);
+        }
+    }
 }
@@ -1,6 +1,8 @@
 package io.github.onu_eccs1621_sp2025.westward.game.event;
 
-import com.google.gson.annotations.SerializedName;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import io.github.onu_eccs1621_sp2025.westward.TrailApplication;
 import io.github.onu_eccs1621_sp2025.westward.data.StatusContainer;
 import io.github.onu_eccs1621_sp2025.westward.data.member.Member;
@@ -8,7 +10,9 @@ import io.github.onu_eccs1621_sp2025.westward.game.Game;
 import io.github.onu_eccs1621_sp2025.westward.game.ItemStack;
 import io.github.onu_eccs1621_sp2025.westward.utils.DebugLogger;
 import io.github.onu_eccs1621_sp2025.westward.utils.WeatherHelper;
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.JsonAdapters;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -17,9 +21,14 @@ import java.util.List;
  * @author Dylan Catte
  * @author Ben Westover
  * @since 1.0.0 Alpha 1
- * @version 1.1
+ * @version 1.3
  */
 public class EventConstraint {
+    /**
+     * Reads and writes the optional parts of a constraint
+     */
+    private static final TypeAdapter<ComplexArgument> COMPLEX_ARGUMENT = new ComplexArgument.JsonAdapter().nullSafe();
+    private static final TypeAdapter<Equation> EQUATION = new Equation.JsonAdapter().nullSafe();
     private Argument argument;
     private ComplexArgument complexArgument;
     private final CompareOperator compareOperator;
@@ -27,83 +36,140 @@ public class EventConstraint {
     private final String stringValue;
     private final Equation equation;
 
-    // Fake constructor to allow for null values
-    private EventConstraint() {
-        this.stringValue = null;
-        this.equation = null;
-        this.compareOperator = null;
+    /**
+     * Creates a constraint from compiled content
+     * @param argument The argument being compared, or null
+     * @param complexArgument The argument with a value being compared, or null
+     * @param compareOperator How the argument is compared
+     * @param intValue The integer the argument is compared to, or null
+     * @param stringValue The String the argument is compared to, or null
+     * @param equation The equation applied to the argument, or null
+     */
+    public EventConstraint(Argument argument, ComplexArgument complexArgument, CompareOperator compareOperator, Integer intValue, String stringValue, Equation equation) {
+        this.argument = argument;
+        this.complexArgument = complexArgument;
+        this.compareOperator = compareOperator;
+        this.intValue = intValue;
+        this.stringValue = stringValue;
+        this.equation = equation;
     }
 
     /**
      * Compares two values
      */
     public enum CompareOperator {
-        @SerializedName("==")
         EQUALS,
-        @SerializedName("!=")
         NOT_EQUALS,
-        @SerializedName(">")
         GREATER_THAN,
-        @SerializedName("<")
         LESS_THAN,
-        @SerializedName(">=")
         GREATER_THAN_OR_EQUAL_TO,
-        @SerializedName("<=")
         LESS_THAN_OR_EQUAL_TO,
-        @SerializedName(":")
         CONTAINS,
-        @SerializedName("!:")
-        NOT_CONTAINS
+        NOT_CONTAINS;
+
+        /**
+         * Reads and writes operators by their symbols
+         */
+        public static final TypeAdapter<CompareOperator> JSON_ADAPTER = JsonAdapters.enumAdapter(values(),
+                "==", "!=", ">", "<", ">=", "<=", ":", "!:");
     }
 
     /**
      * The type of EventConstraint
      */
     public enum Argument {
-        @SerializedName("currentDay")
         DAY,
-        @SerializedName("currentMile")
         MILE,
-        @SerializedName("role")
         ROLE,
-        @SerializedName("gender")
         GENDER,
-        @SerializedName("health")
         HEALTH,
-        @SerializedName("money")
         MONEY,
-        @SerializedName("foodCount")
         FOOD_COUNT,
-        @SerializedName("itemCount")
         ITEM_COUNT,
-        @SerializedName("clothesCount")
         CLOTHES_COUNT,
-        @SerializedName("status")
         STATUS,
-        @SerializedName("temp")
         TEMP,
-        @SerializedName("memberCount")
-        MEMBER_COUNT
+        MEMBER_COUNT;
+
+        /**
+         * Reads and writes arguments by their JSON names
+         */
+        public static final TypeAdapter<Argument> JSON_ADAPTER = JsonAdapters.enumAdapter(values(),
+                "currentDay", "currentMile", "role", "gender", "health", "money", "foodCount", "itemCount", "clothesCount", "status", "temp", "memberCount");
     }
 
     /**
      * Does arithmetic on two values
      */
     public static class Equation {
-        private final Argument argument = null;
-        private final ComplexArgument complexArgument = null;
+        private final Argument argument;
+        private final ComplexArgument complexArgument;
         private ArithmeticOperator operator;
         private int modifier;
 
+        /**
+         * Creates an equation from compiled content
+         * @param argument The argument the equation is applied to, or null
+         * @param complexArgument The argument with a value the equation is applied to, or null
+         * @param operator The operation applied to the argument
+         * @param modifier The value the argument is modified by
+         */
+        public Equation(Argument argument, ComplexArgument complexArgument, ArithmeticOperator operator, int modifier) {
+            this.argument = argument;
+            this.complexArgument = complexArgument;
+            this.operator = operator;
+            this.modifier = modifier;
+        }
+
         public enum ArithmeticOperator {
-            @SerializedName("*")
             MULTIPLY,
-            @SerializedName("+")
             ADD,
-            @SerializedName("-")
             SUBTRACT,
-            @SerializedName("/")
-            DIVIDE
+            DIVIDE;
+
+            /**
+             * Reads and writes operators by their symbols
+             */
+            public static final TypeAdapter<ArithmeticOperator> JSON_ADAPTER = JsonAdapters.enumAdapter(values(),
+                    "*", "+", "-", "/");
+        }
+
+        /**
+         * Reads and writes Equations without reflection
+         */
+        public static final class JsonAdapter extends TypeAdapter<Equation> {
+            @Override
+            public void write(JsonWriter out, Equation value) throws IOException {
+                out.beginObject();
+                out.name("argument");
+                Argument.JSON_ADAPTER.write(out, value.argument);
+                out.name("complexArgument");
+                COMPLEX_ARGUMENT.write(out, value.complexArgument);
+                out.name("operator");
+                ArithmeticOperator.JSON_ADAPTER.write(out, value.operator);
+                out.name("modifier").value(value.modifier);
+                out.endObject();
+            }
+
+            @Override
+            public Equation read(JsonReader in) throws IOException {
+                Argument argument = null;
+                ComplexArgument complexArgument = null;
+                ArithmeticOperator operator = null;
+                int modifier = 0;
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "argument" -> argument = Argument.JSON_ADAPTER.read(in);
+                        case "complexArgument" -> complexArgument = COMPLEX_ARGUMENT.read(in);
+                        case "operator" -> operator = ArithmeticOperator.JSON_ADAPTER.read(in);
+                        case "modifier" -> modifier = in.nextInt();
+                        default -> in.skipValue();
+                    }
+                }
+                in.endObject();
+                return new Equation(argument, complexArgument, operator, modifier);
+            }
         }
 
         /**
@@ -139,10 +205,44 @@ public class EventConstraint {
         private final Argument argument;
         private final String value;
 
-        // Fake constructor to allow for final values
-        private ComplexArgument() {
-            this.argument = null;
-            this.value = null;
+        /**
+         * Creates an argument from compiled content
+         * @param argument The argument
+         * @param value The value of the argument, such as an item id
+         */
+        public ComplexArgument(Argument argument, String value) {
+            this.argument = argument;
+            this.value = value;
+        }
+
+        /**
+         * Reads and writes ComplexArguments without reflection
+         */
+        public static final class JsonAdapter extends TypeAdapter<ComplexArgument> {
+            @Override
+            public void write(JsonWriter out, ComplexArgument value) throws IOException {
+                out.beginObject();
+                out.name("argument");
+                Argument.JSON_ADAPTER.write(out, value.argument);
+                out.name("value").value(value.value);
+                out.endObject();
+            }
+
+            @Override
+            public ComplexArgument read(JsonReader in) throws IOException {
+                Argument argument = null;
+                String value = null;
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "argument" -> argument = Argument.JSON_ADAPTER.read(in);
+                        case "value" -> value = JsonAdapters.nextString(in);
+                        default -> in.skipValue();
+                    }
+                }
+                in.endObject();
+                return new ComplexArgument(argument, value);
+            }
         }
     }
 
@@ -241,36 +341,24 @@ public class EventConstraint {
     private boolean compare(int value) {
         if (this.intValue != null) {
             int intValue = this.intValue;
+            final boolean result;
             switch (this.compareOperator) {
-                case EQUALS -> {
-                    DebugLogger.info("{} == {}", value, intValue);
-                    return value == intValue;
-                }
-                case NOT_EQUALS -> {
-                    DebugLogger.info("{} != {}", value, intValue);
-                    return value != intValue;
-                }
-                case GREATER_THAN -> {
-                    DebugLogger.info("{} > {}", value, intValue);
-                    return value > intValue;
-                }
-                case LESS_THAN -> {
-                    DebugLogger.info("{} < {}", value, intValue);
-                    return value < intValue;
-                }
-                case GREATER_THAN_OR_EQUAL_TO -> {
-                    DebugLogger.info("{} >= {}", value, intValue);
-                    return value >= intValue;
-                }
-                case LESS_THAN_OR_EQUAL_TO -> {
-                    DebugLogger.info("{} <= {}", value, intValue);
-                    return value <= intValue;
-                }
+                case EQUALS -> result = value == intValue;
+                case NOT_EQUALS -> result = value != intValue;
+                case GREATER_THAN -> result = value > intValue;
+                case LESS_THAN -> result = value < intValue;
+                case GREATER_THAN_OR_EQUAL_TO -> result = value >= intValue;
+                case LESS_THAN_OR_EQUAL_TO -> result = value <= intValue;
                 default -> {
                     DebugLogger.warn("EventConstraint is invalid: contains operator not implemented for int");
                     return false;
                 }
             }
+            // Runs thousands of times a day, so the arguments are only built when traced
+            if (DebugLogger.isTraceEnabled()) {
+                DebugLogger.trace("{} {}", value, this.compareOperator + " " + intValue);
+            }
+            return result;
         }
         DebugLogger.warn("EventConstraint is invalid: Integer value not found");
         return false;
@@ -281,11 +369,11 @@ public class EventConstraint {
             String stringValue = this.stringValue;
             switch (this.compareOperator) {
                 case EQUALS -> {
-                    DebugLogger.info("{} == {}", stringValue, value);
+                    DebugLogger.trace("{} == {}", stringValue, value);
                     return stringValue.equals(value);
                 }
                 case NOT_EQUALS -> {
-                    DebugLogger.info("{} != {}", stringValue, value);
+                    DebugLogger.trace("{} != {}", stringValue, value);
                     return !stringValue.equals(value);
                 }
                 default -> {
@@ -412,4 +500,49 @@ public class EventConstraint {
     public boolean requiresMember() {
         return this.argument == Argument.ROLE || this.argument == Argument.GENDER || this.argument == Argument.HEALTH || this.argument == Argument.STATUS;
     }
+
+    /**
+     * Reads and writes EventConstraints without reflection
+     */
+    public static final class JsonAdapter extends TypeAdapter<EventConstraint> {
+        @Override
+        public void write(JsonWriter out, EventConstraint value) throws IOException {
+            out.beginObject();
+            out.name("argument");
+            Argument.JSON_ADAPTER.write(out, value.argument);
+            out.name("complexArgument");
+            COMPLEX_ARGUMENT.write(out, value.complexArgument);
+            out.name("compareOperator");
+            CompareOperator.JSON_ADAPTER.write(out, value.compareOperator);
+            out.name("intValue").value(value.intValue);
+            out.name("stringValue").value(value.stringValue);
+            out.name("equation");
+            EQUATION.write(out, value.equation);
+            out.endObject();
+        }
+
+        @Override
+        public EventConstraint read(JsonReader in) throws IOException {
+            Argument argument = null;
+            ComplexArgument complexArgument = null;
+            CompareOperator compareOperator = null;
+            Integer intValue = null;
+            String stringValue = null;
+            Equation equation = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "argument" -> argument = Argument.JSON_ADAPTER.read(in);
+                    case "complexArgument" -> complexArgument = COMPLEX_ARGUMENT.read(in);
+                    case "compareOperator" -> compareOperator = CompareOperator.JSON_ADAPTER.read(in);
+                    case "intValue" -> intValue = JsonAdapters.nextInteger(in);
+                    case "stringValue" -> stringValue = JsonAdapters.nextString(in);
+                    case "equation" -> equation = EQUATION.read(in);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new EventConstraint(argument, complexArgument, compareOperator, intValue, stringValue, equation);
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package io.github.onu_eccs1621_sp2025.westward.screen;
 
 import imgui.ImColor;
+import imgui.ImDrawList;
 import imgui.ImGui;
 import imgui.ImVec2;
 import imgui.flag.ImGuiCol;
@@ -14,13 +15,14 @@ import io.github.onu_eccs1621_sp2025.westward.game.Game;
 import io.github.onu_eccs1621_sp2025.westward.game.ItemStack;
 import io.github.onu_eccs1621_sp2025.westward.utils.Config;
 import io.github.onu_eccs1621_sp2025.westward.utils.registry.Registry;
+import io.github.onu_eccs1621_sp2025.westward.utils.rendering.Layout;
 import io.github.onu_eccs1621_sp2025.westward.utils.rendering.RenderUtils;
+import io.github.onu_eccs1621_sp2025.westward.utils.rendering.TextureRegion;
 import io.github.onu_eccs1621_sp2025.westward.utils.sound.SoundEngine;
 import io.github.onu_eccs1621_sp2025.westward.utils.text.Format;
+import io.github.onu_eccs1621_sp2025.westward.utils.text.TextCache;
 import io.github.onu_eccs1621_sp2025.westward.utils.text.Translations;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -28,16 +30,85 @@ import java.util.concurrent.atomic.AtomicInteger;
  * @author Dylan Catte
  * @author Ben Westover
  * @since 1.0.0 Alpha 1
- * @version 1.0
+ * @version 1.2
  */
 public class Dashboard {
     private static final AtomicInteger MEMBER_INDEX = new AtomicInteger(0);
+    private static final DashboardLayout LAYOUT = new DashboardLayout();
+    /**
+     * The translation keys of the gameplay options shown this frame
+     */
+    private static final String[] OPTION_KEYS = new String[4];
+    /**
+     * The action of each gameplay option shown this frame
+     */
+    private static final int[] OPTION_IDS = new int[4];
+    /**
+     * Reused for the health bar color
+     */
+    private static final float[] HEALTH_COLOR = new float[3];
+    // Text drawn every frame
+    private static final TextCache DATE_TEXT = new TextCache("gamePlaque.date");
+    private static final TextCache MILES_TEXT = new TextCache("gamePlaque.miles");
+    private static final TextCache MONEY_TEXT = new TextCache("gamePlaque.money");
+    private static final TextCache FOOD_TEXT = new TextCache("gamePlaque.food");
+
+    /**
+     * The positions and sizes of the Dashboard widgets
+     */
+    private static final class DashboardLayout extends Layout {
+        private final ImVec2 progressBarMin = new ImVec2();
+        private final ImVec2 progressBarMax = new ImVec2();
+        private final ImVec2 markerRadius = new ImVec2();
+        private final ImVec2 wagonPos = new ImVec2();
+        private final ImVec2 wagonSize = new ImVec2();
+        private final ImVec2 saveButtonPos = new ImVec2();
+        private final ImVec2 saveButtonSize = new ImVec2();
+        private final ImVec2 dataPlaquePos = new ImVec2();
+        private final ImVec2 dataPlaqueSize = new ImVec2();
+        private final ImVec2 inventoryButtonSize = new ImVec2();
+        private final ImVec2 playerPanelsPos = new ImVec2();
+        private final ImVec2 playerPanelsSize = new ImVec2();
+        private final ImVec2 playerStatusesSize = new ImVec2();
+        private final ImVec2 memberButtonSize = new ImVec2();
+        /**
+         * The width shared by all gameplay options
+         */
+        private float optionBarWidth;
+        private float optionHeight;
+        private float optionBarCenterX;
+        private float optionBarY;
+
+        @Override
+        protected void compute(float width, float height) {
+            relative(this.progressBarMin, 0.1F, 0.9F);
+            relative(this.progressBarMax, 0.9F, 0.95F);
+            keepAspect(this.markerRadius, 0.04F, 0.04F);
+            relative(this.wagonPos, 0.1F, 0.85F);
+            keepAspect(this.wagonSize, 0.064F, 0.04F);
+            this.wagonSize.set(this.wagonSize.x * 2, this.wagonSize.y * 2);
+            relative(this.saveButtonPos, 0.95F, 0.02F);
+            keepAspect(this.saveButtonSize, 0.032F, 0.04F);
+            relative(this.dataPlaquePos, 0.1F, 0.1F);
+            relative(this.dataPlaqueSize, 0.3F, 0.25F);
+            relative(this.inventoryButtonSize, 0.15F, 0.05F);
+            relative(this.playerPanelsPos, 0.55F, 0.05F);
+            relative(this.playerPanelsSize, 0.3F, 0.3F);
+            this.playerStatusesSize.set(this.playerPanelsSize.x * 0.8F, this.playerPanelsSize.y * 0.5F);
+            this.memberButtonSize.set(this.playerPanelsSize.x * 0.1F, this.playerPanelsSize.y * 0.12F);
+            this.optionBarWidth = width * (1.0F - 0.1F);
+            this.optionHeight = height * 0.1F;
+            this.optionBarCenterX = width * 0.5F;
+            this.optionBarY = height * 0.65F;
+        }
+    }
 
     /**
      * Renders the Dashboard
      */
     public static void render() {
         if (Game.getInstance() != null) {
+            LAYOUT.update();
             renderGameplayOptionBar();
             renderDataPlaque();
             if (!Game.getInstance().getMembers().isEmpty()) {
@@ -59,55 +130,49 @@ public class Dashboard {
     }
 
     private static void renderProgressBar() {
-        ImVec2 topCorner = RenderUtils.getCursorRelative(0.1F, 0.9F);
-        ImVec2 bottomCorner = RenderUtils.getCursorRelative(0.9F, 0.95F);
+        ImVec2 topCorner = LAYOUT.progressBarMin;
+        ImVec2 bottomCorner = LAYOUT.progressBarMax;
         float progressBarLength = bottomCorner.x - topCorner.x;
         float markerPositionX = progressBarLength - (Game.getInstance().percentageToNextLandmark() * progressBarLength) + topCorner.x;
-        ImGui.getForegroundDrawList().addRectFilled(topCorner, bottomCorner, ImColor.rgb(100, 100, 255), 8F);
+        ImDrawList drawList = ImGui.getForegroundDrawList();
+        drawList.addRectFilled(topCorner, bottomCorner, ImColor.rgb(100, 100, 255), 8F);
 
-        ImVec2 markerRadius = RenderUtils.getItemScaleMaintainAspectRatio(0.04F, 0.04F);
-        ImVec2 markerMinPos = new ImVec2(markerPositionX - markerRadius.x, topCorner.y - markerRadius.y * 2.0F);
-        ImVec2 markerMaxPos = new ImVec2(markerPositionX + markerRadius.x, topCorner.y);
+        ImVec2 markerRadius = LAYOUT.markerRadius;
         String landmarkSpritePath = Registry.getLandmarkAsset(Game.getInstance().getNextLandmarkIndex()).spritePath();
-        ImGui.getForegroundDrawList().addImage((Long) Registry.getAsset(Registry.AssetType.ASSET, landmarkSpritePath), markerMinPos, markerMaxPos);
+        RenderUtils.addImage(drawList, (TextureRegion) Registry.getAsset(Registry.AssetType.ASSET, landmarkSpritePath),
+                markerPositionX - markerRadius.x, topCorner.y - markerRadius.y * 2.0F, markerPositionX + markerRadius.x, topCorner.y);
 
-        ImVec2 wagonPosCenter = RenderUtils.getCursorRelative(0.1F, 0.85F);
-        ImVec2 wagonSize = RenderUtils.getItemScaleMaintainAspectRatio(0.064F, 0.04F).times(2, 2);
-        ImGui.setCursorPos(wagonPosCenter.x, topCorner.y - wagonSize.y);
+        ImVec2 wagonSize = LAYOUT.wagonSize;
+        ImGui.setCursorPos(LAYOUT.wagonPos.x, topCorner.y - wagonSize.y);
         if (Game.getInstance().getCurrentMile() % 2 == 0) {
-            ImGui.image((Long) Registry.getAsset(Registry.AssetType.ASSET, "wagonMove"), wagonSize);
+            RenderUtils.image((TextureRegion) Registry.getAsset(Registry.AssetType.ASSET, "wagonMove"), wagonSize);
         } else {
-            ImGui.image((Long) Registry.getAsset(Registry.AssetType.ASSET, "wagonMove1"), wagonSize);
+            RenderUtils.image((TextureRegion) Registry.getAsset(Registry.AssetType.ASSET, "wagonMove1"), wagonSize);
         }
     }
 
     private static void renderSaveGameButton() {
-        ImVec2 saveGameButtonPos = RenderUtils.getCursorRelative(0.95F, 0.02F);
-        ImVec2 saveGameButtonSize = RenderUtils.getItemScaleMaintainAspectRatio(0.032F, 0.04F);
-        ImGui.setCursorPos(saveGameButtonPos);
-        if (ImGui.imageButton("##saveButton", (Long) Registry.getAsset(Registry.AssetType.ASSET, "save"), saveGameButtonSize)) {
+        ImGui.setCursorPos(LAYOUT.saveButtonPos);
+        if (RenderUtils.imageButton("##saveButton", (TextureRegion) Registry.getAsset(Registry.AssetType.ASSET, "save"), LAYOUT.saveButtonSize)) {
             SoundEngine.loadSFX(Audio.CLICK_2);
             TrailApplication.returnToMainMenu(true);
         }
     }
 
     private static void renderDataPlaque() {
-        ImVec2 dataPlaquePos = RenderUtils.getCursorRelative(0.1F, 0.1F);
-        ImVec2 dataPlaqueSize = RenderUtils.getCursorRelative(0.3F, 0.25F);
-        ImGui.setCursorPos(dataPlaquePos);
-        ImGui.beginChild("dataPlaque", dataPlaqueSize, false, ImGuiWindowFlags.NoResize | ImGuiWindowFlags.NoTitleBar | ImGuiWindowFlags.NoCollapse | ImGuiWindowFlags.NoMove);
-        ImGui.text(Translations.getTranslatedText("gamePlaque.date", Game.getInstance().getDate().toString()));
-        ImGui.text(Translations.getTranslatedText("gamePlaque.miles", String.valueOf((Game.getInstance().getCurrentMile() + Config.getConfig().getPreviousMiles(Game.getInstance().getDifficulty())))));
-        ImGui.text(Translations.getTranslatedText("gamePlaque.money", String.format("%.2f", Game.getInstance().getMoney())));
+        ImGui.setCursorPos(LAYOUT.dataPlaquePos);
+        ImGui.beginChild("dataPlaque", LAYOUT.dataPlaqueSize, false, ImGuiWindowFlags.NoResize | ImGuiWindowFlags.NoTitleBar | ImGuiWindowFlags.NoCollapse | ImGuiWindowFlags.NoMove);
+        ImGui.text(DATE_TEXT.get(Game.getInstance().getDate().toString()).getText());
+        ImGui.text(MILES_TEXT.get(Game.getInstance().getCurrentMile() + Config.getConfig().getPreviousMiles(Game.getInstance().getDifficulty())).getText());
+        ImGui.text(MONEY_TEXT.get("%.2f", Game.getInstance().getMoney()).getText());
         int foodLbs = Game.getInstance().getInventory().countOfType(ItemStack.ItemType.FOOD);
         // Render food count as red if there is no food left
         if (foodLbs == 0) {
-            ImGui.textColored(ImColor.rgb(255, 0, 0), Translations.getTranslatedText("gamePlaque.food", String.valueOf(foodLbs)));
+            ImGui.textColored(ImColor.rgb(255, 0, 0), FOOD_TEXT.get(foodLbs).getText());
         } else {
-            ImGui.text(Translations.getTranslatedText("gamePlaque.food", String.valueOf(foodLbs)));
+            ImGui.text(FOOD_TEXT.get(foodLbs).getText());
         }
-        ImVec2 inventorySize = RenderUtils.getCursorRelative(0.15F, 0.05F);
-        if (ImGui.button(Translations.getTranslatedText("menu.trailSelection.inventory"), inventorySize)) {
+        if (ImGui.button(Translations.getTranslatedText("menu.trailSelection.inventory"), LAYOUT.inventoryButtonSize)) {
             SoundEngine.loadSFX(Audio.CLICK_1);
             Renderer.RENDER_QUEUE.add("inventory");
         }
@@ -116,9 +181,8 @@ public class Dashboard {
 
     private static void renderPlayerPanels() {
         ImGui.pushStyleColor(ImGuiCol.ChildBg, ImColor.rgb(50, 50, 50));
-        ImVec2 playerPanelsSize = RenderUtils.getCursorRelative(0.3F, 0.3F);
-        ImVec2 playerPanelsPos = RenderUtils.getCursorRelative(0.55F, 0.05F);
-        ImGui.setCursorPos(playerPanelsPos);
+        ImVec2 playerPanelsSize = LAYOUT.playerPanelsSize;
+        ImGui.setCursorPos(LAYOUT.playerPanelsPos);
         ImGui.beginChild("playerPanels", playerPanelsSize, false, ImGuiWindowFlags.NoResize | ImGuiWindowFlags.NoTitleBar | ImGuiWindowFlags.NoCollapse | ImGuiWindowFlags.NoMove);
         renderPlayerPanel(Game.getInstance().getMembers().get(MEMBER_INDEX.get()), playerPanelsSize);
         ImGui.endChild();
@@ -134,8 +198,7 @@ public class Dashboard {
         ImGui.textColored(ImColor.rgb(0, 222, 255), role);
 
         ImGui.setCursorPos(panelSize.x * 0.1F, panelSize.y * 0.24F);
-        ImVec2 playerPanelsSize = new ImVec2(panelSize.x * 0.8F, panelSize.y * 0.5F);
-        ImGui.beginChild("playerStatuses", playerPanelsSize, false, ImGuiWindowFlags.NoResize | ImGuiWindowFlags.NoTitleBar | ImGuiWindowFlags.NoCollapse | ImGuiWindowFlags.NoMove);
+        ImGui.beginChild("playerStatuses", LAYOUT.playerStatusesSize, false, ImGuiWindowFlags.NoResize | ImGuiWindowFlags.NoTitleBar | ImGuiWindowFlags.NoCollapse | ImGuiWindowFlags.NoMove);
         for (StatusContainer status : member.getStatuses()) {
             if (status.getLevel() + 1 >= status.getMaxLevel()) {
                 ImGui.textColored(ImColor.rgb(255, 0, 0), status.toString());
@@ -149,14 +212,14 @@ public class Dashboard {
         ImGui.setCursorPos(panelSize.x * 0.1F, panelSize.y * 0.88F);
         Format.setFontSize(Format.MENU_FONT_SIZE);
         float healthFraction = (float) member.getHealth() / member.getMaxHealth();
-        float[] color = RenderUtils.interpolateColor(healthFraction);
+        float[] color = RenderUtils.interpolateColor(healthFraction, HEALTH_COLOR);
         ImGui.pushStyleColor(ImGuiCol.PlotHistogram, ImColor.rgb(color[0], color[1], color[2]));
         ImGui.progressBar(healthFraction, panelSize.x * 0.8F, panelSize.y * 0.12F);
         ImGui.popStyleColor();
         ImGui.sameLine();
 
         ImGui.setCursorPosX(0);
-        ImVec2 buttonSize = new ImVec2(panelSize.x * 0.1F, panelSize.y * 0.12F);
+        ImVec2 buttonSize = LAYOUT.memberButtonSize;
         int memberCount = Game.getInstance().getMembers().size();
         if (MEMBER_INDEX.get() >= memberCount) {
             MEMBER_INDEX.set(memberCount - 1);
@@ -177,49 +240,47 @@ public class Dashboard {
     }
 
     private static void renderGameplayOptionBar() {
-        List<String> availableButtons = new ArrayList<>();
-        List<Integer> buttonIds = new ArrayList<>();
-
-        if (Game.getInstance().isWaitingForUserInput()) {
-            if (Game.getInstance().getCurrentMile() == 0) {
-                availableButtons.add("menu.trailSelection.begin");
-            } else {
-                availableButtons.add("menu.trailSelection.continue");
-            }
-            buttonIds.add(0);
-            if (Game.getInstance().canSleep()) {
-                availableButtons.add("game.button.rest");
-                buttonIds.add(1);
-            }
-            if (Game.getInstance().isAtCivilization()) {
-                availableButtons.add("game.button.shop");
-                buttonIds.add(2);
-            }
-            if (Game.getInstance().hasMinigame()) {
-                availableButtons.add(Game.getInstance().getCurrentMinigame().getTranslationKey());
-                buttonIds.add(3);
-            }
+        if (!Game.getInstance().isWaitingForUserInput()) {
+            return;
+        }
+        int buttonCount = 0;
+        if (Game.getInstance().getCurrentMile() == 0) {
+            OPTION_KEYS[buttonCount] = "menu.trailSelection.begin";
+        } else {
+            OPTION_KEYS[buttonCount] = "menu.trailSelection.continue";
+        }
+        OPTION_IDS[buttonCount++] = 0;
+        if (Game.getInstance().canSleep()) {
+            OPTION_KEYS[buttonCount] = "game.button.rest";
+            OPTION_IDS[buttonCount++] = 1;
+        }
+        if (Game.getInstance().isAtCivilization()) {
+            OPTION_KEYS[buttonCount] = "game.button.shop";
+            OPTION_IDS[buttonCount++] = 2;
+        }
+        if (Game.getInstance().hasMinigame()) {
+            OPTION_KEYS[buttonCount] = Game.getInstance().getCurrentMinigame().getTranslationKey();
+            OPTION_IDS[buttonCount++] = 3;
         }
 
-        ImVec2 buttonSize = RenderUtils.getCursorRelative((1.0F - 0.1F) / availableButtons.size(), 0.1F);
-        ImVec2 centerPos = RenderUtils.getCursorRelative(0.5F, 0.65F);
-        ImVec2 pacePos = RenderUtils.getCursorRelative(0, 0.65F);
-        ImVec2 startingPosX = centerPos.minus((buttonSize.x * (availableButtons.size() / 2F)), 0);
+        float buttonWidth = LAYOUT.optionBarWidth / buttonCount;
+        float buttonHeight = LAYOUT.optionHeight;
+        float startingPosX = LAYOUT.optionBarCenterX - buttonWidth * (buttonCount / 2F);
 
-        for (int i = 0; i < availableButtons.size(); i++) {
-            if (buttonIds.get(i) == 0) {
-                ImGui.setCursorPosX(startingPosX.x + i * buttonSize.x);
-                ImGui.setCursorPosY(pacePos.y - buttonSize.y);
-                ImGui.setNextItemWidth(buttonSize.x);
+        for (int i = 0; i < buttonCount; i++) {
+            if (OPTION_IDS[i] == 0) {
+                ImGui.setCursorPosX(startingPosX + i * buttonWidth);
+                ImGui.setCursorPosY(LAYOUT.optionBarY - buttonHeight);
+                ImGui.setNextItemWidth(buttonWidth);
                 if (ImGui.combo("##pace", Game.getInstance().getPace(), Game.getInstance().getPacesTranslations())) {
                     SoundEngine.loadSFX(Audio.CLICK_2);
                 }
             }
-            ImGui.setCursorPosX(startingPosX.x + i * (buttonSize.x + 15));
-            ImGui.setCursorPosY(centerPos.y);
-            if (ImGui.button(Translations.getTranslatedText(availableButtons.get(i)), buttonSize)) {
+            ImGui.setCursorPosX(startingPosX + i * (buttonWidth + 15));
+            ImGui.setCursorPosY(LAYOUT.optionBarY);
+            if (ImGui.button(Translations.getTranslatedText(OPTION_KEYS[i]), buttonWidth, buttonHeight)) {
                 SoundEngine.loadSFX(Audio.CLICK_1);
-                switch (buttonIds.get(i)) {
+                switch (OPTION_IDS[i]) {
                     case 0 -> Game.getInstance().setNotWaiting();
                     case 1 -> {
                         Game.getInstance().sleep();
@@ -1,8 +1,10 @@
 package io.github.onu_eccs1621_sp2025.westward.screen;
 
 import imgui.ImColor;
+import imgui.ImDrawList;
 import imgui.ImGui;
 import imgui.ImGuiInputTextCallbackData;
+import imgui.ImGuiListClipper;
 import imgui.ImVec2;
 import imgui.callback.ImGuiInputTextCallback;
 import imgui.flag.*;
@@ -15,16 +17,25 @@ import io.github.onu_eccs1621_sp2025.westward.data.SaveData;
 import io.github.onu_eccs1621_sp2025.westward.data.member.Gender;
 import io.github.onu_eccs1621_sp2025.westward.data.member.Member;
 import io.github.onu_eccs1621_sp2025.westward.data.member.Role;
+import io.github.onu_eccs1621_sp2025.westward.data.save.SaveCatalog;
+import io.github.onu_eccs1621_sp2025.westward.data.save.SaveSummary;
+import io.github.onu_eccs1621_sp2025.westward.data.save.SaveThumbnails;
 import io.github.onu_eccs1621_sp2025.westward.game.Game;
 import io.github.onu_eccs1621_sp2025.westward.screen.default_screens.accident.ConsequenceScreen;
 import io.github.onu_eccs1621_sp2025.westward.utils.Config;
 import io.github.onu_eccs1621_sp2025.westward.utils.DebugLogger;
 import io.github.onu_eccs1621_sp2025.westward.utils.WebUtils;
+import io.github.onu_eccs1621_sp2025.westward.utils.profiling.PerformanceOverlay;
 import io.github.onu_eccs1621_sp2025.westward.utils.registry.Registry;
+import io.github.onu_eccs1621_sp2025.westward.utils.rendering.FrameScheduler;
+import io.github.onu_eccs1621_sp2025.westward.utils.rendering.HardwareCursors;
+import io.github.onu_eccs1621_sp2025.westward.utils.rendering.Layout;
 import io.github.onu_eccs1621_sp2025.westward.utils.rendering.MemberPlaqueData;
 import io.github.onu_eccs1621_sp2025.westward.utils.rendering.RenderUtils;
+import io.github.onu_eccs1621_sp2025.westward.utils.rendering.TextureRegion;
 import io.github.onu_eccs1621_sp2025.westward.utils.sound.SoundEngine;
 import io.github.onu_eccs1621_sp2025.westward.utils.text.Format;
+import io.github.onu_eccs1621_sp2025.westward.utils.text.TextCache;
 import io.github.onu_eccs1621_sp2025.westward.utils.text.Translations;
 
 import java.util.*;
@@ -34,7 +45,7 @@ import java.util.concurrent.ConcurrentLinkedDeque;
  * Renders all UI elements for the game
  * @author Dylan Catte
  * @since 1.0.0 Alpha 1
- * @version 1.1
+ * @version 1.7
  */
 public class Renderer {
     private MainMenuScreen currentMainMenuScreen = MainMenuScreen.MENU;
@@ -49,6 +60,11 @@ public class Renderer {
      * The game's FPS limit
      */
     private static final int[] FPS = { Config.getConfig().getFpsLimit() };
+    private final MainMenuLayout layout = new MainMenuLayout();
+    /**
+     * Reused for the health colors of save thumbnails
+     */
+    private final float[] healthColor = new float[3];
 
     // Data for a new game
     private final ImString saveName = new ImString();
@@ -61,6 +77,34 @@ public class Renderer {
     private final ImString day = new ImString();
     private static final List<MemberPlaqueData> MEMBER_DATA = new ArrayList<>(Config.getConfig().getTeamMemberCount());
 
+    // Save list options
+    private final ImString saveFilter = new ImString(32);
+    private final ImInt saveSort = new ImInt(0);
+    private final ImInt saveDifficulty = new ImInt(0);
+    private boolean saveSortDescending = true;
+    private final ImGuiListClipper savesClipper = new ImGuiListClipper();
+    private static final String[] SAVE_SORTS = getSaveSorts();
+    private static final String[] SAVE_TRAILS = getSaveTrails();
+
+    // Centered text
+    private final TextCache createNewGameLabel = new TextCache("menu.main.createNewGame");
+    private final TextCache loadSaveLabel = new TextCache("menu.main.loadSave");
+    private final TextCache settingsLabel = new TextCache("menu.main.settings");
+    private final TextCache settingsTitle = new TextCache("menu.main.settings");
+    private final TextCache newGameTitle = new TextCache("menu.newGame.newGame");
+    private final TextCache saveNameLabel = new TextCache("menu.newGame.saveName");
+    private final TextCache loadSaveTitle = new TextCache("menu.main.loadSave");
+    private final TextCache gameConfigTitle = new TextCache("menu.trailSelection.gameConfig");
+    private final TextCache easyTrailLabel = new TextCache("menu.trailSelection.easyTrail");
+    private final TextCache medTrailLabel = new TextCache("menu.trailSelection.medTrail");
+    private final TextCache hardTrailLabel = new TextCache("menu.trailSelection.hardTrail");
+    private final TextCache membersTitle = new TextCache("menu.memberSelection.members");
+    private final TextCache selectLangTitle = new TextCache("menu.main.selectLang");
+
+    // Language options
+    private String[] langs;
+    private String[] translatedLangNames;
+
 
     // Input constraints
     private final ImGuiInputTextCallback inputDayMask = new ImGuiInputTextCallback() {
@@ -117,6 +161,152 @@ public class Renderer {
         return FPS[0];
     }
 
+    /**
+     * The positions and sizes of the main menu widgets
+     */
+    private static final class MainMenuLayout extends Layout {
+        // Shared
+        private float titleY;
+        private final ImVec2 homeButtonPos = new ImVec2();
+        private final ImVec2 homeButtonSize = new ImVec2();
+
+        // Menu
+        private final ImVec2 backgroundSize = new ImVec2();
+        private float backgroundY;
+        private final ImVec2 menuButtonSize = new ImVec2();
+        private float newGameButtonY;
+        private float newGameLabelY;
+        private float loadSaveButtonY;
+        private float loadSaveLabelY;
+        private float settingsButtonY;
+        private float settingsLabelY;
+        private final ImVec2 langButtonPos = new ImVec2();
+        private final ImVec2 langButtonSize = new ImVec2();
+
+        // Settings
+        private float sliderX;
+        private float sliderWidth;
+        private float musicSliderY;
+        private float sfxSliderY;
+        private float fpsSliderY;
+        private final ImVec2 wikiButtonPos = new ImVec2();
+        private final ImVec2 wikiButtonSize = new ImVec2();
+
+        // New game
+        private float saveNameTextY;
+        private float saveNameInputWidth;
+        private float saveNameInputY;
+        private float createButtonY;
+        private final ImVec2 createButtonSize = new ImVec2();
+
+        // Saves
+        private final ImVec2 saveOptionsPos = new ImVec2();
+        private float saveFilterWidth;
+        private float saveSortWidth;
+        private final ImVec2 savesChildPos = new ImVec2();
+        private final ImVec2 savesChildSize = new ImVec2();
+        private float loadButtonWidth;
+
+        // Trail selection
+        private float easyTrailY;
+        private float medTrailY;
+        private float hardTrailY;
+        private float trailSeparatorY;
+        private float advancedY;
+        private final ImVec2 advancedSize = new ImVec2();
+        private final ImVec2 startingMoneyPos = new ImVec2();
+        private float startingMoneyWidth;
+        private final ImVec2 startingDayPos = new ImVec2();
+        private float monthWidth;
+        private float dayWidth;
+        private float continueButtonY;
+        private final ImVec2 continueButtonSize = new ImVec2();
+
+        // Member selection
+        private final ImVec2 carouselSize = new ImVec2();
+        private float carouselY;
+        private final ImVec2 plaquePos = new ImVec2();
+        private float plaqueWidth;
+        private float genderY;
+        private float roleY;
+        private float roleComboWidth;
+        private float plaqueButtonsY;
+        private float memberButtonsY;
+        private final ImVec2 memberButtonSize = new ImVec2();
+
+        // Languages
+        private float langOptionX;
+        private final ImVec2 langOptionSize = new ImVec2();
+
+        @Override
+        protected void compute(float width, float height) {
+            this.titleY = height * 0.025F;
+            relative(this.homeButtonPos, 0.93F, 0.0125F);
+            keepAspect(this.homeButtonSize, 0.075F, 0.06F);
+
+            keepAspect(this.backgroundSize, 1.225F, 0.98F);
+            this.backgroundY = height * 0.01F;
+            relative(this.menuButtonSize, 0.4F, 0.1875F);
+            this.newGameButtonY = height * 0.125F;
+            this.newGameLabelY = height * 0.1875F;
+            this.loadSaveButtonY = height * 0.375F;
+            this.loadSaveLabelY = height * 0.4375F;
+            this.settingsButtonY = height * 0.625F;
+            this.settingsLabelY = height * 0.6875F;
+            relative(this.langButtonPos, 0.006F, 0.905F);
+            keepAspect(this.langButtonSize, 0.1F, 0.078125F);
+
+            this.sliderX = width * 0.1F;
+            this.sliderWidth = width * 0.25F;
+            this.musicSliderY = height * 0.15F;
+            this.sfxSliderY = height * 0.3F;
+            this.fpsSliderY = height * 0.45F;
+            relative(this.wikiButtonPos, 0.1F, 0.6F);
+            relative(this.wikiButtonSize, 0.25F, 0.1F);
+
+            this.saveNameTextY = height * 0.2F;
+            this.saveNameInputWidth = width * 0.7F;
+            this.saveNameInputY = height * 0.25F;
+            this.createButtonY = height * 0.35F;
+            relative(this.createButtonSize, 0.2F, 0.094F);
+
+            relative(this.saveOptionsPos, 0.05F, 0.13F);
+            this.saveFilterWidth = width * 0.3F;
+            this.saveSortWidth = width * 0.2F;
+            relative(this.savesChildPos, 0.05F, 0.2F);
+            relative(this.savesChildSize, 0.9F, 0.75F);
+            this.loadButtonWidth = width * 0.1F;
+
+            this.easyTrailY = height * 0.1F;
+            this.medTrailY = height * 0.2F;
+            this.hardTrailY = height * 0.3F;
+            this.trailSeparatorY = height * 0.38F;
+            this.advancedY = height * 0.45F;
+            relative(this.advancedSize, 0.8F, 0.3F);
+            relative(this.startingMoneyPos, 0.1F, 0.1F);
+            this.startingMoneyWidth = width * 0.15F;
+            relative(this.startingDayPos, 0.1F, 0.2F);
+            this.monthWidth = width * 0.2F;
+            this.dayWidth = width * 0.05F;
+            this.continueButtonY = height * 0.85F;
+            relative(this.continueButtonSize, 0.2F, 0.1F);
+
+            relative(this.carouselSize, 0.8F, 0.49F);
+            this.carouselY = height * 0.2F;
+            relative(this.plaquePos, 0.02F, 0.03F);
+            this.plaqueWidth = width * 0.4F;
+            this.genderY = height * 0.15F;
+            this.roleY = height * 0.25F;
+            this.roleComboWidth = width * 0.24F;
+            this.plaqueButtonsY = height * 0.4F;
+            this.memberButtonsY = height * 0.85F;
+            relative(this.memberButtonSize, 0.3F, 0.1F);
+
+            this.langOptionX = width * 0.4F;
+            relative(this.langOptionSize, 0.2F, 0.1F);
+        }
+    }
+
     /**
      * Renders all UI elements in the entire game
      */
@@ -124,6 +314,9 @@ public class Renderer {
         ImGui.setNextWindowSize(ImGui.getIO().getDisplaySizeX(), ImGui.getIO().getDisplaySizeY());
         ImGui.setNextWindowPos(0, 0);
         ImGui.begin("Westward", ImGuiWindowFlags.NoTitleBar | ImGuiWindowFlags.NoMove | ImGuiWindowFlags.NoResize | ImGuiWindowFlags.NoCollapse);
+        // Only timed while the performance overlay is shown
+        final String timedScreen = PerformanceOverlay.isEnabled() ? this.getScreenName() : null;
+        final long start = timedScreen == null ? 0 : System.nanoTime();
         switch (this.currentStage) {
             case MAIN_MENU -> renderMainMenu();
             case GAME -> {
@@ -149,10 +342,25 @@ public class Renderer {
                 }
             }
         }
+        if (timedScreen != null) {
+            PerformanceOverlay.recordScreen(timedScreen, System.nanoTime() - start);
+        }
         ImGui.end();
     }
 
+    /**
+     * Gets the name of what is drawn this frame, for the performance overlay
+     * @return The name of the main menu screen, the id of the current Screen, or "dashboard"
+     */
+    private String getScreenName() {
+        if (this.currentStage == GameStage.MAIN_MENU) {
+            return this.currentMainMenuScreen.name();
+        }
+        return this.currentScreen != null ? this.currentScreen.getId() : "dashboard";
+    }
+
     private void renderMainMenu() {
+        this.layout.update();
         switch (this.currentMainMenuScreen) {
             case MENU -> renderMenu();
             case SETTINGS -> renderSettings();
@@ -166,52 +374,44 @@ public class Renderer {
 
     private void renderMenu() {
         Format.setFontSize(Format.TITLE_FONT_SIZE);
-        ImVec2 backgroundSize = RenderUtils.getItemScaleMaintainAspectRatio(1.225F, 0.98F);
-        RenderUtils.centeredHorizontal(backgroundSize.x, RenderUtils.getCursorRelative(0F, 0.01F).y);
-        ImGui.image((Long) Registry.getAsset(Registry.AssetType.ASSET, "courthouseAndJailRocks"), backgroundSize);
+        ImVec2 backgroundSize = this.layout.backgroundSize;
+        RenderUtils.centeredHorizontal(backgroundSize.x, this.layout.backgroundY);
+        RenderUtils.image((TextureRegion) Registry.getAsset(Registry.AssetType.ASSET, "courthouseAndJailRocks"), backgroundSize);
 
-        RenderUtils.centeredHorizontal(ImGui.calcTextSize("Westward").x, 20);
+        RenderUtils.centeredHorizontal(ImGui.calcTextSizeX("Westward"), 20);
         ImGui.text("Westward");
 
         Format.clearFontSize();
         Format.setFontSize(Format.DESCRIPTION_FONT_SIZE);
 
-        ImVec2 menuButtonSize = RenderUtils.getCursorRelative(0.4F, 0.1875F);
-        ImVec2 newGameButtonPos = RenderUtils.getCursorRelative(0, 0.125F);
-        RenderUtils.centeredHorizontal(menuButtonSize.x, newGameButtonPos.y);
+        ImVec2 menuButtonSize = this.layout.menuButtonSize;
+        RenderUtils.centeredHorizontal(menuButtonSize.x, this.layout.newGameButtonY);
         ImGui.pushStyleColor(ImGuiCol.Button, 0, 0, 0, 0);
-        if (ImGui.imageButton("createNewGameButton", (Long) Registry.getAsset(Registry.AssetType.ASSET, "button"), menuButtonSize.x, menuButtonSize.y)) {
+        if (RenderUtils.imageButton("createNewGameButton", (TextureRegion) Registry.getAsset(Registry.AssetType.ASSET, "button"), menuButtonSize.x, menuButtonSize.y)) {
             this.currentMainMenuScreen = MainMenuScreen.NEW_GAME;
             SoundEngine.loadSFX(Audio.CLICK_1);
         }
-        ImVec2 newGameLabelPos = RenderUtils.getCursorRelative(0, 0.1875F);
-        RenderUtils.centeredHorizontal(ImGui.calcTextSize(Translations.getTranslatedText("menu.main.createNewGame")).x, newGameLabelPos.y);
-        ImGui.textColored(0, 0, 0, 255, Translations.getTranslatedText("menu.main.createNewGame"));
+        RenderUtils.centeredHorizontal(this.createNewGameLabel.get().getWidth(), this.layout.newGameLabelY);
+        ImGui.textColored(0, 0, 0, 255, this.createNewGameLabel.getText());
 
-        ImVec2 loadSaveButtonPos = RenderUtils.getCursorRelative(0, 0.375F);
-        RenderUtils.centeredHorizontal(menuButtonSize.x, loadSaveButtonPos.y);
-        if (ImGui.imageButton("loadSaveButton", (Long) Registry.getAsset(Registry.AssetType.ASSET, "button"), menuButtonSize.x, menuButtonSize.y)) {
+        RenderUtils.centeredHorizontal(menuButtonSize.x, this.layout.loadSaveButtonY);
+        if (RenderUtils.imageButton("loadSaveButton", (TextureRegion) Registry.getAsset(Registry.AssetType.ASSET, "button"), menuButtonSize.x, menuButtonSize.y)) {
             this.currentMainMenuScreen = MainMenuScreen.LOAD_SAVE;
             SoundEngine.loadSFX(Audio.CLICK_1);
         }
-        ImVec2 loadSaveLabelPos = RenderUtils.getCursorRelative(0, 0.4375F);
-        RenderUtils.centeredHorizontal(ImGui.calcTextSize(Translations.getTranslatedText("menu.main.loadSave")).x, loadSaveLabelPos.y);
-        ImGui.textColored(0, 0, 0, 255, Translations.getTranslatedText("menu.main.loadSave"));
+        RenderUtils.centeredHorizontal(this.loadSaveLabel.get().getWidth(), this.layout.loadSaveLabelY);
+        ImGui.textColored(0, 0, 0, 255, this.loadSaveLabel.getText());
 
-        ImVec2 settingsButtonPos = RenderUtils.getCursorRelative(0, 0.625F);
-        RenderUtils.centeredHorizontal(menuButtonSize.x, settingsButtonPos.y);
-        if (ImGui.imageButton("settingsButton", (Long) Registry.getAsset(Registry.AssetType.ASSET, "button"), menuButtonSize)) {
+        RenderUtils.centeredHorizontal(menuButtonSize.x, this.layout.settingsButtonY);
+        if (RenderUtils.imageButton("settingsButton", (TextureRegion) Registry.getAsset(Registry.AssetType.ASSET, "button"), menuButtonSize)) {
             this.currentMainMenuScreen = MainMenuScreen.SETTINGS;
             SoundEngine.loadSFX(Audio.CLICK_1);
         }
-        ImVec2 settingsButtonLabel = RenderUtils.getCursorRelative(0, 0.6875F);
-        RenderUtils.centeredHorizontal(ImGui.calcTextSize(Translations.getTranslatedText("menu.main.settings")).x, settingsButtonLabel.y);
-        ImGui.textColored(0, 0, 0, 255, Translations.getTranslatedText("menu.main.settings"));
+        RenderUtils.centeredHorizontal(this.settingsLabel.get().getWidth(), this.layout.settingsLabelY);
+        ImGui.textColored(0, 0, 0, 255, this.settingsLabel.getText());
 
-        ImVec2 langButtonPos = RenderUtils.getCursorRelative(0.006F, 0.905F);
-        ImVec2 langButtonSize = RenderUtils.getItemScaleMaintainAspectRatio(0.1F, 0.078125F);
-        ImGui.setCursorPos(langButtonPos);
-        if (ImGui.imageButton("langButton", (Long) Registry.getAsset(Registry.AssetType.ASSET, "lang"), langButtonSize)) {
+        ImGui.setCursorPos(this.layout.langButtonPos);
+        if (RenderUtils.imageButton("langButton", (TextureRegion) Registry.getAsset(Registry.AssetType.ASSET, "lang"), this.layout.langButtonSize)) {
             this.currentMainMenuScreen = MainMenuScreen.LANG_SELECTION;
             SoundEngine.loadSFX(Audio.CLICK_1);
         }
@@ -223,9 +423,7 @@ public class Renderer {
     private void renderSettings() {
         // Render the settings menu
         Format.setFontSize(Format.TITLE_FONT_SIZE);
-        ImVec2 settingsTitlePos = RenderUtils.getCursorRelative(0, 0.025F);
-        RenderUtils.centeredHorizontal(ImGui.calcTextSize(Translations.getTranslatedText("menu.main.settings")).x, settingsTitlePos.y);
-        ImGui.text(Translations.getTranslatedText("menu.main.settings"));
+        this.settingsTitle.get().textCentered(this.layout.titleY);
         Format.clearFontSize();
         Format.setFontSize(Format.DESCRIPTION_FONT_SIZE);
 
@@ -239,10 +437,8 @@ public class Renderer {
         fpsSlider();
 
         // Wiki Button
-        ImVec2 wikiButtonSize = RenderUtils.getCursorRelative(0.25F, 0.1F);
-        ImVec2 wikiButtonPos = RenderUtils.getCursorRelative(0.1F, 0.6F);
-        ImGui.setCursorPos(wikiButtonPos);
-        if (ImGui.button(Translations.getTranslatedText("menu.main.wiki"), wikiButtonSize)) {
+        ImGui.setCursorPos(this.layout.wikiButtonPos);
+        if (ImGui.button(Translations.getTranslatedText("menu.main.wiki"), this.layout.wikiButtonSize)) {
             WebUtils.openWebPage("https://github.com/d-catte/Westward/wiki");
         }
 
@@ -253,11 +449,8 @@ public class Renderer {
     }
 
     private void volumeSlider(boolean music) {
-        int mult = music ? 1 : 2;
-        ImVec2 volumeSliderPos = RenderUtils.getCursorRelative(0.1F, 0.15F * mult);
-        ImVec2 volumeSliderSize = RenderUtils.getCursorRelative(0.25F, 0.0F);
-        ImGui.setCursorPos(volumeSliderPos);
-        ImGui.setNextItemWidth(volumeSliderSize.x);
+        ImGui.setCursorPos(this.layout.sliderX, music ? this.layout.musicSliderY : this.layout.sfxSliderY);
+        ImGui.setNextItemWidth(this.layout.sliderWidth);
         String translation = music ? "menu.main.volume" : "menu.main.sfxVolume";
         if (music) {
             if (ImGui.sliderInt(Translations.getTranslatedText(translation), SoundEngine.MUSIC_VOLUME, 0, 100)) {
@@ -276,10 +469,8 @@ public class Renderer {
     }
 
     private void fpsSlider() {
-        ImVec2 fpsSliderPos = RenderUtils.getCursorRelative(0.1F, 0.45F);
-        ImVec2 fpsSliderSize = RenderUtils.getCursorRelative(0.25F, 0.0F);
-        ImGui.setCursorPos(fpsSliderPos);
-        ImGui.setNextItemWidth(fpsSliderSize.x);
+        ImGui.setCursorPos(this.layout.sliderX, this.layout.fpsSliderY);
+        ImGui.setNextItemWidth(this.layout.sliderWidth);
         ImGui.sliderInt(Translations.getTranslatedText("menu.main.fps"), FPS, 5, 144, FPS[0] == 144 ? "Unlimited" : "%d");
 
         if (ImGui.isItemDeactivatedAfterEdit()) {
@@ -292,33 +483,25 @@ public class Renderer {
                 Config.getConfig().setFpsLimit(FPS[0]);
             }
         }
+        ImGui.setCursorPosX(this.layout.sliderX);
+        ImGui.textDisabled(Translations.getTranslatedText("menu.main.fpsAchieved", Integer.toString(Math.round(FrameScheduler.getAchievedFps()))));
     }
 
     private void renderCreateGame() {
         // Render the new game menu
         Format.setFontSize(Format.TITLE_FONT_SIZE);
-        ImVec2 newGameTitlePos = RenderUtils.getCursorRelative(0, 0.025F);
-        RenderUtils.centeredHorizontal(ImGui.calcTextSize(Translations.getTranslatedText("menu.newGame.newGame")).x, newGameTitlePos.y);
-        ImGui.text(Translations.getTranslatedText("menu.newGame.newGame"));
+        this.newGameTitle.get().textCentered(this.layout.titleY);
         Format.clearFontSize();
         Format.setFontSize(Format.DESCRIPTION_FONT_SIZE);
         // Text
-        ImVec2 saveTextPos = RenderUtils.getCursorRelative(0.0F, 0.2F);
-        String saveNameText = Translations.getTranslatedText("menu.newGame.saveName");
-        float textWidth = ImGui.calcTextSizeX(saveNameText);
-        ImGui.setCursorPos(saveTextPos);
-        RenderUtils.centeredHorizontal(textWidth, saveTextPos.y);
-        ImGui.text(saveNameText);
+        this.saveNameLabel.get().textCentered(this.layout.saveNameTextY);
 
         // Input
-        ImVec2 inputTextWidth = RenderUtils.getCursorRelative(0.7F, 0.0F);
-        ImVec2 inputTextPos = RenderUtils.getCursorRelative(0.0F,0.25F);
-        RenderUtils.centeredHorizontal(inputTextWidth.x, inputTextPos.y);
-        ImGui.setNextItemWidth(inputTextWidth.x);
+        RenderUtils.centeredHorizontal(this.layout.saveNameInputWidth, this.layout.saveNameInputY);
+        ImGui.setNextItemWidth(this.layout.saveNameInputWidth);
         ImGui.inputText("##saveName", this.saveName);
-        ImVec2 createButtonPos = RenderUtils.getCursorRelative(0, 0.35F);
-        ImVec2 createButtonSize = RenderUtils.getCursorRelative(0.2F, 0.094F);
-        RenderUtils.centeredHorizontal(createButtonSize.x, createButtonPos.y);
+        ImVec2 createButtonSize = this.layout.createButtonSize;
+        RenderUtils.centeredHorizontal(createButtonSize.x, this.layout.createButtonY);
         if (ImGui.button(Translations.getTranslatedText("menu.newGame.create"), createButtonSize.x, createButtonSize.y)) {
             if (!this.saveName.isEmpty()) {
                 this.currentMainMenuScreen = MainMenuScreen.TRAIL_SELECTION;
@@ -335,107 +518,165 @@ public class Renderer {
     private void renderSaves() {
         // Render the load save menu
         Format.setFontSize(Format.TITLE_FONT_SIZE);
-        ImVec2 loadGameTitlePos = RenderUtils.getCursorRelative(0, 0.025F);
-        RenderUtils.centeredHorizontal(ImGui.calcTextSize(Translations.getTranslatedText("menu.main.loadSave")).x, loadGameTitlePos.y);
-        ImGui.text(Translations.getTranslatedText("menu.main.loadSave"));
+        this.loadSaveTitle.get().textCentered(this.layout.titleY);
         Format.clearFontSize();
         Format.setFontSize(Format.DESCRIPTION_FONT_SIZE);
 
-        ImVec2 savesChildPos = RenderUtils.getCursorRelative(0.05F, 0.15F);
-        ImVec2 savesChildSize = RenderUtils.getCursorRelative(0.9F, 0.8F);
-        ImGui.setCursorPos(savesChildPos);
+        SaveCatalog.SaveQuery query = this.renderSaveOptions();
+
+        ImVec2 savesChildSize = this.layout.savesChildSize;
+        ImGui.setCursorPos(this.layout.savesChildPos);
         ImGui.pushStyleColor(ImGuiCol.ChildBg, ImColor.rgb(50, 50, 50));
         ImGui.beginChild("savesChild", savesChildSize, false, ImGuiWindowFlags.NoResize | ImGuiWindowFlags.NoTitleBar | ImGuiWindowFlags.NoCollapse | ImGuiWindowFlags.NoMove);
-        ImVec2 buttonSize = new ImVec2(RenderUtils.getCursorRelative(0.1F, 0.0F).x, ImGui.calcTextSizeY("0"));
-        ImVec2 deleteButtonSize = new ImVec2(ImGui.calcTextSize("X").plus(10, 0));
-        for (int i = 0; i < Registry.getLoadedAssetsCount(Registry.AssetType.SAVE); i++) {
-            String[] data = Registry.getSaveData(i);
-            ImGui.setCursorPos(savesChildSize.x * 0.02F, savesChildSize.y * 0.1F + (0.1F * savesChildSize.y * i));
-            ImGui.text(data[0]);
-            ImGui.sameLine(savesChildSize.x * 0.35F);
-            ImGui.text(data[1]);
-            ImGui.sameLine(savesChildSize.x * 0.8F);
-            if (ImGui.button(Translations.getTranslatedText("menu.main.load") + "##" + i, buttonSize)) {
-                SaveData save = (SaveData) Registry.getAsset(Registry.AssetType.SAVE, String.valueOf(i));
-                Game.resetInstance(save);
-                this.currentStage = GameStage.GAME;
-                DebugLogger.info("Loaded Game");
-                SoundEngine.loadSFX(Audio.CLICK_1);
-            }
-            ImGui.sameLine(savesChildSize.x * 0.93F);
-            if (ImGui.button("X", deleteButtonSize)) {
-                Registry.removeSaveData(i);
-                SoundEngine.loadSFX(Audio.CLICK_2);
+        float buttonHeight = ImGui.calcTextSizeY("0");
+        float deleteButtonWidth = ImGui.calcTextSizeX("X") + 10;
+        float deleteButtonHeight = ImGui.calcTextSizeY("X");
+        float rowHeight = savesChildSize.y * 0.1F;
+        SaveCatalog catalog = Registry.getSaveCatalog();
+        // Picks up saves changed by other instances sharing the saves directory
+        catalog.requestRefresh();
+        String deleted = null;
+
+        // Only the visible rows are queried and drawn
+        this.savesClipper.begin(catalog.query(query, 0, 0).total(), rowHeight + ImGui.getStyle().getItemSpacingY());
+        while (this.savesClipper.step()) {
+            int start = this.savesClipper.getDisplayStart();
+            List<SaveSummary> rows = catalog.query(query, start, this.savesClipper.getDisplayEnd() - start).saves();
+            for (SaveSummary save : rows) {
+                ImGui.pushID(save.name());
+                float rowY = ImGui.getCursorPosY();
+                float textY = rowY + (rowHeight - ImGui.getTextLineHeight()) / 2F;
+                ImGui.setCursorPos(savesChildSize.x * 0.02F, textY);
+                ImGui.text(save.name());
+                ImGui.sameLine(savesChildSize.x * 0.25F);
+                ImGui.text(save.dateSaved());
+                this.renderSaveThumbnail(save, savesChildSize.x * 0.55F, rowY, savesChildSize.x * 0.22F, rowHeight);
+                ImGui.setCursorPos(savesChildSize.x * 0.8F, textY);
+                if (ImGui.button(Translations.getTranslatedText("menu.main.load"), this.layout.loadButtonWidth, buttonHeight)) {
+                    SaveData data = (SaveData) Registry.getAsset(Registry.AssetType.SAVE, save.name());
+                    if (data != null) {
+                        Game.resetInstance(data);
+                        this.currentStage = GameStage.GAME;
+                        DebugLogger.info("Loaded Game");
+                    }
+                    SoundEngine.loadSFX(Audio.CLICK_1);
+                }
+                ImGui.sameLine(savesChildSize.x * 0.93F);
+                if (ImGui.button("X", deleteButtonWidth, deleteButtonHeight)) {
+                    deleted = save.name();
+                    SoundEngine.loadSFX(Audio.CLICK_2);
+                }
+                ImGui.setCursorPosY(rowY);
+                ImGui.dummy(savesChildSize.x * 0.01F, rowHeight);
+                ImGui.popID();
             }
         }
+        this.savesClipper.end();
         ImGui.endChild();
         ImGui.popStyleColor();
 
+        if (deleted != null) {
+            // Removed after drawing so the rows being drawn do not change
+            Registry.removeSaveData(deleted);
+        }
+
         this.renderHomeButton();
         Format.clearFontSize();
     }
 
+    private SaveCatalog.SaveQuery renderSaveOptions() {
+        ImGui.setCursorPos(this.layout.saveOptionsPos);
+        ImGui.setNextItemWidth(this.layout.saveFilterWidth);
+        ImGui.inputTextWithHint("##saveFilter", Translations.getTranslatedText("menu.saves.search"), this.saveFilter);
+        ImGui.sameLine();
+        ImGui.setNextItemWidth(this.layout.saveSortWidth);
+        ImGui.combo("##saveSort", this.saveSort, SAVE_SORTS);
+        ImGui.sameLine();
+        if (ImGui.arrowButton("##saveSortOrder", this.saveSortDescending ? ImGuiDir.Down : ImGuiDir.Up)) {
+            this.saveSortDescending = !this.saveSortDescending;
+            SoundEngine.loadSFX(Audio.CLICK_2);
+        }
+        ImGui.sameLine();
+        ImGui.setNextItemWidth(this.layout.saveFilterWidth);
+        ImGui.combo("##saveDifficulty", this.saveDifficulty, SAVE_TRAILS);
+        return new SaveCatalog.SaveQuery(
+                SaveCatalog.Sort.values()[this.saveSort.get()],
+                this.saveSortDescending,
+                this.saveFilter.get(),
+                (short) this.saveDifficulty.get()
+        );
+    }
+
+    private void renderSaveThumbnail(SaveSummary save, float x, float y, float width, float height) {
+        // Drawn relative to the scrolled child window
+        float left = ImGui.getWindowPosX() + x - ImGui.getScrollX();
+        float top = ImGui.getWindowPosY() + y - ImGui.getScrollY() + height * 0.2F;
+        float barBottom = top + height * 0.25F;
+        SaveThumbnails.Thumbnail thumbnail = SaveThumbnails.get(save);
+        float progress = thumbnail == null ? save.getProgress() : thumbnail.progress();
+        ImDrawList drawList = ImGui.getWindowDrawList();
+        drawList.addRectFilled(left, top, left + width, barBottom, ImColor.rgb(90, 90, 90), 4F);
+        drawList.addRectFilled(left, top, left + width * progress, barBottom, ImColor.rgb(100, 100, 255), 4F);
+        if (thumbnail == null) {
+            return;
+        }
+        float pipSize = height * 0.25F;
+        float pipTop = barBottom + height * 0.1F;
+        for (int i = 0; i < thumbnail.memberHealth().length; i++) {
+            float[] color = RenderUtils.interpolateColor(thumbnail.memberHealth()[i], this.healthColor);
+            float pipLeft = left + i * pipSize * 1.5F;
+            drawList.addRectFilled(pipLeft, pipTop, pipLeft + pipSize, pipTop + pipSize, ImColor.rgb(color[0], color[1], color[2]), 2F);
+        }
+    }
+
     private void renderTrailSelection() {
         // Render the game configuration menu
         Format.setFontSize(Format.TITLE_FONT_SIZE);
-        ImVec2 configGameTitlePos = RenderUtils.getCursorRelative(0, 0.025F);
-        RenderUtils.centeredHorizontal(ImGui.calcTextSize(Translations.getTranslatedText("menu.trailSelection.gameConfig")).x, configGameTitlePos.y);
-        ImGui.text(Translations.getTranslatedText("menu.trailSelection.gameConfig"));
+        this.gameConfigTitle.get().textCentered(this.layout.titleY);
         Format.clearFontSize();
         Format.setFontSize(Format.DESCRIPTION_FONT_SIZE);
 
-        ImVec2 trailButton1Pos = RenderUtils.getCursorRelative(0, 0.1F);
-        RenderUtils.centeredHorizontal(ImGui.calcTextSizeX(Translations.getTranslatedText("menu.trailSelection.easyTrail")) + 10F, trailButton1Pos.y);
-        if (ImGui.radioButton(Translations.getTranslatedText("menu.trailSelection.easyTrail"), this.difficulty, 1)) {
+        RenderUtils.centeredHorizontal(this.easyTrailLabel.get().getWidth() + 10F, this.layout.easyTrailY);
+        if (ImGui.radioButton(this.easyTrailLabel.getText(), this.difficulty, 1)) {
             SoundEngine.loadSFX(Audio.CLICK_2);
         }
 
-        ImVec2 trailButton2Pos = RenderUtils.getCursorRelative(0, 0.2F);
-        RenderUtils.centeredHorizontal(ImGui.calcTextSizeX(Translations.getTranslatedText("menu.trailSelection.medTrail")) + 10F, trailButton2Pos.y);
-        if (ImGui.radioButton(Translations.getTranslatedText("menu.trailSelection.medTrail"), this.difficulty, 2)) {
+        RenderUtils.centeredHorizontal(this.medTrailLabel.get().getWidth() + 10F, this.layout.medTrailY);
+        if (ImGui.radioButton(this.medTrailLabel.getText(), this.difficulty, 2)) {
             SoundEngine.loadSFX(Audio.CLICK_2);
         }
 
-        ImVec2 trailButton3Pos = RenderUtils.getCursorRelative(0, 0.3F);
-        RenderUtils.centeredHorizontal(ImGui.calcTextSizeX(Translations.getTranslatedText("menu.trailSelection.hardTrail")) + 10F, trailButton3Pos.y);
-        if (ImGui.radioButton(Translations.getTranslatedText("menu.trailSelection.hardTrail"), this.difficulty, 3)) {
+        RenderUtils.centeredHorizontal(this.hardTrailLabel.get().getWidth() + 10F, this.layout.hardTrailY);
+        if (ImGui.radioButton(this.hardTrailLabel.getText(), this.difficulty, 3)) {
             SoundEngine.loadSFX(Audio.CLICK_2);
         }
 
-        ImVec2 separatorPos = RenderUtils.getCursorRelative(0, 0.38F);
-        ImGui.setCursorPosY(separatorPos.y);
+        ImGui.setCursorPosY(this.layout.trailSeparatorY);
         ImGui.separator();
 
-        ImVec2 advancedHeaderPos = RenderUtils.getCursorRelative(0, 0.45F);
-        ImVec2 advancedHeaderSize = RenderUtils.getCursorRelative(0.8F, 0.3F);
-        RenderUtils.centeredHorizontal(advancedHeaderSize.x, advancedHeaderPos.y);
+        ImVec2 advancedHeaderSize = this.layout.advancedSize;
+        RenderUtils.centeredHorizontal(advancedHeaderSize.x, this.layout.advancedY);
         ImGui.beginChild("advancedChild", advancedHeaderSize, false, ImGuiWindowFlags.NoResize | ImGuiWindowFlags.NoTitleBar | ImGuiWindowFlags.NoCollapse | ImGuiWindowFlags.NoMove);
         if (ImGui.collapsingHeader(Translations.getTranslatedText("menu.trailSelection.advanced"))) {
-            ImVec2 startingMoneyLabel = RenderUtils.getCursorRelative(0.1F, 0.1F);
-            ImGui.setCursorPos(startingMoneyLabel);
+            ImGui.setCursorPos(this.layout.startingMoneyPos);
             ImGui.text(Translations.getTranslatedText("menu.trailSelection.startingMoney"));
             ImGui.sameLine();
-            ImVec2 moneyText = RenderUtils.getCursorRelative(0.15F, 0);
-            ImGui.setNextItemWidth(moneyText.x);
+            ImGui.setNextItemWidth(this.layout.startingMoneyWidth);
             ImGui.inputText("##staringMoney", this.money, ImGuiInputTextFlags.CallbackEdit, this.inputMoneyMask);
 
-            ImVec2 startingDayLabel = RenderUtils.getCursorRelative(0.1F, 0.2F);
-            ImGui.setCursorPos(startingDayLabel);
+            ImGui.setCursorPos(this.layout.startingDayPos);
             ImGui.text(Translations.getTranslatedText("menu.trailSelection.startingDay"));
             ImGui.sameLine();
-            ImVec2 monthWidth = RenderUtils.getCursorRelative(0.2F, 0);
-            ImGui.setNextItemWidth(monthWidth.x);
+            ImGui.setNextItemWidth(this.layout.monthWidth);
             ImGui.combo("##Month", this.month, MONTHS);
             ImGui.sameLine();
-            ImVec2 dayWidth = RenderUtils.getCursorRelative(0.05F, 0);
-            ImGui.setNextItemWidth(dayWidth.x);
+            ImGui.setNextItemWidth(this.layout.dayWidth);
             ImGui.inputText("##dayInput", this.day, ImGuiInputTextFlags.CallbackEdit, this.inputDayMask);
         }
         ImGui.endChild();
 
-        ImVec2 continueButtonPos = RenderUtils.getCursorRelative(0, 0.85F);
-        ImVec2 continueButtonSize = RenderUtils.getCursorRelative(0.2F, 0.1F);
-        RenderUtils.centeredHorizontal(continueButtonSize.x, continueButtonPos.y);
+        ImVec2 continueButtonSize = this.layout.continueButtonSize;
+        RenderUtils.centeredHorizontal(continueButtonSize.x, this.layout.continueButtonY);
         if (ImGui.button(Translations.getTranslatedText("menu.trailSelection.continue"), continueButtonSize.x, continueButtonSize.y)) {
             this.currentMainMenuScreen = MainMenuScreen.MEMBER_SELECTION;
             SoundEngine.loadSFX(Audio.CLICK_1);
@@ -448,22 +689,18 @@ public class Renderer {
     private void renderMemberSelection() {
         // Render the member configuration menu
         Format.setFontSize(Format.TITLE_FONT_SIZE);
-        ImVec2 memberTitlePos = RenderUtils.getCursorRelative(0, 0.025F);
-        RenderUtils.centeredHorizontal(ImGui.calcTextSize(Translations.getTranslatedText("menu.memberSelection.members")).x, memberTitlePos.y);
-        ImGui.text(Translations.getTranslatedText("menu.memberSelection.members"));
+        this.membersTitle.get().textCentered(this.layout.titleY);
         Format.clearFontSize();
         Format.setFontSize(Format.DESCRIPTION_FONT_SIZE);
 
-        ImVec2 carouselSize = RenderUtils.getCursorRelative(0.8F, 0.49F);
-        ImVec2 carouselPos = RenderUtils.getCursorRelative(0, 0.2F);
-        RenderUtils.centeredHorizontal(carouselSize.x, carouselPos.y);
+        ImVec2 carouselSize = this.layout.carouselSize;
+        RenderUtils.centeredHorizontal(carouselSize.x, this.layout.carouselY);
         ImGui.pushStyleColor(ImGuiCol.ChildBg, ImColor.rgb(50, 50, 50));
         this.renderMemberInfoCarousel(carouselSize.x, carouselSize.y);
         ImGui.popStyleColor();
 
-        ImVec2 buttonPos = RenderUtils.getCursorRelative(0, 0.85F);
-        ImVec2 buttonSize = RenderUtils.getCursorRelative(0.3F, 0.1F);
-        RenderUtils.centeredHorizontal(buttonSize.x * 2, buttonPos.y);
+        ImVec2 buttonSize = this.layout.memberButtonSize;
+        RenderUtils.centeredHorizontal(buttonSize.x * 2, this.layout.memberButtonsY);
         ImGui.beginGroup();
         if (ImGui.button(Translations.getTranslatedText("menu.memberSelection.addMember"), buttonSize)) {
             SoundEngine.loadSFX(Audio.CLICK_1);
@@ -495,20 +732,21 @@ public class Renderer {
 
     private void renderLangSelection() {
         Format.setFontSize(Format.TITLE_FONT_SIZE);
-        ImVec2 langTitlePos = RenderUtils.getCursorRelative(0, 0.025F);
-        RenderUtils.centeredHorizontal(ImGui.calcTextSize(Translations.getTranslatedText("menu.main.selectLang")).x, langTitlePos.y);
-        ImGui.text(Translations.getTranslatedText("menu.main.selectLang"));
+        this.selectLangTitle.get().textCentered(this.layout.titleY);
         Format.clearFontSize();
         Format.setFontSize(Format.DESCRIPTION_FONT_SIZE);
 
-        String[] langs = Config.getConfig().getLanguagesEnabled().keySet().toArray(new String[0]);
-        String[] translatedLangNames = Config.getConfig().getLanguagesEnabled().values().toArray(new String[0]);
+        if (this.langs == null) {
+            // The enabled languages do not change while the game runs
+            this.langs = Config.getConfig().getLanguagesEnabled().keySet().toArray(new String[0]);
+            this.translatedLangNames = Config.getConfig().getLanguagesEnabled().values().toArray(new String[0]);
+        }
+        String[] langs = this.langs;
+        ImVec2 langButtonSize = this.layout.langOptionSize;
         for (int i = 0; i < langs.length; i++) {
             // Render language buttons
-            ImVec2 langButtonPos = RenderUtils.getCursorRelative(0.4F, 0.15F + 0.15F * (float) i);
-            ImVec2 langButtonSize = RenderUtils.getCursorRelative(0.2F, 0.1F);
-            ImGui.setCursorPos(langButtonPos);
-            if (ImGui.button(translatedLangNames[i], langButtonSize.x, langButtonSize.y)) {
+            ImGui.setCursorPos(this.layout.langOptionX, this.layout.getHeight() * (0.15F + 0.15F * (float) i));
+            if (ImGui.button(this.translatedLangNames[i], langButtonSize.x, langButtonSize.y)) {
                 SoundEngine.loadSFX(Audio.CLICK_2);
 
                 // Save new language to config file
@@ -526,32 +764,50 @@ public class Renderer {
     }
 
     /**
-     * Renders the wagon on the cursor
+     * Gets if the current screen changes every frame
+     * @return True if frames should keep being drawn without input
+     */
+    public boolean isAnimating() {
+        // The text cursor blinks
+        return (this.currentScreen != null && !this.currentScreen.isStatic()) || ImGui.getIO().getWantTextInput();
+    }
+
+    /**
+     * Sets the cursor for this frame.<p>
+     * Image cursors are shown by the operating system, and only drawn if it cannot show them
      */
     public void renderCursor() {
-        ImVec2 pMin = ImGui.getMousePos().minus(24, 24);
-        ImVec2 pMax = ImGui.getMousePos().plus(24, 24);
         switch (this.cursorType) {
-            case STANDARD -> ImGui.setMouseCursor(ImGuiMouseCursor.Arrow);
-            case WAGON -> {
-                ImGui.setMouseCursor(ImGuiMouseCursor.None);
-                ImGui.getForegroundDrawList().addImage((Long) Registry.getAsset(Registry.AssetType.ASSET, "cursor"), pMin, pMax);
+            case STANDARD -> {
+                HardwareCursors.release();
+                ImGui.setMouseCursor(ImGuiMouseCursor.Arrow);
             }
-            case FINGER -> ImGui.setMouseCursor(ImGuiMouseCursor.Hand);
-            case RIFLE -> {
-                ImGui.setMouseCursor(ImGuiMouseCursor.None);
-                ImGui.getForegroundDrawList().addImage((Long) Registry.getAsset(Registry.AssetType.ASSET, "cursorRifle"), pMin, pMax);
+            case WAGON -> renderImageCursor("cursor");
+            case FINGER -> {
+                HardwareCursors.release();
+                ImGui.setMouseCursor(ImGuiMouseCursor.Hand);
             }
+            case RIFLE -> renderImageCursor("cursorRifle");
+        }
+    }
+
+    private static void renderImageCursor(final String imageId) {
+        if (HardwareCursors.show(imageId)) {
+            return;
         }
+        ImGui.setMouseCursor(ImGuiMouseCursor.None);
+        final float x = ImGui.getMousePosX();
+        final float y = ImGui.getMousePosY();
+        final float radius = HardwareCursors.SIZE / 2F;
+        RenderUtils.addImage(ImGui.getForegroundDrawList(), (TextureRegion) Registry.getAsset(Registry.AssetType.ASSET, imageId),
+                x - radius, y - radius, x + radius, y + radius);
     }
 
     private boolean renderHomeButton() {
         boolean pressed = false;
-        ImVec2 renderHomeButtonPos = RenderUtils.getCursorRelative(0.93F, 0.0125F);
-        ImGui.setCursorPos(renderHomeButtonPos.x, renderHomeButtonPos.y);
+        ImGui.setCursorPos(this.layout.homeButtonPos);
         ImGui.pushStyleVar(ImGuiStyleVar.ButtonTextAlign, 0.6F, 0.1F);
-        ImVec2 renderHomeButtonSize = RenderUtils.getItemScaleMaintainAspectRatio(0.075F, 0.06F);
-        if (ImGui.button("X", renderHomeButtonSize.x, renderHomeButtonSize.y)) {
+        if (ImGui.button("X", this.layout.homeButtonSize)) {
             this.currentMainMenuScreen = MainMenuScreen.MENU;
             pressed = true;
             SoundEngine.loadSFX(Audio.CLICK_2);
@@ -561,11 +817,9 @@ public class Renderer {
     }
 
     private void renderBackButton(MainMenuScreen previousScreen) {
-        ImVec2 renderBackButtonPos = RenderUtils.getCursorRelative(0.93F, 0.0125F);
-        ImGui.setCursorPos(renderBackButtonPos.x, renderBackButtonPos.y);
+        ImGui.setCursorPos(this.layout.homeButtonPos);
         ImGui.pushStyleVar(ImGuiStyleVar.ButtonTextAlign, 0.6F, 0.1F);
-        ImVec2 renderBackButtonSize = RenderUtils.getItemScaleMaintainAspectRatio(0.075F, 0.06F);
-        if (ImGui.button("<", renderBackButtonSize.x, renderBackButtonSize.y)) {
+        if (ImGui.button("<", this.layout.homeButtonSize)) {
             this.currentMainMenuScreen = previousScreen;
             SoundEngine.loadSFX(Audio.CLICK_2);
         }
@@ -573,45 +827,44 @@ public class Renderer {
     }
 
     private boolean renderMemberInfoPlaque(int index) {
-        ImVec2 plaqueSize = RenderUtils.getCursorRelative(0.4F, 0.6F);
-        ImGui.setNextItemWidth(plaqueSize.x);
+        float plaqueWidth = this.layout.plaqueWidth;
+        ImGui.setNextItemWidth(plaqueWidth);
+        // Widgets in each plaque are told apart by the index of the plaque
+        ImGui.pushID(index);
         ImGui.beginGroup();
 
-        ImVec2 startPos = ImGui.getCursorScreenPos();
+        float startX = ImGui.getCursorScreenPosX();
+        float startY = ImGui.getCursorScreenPosY();
 
         if (index == 0) {
             ImGui.text(Translations.getTranslatedText("memberInfoPlaque.you"));
             ImGui.sameLine();
-            ImGui.setNextItemWidth(plaqueSize.x - ImGui.calcTextSizeX(Translations.getTranslatedText("memberInfoPlaque.you")));
+            ImGui.setNextItemWidth(plaqueWidth - ImGui.calcTextSizeX(Translations.getTranslatedText("memberInfoPlaque.you")));
         } else {
-            ImGui.setNextItemWidth(plaqueSize.x);
+            ImGui.setNextItemWidth(plaqueWidth);
         }
-        ImGui.inputText("##MemberName" + index, MEMBER_DATA.get(index).name());
-        ImVec2 radioButton1Pos = RenderUtils.getCursorRelative(0F, 0.15F);
-        ImGui.setCursorPosY(radioButton1Pos.y);
-        if (ImGui.radioButton(Translations.getTranslatedText("memberInfoPlaque.male") + "##" + index, MEMBER_DATA.get(index).gender(), 0)) {
+        ImGui.inputText("##MemberName", MEMBER_DATA.get(index).name());
+        ImGui.setCursorPosY(this.layout.genderY);
+        if (ImGui.radioButton(Translations.getTranslatedText("memberInfoPlaque.male"), MEMBER_DATA.get(index).gender(), 0)) {
             SoundEngine.loadSFX(Audio.CLICK_2);
         }
         ImGui.sameLine();
-        if (ImGui.radioButton(Translations.getTranslatedText("memberInfoPlaque.female") + "##" + index, MEMBER_DATA.get(index).gender(), 1)) {
+        if (ImGui.radioButton(Translations.getTranslatedText("memberInfoPlaque.female"), MEMBER_DATA.get(index).gender(), 1)) {
             SoundEngine.loadSFX(Audio.CLICK_2);
         }
-        ImVec2 rolePos = RenderUtils.getCursorRelative(0, 0.25F);
-        ImGui.setCursorPosY(rolePos.y);
+        ImGui.setCursorPosY(this.layout.roleY);
         ImGui.text(Translations.getTranslatedText("memberInfoPlaque.role"));
         ImGui.sameLine();
-        ImVec2 roleComboSize = RenderUtils.getCursorRelative(0.24F, 0F);
-        ImGui.setNextItemWidth(roleComboSize.x);
+        ImGui.setNextItemWidth(this.layout.roleComboWidth);
         String[] currentRoles = MEMBER_DATA.get(index).gender().get() == 0 ? MALE_ROLES : FEMALE_ROLES;
         if (MEMBER_DATA.get(index).role().get() >= currentRoles.length) {
             MEMBER_DATA.get(index).role().set(currentRoles.length - 1);
         }
-        if (ImGui.combo("##Role" + index, MEMBER_DATA.get(index).role(), currentRoles)) {
+        if (ImGui.combo("##Role", MEMBER_DATA.get(index).role(), currentRoles)) {
             SoundEngine.loadSFX(Audio.CLICK_2);
         }
-        ImVec2 buttonsPos = RenderUtils.getCursorRelative(0, 0.40F);
-        ImGui.setCursorPosY(buttonsPos.y);
-        if (ImGui.button(Translations.getTranslatedText("memberInfoPlaque.randomize") + "##" + index)) {
+        ImGui.setCursorPosY(this.layout.plaqueButtonsY);
+        if (ImGui.button(Translations.getTranslatedText("memberInfoPlaque.randomize"))) {
             SoundEngine.loadSFX(Audio.CLICK_1);
             Member random = Member.randomize();
             MEMBER_DATA.get(index).name().set(random.getName());
@@ -619,16 +872,16 @@ public class Renderer {
             MEMBER_DATA.get(index).role().set(Registry.indexOf(Registry.AssetType.ROLE, random.getRole().id()));
         }
         ImGui.sameLine();
-        if (ImGui.button(Translations.getTranslatedText("memberInfoPlaque.delete") + "##" + index)) {
+        if (ImGui.button(Translations.getTranslatedText("memberInfoPlaque.delete"))) {
             SoundEngine.loadSFX(Audio.CLICK_2);
             ImGui.endGroup();
+            ImGui.popID();
             return false;
         }
         ImGui.endGroup();
+        ImGui.popID();
 
-        ImVec2 endPos = ImGui.getItemRectSize();
-
-        ImGui.getWindowDrawList().addRect(startPos, new ImVec2(startPos.x + endPos.x, startPos.y + endPos.y), ImGui.getColorU32(ImGuiCol.Border));
+        ImGui.getWindowDrawList().addRect(startX, startY, startX + ImGui.getItemRectSizeX(), startY + ImGui.getItemRectSizeY(), ImGui.getColorU32(ImGuiCol.Border));
 
         return true;
     }
@@ -648,14 +901,11 @@ public class Renderer {
     }
 
     private void renderMemberInfoCarousel(float width, float height) {
-        ImVec2 childSize = new ImVec2(width, height);
-
-        ImGui.beginChild("memberInfoCarousel", childSize, false, ImGuiWindowFlags.HorizontalScrollbar | ImGuiWindowFlags.NoResize | ImGuiWindowFlags.NoTitleBar | ImGuiWindowFlags.NoCollapse | ImGuiWindowFlags.NoMove);
+        ImGui.beginChild("memberInfoCarousel", width, height, false, ImGuiWindowFlags.HorizontalScrollbar | ImGuiWindowFlags.NoResize | ImGuiWindowFlags.NoTitleBar | ImGuiWindowFlags.NoCollapse | ImGuiWindowFlags.NoMove);
 
         ListIterator<MemberPlaqueData> nameIter = MEMBER_DATA.listIterator();
 
-        ImVec2 plaquePos = RenderUtils.getCursorRelative(0.02F, 0.03F);
-        ImGui.setCursorPos(plaquePos);
+        ImGui.setCursorPos(this.layout.plaquePos);
 
         while (nameIter.hasNext()) {
             int i = nameIter.nextIndex();
@@ -730,6 +980,27 @@ public class Renderer {
         String[] rolesFemale = Role.getRoles(Gender.FEMALE);
         System.arraycopy(rolesFemale, 0, FEMALE_ROLES, 0, FEMALE_ROLES.length);
         System.arraycopy(rolesMale, 0, MALE_ROLES, 0, MALE_ROLES.length);
+        // Reload save list options
+        System.arraycopy(getSaveSorts(), 0, SAVE_SORTS, 0, SAVE_SORTS.length);
+        System.arraycopy(getSaveTrails(), 0, SAVE_TRAILS, 0, SAVE_TRAILS.length);
+    }
+
+    private static String[] getSaveSorts() {
+        return new String[] {
+                Translations.getTranslatedText("menu.saves.sortDate"),
+                Translations.getTranslatedText("menu.saves.sortName"),
+                Translations.getTranslatedText("menu.saves.sortDifficulty"),
+                Translations.getTranslatedText("menu.saves.sortProgress")
+        };
+    }
+
+    private static String[] getSaveTrails() {
+        return new String[] {
+                Translations.getTranslatedText("menu.saves.allTrails"),
+                Translations.getTranslatedText("menu.trailSelection.easyTrail"),
+                Translations.getTranslatedText("menu.trailSelection.medTrail"),
+                Translations.getTranslatedText("menu.trailSelection.hardTrail")
+        };
     }
 
     private void initializeGame() {
@@ -780,5 +1051,6 @@ public class Renderer {
             screen.setData(Translations.getTranslatedText(translationKey));
         }
         Renderer.RENDER_QUEUE.add("consequence");
+        FrameScheduler.requestRedraw();
     }
 }
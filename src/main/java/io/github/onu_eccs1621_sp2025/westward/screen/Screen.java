@@ -1,10 +1,13 @@
 package io.github.onu_eccs1621_sp2025.westward.screen;
 
+import io.github.onu_eccs1621_sp2025.westward.game.Game;
+import io.github.onu_eccs1621_sp2025.westward.utils.profiling.ScreenEvent;
+
 /**
  * The foundation for all Screens
  * @author Dylan Catte, Ben Westover, Noah Sumerauer, Micah Lee
  * @since 1.0.0 Alpha 1
- * @version 1.0
+ * @version 1.3
  */
 public abstract class Screen {
 
@@ -18,6 +21,10 @@ public abstract class Screen {
 
     boolean visible;
     String id;
+    /**
+     * Records how long the Screen is shown for, or null while it is hidden
+     */
+    private ScreenEvent shownEvent;
 
     /**
      * Closes the UI
@@ -25,6 +32,11 @@ public abstract class Screen {
     public void close() {
         this.visible = false;
         Renderer.RENDER_QUEUE.pop();
+        Game.wakeGameThread();
+        if (this.shownEvent != null) {
+            this.shownEvent.commit();
+            this.shownEvent = null;
+        }
     }
 
     /**
@@ -48,10 +60,26 @@ public abstract class Screen {
      */
     public void setVisible() {
         this.visible = true;
+        final ScreenEvent event = new ScreenEvent();
+        if (event.isEnabled()) {
+            event.screenId = this.id;
+            event.queueDepth = Renderer.RENDER_QUEUE.size();
+            event.begin();
+            this.shownEvent = event;
+        }
     }
 
     /**
      * Renders the screen
      */
     public abstract void render();
+
+    /**
+     * Gets whether the Screen only changes on input.<p>
+     * Static screens are not redrawn while the game waits for input
+     * @return True unless the Screen animates
+     */
+    public boolean isStatic() {
+        return true;
+    }
 }
@@ -13,9 +13,11 @@ import io.github.onu_eccs1621_sp2025.westward.game.Game;
 import io.github.onu_eccs1621_sp2025.westward.game.ItemStack;
 import io.github.onu_eccs1621_sp2025.westward.screen.Screen;
 import io.github.onu_eccs1621_sp2025.westward.utils.ListUtils;
+import io.github.onu_eccs1621_sp2025.westward.utils.rendering.Layout;
 import io.github.onu_eccs1621_sp2025.westward.utils.rendering.RenderUtils;
 import io.github.onu_eccs1621_sp2025.westward.utils.sound.SoundEngine;
 import io.github.onu_eccs1621_sp2025.westward.utils.text.Format;
+import io.github.onu_eccs1621_sp2025.westward.utils.text.TextCache;
 import io.github.onu_eccs1621_sp2025.westward.utils.text.Translations;
 
 import java.util.List;
@@ -27,6 +29,45 @@ public class SleepScreen extends Screen {
     private Boolean successfulHeal = null;
     private boolean removedStatus;
     private String statusAltered;
+    private final SleepLayout layout = new SleepLayout();
+    /**
+     * Reused for the health bar color
+     */
+    private final float[] healthColor = new float[3];
+    // Text drawn every frame
+    private final TextCache titleText = new TextCache("sleep.title");
+    private final TextCache noHealersText = new TextCache("sleep.heal.noHealers");
+    private final TextCache statusGoodText = new TextCache("sleep.heal.statusGood");
+    private final TextCache healGoodText = new TextCache("sleep.heal.good");
+    private final TextCache statusBadText = new TextCache("sleep.heal.statusBad");
+    private final TextCache healBadText = new TextCache("sleep.heal.bad");
+
+    /**
+     * The positions and sizes of the sleep widgets
+     */
+    private static final class SleepLayout extends Layout {
+        private float titleY;
+        private final ImVec2 playerPanelsSize = new ImVec2();
+        private float playerPanelsY;
+        private final ImVec2 playerStatusesSize = new ImVec2();
+        private final ImVec2 memberButtonSize = new ImVec2();
+        private final ImVec2 healButtonSize = new ImVec2();
+        private float healButtonY;
+        private float healResultY;
+
+        @Override
+        protected void compute(float width, float height) {
+            this.titleY = height * 0.05F;
+            relative(this.playerPanelsSize, 0.3F, 0.3F);
+            this.playerPanelsY = height * 0.15F;
+            this.playerStatusesSize.set(this.playerPanelsSize.x * 0.8F, this.playerPanelsSize.y * 0.6F);
+            this.memberButtonSize.set(this.playerPanelsSize.x * 0.1F, this.playerPanelsSize.y * 0.12F);
+            relative(this.healButtonSize, 0.25F, 0.05F);
+            this.healButtonY = height * 0.6F;
+            this.healResultY = height * 0.65F;
+        }
+    }
+
     /**
      * Allows the player to make decisions when they sleep
      */
@@ -36,14 +77,15 @@ public class SleepScreen extends Screen {
 
     @Override
     public void render() {
+        SleepLayout layout = this.layout;
+        layout.update();
         Format.setFontSize(Format.TITLE_FONT_SIZE);
-        RenderUtils.centeredHorizontal(ImGui.calcTextSizeX(Translations.getTranslatedText("sleep.title")), RenderUtils.getCursorRelative(0.0F, 0.05F).y);
-        ImGui.text(Translations.getTranslatedText("sleep.title"));
+        this.titleText.get().textCentered(layout.titleY);
         Format.clearFontSize();
         Format.setFontSize(Format.DESCRIPTION_FONT_SIZE);
         renderPlayerPanels();
-        ImVec2 healButtonSize = RenderUtils.getCursorRelative(0.25F, 0.05F);
-        RenderUtils.centeredHorizontal(healButtonSize.x, RenderUtils.getCursorRelative(0.0F, 0.6F).y);
+        ImVec2 healButtonSize = layout.healButtonSize;
+        RenderUtils.centeredHorizontal(healButtonSize.x, layout.healButtonY);
         Format.clearFontSize();
         Format.setFontSize(Format.DESCRIPTION_FONT_SIZE);
         if (Game.getInstance().hasHealers()) {
@@ -92,8 +134,7 @@ public class SleepScreen extends Screen {
                 this.playerDied = !Game.getInstance().getMembers().contains(member);
             }
         } else {
-            RenderUtils.centeredHorizontal(ImGui.calcTextSizeX(Translations.getTranslatedText("sleep.heal.noHealers")), RenderUtils.getCursorRelative(0.0F, 0.65F).y);
-            ImGui.textColored(ImColor.rgb(255, 30, 30), Translations.getTranslatedText("sleep.heal.noHealers"));
+            renderResult(this.noHealersText.get(), ImColor.rgb(255, 30, 30));
         }
         if (Game.getInstance().getMembers().isEmpty()) {
             this.close();
@@ -106,19 +147,15 @@ public class SleepScreen extends Screen {
             int healthChanged = (int) (member.getMaxHealth() * 0.2F);
             if (this.successfulHeal) {
                 if (this.removedStatus) {
-                    RenderUtils.centeredHorizontal(ImGui.calcTextSizeX(Translations.getTranslatedText("sleep.heal.statusGood", member.getName(), this.statusAltered)), RenderUtils.getCursorRelative(0.0F, 0.65F).y);
-                    ImGui.textColored(ImColor.rgb(30, 255, 30), Translations.getTranslatedText("sleep.heal.statusGood", member.getName(), this.statusAltered));
+                    renderResult(this.statusGoodText.get(member.getName(), this.statusAltered), ImColor.rgb(30, 255, 30));
                 } else {
-                    RenderUtils.centeredHorizontal(ImGui.calcTextSizeX(Translations.getTranslatedText("sleep.heal.good", member.getName(), String.valueOf(healthChanged))), RenderUtils.getCursorRelative(0.0F, 0.65F).y);
-                    ImGui.textColored(ImColor.rgb(30, 255, 30), Translations.getTranslatedText("sleep.heal.good", member.getName(), String.valueOf(healthChanged)));
+                    renderResult(this.healGoodText.get(member.getName(), String.valueOf(healthChanged)), ImColor.rgb(30, 255, 30));
                 }
             } else {
                 if (this.removedStatus) {
-                    RenderUtils.centeredHorizontal(ImGui.calcTextSizeX(Translations.getTranslatedText("sleep.heal.statusBad", member.getName(), this.statusAltered)), RenderUtils.getCursorRelative(0.0F, 0.65F).y);
-                    ImGui.textColored(ImColor.rgb(255, 30, 30), Translations.getTranslatedText("sleep.heal.statusBad", member.getName(), this.statusAltered));
+                    renderResult(this.statusBadText.get(member.getName(), this.statusAltered), ImColor.rgb(255, 30, 30));
                 } else {
-                    RenderUtils.centeredHorizontal(ImGui.calcTextSizeX(Translations.getTranslatedText("sleep.heal.bad", member.getName(), String.valueOf(healthChanged))), RenderUtils.getCursorRelative(0.0F, 0.65F).y);
-                    ImGui.textColored(ImColor.rgb(255, 30, 30), Translations.getTranslatedText("sleep.heal.bad", member.getName(), String.valueOf(healthChanged)));
+                    renderResult(this.healBadText.get(member.getName(), String.valueOf(healthChanged)), ImColor.rgb(255, 30, 30));
                 }
             }
         }
@@ -126,11 +163,15 @@ public class SleepScreen extends Screen {
         RenderUtils.closeButtonCentered(this);
     }
 
+    private void renderResult(TextCache result, int color) {
+        RenderUtils.centeredHorizontal(result.getWidth(), this.layout.healResultY);
+        ImGui.textColored(color, result.getText());
+    }
+
     private void renderPlayerPanels() {
         ImGui.pushStyleColor(ImGuiCol.ChildBg, ImColor.rgb(50, 50, 50));
-        ImVec2 playerPanelsSize = RenderUtils.getCursorRelative(0.3F, 0.3F);
-        ImVec2 playerPanelsPos = RenderUtils.getCursorRelative(0.0F, 0.15F);
-        RenderUtils.centeredHorizontal(playerPanelsSize.x, playerPanelsPos.y);
+        ImVec2 playerPanelsSize = this.layout.playerPanelsSize;
+        RenderUtils.centeredHorizontal(playerPanelsSize.x, this.layout.playerPanelsY);
         ImGui.beginChild("playerPanels", playerPanelsSize, false, ImGuiWindowFlags.NoResize | ImGuiWindowFlags.NoTitleBar | ImGuiWindowFlags.NoCollapse | ImGuiWindowFlags.NoMove);
         renderPlayerPanel(Game.getInstance().getMembers().get(this.memberIndex.get()), playerPanelsSize);
         ImGui.endChild();
@@ -142,8 +183,7 @@ public class SleepScreen extends Screen {
         ImGui.text(member.getName());
 
         ImGui.setCursorPos(panelSize.x * 0.1F, panelSize.y * 0.15F);
-        ImVec2 playerPanelsSize = new ImVec2(panelSize.x * 0.8F, panelSize.y * 0.6F);
-        ImGui.beginChild("playerStatuses", playerPanelsSize, false, ImGuiWindowFlags.NoResize | ImGuiWindowFlags.NoTitleBar | ImGuiWindowFlags.NoCollapse | ImGuiWindowFlags.NoMove);
+        ImGui.beginChild("playerStatuses", this.layout.playerStatusesSize, false, ImGuiWindowFlags.NoResize | ImGuiWindowFlags.NoTitleBar | ImGuiWindowFlags.NoCollapse | ImGuiWindowFlags.NoMove);
         for (StatusContainer status : member.getStatuses()) {
             if (status.getLevel() + 1 >= status.getMaxLevel()) {
                 ImGui.textColored(ImColor.rgb(255, 0, 0), status.toString());
@@ -156,14 +196,14 @@ public class SleepScreen extends Screen {
         ImGui.setCursorPos(panelSize.x * 0.1F, panelSize.y * 0.88F);
         Format.setFontSize(Format.MENU_FONT_SIZE);
         float healthFraction = (float) member.getHealth() / member.getMaxHealth();
-        float[] color = RenderUtils.interpolateColor(healthFraction);
+        float[] color = RenderUtils.interpolateColor(healthFraction, this.healthColor);
         ImGui.pushStyleColor(ImGuiCol.PlotHistogram, ImColor.rgb(color[0], color[1], color[2]));
         ImGui.progressBar(healthFraction, panelSize.x * 0.8F, panelSize.y * 0.12F);
         ImGui.popStyleColor();
         ImGui.sameLine();
 
         ImGui.setCursorPosX(0);
-        ImVec2 buttonSize = new ImVec2(panelSize.x * 0.1F, panelSize.y * 0.12F);
+        ImVec2 buttonSize = this.layout.memberButtonSize;
         int memberCount = Game.getInstance().getMembers().size();
         if (this.memberIndex.get() >= memberCount) {
             this.memberIndex.set(memberCount - 1);
@@ -1,13 +1,52 @@
 package io.github.onu_eccs1621_sp2025.westward.screen.default_screens.accident;
 
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.JsonAdapters;
+
+import java.io.IOException;
+
 /**
  * Basic screen data to show an image and translatable text for perils
  * @author Dylan Catte, Ben Westover, Noah Sumerauer, Micah Lee
  * @since 1.0.0 Alpha 1
- * @version 1.1
+ * @version 1.2
  * @param imagePath The path to the image
  * @param translationKey The translation key for the description text
  * @param id The screen ID for the screen
  */
 public record PerilScreenData(String imagePath, String translationKey, String id) {
+
+    /**
+     * Reads and writes PerilScreenData without reflection
+     */
+    public static final class JsonAdapter extends TypeAdapter<PerilScreenData> {
+        @Override
+        public void write(JsonWriter out, PerilScreenData value) throws IOException {
+            out.beginObject();
+            out.name("imagePath").value(value.imagePath);
+            out.name("translationKey").value(value.translationKey);
+            out.name("id").value(value.id);
+            out.endObject();
+        }
+
+        @Override
+        public PerilScreenData read(JsonReader in) throws IOException {
+            String imagePath = null;
+            String translationKey = null;
+            String id = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "imagePath" -> imagePath = JsonAdapters.nextString(in);
+                    case "translationKey" -> translationKey = JsonAdapters.nextString(in);
+                    case "id" -> id = JsonAdapters.nextString(in);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new PerilScreenData(imagePath, translationKey, id);
+        }
+    }
 }
@@ -1,6 +1,8 @@
 package io.github.onu_eccs1621_sp2025.westward.screen.default_screens.hunting;
 
-import com.google.gson.annotations.Expose;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import imgui.ImGui;
 import imgui.ImVec2;
 import imgui.flag.ImGuiMouseButton;
@@ -9,9 +11,12 @@ import io.github.onu_eccs1621_sp2025.westward.data.loot_table.LootTable;
 import io.github.onu_eccs1621_sp2025.westward.game.Game;
 import io.github.onu_eccs1621_sp2025.westward.game.ItemStack;
 import io.github.onu_eccs1621_sp2025.westward.utils.math.IntegerRange;
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.JsonAdapters;
 import io.github.onu_eccs1621_sp2025.westward.utils.registry.Registry;
 import io.github.onu_eccs1621_sp2025.westward.utils.rendering.RenderUtils;
+import io.github.onu_eccs1621_sp2025.westward.utils.rendering.TextureRegion;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -22,22 +27,15 @@ import java.util.concurrent.ThreadLocalRandom;
  * Contains the data for the animals shown in the HuntingGame
  * @author Dylan Catte
  * @since 1.0.0 Beta 1
- * @version 1.0
+ * @version 1.1
  */
 public class GameAnimal {
-    @Expose
     private final String animalId;
-    @Expose
     private final IntegerRange movementSpeedRange;
-    @Expose
     private final LootTable drop;
-    @Expose
     private int health;
-    @Expose
     private final int score;
-    @Expose
     private final int maxCount;
-    @Expose
     private final float size;
     private final ImVec2 pos;
     private final ImVec2 targetPos;
@@ -46,6 +44,7 @@ public class GameAnimal {
     private MovementDirection direction = MovementDirection.UP;
 
 
+    // Templates are read from hunting configs and never drawn, so they have no position
     private GameAnimal(String animalId, IntegerRange range, LootTable drop, int health, int score, int maxCount, float size) {
         this.animalId = animalId;
         this.movementSpeedRange = range;
@@ -53,10 +52,23 @@ public class GameAnimal {
         this.maxCount = maxCount;
         this.health = health;
         this.score = score;
+        this.movementSpeed = 0;
+        this.pos = null;
+        this.targetPos = null;
+        this.size = size;
+    }
+
+    private GameAnimal(GameAnimal template) {
+        this.animalId = template.animalId;
+        this.movementSpeedRange = template.movementSpeedRange;
+        this.drop = template.drop;
+        this.maxCount = template.maxCount;
+        this.health = template.health;
+        this.score = template.score;
         this.movementSpeed = ThreadLocalRandom.current().nextInt(movementSpeedRange.min(), movementSpeedRange.max() + 1);
         pos = getRandomPos();
         targetPos = getRandomPos();
-        this.size = size;
+        this.size = template.size;
     }
 
     private boolean clickedOn(ImVec2 mouseClickPos) {
@@ -138,7 +150,7 @@ public class GameAnimal {
     private static void spawnAnimal(HuntingConfig config) {
         for (GameAnimal animal : config.animals()) {
             if (ANIMALS.isEmpty() || (ANIMALS.get(animal.animalId).size() < animal.maxCount && ThreadLocalRandom.current().nextFloat() < 0.1F)) {
-                ANIMALS.get(animal.animalId).add(new GameAnimal(animal.animalId, animal.movementSpeedRange, animal.drop, animal.health, animal.score, animal.maxCount, animal.size));
+                ANIMALS.get(animal.animalId).add(new GameAnimal(animal));
             }
         }
     }
@@ -190,10 +202,59 @@ public class GameAnimal {
         private void createImage(int index, GameAnimal animal) {
             ImGui.pushID(animal.animalId + index);
             switch (this) {
-                case UP, LEFT -> ImGui.image((long) Registry.getAsset(Registry.AssetType.ASSET, animal.animalId + "-left"), animal.getSize());
-                case DOWN, RIGHT -> ImGui.image((long) Registry.getAsset(Registry.AssetType.ASSET, animal.animalId + "-right"), animal.getSize());
+                case UP, LEFT -> RenderUtils.image((TextureRegion) Registry.getAsset(Registry.AssetType.ASSET, animal.animalId + "-left"), animal.getSize());
+                case DOWN, RIGHT -> RenderUtils.image((TextureRegion) Registry.getAsset(Registry.AssetType.ASSET, animal.animalId + "-right"), animal.getSize());
             }
             ImGui.popID();
         }
     }
+
+    /**
+     * Reads and writes GameAnimal templates without reflection
+     */
+    public static final class JsonAdapter extends TypeAdapter<GameAnimal> {
+        private static final TypeAdapter<IntegerRange> RANGE = new IntegerRange.JsonAdapter().nullSafe();
+        private static final TypeAdapter<LootTable> LOOT_TABLE = new LootTable.JsonAdapter().nullSafe();
+
+        @Override
+        public void write(JsonWriter out, GameAnimal value) throws IOException {
+            out.beginObject();
+            out.name("animalId").value(value.animalId);
+            out.name("movementSpeedRange");
+            RANGE.write(out, value.movementSpeedRange);
+            out.name("drop");
+            LOOT_TABLE.write(out, value.drop);
+            out.name("health").value(value.health);
+            out.name("score").value(value.score);
+            out.name("maxCount").value(value.maxCount);
+            out.name("size").value(value.size);
+            out.endObject();
+        }
+
+        @Override
+        public GameAnimal read(JsonReader in) throws IOException {
+            String animalId = null;
+            IntegerRange movementSpeedRange = null;
+            LootTable drop = null;
+            int health = 0;
+            int score = 0;
+            int maxCount = 0;
+            float size = 0;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "animalId" -> animalId = JsonAdapters.nextString(in);
+                    case "movementSpeedRange" -> movementSpeedRange = RANGE.read(in);
+                    case "drop" -> drop = LOOT_TABLE.read(in);
+                    case "health" -> health = in.nextInt();
+                    case "score" -> score = in.nextInt();
+                    case "maxCount" -> maxCount = in.nextInt();
+                    case "size" -> size = (float) in.nextDouble();
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new GameAnimal(animalId, movementSpeedRange, drop, health, score, maxCount, size);
+        }
+    }
 }
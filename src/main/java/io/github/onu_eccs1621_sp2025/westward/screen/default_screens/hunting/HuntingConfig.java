@@ -1,14 +1,52 @@
 package io.github.onu_eccs1621_sp2025.westward.screen.default_screens.hunting;
 
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.JsonAdapters;
+
+import java.io.IOException;
 import java.util.List;
 
 /**
  * All configuration options for the Hunting minigame
  * @author Dylan Catte, Ben Westover, Noah Sumerauer, Micah Lee
  * @since 1.0.0 Alpha 1
- * @version 1.1
+ * @version 1.2
  * @param id The screen ID for the hunting screen
  * @param animals The types of animals to spawn in the hunting screen
  */
 public record HuntingConfig(String id, List<GameAnimal> animals) {
+
+    /**
+     * Reads and writes HuntingConfigs without reflection
+     */
+    public static final class JsonAdapter extends TypeAdapter<HuntingConfig> {
+        private static final TypeAdapter<GameAnimal> ANIMAL = new GameAnimal.JsonAdapter().nullSafe();
+
+        @Override
+        public void write(JsonWriter out, HuntingConfig value) throws IOException {
+            out.beginObject();
+            out.name("id").value(value.id);
+            out.name("animals");
+            JsonAdapters.writeList(out, value.animals, ANIMAL);
+            out.endObject();
+        }
+
+        @Override
+        public HuntingConfig read(JsonReader in) throws IOException {
+            String id = null;
+            List<GameAnimal> animals = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id" -> id = JsonAdapters.nextString(in);
+                    case "animals" -> animals = JsonAdapters.readList(in, ANIMAL);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new HuntingConfig(id, animals);
+        }
+    }
 }
@@ -12,15 +12,17 @@ import io.github.onu_eccs1621_sp2025.westward.screen.Renderer;
 import io.github.onu_eccs1621_sp2025.westward.screen.Screen;
 import io.github.onu_eccs1621_sp2025.westward.utils.registry.Registry;
 import io.github.onu_eccs1621_sp2025.westward.utils.rendering.RenderUtils;
+import io.github.onu_eccs1621_sp2025.westward.utils.rendering.TextureRegion;
 import io.github.onu_eccs1621_sp2025.westward.utils.sound.SoundEngine;
 import io.github.onu_eccs1621_sp2025.westward.utils.text.Format;
+import io.github.onu_eccs1621_sp2025.westward.utils.text.TextCache;
 import io.github.onu_eccs1621_sp2025.westward.utils.text.Translations;
 
 /**
  * The screen for the Hunting minigame
  * @author Dylan Catte, Ben Westover, Noah Sumerauer, Micah Lee
  * @since 1.0.0 Alpha 1
- * @version 1.1
+ * @version 1.3
  */
 public class HuntingGameScreen extends Screen {
     private final HuntingConfig config;
@@ -28,6 +30,13 @@ public class HuntingGameScreen extends Screen {
     private final ImInt score = new ImInt(0);
     private int completedShots;
     private int totalShots;
+    // Text drawn every frame
+    private final TextCache ammoText = new TextCache("hunting.ammo");
+    private final TextCache scoreText = new TextCache("hunting.score");
+    private final TextCache summaryText = new TextCache("hunting.summary");
+    private final TextCache shotsMadeText = new TextCache("hunting.shotsMade");
+    private final TextCache shotsTotalText = new TextCache("hunting.shotsTotal");
+    private final TextCache accuracyText = new TextCache("hunting.accuracy");
 
     /**
      * Creates an instance of the Hunting minigame
@@ -53,15 +62,12 @@ public class HuntingGameScreen extends Screen {
         Format.setFontSize(Format.DESCRIPTION_FONT_SIZE);
         if(running) {
             ImGui.setCursorPos(RenderUtils.getCursorRelative(0.01F, 0.01F));
-            ImGui.image((long) Registry.getAsset(Registry.AssetType.ASSET, "grass"), RenderUtils.getCursorRelative(0.98F, 0.98F));
+            RenderUtils.image((TextureRegion) Registry.getAsset(Registry.AssetType.ASSET, "grass"), RenderUtils.getCursorRelative(0.98F, 0.98F));
             this.completedShots += GameAnimal.tickAnimals(this.score, this.config);
 
-            String remainingAmmo = String.valueOf(Game.getInstance().getInventory().countOfType(ItemStack.ItemType.AMMUNITION));
-            RenderUtils.centeredHorizontal(ImGui.calcTextSizeX(Translations.getTranslatedText("hunting.ammo", remainingAmmo)), RenderUtils.getCursorRelative(0, 0.84F).y);
-            ImGui.text(Translations.getTranslatedText("hunting.ammo", remainingAmmo));
-            String scoreStr = String.valueOf(this.score.get());
-            RenderUtils.centeredHorizontal(ImGui.calcTextSizeX(Translations.getTranslatedText("hunting.score", scoreStr)), RenderUtils.getCursorRelative(0, 0.88F).y);
-            ImGui.text(Translations.getTranslatedText("hunting.score", scoreStr));
+            float height = ImGui.getIO().getDisplaySizeY();
+            this.ammoText.get(Game.getInstance().getInventory().countOfType(ItemStack.ItemType.AMMUNITION)).textCentered(height * 0.84F);
+            this.scoreText.get(this.score.get()).textCentered(height * 0.88F);
             ImVec2 buttonSize = RenderUtils.getCursorRelative(0.3F, 0.05F);
             RenderUtils.centeredHorizontal(buttonSize.x, RenderUtils.getCursorRelative(0, 0.93F).y);
             if (ImGui.button(Translations.getTranslatedText("hunting.end"), buttonSize)) {
@@ -90,23 +96,18 @@ public class HuntingGameScreen extends Screen {
             }
         } else {
             TrailApplication.getRenderer().setCursorType(Renderer.CursorType.WAGON);
-            RenderUtils.centeredHorizontal(ImGui.calcTextSizeX(Translations.getTranslatedText("hunting.summary")), RenderUtils.getCursorRelative(0, 0.1F).y);
-            ImGui.text(Translations.getTranslatedText("hunting.summary"));
-            RenderUtils.centeredHorizontal(ImGui.calcTextSizeX(Translations.getTranslatedText("hunting.shotsMade", String.valueOf(this.completedShots))), RenderUtils.getCursorRelative(0, 0.2F).y);
-            ImGui.text(Translations.getTranslatedText("hunting.shotsMade", String.valueOf(this.completedShots)));
-            RenderUtils.centeredHorizontal(ImGui.calcTextSizeX(Translations.getTranslatedText("hunting.shotsTotal", String.valueOf(this.totalShots))), RenderUtils.getCursorRelative(0, 0.3F).y);
-            ImGui.text(Translations.getTranslatedText("hunting.shotsTotal", String.valueOf(this.totalShots)));
+            float height = ImGui.getIO().getDisplaySizeY();
+            this.summaryText.get().textCentered(height * 0.1F);
+            this.shotsMadeText.get(this.completedShots).textCentered(height * 0.2F);
+            this.shotsTotalText.get(this.totalShots).textCentered(height * 0.3F);
             float accuracy;
             if (this.totalShots == 0) {
                 accuracy = 0;
             } else {
                 accuracy = ((float) this.completedShots / this.totalShots) * 100;
             }
-            String accuracyStr = String.format("%.2f", accuracy) + "%";
-            RenderUtils.centeredHorizontal(ImGui.calcTextSizeX(Translations.getTranslatedText("hunting.accuracy", accuracyStr)), RenderUtils.getCursorRelative(0, 0.4F).y);
-            ImGui.text(Translations.getTranslatedText("hunting.accuracy", accuracyStr));
-            RenderUtils.centeredHorizontal(ImGui.calcTextSizeX(Translations.getTranslatedText("hunting.score", String.valueOf(this.score.get()))), RenderUtils.getCursorRelative(0, 0.5F).y);
-            ImGui.text(Translations.getTranslatedText("hunting.score", String.valueOf(this.score.get())));
+            this.accuracyText.get("%.2f%%", accuracy).textCentered(height * 0.4F);
+            this.scoreText.get(this.score.get()).textCentered(height * 0.5F);
             RenderUtils.closeButtonCentered(this);
         }
         Format.clearFontSize();
@@ -128,4 +129,9 @@ public class HuntingGameScreen extends Screen {
         // TODO Improve this
         TrailApplication.setFPSLimit(TrailApplication.getRenderer().getFPS());
     }
+
+    @Override
+    public boolean isStatic() {
+        return false;
+    }
 }
@@ -8,6 +8,7 @@ import io.github.onu_eccs1621_sp2025.westward.screen.Screen;
 import io.github.onu_eccs1621_sp2025.westward.utils.WebUtils;
 import io.github.onu_eccs1621_sp2025.westward.utils.registry.Registry;
 import io.github.onu_eccs1621_sp2025.westward.utils.rendering.RenderUtils;
+import io.github.onu_eccs1621_sp2025.westward.utils.rendering.TextureRegion;
 import io.github.onu_eccs1621_sp2025.westward.utils.sound.SoundEngine;
 import io.github.onu_eccs1621_sp2025.westward.utils.text.Format;
 import io.github.onu_eccs1621_sp2025.westward.utils.text.Translations;
@@ -40,7 +41,7 @@ public class LandmarkScreen extends Screen {
         ImVec2 imagePos = RenderUtils.getCursorRelative(0, 0);
         ImVec2 imageScale = RenderUtils.getItemScaleMaintainAspectRatio(1.1F, 0.7F);
         RenderUtils.centeredHorizontal(imageScale.x, imagePos.y);
-        ImGui.image((Long) Registry.getAsset(Registry.AssetType.ASSET, this.image), imageScale);
+        RenderUtils.image((TextureRegion) Registry.getAsset(Registry.AssetType.ASSET, this.image), imageScale);
         ImVec2 separatorPos = RenderUtils.getCursorRelative(0, 0.71F);
         ImGui.setCursorPosY(separatorPos.y);
         ImGui.separator();
@@ -1,14 +1,56 @@
 package io.github.onu_eccs1621_sp2025.westward.screen.default_screens.landmark;
 
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.JsonAdapters;
+
+import java.io.IOException;
+
 /**
  * Screen data for the Landmark Screen
  * @author Dylan Catte
  * @since 1.0.0 Alpha 2
- * @version 1.0
+ * @version 1.1
  * @param imagePath The path to the image
  * @param translationKey The translation key for the description text
  * @param learnMoreUrl The url for the Learn More button. Null if none is present
  * @param id The screen ID for the screen
  */
 public record LandmarkScreenData(String imagePath, String translationKey, String learnMoreUrl, String id) {
+
+    /**
+     * Reads and writes LandmarkScreenData without reflection
+     */
+    public static final class JsonAdapter extends TypeAdapter<LandmarkScreenData> {
+        @Override
+        public void write(JsonWriter out, LandmarkScreenData value) throws IOException {
+            out.beginObject();
+            out.name("imagePath").value(value.imagePath);
+            out.name("translationKey").value(value.translationKey);
+            out.name("learnMoreUrl").value(value.learnMoreUrl);
+            out.name("id").value(value.id);
+            out.endObject();
+        }
+
+        @Override
+        public LandmarkScreenData read(JsonReader in) throws IOException {
+            String imagePath = null;
+            String translationKey = null;
+            String learnMoreUrl = null;
+            String id = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "imagePath" -> imagePath = JsonAdapters.nextString(in);
+                    case "translationKey" -> translationKey = JsonAdapters.nextString(in);
+                    case "learnMoreUrl" -> learnMoreUrl = JsonAdapters.nextString(in);
+                    case "id" -> id = JsonAdapters.nextString(in);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new LandmarkScreenData(imagePath, translationKey, learnMoreUrl, id);
+        }
+    }
 }
@@ -4,6 +4,7 @@ import imgui.ImGui;
 import imgui.ImVec2;
 import io.github.onu_eccs1621_sp2025.westward.utils.registry.Registry;
 import io.github.onu_eccs1621_sp2025.westward.utils.rendering.RenderUtils;
+import io.github.onu_eccs1621_sp2025.westward.utils.rendering.TextureRegion;
 
 /**
  * Contains data for the floating logs in River Crossing game
@@ -40,7 +41,7 @@ public class Log {
             this.position.set(centerX - logSize.x, this.position.y);
         }
         ImGui.setCursorPos(position.x - logSize.x / 2F, position.y - logSize.y / 2F);
-        ImGui.image((long) Registry.getAsset(Registry.AssetType.ASSET, "log"), logSize);
+        RenderUtils.image((TextureRegion) Registry.getAsset(Registry.AssetType.ASSET, "log"), logSize);
     }
 
     /**
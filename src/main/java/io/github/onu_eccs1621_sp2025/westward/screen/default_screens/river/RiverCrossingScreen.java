@@ -8,6 +8,7 @@ import io.github.onu_eccs1621_sp2025.westward.game.Game;
 import io.github.onu_eccs1621_sp2025.westward.screen.Screen;
 import io.github.onu_eccs1621_sp2025.westward.utils.registry.Registry;
 import io.github.onu_eccs1621_sp2025.westward.utils.rendering.RenderUtils;
+import io.github.onu_eccs1621_sp2025.westward.utils.rendering.TextureRegion;
 import io.github.onu_eccs1621_sp2025.westward.utils.text.Format;
 import io.github.onu_eccs1621_sp2025.westward.utils.text.Translations;
 
@@ -19,7 +20,7 @@ import java.util.concurrent.ThreadLocalRandom;
  * The screen that displays the river crossing minigame
  * @author Dylan Catte, Ben Westover, Noah Sumerauer, Micah Lee
  * @since 1.0.0 Alpha 1
- * @version 1.0
+ * @version 1.1
  */
 public class RiverCrossingScreen extends Screen {
     private final List<Log> logs = new ArrayList<>();
@@ -40,7 +41,7 @@ public class RiverCrossingScreen extends Screen {
         ImVec2 backgroundSize = RenderUtils.getItemScaleMaintainAspectRatio(1.25F, 0.98F);
         RenderUtils.centeredHorizontal(backgroundSize.x, RenderUtils.getCursorRelative(0.0F, 0.01F).y);
         ImVec2 centeredCoordinate = ImGui.getCursorPos();
-        ImGui.image((long) Registry.getAsset(Registry.AssetType.ASSET, "river"), backgroundSize);
+        RenderUtils.image((TextureRegion) Registry.getAsset(Registry.AssetType.ASSET, "river"), backgroundSize);
         ImVec2 wagonSize = RenderUtils.getItemScaleMaintainAspectRatio(0.08F, 0.08F);
 
         if (this.startUp) {
@@ -67,7 +68,7 @@ public class RiverCrossingScreen extends Screen {
             }
 
             ImGui.setCursorPos(this.wagonPos.x - wagonSize.x / 2F, this.wagonPos.y - wagonSize.y / 2F);
-            ImGui.image((long) Registry.getAsset(Registry.AssetType.ASSET, "river-wagon"), wagonSize);
+            RenderUtils.image((TextureRegion) Registry.getAsset(Registry.AssetType.ASSET, "river-wagon"), wagonSize);
 
             if (this.wagonPos.y <= RenderUtils.getCursorRelative(0.0F, 0.2F).y) {
                 this.crossed = true;
@@ -158,4 +159,9 @@ public class RiverCrossingScreen extends Screen {
     }
 
 
+
+    @Override
+    public boolean isStatic() {
+        return false;
+    }
 }
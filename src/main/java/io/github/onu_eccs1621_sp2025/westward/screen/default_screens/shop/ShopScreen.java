@@ -13,7 +13,7 @@ import io.github.onu_eccs1621_sp2025.westward.data.Audio;
 import io.github.onu_eccs1621_sp2025.westward.data.ShopListing;
 import io.github.onu_eccs1621_sp2025.westward.game.Game;
 import io.github.onu_eccs1621_sp2025.westward.screen.Screen;
-import io.github.onu_eccs1621_sp2025.westward.utils.rendering.RenderUtils;
+import io.github.onu_eccs1621_sp2025.westward.utils.rendering.Layout;
 import io.github.onu_eccs1621_sp2025.westward.utils.sound.SoundEngine;
 import io.github.onu_eccs1621_sp2025.westward.utils.text.Format;
 import io.github.onu_eccs1621_sp2025.westward.utils.text.Translations;
@@ -27,12 +27,64 @@ import java.util.Map;
  * The screen where players buy supplies.
  * @author Dylan Catte, Ben Westover, Noah Sumerauer, Micah Lee
  * @since 1.0.0 Alpha 1
- * @version 1.1
+ * @version 1.2
  */
 public class ShopScreen extends Screen {
     @Expose
     private final List<ShopListing> listings;
     private final HashMap<ShopListing, ImInt> inCart = new HashMap<>();
+    private final ShopLayout layout = new ShopLayout();
+
+    /**
+     * The positions and sizes of the shop widgets
+     */
+    private static final class ShopLayout extends Layout {
+        private final ImVec2 cartPos = new ImVec2();
+        private final ImVec2 cartSize = new ImVec2();
+        private float titleY;
+        private final ImVec2 innerShoppingListPos = new ImVec2();
+        private final ImVec2 cartInnerSize = new ImVec2();
+        private float cartLabelX;
+        private float cartAmountX;
+        private float totalY;
+        private float balanceY;
+        private final ImVec2 purchaseButtonPos = new ImVec2();
+        private final ImVec2 purchaseButtonSize = new ImVec2();
+        private final ImVec2 shopPos = new ImVec2();
+        private final ImVec2 shopSize = new ImVec2();
+        private final ImVec2 innerShopPos = new ImVec2();
+        private final ImVec2 shopInnerSize = new ImVec2();
+
+        @Override
+        protected void compute(float width, float height) {
+            relative(this.cartPos, 0.02F, 0.02F);
+            relative(this.cartSize, 0.4F, 0.97F);
+            this.titleY = height * 0.02F;
+            this.innerShoppingListPos.set(this.cartSize.x * 0.02F, height * 0.1F);
+            this.cartInnerSize.set(this.cartSize.x, this.cartSize.y * 0.7F);
+            this.cartLabelX = this.cartSize.x * 0.02F;
+            this.cartAmountX = this.cartSize.x * 0.5F;
+            this.totalY = height * 0.8F;
+            this.balanceY = height * 0.84F;
+            this.purchaseButtonSize.set(this.cartSize.x * 0.5F, this.cartSize.y * 0.04F);
+            this.purchaseButtonPos.set(this.cartSize.x * 0.5F - this.purchaseButtonSize.x / 2.0F, height * 0.9F);
+            relative(this.shopPos, 0.45F, 0.02F);
+            relative(this.shopSize, 0.53F, 0.97F);
+            this.innerShopPos.set(this.shopSize.x * 0.02F, height * 0.1F);
+            this.shopInnerSize.set(this.shopSize.x, this.shopSize.y * 0.88F);
+        }
+
+        /**
+         * Gets the y coordinate of the middle of a row in a list
+         * @param index The index of the row
+         * @return The y coordinate
+         */
+        private float rowCenterY(int index) {
+            float rowStart = getHeight() * (0.1F + (0.05F * index));
+            float rowEnd = getHeight() * (0.05F + (0.05F * index));
+            return (rowStart - rowEnd) / 2.0F + rowEnd;
+        }
+    }
 
     /**
      * Creates the item shop.
@@ -46,21 +98,21 @@ public class ShopScreen extends Screen {
     @Override
     public void render() {
         // Shopping List
+        ShopLayout layout = this.layout;
+        layout.update();
         Format.setFontSize(Format.TITLE_FONT_SIZE);
         ImGui.pushStyleColor(ImGuiCol.ChildBg, ImColor.rgb(50, 50, 50));
-        ImVec2 cartSize = RenderUtils.getCursorRelative(0.4F, 0.97F);
-        ImVec2 cartPos = RenderUtils.getCursorRelative(0.02F, 0.02F);
-        ImGui.setCursorPos(cartPos);
+        ImVec2 cartSize = layout.cartSize;
+        ImGui.setCursorPos(layout.cartPos);
         ImGui.pushStyleVar(ImGuiStyleVar.ChildRounding, 8.0F);
         ImGui.beginChild("cart", cartSize, false, ImGuiWindowFlags.NoResize | ImGuiWindowFlags.NoTitleBar | ImGuiWindowFlags.NoCollapse | ImGuiWindowFlags.NoMove);
-        ImGui.setCursorPos(cartSize.x / 2.0F - ImGui.calcTextSizeX(Translations.getTranslatedText("shop.cart")) / 2.0F, RenderUtils.getCursorRelative(0, 0.02F).y);
+        ImGui.setCursorPos(cartSize.x / 2.0F - ImGui.calcTextSizeX(Translations.getTranslatedText("shop.cart")) / 2.0F, layout.titleY);
         ImGui.text(Translations.getTranslatedText("shop.cart"));
         Format.clearFontSize();
 
         Format.setFontSize(Format.MENU_FONT_SIZE);
-        ImVec2 innerShoppingListPos = new ImVec2(cartSize.x * 0.02F, RenderUtils.getCursorRelative(0.0F, 0.1F).y);
-        ImGui.setCursorPos(innerShoppingListPos);
-        ImVec2 cartInnerSize = new ImVec2(cartSize.x, cartSize.y * 0.7F);
+        ImGui.setCursorPos(layout.innerShoppingListPos);
+        ImVec2 cartInnerSize = layout.cartInnerSize;
         ImGui.beginChild("cartInner", cartInnerSize, false, ImGuiWindowFlags.NoResize | ImGuiWindowFlags.NoTitleBar | ImGuiWindowFlags.NoCollapse | ImGuiWindowFlags.NoMove);
         int i = 0;
         float totalPrice = 0.0F;
@@ -71,27 +123,22 @@ public class ShopScreen extends Screen {
         }
         ImGui.endChild();
 
-        ImVec2 totalPos = new ImVec2(cartSize.x * 0.02F, RenderUtils.getCursorRelative(0.0F, 0.8F).y);
-        ImGui.setCursorPos(totalPos);
+        ImGui.setCursorPos(layout.cartLabelX, layout.totalY);
         ImGui.text(Translations.getTranslatedText("shop.total"));
-        ImVec2 totalPosAmount = new ImVec2(cartSize.x * 0.5F, RenderUtils.getCursorRelative(0.0F, 0.8F).y);
-        ImGui.setCursorPos(totalPosAmount);
+        ImGui.setCursorPos(layout.cartAmountX, layout.totalY);
         ImGui.text("$" + String.format("%.2f", totalPrice));
-        ImVec2 remainingMoneyPos = new ImVec2(cartSize.x * 0.02F, RenderUtils.getCursorRelative(0.0F, 0.84F).y);
-        ImGui.setCursorPos(remainingMoneyPos);
+        ImGui.setCursorPos(layout.cartLabelX, layout.balanceY);
         ImGui.text(Translations.getTranslatedText("shop.balance"));
-        ImVec2 remainingMoneyAmountPos = new ImVec2(cartSize.x * 0.5F, RenderUtils.getCursorRelative(0.0F, 0.84F).y);
-        ImGui.setCursorPos(remainingMoneyAmountPos);
+        ImGui.setCursorPos(layout.cartAmountX, layout.balanceY);
         if (Game.getInstance().getMoney() - totalPrice < 0) {
             ImGui.textColored(ImColor.rgb(255, 0, 0), "$" + String.format("%.2f", Game.getInstance().getMoney() - totalPrice));
         } else {
             ImGui.text("$" + String.format("%.2f", Game.getInstance().getMoney() - totalPrice));
         }
 
-        ImVec2 purchaseButtonSize = new ImVec2(cartSize.x * 0.5F, cartSize.y * 0.04F);
-        ImGui.setCursorPos((float) (cartSize.x * 0.5 - (purchaseButtonSize.x / 2.0F)), RenderUtils.getCursorRelative(0.0F, 0.9F).y);
+        ImGui.setCursorPos(layout.purchaseButtonPos);
         String translationKey = totalPrice == 0.0F ? "shop.exit" : "shop.buy";
-        if (ImGui.button(Translations.getTranslatedText(translationKey), purchaseButtonSize)) {
+        if (ImGui.button(Translations.getTranslatedText(translationKey), layout.purchaseButtonSize)) {
             this.purchase(totalPrice);
         }
         ImGui.endChild();
@@ -99,19 +146,17 @@ public class ShopScreen extends Screen {
 
         // Shop
         Format.setFontSize(Format.TITLE_FONT_SIZE);
-        ImVec2 shopSize = RenderUtils.getCursorRelative(0.53F, 0.97F);
-        ImVec2 shopPos = RenderUtils.getCursorRelative(0.45F, 0.02F);
-        ImGui.setCursorPos(shopPos);
+        ImVec2 shopSize = layout.shopSize;
+        ImGui.setCursorPos(layout.shopPos);
         ImGui.beginChild("shop", shopSize, false, ImGuiWindowFlags.NoResize | ImGuiWindowFlags.NoTitleBar | ImGuiWindowFlags.NoCollapse | ImGuiWindowFlags.NoMove);
         float width = shopSize.x;
-        ImGui.setCursorPos(width / 2.0F - ImGui.calcTextSizeX(Translations.getTranslatedText("shop.offers")) / 2.0F, RenderUtils.getCursorRelative(0, 0.02F).y);
+        ImGui.setCursorPos(width / 2.0F - ImGui.calcTextSizeX(Translations.getTranslatedText("shop.offers")) / 2.0F, layout.titleY);
         ImGui.text(Translations.getTranslatedText("shop.offers"));
         Format.clearFontSize();
 
         Format.setFontSize(Format.DESCRIPTION_FONT_SIZE);
-        ImVec2 innerShopPos = new ImVec2(shopSize.x * 0.02F, RenderUtils.getCursorRelative(0.0F, 0.1F).y);
-        ImGui.setCursorPos(innerShopPos);
-        ImVec2 shopInnerSize = new ImVec2(shopSize.x, shopSize.y * 0.88F);
+        ImGui.setCursorPos(layout.innerShopPos);
+        ImVec2 shopInnerSize = layout.shopInnerSize;
         ImGui.beginChild("shopInner", shopInnerSize, false, ImGuiWindowFlags.NoResize | ImGuiWindowFlags.NoTitleBar | ImGuiWindowFlags.NoCollapse | ImGuiWindowFlags.NoMove);
         for (int j = 0; j < this.listings.size(); j++) {
             renderItemForSale(this.listings.get(j), j, shopInnerSize.x);
@@ -126,15 +171,15 @@ public class ShopScreen extends Screen {
 
     private float renderPurchasedItemListing(Iterator<ShopListing> iterator, int index, float width) {
         ShopListing listing = iterator.next();
-        ImVec2 listPosStart = new ImVec2(0.0F, RenderUtils.getCursorRelative(0, 0.1F + (0.05F * index)).y);
-        ImVec2 listPosEnd = new ImVec2(width, RenderUtils.getCursorRelative(0, 0.05F + (0.05F * index)).y);
-
-        float centerY = (listPosStart.y - listPosEnd.y) / 2.0F + listPosEnd.y;
+        float centerY = this.layout.rowCenterY(index);
         ImGui.setCursorPos(width * 0.02F, centerY);
         ImGui.text(Translations.getTranslatedText(listing.itemId()));
         ImGui.setCursorPos(width * 0.45F, centerY);
         ImGui.setNextItemWidth(width * 0.3F);
-        if (ImGui.inputInt("##Quantity" + index, this.inCart.get(listing), 1, 5)) {
+        ImGui.pushID(index);
+        boolean changed = ImGui.inputInt("##Quantity", this.inCart.get(listing), 1, 5);
+        ImGui.popID();
+        if (changed) {
             if (this.inCart.get(listing).get() <= 0) {
                 iterator.remove();
                 return 0.0F;
@@ -147,10 +192,7 @@ public class ShopScreen extends Screen {
     }
 
     private void renderItemForSale(ShopListing listing, int index, float width) {
-        ImVec2 listPosStart = new ImVec2(0.0F, RenderUtils.getCursorRelative(0, 0.1F + (0.05F * index)).y);
-        ImVec2 listPosEnd = new ImVec2(width, RenderUtils.getCursorRelative(0, 0.05F + (0.05F * index)).y);
-
-        float centerY = (listPosStart.y - listPosEnd.y) / 2.0F + listPosEnd.y;
+        float centerY = this.layout.rowCenterY(index);
         ImGui.setCursorPos(width * 0.05F, centerY);
         ImGui.text(Translations.getTranslatedText(listing.itemId()));
         ImGui.setCursorPos(width * 0.5F, centerY);
@@ -159,10 +201,12 @@ public class ShopScreen extends Screen {
         ImGui.text("$" + String.format("%.2f", listing.price()));
         float textHeight = ImGui.calcTextSizeY("0");
         ImGui.setCursorPos(width * 0.85F, centerY);
-        ImVec2 addButtonSize = new ImVec2(width * 0.1F, textHeight);
         Format.clearFontSize();
         Format.setFontSize(Format.MENU_FONT_SIZE);
-        if (ImGui.button(Translations.getTranslatedText("shop.add") + "##" + index, addButtonSize)) {
+        ImGui.pushID(index);
+        boolean added = ImGui.button(Translations.getTranslatedText("shop.add"), width * 0.1F, textHeight);
+        ImGui.popID();
+        if (added) {
             SoundEngine.loadSFX(Audio.CLICK_1);
             if (this.inCart.containsKey(listing)) {
                 this.inCart.get(listing).set(this.inCart.get(listing).get() + 1);
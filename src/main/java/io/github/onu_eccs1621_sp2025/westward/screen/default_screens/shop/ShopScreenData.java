@@ -1,16 +1,53 @@
 package io.github.onu_eccs1621_sp2025.westward.screen.default_screens.shop;
 
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import io.github.onu_eccs1621_sp2025.westward.data.ShopListing;
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.JsonAdapters;
 
+import java.io.IOException;
 import java.util.List;
 
 /**
  * The data for the ShopScreen class
  * @author Dylan Catte, Ben Westover, Noah Sumerauer, Micah Lee
  * @since 1.0.0 Alpha 1
- * @version 1.1
+ * @version 1.2
  * @param items Items for sale
  * @param id The screen id for the shop screen
  */
 public record ShopScreenData(List<ShopListing> items, String id) {
+
+    /**
+     * Reads and writes ShopScreenData without reflection
+     */
+    public static final class JsonAdapter extends TypeAdapter<ShopScreenData> {
+        private static final TypeAdapter<ShopListing> LISTING = new ShopListing.JsonAdapter().nullSafe();
+
+        @Override
+        public void write(JsonWriter out, ShopScreenData value) throws IOException {
+            out.beginObject();
+            out.name("items");
+            JsonAdapters.writeList(out, value.items, LISTING);
+            out.name("id").value(value.id);
+            out.endObject();
+        }
+
+        @Override
+        public ShopScreenData read(JsonReader in) throws IOException {
+            List<ShopListing> items = null;
+            String id = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "items" -> items = JsonAdapters.readList(in, LISTING);
+                    case "id" -> id = JsonAdapters.nextString(in);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new ShopScreenData(items, id);
+        }
+    }
 }
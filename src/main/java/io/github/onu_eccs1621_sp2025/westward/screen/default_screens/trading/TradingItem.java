@@ -1,5 +1,12 @@
 package io.github.onu_eccs1621_sp2025.westward.screen.default_screens.trading;
 
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.JsonAdapters;
+
+import java.io.IOException;
+
 /**
  * Items available to trade
  * @param id Corresponds to the ID of the ItemStack this item represents
@@ -7,4 +14,36 @@ package io.github.onu_eccs1621_sp2025.westward.screen.default_screens.trading;
  * @param barterValue The value of this item in the system of bartering
  */
 public record TradingItem(String id, float chance, float barterValue) {
+
+    /**
+     * Reads and writes TradingItems without reflection
+     */
+    public static final class JsonAdapter extends TypeAdapter<TradingItem> {
+        @Override
+        public void write(JsonWriter out, TradingItem value) throws IOException {
+            out.beginObject();
+            out.name("id").value(value.id);
+            out.name("chance").value(value.chance);
+            out.name("barterValue").value(value.barterValue);
+            out.endObject();
+        }
+
+        @Override
+        public TradingItem read(JsonReader in) throws IOException {
+            String id = null;
+            float chance = 0;
+            float barterValue = 0;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id" -> id = JsonAdapters.nextString(in);
+                    case "chance" -> chance = (float) in.nextDouble();
+                    case "barterValue" -> barterValue = (float) in.nextDouble();
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new TradingItem(id, chance, barterValue);
+        }
+    }
 }
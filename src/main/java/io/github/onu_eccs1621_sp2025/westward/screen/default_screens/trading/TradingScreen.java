@@ -13,7 +13,9 @@ import io.github.onu_eccs1621_sp2025.westward.screen.Renderer;
 import io.github.onu_eccs1621_sp2025.westward.screen.Screen;
 import io.github.onu_eccs1621_sp2025.westward.screen.default_screens.accident.ConsequenceScreen;
 import io.github.onu_eccs1621_sp2025.westward.utils.registry.Registry;
+import io.github.onu_eccs1621_sp2025.westward.utils.rendering.Layout;
 import io.github.onu_eccs1621_sp2025.westward.utils.rendering.RenderUtils;
+import io.github.onu_eccs1621_sp2025.westward.utils.rendering.TextureRegion;
 import io.github.onu_eccs1621_sp2025.westward.utils.sound.SoundEngine;
 import io.github.onu_eccs1621_sp2025.westward.utils.text.Format;
 import io.github.onu_eccs1621_sp2025.westward.utils.text.Translations;
@@ -26,7 +28,7 @@ import java.util.concurrent.ThreadLocalRandom;
  * The screen where players trade with Native Americans and other settlers
  * @author Dylan Catte, Ben Westover, Noah Sumerauer, Micah Lee
  * @since 1.0.0 Alpha 1
- * @version 1.0
+ * @version 1.1
  */
 public class TradingScreen extends Screen {
     private final List<TradingItem> inventory;
@@ -37,9 +39,46 @@ public class TradingScreen extends Screen {
     private short tradeAttemptsLeft;
     private TradingItem traderItem;
     private int inventorySize;
-    ArrayList<String> playerNames;
+    String[] playerNames;
     ImInt memberIndex = new ImInt(0);
     ImInt[] selectedItemAmounts;
+    private final TradingLayout layout = new TradingLayout();
+
+    /**
+     * The positions and sizes of the trading widgets
+     */
+    private static final class TradingLayout extends Layout {
+        private float imageY;
+        private final ImVec2 imageSize = new ImVec2();
+        private float separatorY;
+        private final ImVec2 buttonSize = new ImVec2();
+        private final ImVec2 tradeButtonPos = new ImVec2();
+        private final ImVec2 leaveButtonPos = new ImVec2();
+        private float playerComboWidth;
+        private float playerComboOffsetY;
+        private final ImVec2 tradeTextPos = new ImVec2();
+        private final ImVec2 inventoryPos = new ImVec2();
+        private final ImVec2 inventorySize = new ImVec2();
+        private float itemX;
+        private float itemWidth;
+
+        @Override
+        protected void compute(float width, float height) {
+            this.imageY = height * 0.08F;
+            keepAspect(this.imageSize, 1.1F, 0.7F);
+            this.separatorY = height * 0.8F;
+            relative(this.buttonSize, 0.2F, 0.05F);
+            relative(this.tradeButtonPos, 0.25F, 0.9F);
+            relative(this.leaveButtonPos, 0.55F, 0.9F);
+            this.playerComboWidth = width * 0.4F;
+            this.playerComboOffsetY = height * 0.02F;
+            relative(this.tradeTextPos, 0.01F, 0.15F);
+            relative(this.inventoryPos, 0.1F, 0.25F);
+            relative(this.inventorySize, 0.8F, 0.6F);
+            this.itemX = width * 0.02F;
+            this.itemWidth = width * 0.2F;
+        }
+    }
 
     /**
      * Creates the trading screen.
@@ -54,24 +93,22 @@ public class TradingScreen extends Screen {
 
     @Override
     public void render() {
+        TradingLayout layout = this.layout;
+        layout.update();
         Format.setFontSize(Format.DESCRIPTION_FONT_SIZE);
         if (firstStage) {
                 RenderUtils.textWrapScaling();
                 ImGui.textWrapped(Translations.getTranslatedText(this.translationKey));
                 ImGui.popTextWrapPos();
 
-                ImVec2 imagePos = RenderUtils.getCursorRelative(0, 0.08F);
-                ImVec2 imageScale = RenderUtils.getItemScaleMaintainAspectRatio(1.1F, 0.7F);
-                RenderUtils.centeredHorizontal(imageScale.x, imagePos.y);
-                ImGui.image((Long) Registry.getAsset(Registry.AssetType.ASSET, this.image), imageScale);
-                ImVec2 separatorPos = RenderUtils.getCursorRelative(0, 0.8F);
-                ImGui.setCursorPosY(separatorPos.y);
+                ImVec2 imageScale = layout.imageSize;
+                RenderUtils.centeredHorizontal(imageScale.x, layout.imageY);
+                RenderUtils.image((TextureRegion) Registry.getAsset(Registry.AssetType.ASSET, this.image), imageScale);
+                ImGui.setCursorPosY(layout.separatorY);
                 ImGui.separator();
 
-                ImVec2 buttonSize = RenderUtils.getCursorRelative(0.2F, 0.05F);
-                ImVec2 tradeButtonPos = RenderUtils.getCursorRelative(0.25F, 0.9F);
-                ImVec2 leaveButtonPos = RenderUtils.getCursorRelative(0.55F, 0.9F);
-                ImGui.setCursorPos(tradeButtonPos);
+                ImVec2 buttonSize = layout.buttonSize;
+                ImGui.setCursorPos(layout.tradeButtonPos);
                 if (ImGui.button(Translations.getTranslatedText("game.button.trade"), buttonSize.x, buttonSize.y)) {
                     SoundEngine.loadSFX(Audio.CLICK_1);
                     // Select item to trade by choosing a random float from 0 to 1
@@ -85,9 +122,10 @@ public class TradingScreen extends Screen {
                     }
 
                     // Fill player name array
-                    playerNames = new ArrayList<>();
-                    for (Member player : Game.getInstance().getMembers()) {
-                        playerNames.add(player.getName());
+                    List<Member> members = Game.getInstance().getMembers();
+                    playerNames = new String[members.size()];
+                    for (int i = 0; i < playerNames.length; i++) {
+                        playerNames[i] = members.get(i).getName();
                     }
 
                     // Initialize inventory item list
@@ -102,37 +140,36 @@ public class TradingScreen extends Screen {
                     // Go to the next screen
                     firstStage = false;
                 }
-                ImGui.setCursorPos(leaveButtonPos);
+                ImGui.setCursorPos(layout.leaveButtonPos);
                 if (ImGui.button(Translations.getTranslatedText("tradingScreen.leave"), buttonSize.x, buttonSize.y)) {
                     SoundEngine.loadSFX(Audio.CLICK_2);
                     this.close();
                 }
         } else {
                 RenderUtils.textWrapScaling();
-                ImVec2 playerChoiceTextWidth = ImGui.calcTextSize(Translations.getTranslatedText("tradingScreen.playerChoice"));
-                RenderUtils.centeredHorizontal(playerChoiceTextWidth.x, 0F);
-                ImGui.textWrapped(Translations.getTranslatedText("tradingScreen.playerChoice"));
+                String playerChoice = Translations.getTranslatedText("tradingScreen.playerChoice");
+                RenderUtils.centeredHorizontal(ImGui.calcTextSizeX(playerChoice), 0F);
+                ImGui.textWrapped(playerChoice);
                 ImGui.popTextWrapPos();
 
-                ImVec2 combo = RenderUtils.getCursorRelative(0.4F, 0.02F);
-                RenderUtils.centeredHorizontal(combo.x, playerChoiceTextWidth.y + combo.y);
-                ImGui.setNextItemWidth(combo.x);
-                if (ImGui.combo("##player", memberIndex, playerNames.toArray(new String[0]))) {
+                RenderUtils.centeredHorizontal(layout.playerComboWidth, ImGui.calcTextSizeY(playerChoice) + layout.playerComboOffsetY);
+                ImGui.setNextItemWidth(layout.playerComboWidth);
+                if (ImGui.combo("##player", memberIndex, playerNames)) {
                     SoundEngine.loadSFX(Audio.CLICK_2);
                 }
 
-                ImGui.setCursorPos(RenderUtils.getCursorRelative(0.01F, 0.15F));
+                ImGui.setCursorPos(layout.tradeTextPos);
                 RenderUtils.textWrapScaling();
                 ImGui.textWrapped(Translations.getTranslatedText("tradingScreen.trade", Translations.getTranslatedText(traderItem.id())));
                 ImGui.popTextWrapPos();
 
-                ImGui.setCursorPos(RenderUtils.getCursorRelative(0.1F, 0.25F));
-                ImGui.beginListBox("##inventory", RenderUtils.getCursorRelative(0.8F, 0.6F));
+                ImGui.setCursorPos(layout.inventoryPos);
+                ImGui.beginListBox("##inventory", layout.inventorySize);
                 for (int i = 0; i < inventorySize; i++) {
                     ItemStack item = Game.getInstance().getInventory().getItems().get(i);
 
-                    ImGui.setCursorPos(RenderUtils.getCursorRelative(0.02F, 0.02F + i * 0.06F));
-                    ImGui.setNextItemWidth(RenderUtils.getCursorRelative(0.2F, 0F).x);
+                    ImGui.setCursorPos(layout.itemX, layout.getHeight() * (0.02F + i * 0.06F));
+                    ImGui.setNextItemWidth(layout.itemWidth);
                     if (ImGui.inputInt(" " + item.getName(), selectedItemAmounts[i], 1, item.getCount())) {
                         if (selectedItemAmounts[i].get() > item.getCount()) {
                             selectedItemAmounts[i].set(item.getCount());
@@ -143,10 +180,8 @@ public class TradingScreen extends Screen {
                 }
                 ImGui.endListBox();
 
-                ImVec2 buttonSize = RenderUtils.getCursorRelative(0.2F, 0.05F);
-                ImVec2 tradeButtonPos = RenderUtils.getCursorRelative(0.25F, 0.9F);
-                ImVec2 leaveButtonPos = RenderUtils.getCursorRelative(0.55F, 0.9F);
-                ImGui.setCursorPos(tradeButtonPos);
+                ImVec2 buttonSize = layout.buttonSize;
+                ImGui.setCursorPos(layout.tradeButtonPos);
                 if (ImGui.button(Translations.getTranslatedText("game.button.trade"), buttonSize.x, buttonSize.y)) {
                     SoundEngine.loadSFX(Audio.CLICK_1);
                     List<ItemStack> tradeOffer = new ArrayList<>();
@@ -214,7 +249,7 @@ public class TradingScreen extends Screen {
                         }
                     }
                 }
-                ImGui.setCursorPos(leaveButtonPos);
+                ImGui.setCursorPos(layout.leaveButtonPos);
                 if (ImGui.button(Translations.getTranslatedText("tradingScreen.leave"), buttonSize.x, buttonSize.y)) {
                     SoundEngine.loadSFX(Audio.CLICK_2);
                     firstStage = true;
@@ -1,16 +1,60 @@
 package io.github.onu_eccs1621_sp2025.westward.screen.default_screens.trading;
 
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.JsonAdapters;
+
+import java.io.IOException;
 import java.util.List;
 
 /**
  * The data for the TradingScreen class
  * @author Dylan Catte, Ben Westover, Noah Sumerauer, Micah Lee
  * @since 1.0.0 Alpha 1
- * @version 1.0
+ * @version 1.1
  * @param id The screen id for the trading screen
  * @param imagePath The path to the image
  * @param translationKey The translation key for the screen's text
  * @param possibleItems List of items that could be offered for trade
  */
 public record TradingScreenData(String id, String imagePath, String translationKey, List<TradingItem> possibleItems) {
+
+    /**
+     * Reads and writes TradingScreenData without reflection
+     */
+    public static final class JsonAdapter extends TypeAdapter<TradingScreenData> {
+        private static final TypeAdapter<TradingItem> ITEM = new TradingItem.JsonAdapter().nullSafe();
+
+        @Override
+        public void write(JsonWriter out, TradingScreenData value) throws IOException {
+            out.beginObject();
+            out.name("id").value(value.id);
+            out.name("imagePath").value(value.imagePath);
+            out.name("translationKey").value(value.translationKey);
+            out.name("possibleItems");
+            JsonAdapters.writeList(out, value.possibleItems, ITEM);
+            out.endObject();
+        }
+
+        @Override
+        public TradingScreenData read(JsonReader in) throws IOException {
+            String id = null;
+            String imagePath = null;
+            String translationKey = null;
+            List<TradingItem> possibleItems = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id" -> id = JsonAdapters.nextString(in);
+                    case "imagePath" -> imagePath = JsonAdapters.nextString(in);
+                    case "translationKey" -> translationKey = JsonAdapters.nextString(in);
+                    case "possibleItems" -> possibleItems = JsonAdapters.readList(in, ITEM);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new TradingScreenData(id, imagePath, translationKey, possibleItems);
+        }
+    }
 }
@@ -0,0 +1,104 @@
+package io.github.onu_eccs1621_sp2025.westward.utils;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Optional GZIP compression for files written by the game.<p>
+ * Compressed data is recognized by the GZIP header, so files are read the same way
+ * whether or not they were compressed and compression can be turned off at any time.
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.0
+ */
+public final class Compression {
+    /**
+     * The first two bytes of GZIP data
+     */
+    private static final int GZIP_MAGIC = 0x1F8B;
+    /**
+     * Saves are small, so the fastest level compresses almost as well as the best
+     */
+    private static final int LEVEL = Deflater.BEST_SPEED;
+
+    /**
+     * Checks if files should be compressed when they are written
+     * @return True if compression is enabled in the config
+     */
+    public static boolean isEnabled() {
+        return Config.getConfig().isCompressSaves();
+    }
+
+    /**
+     * Writes data to a stream, compressing it if compression is enabled
+     * @param out The stream to write to. It is not closed
+     * @param writer Writes the uncompressed data
+     * @throws IOException If the stream cannot be written
+     */
+    public static void write(final OutputStream out, final FileUtils.StreamWriter writer) throws IOException {
+        if (!isEnabled()) {
+            writer.write(out);
+            return;
+        }
+        final GZIPOutputStream gzip = new GZIPOutputStream(out, 8192) {
+            {
+                this.def.setLevel(LEVEL);
+            }
+        };
+        writer.write(gzip);
+        // Finish instead of closing so the caller's stream stays open
+        gzip.finish();
+    }
+
+    /**
+     * Compresses data if compression is enabled and it makes the data smaller
+     * @param data The uncompressed data
+     * @return The data to store
+     */
+    public static byte[] compress(final byte[] data) {
+        if (!isEnabled()) {
+            return data;
+        }
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(data.length);
+        try {
+            write(bytes, out -> out.write(data));
+        } catch (IOException e) {
+            // Writing to memory cannot fail
+            throw new RuntimeException(e);
+        }
+        return bytes.size() < data.length ? bytes.toByteArray() : data;
+    }
+
+    /**
+     * Wraps a stream so that compressed data is decompressed while it is read
+     * @param in The stream to read from
+     * @return A stream of the uncompressed data
+     * @throws IOException If the stream cannot be read
+     */
+    public static InputStream decompress(final InputStream in) throws IOException {
+        final InputStream buffered = in.markSupported() ? in : new BufferedInputStream(in);
+        buffered.mark(2);
+        final int first = buffered.read();
+        final int second = buffered.read();
+        buffered.reset();
+        if (((first << 8) | second) == GZIP_MAGIC) {
+            return new GZIPInputStream(buffered, 8192);
+        }
+        return buffered;
+    }
+
+    /**
+     * Checks if data starts with a GZIP header
+     * @param data The data to check
+     * @return True if the data is compressed
+     */
+    public static boolean isCompressed(final byte[] data) {
+        return data.length >= 2 && (((data[0] & 0xFF) << 8) | (data[1] & 0xFF)) == GZIP_MAGIC;
+    }
+}
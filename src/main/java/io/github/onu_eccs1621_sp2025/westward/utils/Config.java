@@ -1,12 +1,23 @@
 package io.github.onu_eccs1621_sp2025.westward.utils;
 
-import com.google.gson.reflect.TypeToken;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import io.github.onu_eccs1621_sp2025.westward.TrailApplication;
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.JsonAdapters;
 
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -15,7 +26,7 @@ import java.util.Map;
  * These options typically alter the entire game.
  * @author Dylan Catte, Ben Westover, Noah Sumerauer, Micah Lee
  * @since 1.0.0 Alpha 1
- * @version 1.1
+ * @version 1.10
  */
 public class Config {
     private String configVer;
@@ -28,15 +39,31 @@ public class Config {
     private int musicVolume;
     private int sfxVolume;
     private int fpsLimit;
+    private boolean vsync;
+    private boolean idleRendering;
+    private boolean performanceOverlay;
     private Map<String, String> languagesEnabled;
     private String language;
     private String[] defaultFemaleNames;
     private String[] defaultMaleNames;
+    private boolean devMode;
+    private DebugLogger.Level logLevel;
+    private String[] contentPacks;
+    private int autosaveSnapshotDays;
+    private boolean compressSaves;
+    private int textureUploadMillis;
+    private boolean downscaleImages;
+    private int textureMemoryMb;
+    private int audioMemoryMb;
 
     /**
      * The current config version
      */
-    private static final String CURRENT_CONFIG_VER = "0.1";
+    private static final String CURRENT_CONFIG_VER = "0.2";
+    /**
+     * The default config inside the game, which fills in options missing from the config file
+     */
+    private static final String DEFAULT_CONFIG = "/defaultData/config.json";
     /**
      * The global instance of the config
      */
@@ -51,8 +78,34 @@ public class Config {
     }
 
     private static Config loadConfig() {
+        final JsonObject json;
         try (BufferedReader reader = Files.newBufferedReader(TrailApplication.getDataPaths().configPath())) {
-            return TrailApplication.getGsonInstance().fromJson(reader, Config.class);
+            json = JsonParser.parseReader(reader).getAsJsonObject();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        // Configs from older versions are missing newer options, which would otherwise be read as 0 or false
+        for (Map.Entry<String, JsonElement> entry : readDefaults().entrySet()) {
+            if (!json.has(entry.getKey())) {
+                json.add(entry.getKey(), entry.getValue());
+            }
+        }
+        final Config config = TrailApplication.getGsonInstance().fromJson(json, Config.class);
+        config.updateConfig();
+        return config;
+    }
+
+    /**
+     * Reads the default config inside the game
+     * @return The default options, or no options if the default config is missing
+     */
+    private static JsonObject readDefaults() {
+        try (InputStream in = Config.class.getResourceAsStream(DEFAULT_CONFIG)) {
+            if (in == null) {
+                DebugLogger.warn("Default config [{}] not found", DEFAULT_CONFIG);
+                return new JsonObject();
+            }
+            return JsonParser.parseReader(new InputStreamReader(in, StandardCharsets.UTF_8)).getAsJsonObject();
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -63,17 +116,14 @@ public class Config {
      */
     public void saveConfig() {
         try (BufferedWriter writer = Files.newBufferedWriter(TrailApplication.getDataPaths().configPath())) {
-            TrailApplication.getGsonInstance().toJson(
-                    this,
-                    new TypeToken<Config>(){}.getType(),
-                    writer);
+            TrailApplication.getGsonInstance().toJson(this, Config.class, writer);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
     /**
-     * Overwrites removed values and writes new values to the config
+     * Writes the config with the options added since its version, if it is from an older version
      */
     public void updateConfig() {
         if (!CURRENT_CONFIG_VER.equals(this.configVer)) {
@@ -184,6 +234,30 @@ public class Config {
         this.fpsLimit = fpsLimit;
     }
 
+    /**
+     * Gets if frames are synced to the display when the FPS limit allows it
+     * @return If vsync is enabled
+     */
+    public boolean isVsync() {
+        return vsync;
+    }
+
+    /**
+     * Gets if frames are only drawn on input or when something changes, while nothing on screen is animating
+     * @return If idle rendering is enabled
+     */
+    public boolean isIdleRendering() {
+        return idleRendering;
+    }
+
+    /**
+     * Gets if the performance overlay is shown when the game starts. It can always be toggled with F3
+     * @return If the performance overlay is shown on start
+     */
+    public boolean isPerformanceOverlay() {
+        return performanceOverlay;
+    }
+
     /**
      * Gets the current language selected
      * @return Current language
@@ -223,4 +297,183 @@ public class Config {
     public Map<String, String> getLanguagesEnabled() {
         return languagesEnabled;
     }
+
+    /**
+     * Gets if development mode is enabled.<p>
+     * Development mode reloads game data files when they are changed on disk
+     * @return If development mode is enabled
+     */
+    public boolean isDevMode() {
+        return devMode;
+    }
+
+    /**
+     * Gets the lowest level of log messages that are printed
+     * @return The log level, which is info if it is missing or unknown
+     */
+    public DebugLogger.Level getLogLevel() {
+        return logLevel == null ? DebugLogger.Level.INFO : logLevel;
+    }
+
+    /**
+     * Gets the enabled content packs in the order they are applied.<p>
+     * Later packs override assets with the same identifier from earlier packs
+     * @return Names of the enabled content packs
+     */
+    public String[] getContentPacks() {
+        return contentPacks == null ? new String[0] : contentPacks;
+    }
+
+    /**
+     * Gets how many in-game days are autosaved to the journal between full saves.<p>
+     * Autosave is disabled when this is 0
+     * @return Days between full autosaves
+     */
+    public int getAutosaveSnapshotDays() {
+        return autosaveSnapshotDays;
+    }
+
+    /**
+     * If saves and journals are compressed when they are written.<p>
+     * Compressed and uncompressed saves can always be read
+     * @return True if saves are compressed
+     */
+    public boolean isCompressSaves() {
+        return compressSaves;
+    }
+
+    /**
+     * Gets how many milliseconds each frame may spend uploading images to the GPU while they load.<p>
+     * Part of an image is still uploaded every frame when this is 0
+     * @return Milliseconds per frame for image uploads
+     */
+    public int getTextureUploadMillis() {
+        return textureUploadMillis;
+    }
+
+    /**
+     * If images larger than the display are downscaled to fit it when they are loaded
+     * @return True if large images are downscaled
+     */
+    public boolean isDownscaleImages() {
+        return downscaleImages;
+    }
+
+    /**
+     * Gets the GPU memory images may use before the least recently drawn large images are unloaded.<p>
+     * Images are never unloaded when this is 0
+     * @return The texture memory budget in megabytes
+     */
+    public int getTextureMemoryMb() {
+        return textureMemoryMb;
+    }
+
+    /**
+     * Gets the memory music and sound effects may use before the least recently played ones are unloaded.<p>
+     * Sounds are never unloaded when this is 0
+     * @return The audio memory budget in megabytes
+     */
+    public int getAudioMemoryMb() {
+        return audioMemoryMb;
+    }
+
+    /**
+     * Reads and writes the Config without reflection
+     */
+    public static final class JsonAdapter extends TypeAdapter<Config> {
+        @Override
+        public void write(JsonWriter out, Config value) throws IOException {
+            out.beginObject();
+            out.name("configVer").value(value.configVer);
+            out.name("startingMoney").value(value.startingMoney);
+            out.name("teamMemberCount").value(value.teamMemberCount);
+            out.name("diffOneStartingMiles").value(value.diffOneStartingMiles);
+            out.name("diffTwoStartingMiles").value(value.diffTwoStartingMiles);
+            out.name("diffThreeStartingMiles").value(value.diffThreeStartingMiles);
+            out.name("totalMiles").value(value.totalMiles);
+            out.name("musicVolume").value(value.musicVolume);
+            out.name("sfxVolume").value(value.sfxVolume);
+            out.name("fpsLimit").value(value.fpsLimit);
+            out.name("vsync").value(value.vsync);
+            out.name("idleRendering").value(value.idleRendering);
+            out.name("performanceOverlay").value(value.performanceOverlay);
+            if (value.languagesEnabled != null) {
+                out.name("languagesEnabled").beginObject();
+                for (Map.Entry<String, String> entry : value.languagesEnabled.entrySet()) {
+                    out.name(entry.getKey()).value(entry.getValue());
+                }
+                out.endObject();
+            }
+            out.name("language").value(value.language);
+            out.name("defaultFemaleNames");
+            JsonAdapters.writeStrings(out, value.defaultFemaleNames);
+            out.name("defaultMaleNames");
+            JsonAdapters.writeStrings(out, value.defaultMaleNames);
+            out.name("devMode").value(value.devMode);
+            out.name("logLevel");
+            DebugLogger.Level.JSON_ADAPTER.write(out, value.getLogLevel());
+            out.name("contentPacks");
+            JsonAdapters.writeStrings(out, value.contentPacks);
+            out.name("autosaveSnapshotDays").value(value.autosaveSnapshotDays);
+            out.name("compressSaves").value(value.compressSaves);
+            out.name("textureUploadMillis").value(value.textureUploadMillis);
+            out.name("downscaleImages").value(value.downscaleImages);
+            out.name("textureMemoryMb").value(value.textureMemoryMb);
+            out.name("audioMemoryMb").value(value.audioMemoryMb);
+            out.endObject();
+        }
+
+        @Override
+        public Config read(JsonReader in) throws IOException {
+            final Config config = new Config();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "configVer" -> config.configVer = JsonAdapters.nextString(in);
+                    case "startingMoney" -> config.startingMoney = (float) in.nextDouble();
+                    case "teamMemberCount" -> config.teamMemberCount = in.nextInt();
+                    case "diffOneStartingMiles" -> config.diffOneStartingMiles = in.nextInt();
+                    case "diffTwoStartingMiles" -> config.diffTwoStartingMiles = in.nextInt();
+                    case "diffThreeStartingMiles" -> config.diffThreeStartingMiles = in.nextInt();
+                    case "totalMiles" -> config.totalMiles = in.nextInt();
+                    case "musicVolume" -> config.musicVolume = in.nextInt();
+                    case "sfxVolume" -> config.sfxVolume = in.nextInt();
+                    case "fpsLimit" -> config.fpsLimit = in.nextInt();
+                    case "vsync" -> config.vsync = in.nextBoolean();
+                    case "idleRendering" -> config.idleRendering = in.nextBoolean();
+                    case "performanceOverlay" -> config.performanceOverlay = in.nextBoolean();
+                    case "languagesEnabled" -> config.languagesEnabled = readStringMap(in);
+                    case "language" -> config.language = JsonAdapters.nextString(in);
+                    case "defaultFemaleNames" -> config.defaultFemaleNames = JsonAdapters.readStrings(in);
+                    case "defaultMaleNames" -> config.defaultMaleNames = JsonAdapters.readStrings(in);
+                    case "devMode" -> config.devMode = in.nextBoolean();
+                    case "logLevel" -> config.logLevel = DebugLogger.Level.JSON_ADAPTER.read(in);
+                    case "contentPacks" -> config.contentPacks = JsonAdapters.readStrings(in);
+                    case "autosaveSnapshotDays" -> config.autosaveSnapshotDays = in.nextInt();
+                    case "compressSaves" -> config.compressSaves = in.nextBoolean();
+                    case "textureUploadMillis" -> config.textureUploadMillis = in.nextInt();
+                    case "downscaleImages" -> config.downscaleImages = in.nextBoolean();
+                    case "textureMemoryMb" -> config.textureMemoryMb = in.nextInt();
+                    case "audioMemoryMb" -> config.audioMemoryMb = in.nextInt();
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return config;
+        }
+
+        private static Map<String, String> readStringMap(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            final Map<String, String> map = new LinkedHashMap<>();
+            in.beginObject();
+            while (in.hasNext()) {
+                map.put(in.nextName(), JsonAdapters.nextString(in));
+            }
+            in.endObject();
+            return map;
+        }
+    }
 }
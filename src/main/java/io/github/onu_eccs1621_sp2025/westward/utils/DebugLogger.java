@@ -1,29 +1,207 @@
 package io.github.onu_eccs1621_sp2025.westward.utils;
 
+import com.google.gson.TypeAdapter;
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.JsonAdapters;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
 /**
- * Prints debug messages in the console if debugMode is enabled
+ * Prints messages in the console at or above the level set in the Config.<p>
+ * Messages below the level return before anything is formatted. Other messages are queued in a bounded
+ * buffer and formatted and printed by a background thread, so logging does not wait on the console.
+ * Arguments are formatted on the background thread and should not be changed after they are logged.
+ * If the buffer is full, warnings and errors are printed right away and other messages are dropped.
+ * @author Dylan Catte
+ * @since 1.0.0 Alpha 1
+ * @version 1.1
  */
 public final class DebugLogger {
     /**
-     * Toggles printing messages to the console
+     * The number of messages that can wait to be printed
      */
-    private static final boolean debugMode = true;
+    private static final int BUFFER_SIZE = 4096;
     /**
      * The backend logger by SLF4J
      */
-    private static final Logger logger = LoggerFactory.getLogger("Westward");
+    private static final Logger logger;
+    /**
+     * Messages waiting to be printed
+     */
+    private static final BlockingQueue<Message> BUFFER = new ArrayBlockingQueue<>(BUFFER_SIZE);
+    /**
+     * Messages dropped because the buffer was full, since the last time drops were reported
+     */
+    private static final AtomicLong DROPPED = new AtomicLong();
+    /**
+     * The lowest level that is printed
+     */
+    private static volatile Level level = Level.INFO;
+
+    static {
+        // Levels are filtered here, so the backend prints everything it is given
+        if (System.getProperty("org.slf4j.simpleLogger.defaultLogLevel") == null) {
+            System.setProperty("org.slf4j.simpleLogger.defaultLogLevel", "trace");
+        }
+        // The backend only sees the writer thread, so the thread that logged is printed with the message
+        if (System.getProperty("org.slf4j.simpleLogger.showThreadName") == null) {
+            System.setProperty("org.slf4j.simpleLogger.showThreadName", "false");
+        }
+        logger = LoggerFactory.getLogger("Westward");
+        final Thread writer = new Thread(DebugLogger::writeLoop, "Log Writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(DebugLogger::flush, "Log Flusher"));
+    }
+
+    /**
+     * The importance of a message
+     */
+    public enum Level {
+        TRACE,
+        DEBUG,
+        INFO,
+        WARN,
+        ERROR,
+        OFF;
+
+        /**
+         * Reads and writes levels by their lowercase names
+         */
+        public static final TypeAdapter<Level> JSON_ADAPTER = JsonAdapters.enumAdapter(values(),
+                "trace", "debug", "info", "warn", "error", "off");
+    }
+
+    /**
+     * A message waiting to be printed
+     * @param level The level of the message
+     * @param thread The name of the thread that logged the message
+     * @param format The message with a {} pattern for each argument
+     * @param argCount The number of arguments, since SLF4J treats a trailing Throwable differently
+     * @param arg1 The first argument
+     * @param arg2 The second argument
+     */
+    private record Message(Level level, String thread, String format, int argCount, Object arg1, Object arg2) {}
+
+    /**
+     * Sets the lowest level that is printed
+     * @param minimum The level, or null to keep the current level
+     */
+    public static void setLevel(final Level minimum) {
+        if (minimum != null) {
+            level = minimum;
+        }
+    }
+
+    /**
+     * Gets if messages at a level are printed
+     * @param messageLevel The level of the message
+     * @return True if the message would be printed
+     */
+    public static boolean isEnabled(final Level messageLevel) {
+        return messageLevel.compareTo(level) >= 0;
+    }
+
+    /**
+     * Gets if trace messages are printed. Used to skip work that only builds a trace message
+     * @return True if trace messages are printed
+     */
+    public static boolean isTraceEnabled() {
+        return level == Level.TRACE;
+    }
+
+    /**
+     * Gets if debug messages are printed. Used to skip work that only builds a debug message
+     * @return True if debug messages are printed
+     */
+    public static boolean isDebugEnabled() {
+        return level.compareTo(Level.DEBUG) <= 0;
+    }
+
+    /**
+     * Prints fine-grained details to the console
+     * @param trace Trace to print
+     */
+    public static void trace(final String trace) {
+        log(Level.TRACE, trace, 0, null, null);
+    }
+
+    /**
+     * Prints fine-grained details to the console
+     * @param trace Trace to print
+     * @param arg1 First arg for formatting
+     */
+    public static void trace(final String trace, final Object arg1) {
+        log(Level.TRACE, trace, 1, arg1, null);
+    }
+
+    /**
+     * Prints fine-grained details to the console
+     * @param trace Trace to print
+     * @param arg1 First arg for formatting
+     * @param arg2 Second arg for formatting
+     */
+    public static void trace(final String trace, final Object arg1, final Object arg2) {
+        log(Level.TRACE, trace, 2, arg1, arg2);
+    }
+
+    /**
+     * Prints fine-grained details to the console, only building the message if traces are printed
+     * @param trace Builds the trace to print
+     */
+    public static void trace(final Supplier<String> trace) {
+        if (isTraceEnabled()) {
+            log(Level.TRACE, trace.get(), 0, null, null);
+        }
+    }
+
+    /**
+     * Prints debug info to the console
+     * @param debug Debug info to print
+     */
+    public static void debug(final String debug) {
+        log(Level.DEBUG, debug, 0, null, null);
+    }
+
+    /**
+     * Prints debug info to the console
+     * @param debug Debug info to print
+     * @param arg1 First arg for formatting
+     */
+    public static void debug(final String debug, final Object arg1) {
+        log(Level.DEBUG, debug, 1, arg1, null);
+    }
+
+    /**
+     * Prints debug info to the console
+     * @param debug Debug info to print
+     * @param arg1 First arg for formatting
+     * @param arg2 Second arg for formatting
+     */
+    public static void debug(final String debug, final Object arg1, final Object arg2) {
+        log(Level.DEBUG, debug, 2, arg1, arg2);
+    }
+
+    /**
+     * Prints debug info to the console, only building the message if debug info is printed
+     * @param debug Builds the debug info to print
+     */
+    public static void debug(final Supplier<String> debug) {
+        if (isDebugEnabled()) {
+            log(Level.DEBUG, debug.get(), 0, null, null);
+        }
+    }
 
     /**
      * Prints info to the console
      * @param info Information to print
      */
     public static void info(final String info) {
-        if (debugMode) {
-            logger.info(info);
-        }
+        log(Level.INFO, info, 0, null, null);
     }
 
     /**
@@ -32,9 +210,7 @@ public final class DebugLogger {
      * @param arg1 First arg for formatting
      */
     public static void info(final String info, final Object arg1) {
-        if (debugMode) {
-            logger.info(info, arg1);
-        }
+        log(Level.INFO, info, 1, arg1, null);
     }
 
     /**
@@ -44,9 +220,7 @@ public final class DebugLogger {
      * @param arg2 Second arg for formatting
      */
     public static void info(final String info, final Object arg1, final Object arg2) {
-        if (debugMode) {
-            logger.info(info, arg1, arg2);
-        }
+        log(Level.INFO, info, 2, arg1, arg2);
     }
 
     /**
@@ -54,9 +228,7 @@ public final class DebugLogger {
      * @param warning Warning to print
      */
     public static void warn(final String warning) {
-        if (debugMode) {
-            logger.warn(warning);
-        }
+        log(Level.WARN, warning, 0, null, null);
     }
 
     /**
@@ -65,9 +237,7 @@ public final class DebugLogger {
      * @param arg1 First arg for formatting
      */
     public static void warn(final String warning, final Object arg1) {
-        if (debugMode) {
-            logger.warn(warning, arg1);
-        }
+        log(Level.WARN, warning, 1, arg1, null);
     }
 
     /**
@@ -77,9 +247,7 @@ public final class DebugLogger {
      * @param arg2 Second arg for formatting
      */
     public static void warn(final String warning, final Object arg1, final Object arg2) {
-        if (debugMode) {
-            logger.info(warning, arg1, arg2);
-        }
+        log(Level.WARN, warning, 2, arg1, arg2);
     }
 
     /**
@@ -87,9 +255,7 @@ public final class DebugLogger {
      * @param error Error to print
      */
     public static void error(final String error) {
-        if (debugMode) {
-            logger.error(error);
-        }
+        log(Level.ERROR, error, 0, null, null);
     }
 
     /**
@@ -98,9 +264,7 @@ public final class DebugLogger {
      * @param arg1 First arg for formatting
      */
     public static void error(final String error, final Object arg1) {
-        if (debugMode) {
-            logger.error(error, arg1);
-        }
+        log(Level.ERROR, error, 1, arg1, null);
     }
 
     /**
@@ -110,8 +274,89 @@ public final class DebugLogger {
      * @param arg2 Second arg for formatting
      */
     public static void error(final String error, final Object arg1, final Object arg2) {
-        if (debugMode) {
-            logger.error(error, arg1, arg2);
+        log(Level.ERROR, error, 2, arg1, arg2);
+    }
+
+    private static void log(final Level messageLevel, final String format, final int argCount, final Object arg1, final Object arg2) {
+        if (!isEnabled(messageLevel)) {
+            return;
+        }
+        final Message message = new Message(messageLevel, Thread.currentThread().getName(), format, argCount, arg1, arg2);
+        if (!BUFFER.offer(message)) {
+            if (messageLevel.compareTo(Level.WARN) >= 0) {
+                // Problems are never dropped
+                write(message);
+            } else {
+                DROPPED.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Prints queued messages until the game exits. Runs on the writer thread
+     */
+    private static void writeLoop() {
+        while (true) {
+            try {
+                write(BUFFER.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            final long dropped = DROPPED.getAndSet(0);
+            if (dropped != 0) {
+                logger.warn("[Log Writer] Dropped {} messages because the log buffer was full", dropped);
+            }
+        }
+    }
+
+    /**
+     * Prints every queued message. Runs when the game exits so the last messages are not lost
+     */
+    private static void flush() {
+        Message message;
+        while ((message = BUFFER.poll()) != null) {
+            write(message);
+        }
+    }
+
+    private static void write(final Message message) {
+        final String format = "[" + message.thread() + "] " + message.format();
+        switch (message.level()) {
+            case TRACE -> {
+                switch (message.argCount()) {
+                    case 0 -> logger.trace(format);
+                    case 1 -> logger.trace(format, message.arg1());
+                    default -> logger.trace(format, message.arg1(), message.arg2());
+                }
+            }
+            case DEBUG -> {
+                switch (message.argCount()) {
+                    case 0 -> logger.debug(format);
+                    case 1 -> logger.debug(format, message.arg1());
+                    default -> logger.debug(format, message.arg1(), message.arg2());
+                }
+            }
+            case INFO -> {
+                switch (message.argCount()) {
+                    case 0 -> logger.info(format);
+                    case 1 -> logger.info(format, message.arg1());
+                    default -> logger.info(format, message.arg1(), message.arg2());
+                }
+            }
+            case WARN -> {
+                switch (message.argCount()) {
+                    case 0 -> logger.warn(format);
+                    case 1 -> logger.warn(format, message.arg1());
+                    default -> logger.warn(format, message.arg1(), message.arg2());
+                }
+            }
+            default -> {
+                switch (message.argCount()) {
+                    case 0 -> logger.error(format);
+                    case 1 -> logger.error(format, message.arg1());
+                    default -> logger.error(format, message.arg1(), message.arg2());
+                }
+            }
         }
     }
 }
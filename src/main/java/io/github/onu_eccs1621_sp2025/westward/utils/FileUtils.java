@@ -0,0 +1,57 @@
+package io.github.onu_eccs1621_sp2025.westward.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Utilities for writing files safely
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.0
+ */
+public final class FileUtils {
+    /**
+     * Writes the contents of a file to a stream
+     */
+    @FunctionalInterface
+    public interface StreamWriter {
+        /**
+         * Writes the contents of the file
+         * @param out The stream to the file
+         * @throws IOException If the contents cannot be written
+         */
+        void write(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Writes a file by writing a temporary file next to it and renaming it over the original.<p>
+     * The original file is either fully replaced or left untouched if the write fails.
+     * @param target The file being written
+     * @param writer Writes the contents of the file
+     * @throws IOException If the file cannot be written
+     */
+    public static void writeAtomically(final Path target, final StreamWriter writer) throws IOException {
+        final Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            final OutputStream out = Channels.newOutputStream(channel);
+            writer.write(out);
+            out.flush();
+            channel.force(true);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
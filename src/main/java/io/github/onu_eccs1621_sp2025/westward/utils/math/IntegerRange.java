@@ -1,5 +1,11 @@
 package io.github.onu_eccs1621_sp2025.westward.utils.math;
 
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.JsonAdapters;
+
+import java.io.IOException;
 import java.util.OptionalInt;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -8,7 +14,7 @@ import java.util.concurrent.ThreadLocalRandom;
  * The random can either be traditional or gaussian.
  * @author Dylan Catte, Ben Westover, Noah Sumerauer, Micah Lee
  * @since 1.0.0 Alpha 1
- * @version 1.1
+ * @version 1.2
  * @param min Minimum inclusive value
  * @param max Maximum inclusive value
  * @param normal Whether to use gaussian distribution or traditional distribution
@@ -46,4 +52,42 @@ public record IntegerRange(int min, int max, boolean normal, Double mean, Double
     public OptionalInt optionalRandom(final float weight) {
         return ThreadLocalRandom.current().nextFloat() <= weight ? OptionalInt.of(this.random()) : OptionalInt.empty();
     }
+
+    /**
+     * Reads and writes IntegerRanges without reflection
+     */
+    public static final class JsonAdapter extends TypeAdapter<IntegerRange> {
+        @Override
+        public void write(JsonWriter out, IntegerRange value) throws IOException {
+            out.beginObject();
+            out.name("min").value(value.min);
+            out.name("max").value(value.max);
+            out.name("normal").value(value.normal);
+            out.name("mean").value(value.mean);
+            out.name("stdDev").value(value.stdDev);
+            out.endObject();
+        }
+
+        @Override
+        public IntegerRange read(JsonReader in) throws IOException {
+            int min = 0;
+            int max = 0;
+            boolean normal = false;
+            Double mean = null;
+            Double stdDev = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "min" -> min = in.nextInt();
+                    case "max" -> max = in.nextInt();
+                    case "normal" -> normal = in.nextBoolean();
+                    case "mean" -> mean = JsonAdapters.nextDouble(in);
+                    case "stdDev" -> stdDev = JsonAdapters.nextDouble(in);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new IntegerRange(min, max, normal, mean, stdDev);
+        }
+    }
 }
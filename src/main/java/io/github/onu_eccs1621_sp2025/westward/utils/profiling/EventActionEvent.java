@@ -0,0 +1,29 @@
+package io.github.onu_eccs1621_sp2025.westward.utils.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The action of a trail event applying its effects to the game
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.0
+ */
+@Name("westward.EventAction")
+@Label("Event Action")
+@Category({"Westward", "Game"})
+@Description("The action of a trail event applying its effects to the game")
+@StackTrace(false)
+public final class EventActionEvent extends Event {
+    @Label("Event")
+    public String eventName;
+    @Label("Action")
+    public String action;
+    @Label("Executed")
+    @Description("If the constraints of the event were met")
+    public boolean executed;
+}
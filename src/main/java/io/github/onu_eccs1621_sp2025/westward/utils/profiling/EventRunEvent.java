@@ -0,0 +1,27 @@
+package io.github.onu_eccs1621_sp2025.westward.utils.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A random trail event that was selected and run
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.0
+ */
+@Name("westward.EventRun")
+@Label("Event Run")
+@Category({"Westward", "Game"})
+@Description("A random trail event that was selected and run")
+@StackTrace(false)
+public final class EventRunEvent extends Event {
+    @Label("Event")
+    public String eventName;
+    @Label("Executed")
+    @Description("If the constraints of the event were met")
+    public boolean executed;
+}
@@ -0,0 +1,214 @@
+package io.github.onu_eccs1621_sp2025.westward.utils.profiling;
+
+import imgui.ImGui;
+import imgui.flag.ImGuiKey;
+import imgui.flag.ImGuiWindowFlags;
+import io.github.onu_eccs1621_sp2025.westward.screen.Renderer;
+import io.github.onu_eccs1621_sp2025.westward.utils.DebugLogger;
+import io.github.onu_eccs1621_sp2025.westward.utils.rendering.FrameScheduler;
+import io.github.onu_eccs1621_sp2025.westward.utils.rendering.TextureAtlas;
+import io.github.onu_eccs1621_sp2025.westward.utils.sound.AudioBuffers;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Shows why frames are slow on top of the game. Toggled with F3.<p>
+ * Nothing is measured while the overlay is hidden, besides checking if it is enabled, so it is left in
+ * release builds. While it is shown, frames are drawn continuously so the numbers stay current, and the
+ * memory the overlay allocates is included in the allocation per frame.
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.0
+ */
+public final class PerformanceOverlay {
+    /**
+     * The number of frames shown in the frame time histogram
+     */
+    private static final int HISTORY = 120;
+    /**
+     * How often garbage collection and the slowest tick are sampled
+     */
+    private static final long SAMPLE_NANOS = 1_000_000_000L;
+    /**
+     * How much of each new render time is mixed into the average of a Screen
+     */
+    private static final float SMOOTHING = 0.1F;
+    private static final int WINDOW_FLAGS = ImGuiWindowFlags.NoDecoration | ImGuiWindowFlags.AlwaysAutoResize
+            | ImGuiWindowFlags.NoSavedSettings | ImGuiWindowFlags.NoFocusOnAppearing | ImGuiWindowFlags.NoInputs;
+    private static volatile boolean enabled;
+    /**
+     * Measures the memory allocated by the GL thread, or null if the JVM cannot
+     */
+    private static final com.sun.management.ThreadMXBean THREADS = threadBean();
+
+    // Frames
+    private static final float[] FRAME_MILLIS = new float[HISTORY];
+    private static int frameIndex;
+    private static long frameStart;
+    private static long frameAllocatedStart = -1;
+    private static long frameAllocated;
+
+    // Game thread
+    private static volatile long tickNanos;
+    private static volatile long slowestTickNanos;
+    private static long sampledSlowestTickNanos;
+
+    // Garbage collection over the last sample
+    private static long sampleStart;
+    private static long gcCountStart = -1;
+    private static long gcMillisStart;
+    private static long gcCount;
+    private static long gcMillis;
+
+    /**
+     * The last and average render time of each Screen in milliseconds
+     */
+    private static final Map<String, float[]> SCREEN_MILLIS = new LinkedHashMap<>();
+
+    /**
+     * Sets if the overlay is shown when the game starts
+     * @param show If the overlay is shown
+     */
+    public static void init(final boolean show) {
+        enabled = show;
+    }
+
+    /**
+     * Gets if the overlay is shown
+     * @return True if the overlay is shown and measuring
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Toggles the overlay on F3 and measures the last frame. Must be called on the GL thread at the start of every frame
+     */
+    public static void beginFrame() {
+        if (ImGui.isKeyPressed(ImGuiKey.F3, false)) {
+            enabled = !enabled;
+            // Measurements from before the overlay was shown are stale
+            frameAllocatedStart = -1;
+            gcCountStart = -1;
+            frameStart = 0;
+            DebugLogger.info("Performance overlay {}", enabled ? "shown" : "hidden");
+        }
+        if (!enabled) {
+            return;
+        }
+
+        final long now = System.nanoTime();
+        if (frameStart != 0) {
+            FRAME_MILLIS[frameIndex] = (now - frameStart) / 1_000_000F;
+            frameIndex = (frameIndex + 1) % HISTORY;
+        }
+        frameStart = now;
+
+        if (THREADS != null) {
+            final long allocated = THREADS.getCurrentThreadAllocatedBytes();
+            frameAllocated = frameAllocatedStart < 0 ? 0 : allocated - frameAllocatedStart;
+            frameAllocatedStart = allocated;
+        }
+
+        if (gcCountStart < 0 || now - sampleStart >= SAMPLE_NANOS) {
+            long count = 0;
+            long millis = 0;
+            for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+                count += Math.max(0, collector.getCollectionCount());
+                millis += Math.max(0, collector.getCollectionTime());
+            }
+            if (gcCountStart >= 0) {
+                gcCount = count - gcCountStart;
+                gcMillis = millis - gcMillisStart;
+            }
+            gcCountStart = count;
+            gcMillisStart = millis;
+            sampledSlowestTickNanos = slowestTickNanos;
+            slowestTickNanos = 0;
+            sampleStart = now;
+        }
+    }
+
+    /**
+     * Records how long a game tick took. Called on the game thread at the end of each day
+     * @param nanos How long the day was simulated for in nanoseconds, without the delays between miles
+     */
+    public static void recordTick(final long nanos) {
+        tickNanos = nanos;
+        if (nanos > slowestTickNanos) {
+            slowestTickNanos = nanos;
+        }
+    }
+
+    /**
+     * Records how long a Screen took to render. Must be called on the GL thread
+     * @param name The name of the Screen
+     * @param nanos The render time in nanoseconds
+     */
+    public static void recordScreen(final String name, final long nanos) {
+        final float millis = nanos / 1_000_000F;
+        final float[] times = SCREEN_MILLIS.get(name);
+        if (times == null) {
+            SCREEN_MILLIS.put(name, new float[] { millis, millis });
+        } else {
+            times[0] = millis;
+            times[1] += (millis - times[1]) * SMOOTHING;
+        }
+    }
+
+    /**
+     * Draws the overlay if it is shown. Must be called on the GL thread after the game is drawn
+     */
+    public static void render() {
+        if (!enabled) {
+            return;
+        }
+        ImGui.setNextWindowPos(10, 10);
+        ImGui.setNextWindowBgAlpha(0.6F);
+        if (ImGui.begin("##performance", WINDOW_FLAGS)) {
+            final int target = FrameScheduler.getTargetFps();
+            ImGui.text(String.format("FPS %.0f / %s", FrameScheduler.getAchievedFps(), target == 0 ? "unlimited" : target));
+
+            float lastFrame = FRAME_MILLIS[(frameIndex + HISTORY - 1) % HISTORY];
+            float slowestFrame = 0;
+            for (float millis : FRAME_MILLIS) {
+                slowestFrame = Math.max(slowestFrame, millis);
+            }
+            // Scaled so a frame at the target rate fills a third of the graph
+            final float scale = Math.max(slowestFrame, target == 0 ? 50F : 3000F / target);
+            ImGui.plotHistogram("##frameTimes", FRAME_MILLIS, HISTORY, frameIndex,
+                    String.format("%.2f ms (slowest %.2f ms)", lastFrame, slowestFrame), 0, scale, 260, 60);
+
+            ImGui.text(String.format("Game tick %.2f ms (slowest %.2f ms)", tickNanos / 1_000_000F, sampledSlowestTickNanos / 1_000_000F));
+            if (THREADS != null) {
+                ImGui.text(String.format("Allocated %.1f KB per frame", frameAllocated / 1024F));
+            }
+            ImGui.text(String.format("GC %d pauses, %d ms in the last second", gcCount, gcMillis));
+            ImGui.text(String.format("Textures %.1f MB, sounds %.1f MB",
+                    TextureAtlas.getTextureBytes() / 1_048_576F, AudioBuffers.getTotalBytes() / 1_048_576F));
+            ImGui.text("Render queue " + Renderer.RENDER_QUEUE.size());
+
+            ImGui.separator();
+            for (Map.Entry<String, float[]> entry : SCREEN_MILLIS.entrySet()) {
+                ImGui.text(String.format("%s %.2f ms (avg %.2f ms)", entry.getKey(), entry.getValue()[0], entry.getValue()[1]));
+            }
+        }
+        ImGui.end();
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        try {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                    && bean.isThreadAllocatedMemorySupported()) {
+                bean.setThreadAllocatedMemoryEnabled(true);
+                return bean;
+            }
+        } catch (UnsupportedOperationException | LinkageError e) {
+            DebugLogger.warn("Allocations cannot be measured: {}", e.toString());
+        }
+        return null;
+    }
+}
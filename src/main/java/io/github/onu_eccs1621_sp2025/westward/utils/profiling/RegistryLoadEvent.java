@@ -0,0 +1,26 @@
+package io.github.onu_eccs1621_sp2025.westward.utils.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A category of game data loaded into the Registry
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.0
+ */
+@Name("westward.RegistryLoad")
+@Label("Registry Load")
+@Category({"Westward", "I/O"})
+@Description("A category of game data loaded into the Registry")
+@StackTrace(false)
+public final class RegistryLoadEvent extends Event {
+    @Label("Phase")
+    public String phase;
+    @Label("Items")
+    public int items;
+}
@@ -0,0 +1,30 @@
+package io.github.onu_eccs1621_sp2025.westward.utils.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A save read from disk with its journal replayed
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.0
+ */
+@Name("westward.SaveLoad")
+@Label("Save Load")
+@Category({"Westward", "I/O"})
+@Description("A save read from disk with its journal replayed")
+public final class SaveLoadEvent extends Event {
+    @Label("Save")
+    public String saveName;
+    @Label("Bytes")
+    @Description("The size of the save and its journal")
+    @DataAmount
+    public long bytes;
+    @Label("Repaired")
+    @Description("If an incomplete journal was allowed to be repaired")
+    public boolean repair;
+}
@@ -0,0 +1,26 @@
+package io.github.onu_eccs1621_sp2025.westward.utils.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A save written to disk
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.0
+ */
+@Name("westward.SaveWrite")
+@Label("Save Write")
+@Category({"Westward", "I/O"})
+@Description("A save written to disk")
+public final class SaveWriteEvent extends Event {
+    @Label("Save")
+    public String saveName;
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+}
@@ -0,0 +1,27 @@
+package io.github.onu_eccs1621_sp2025.westward.utils.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Screen from the render queue, from when it is shown until it is closed
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.0
+ */
+@Name("westward.Screen")
+@Label("Screen")
+@Category({"Westward", "Rendering"})
+@Description("A Screen from the render queue, from when it is shown until it is closed")
+@StackTrace(false)
+public final class ScreenEvent extends Event {
+    @Label("Screen")
+    public String screenId;
+    @Label("Queue Depth")
+    @Description("The screens waiting in the render queue when the screen was shown")
+    public int queueDepth;
+}
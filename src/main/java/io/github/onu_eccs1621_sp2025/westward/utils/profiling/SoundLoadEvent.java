@@ -0,0 +1,28 @@
+package io.github.onu_eccs1621_sp2025.westward.utils.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A WAV file loaded into an OpenAL buffer
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.0
+ */
+@Name("westward.SoundLoad")
+@Label("Sound Load")
+@Category({"Westward", "I/O"})
+@Description("A WAV file loaded into an OpenAL buffer")
+@StackTrace(false)
+public final class SoundLoadEvent extends Event {
+    @Label("File")
+    public String file;
+    @Label("PCM Bytes")
+    @DataAmount
+    public long bytes;
+}
@@ -0,0 +1,32 @@
+package io.github.onu_eccs1621_sp2025.westward.utils.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * An image decoded into pixels, on a decoder thread
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.0
+ */
+@Name("westward.TextureLoad")
+@Label("Texture Load")
+@Category({"Westward", "I/O"})
+@Description("An image decoded into pixels, on a decoder thread")
+@StackTrace(false)
+public final class TextureLoadEvent extends Event {
+    @Label("Image")
+    public String image;
+    @Label("Encoded Bytes")
+    @DataAmount
+    public long encodedBytes;
+    @Label("Width")
+    public int width;
+    @Label("Height")
+    public int height;
+}
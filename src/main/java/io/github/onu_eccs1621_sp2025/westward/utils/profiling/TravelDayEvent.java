@@ -0,0 +1,28 @@
+package io.github.onu_eccs1621_sp2025.westward.utils.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A day of travel, from leaving camp until the wagon stops for the night
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.0
+ */
+@Name("westward.TravelDay")
+@Label("Travel Day")
+@Category({"Westward", "Game"})
+@Description("A day of travel, from leaving camp until the wagon stops for the night")
+@StackTrace(false)
+public final class TravelDayEvent extends Event {
+    @Label("Day")
+    public int day;
+    @Label("Miles")
+    public int miles;
+    @Label("Members")
+    public int members;
+}
@@ -0,0 +1,120 @@
+package io.github.onu_eccs1621_sp2025.westward.utils.registry;
+
+import io.github.onu_eccs1621_sp2025.westward.utils.DebugLogger;
+
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes Registry categories back to their data files in the background.<p>
+ * Registering an asset only marks its category as dirty. Dirty categories are written together
+ * after a short delay, so a burst of registrations rewrites each file once.
+ * Categories that fail to write are retried with a growing delay.
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.1
+ */
+public final class AssetPersister {
+    /**
+     * The time to wait for more changes before writing
+     */
+    private static final long COALESCE_MS = 500L;
+    /**
+     * The longest time to wait before retrying a failed write
+     */
+    private static final long MAX_RETRY_MS = 60_000L;
+    /**
+     * Categories with changes that have not been written
+     */
+    private static final Set<Registry.AssetType> DIRTY = EnumSet.noneOf(Registry.AssetType.class);
+    /**
+     * The thread that writes the data files
+     */
+    private static final ScheduledExecutorService WRITER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "Asset Persister");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /**
+     * The scheduled write
+     */
+    private static ScheduledFuture<?> pendingFlush;
+    /**
+     * The time to wait before retrying a failed write, doubled after each failure
+     */
+    private static long retryDelayMs = COALESCE_MS;
+
+    /**
+     * Marks a category as changed and schedules it to be written
+     * @param type The category that changed
+     */
+    public static synchronized void markDirty(final Registry.AssetType type) {
+        DIRTY.add(type);
+        if (pendingFlush == null) {
+            pendingFlush = WRITER.schedule(AssetPersister::flushDirty, COALESCE_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Gets if a category has changes that have not been written
+     * @param type The category
+     * @return If the category is waiting to be written
+     */
+    public static synchronized boolean isDirty(final Registry.AssetType type) {
+        return DIRTY.contains(type);
+    }
+
+    /**
+     * Writes all changed categories and waits for them to finish.<p>
+     * Should be called before the game exits.
+     */
+    public static void flush() {
+        try {
+            WRITER.submit(AssetPersister::flushDirty).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            DebugLogger.error("Failed to save assets", e.getCause());
+        }
+    }
+
+    private static void flushDirty() {
+        final Set<Registry.AssetType> types;
+        synchronized (AssetPersister.class) {
+            types = EnumSet.copyOf(DIRTY);
+            DIRTY.clear();
+            pendingFlush = null;
+        }
+        boolean failed = false;
+        for (Registry.AssetType type : types) {
+            try {
+                Registry.writeAssets(type);
+            } catch (IOException e) {
+                DebugLogger.error("Failed to save {} assets", type, e);
+                synchronized (AssetPersister.class) {
+                    DIRTY.add(type);
+                }
+                failed = true;
+            }
+        }
+
+        synchronized (AssetPersister.class) {
+            if (!failed) {
+                retryDelayMs = COALESCE_MS;
+                return;
+            }
+            // Retry later, so the assets are not lost if the game crashes before it exits
+            retryDelayMs = Math.min(retryDelayMs * 2, MAX_RETRY_MS);
+            if (pendingFlush == null) {
+                DebugLogger.info("Retrying to save assets in {} ms", retryDelayMs);
+                pendingFlush = WRITER.schedule(AssetPersister::flushDirty, retryDelayMs, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+}
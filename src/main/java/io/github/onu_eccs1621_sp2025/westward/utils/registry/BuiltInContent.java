@@ -0,0 +1,54 @@
+package io.github.onu_eccs1621_sp2025.westward.utils.registry;
+
+import io.github.onu_eccs1621_sp2025.westward.data.StatusContainer;
+import io.github.onu_eccs1621_sp2025.westward.screen.InventoryViewer;
+import io.github.onu_eccs1621_sp2025.westward.screen.Screen;
+import io.github.onu_eccs1621_sp2025.westward.screen.default_screens.IntroScreen;
+import io.github.onu_eccs1621_sp2025.westward.screen.default_screens.LossScreen;
+import io.github.onu_eccs1621_sp2025.westward.screen.default_screens.SleepScreen;
+import io.github.onu_eccs1621_sp2025.westward.screen.default_screens.VictoryScreen;
+import io.github.onu_eccs1621_sp2025.westward.screen.default_screens.accident.ConsequenceScreen;
+import io.github.onu_eccs1621_sp2025.westward.screen.default_screens.river.RiverCrossingScreen;
+import io.github.onu_eccs1621_sp2025.westward.screen.default_screens.travel.TravelingScreen;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * The screens and statuses that are built into the game instead of defined by data files.<p>
+ * Data files can reference them by id, so the Registry and the content compiler both read them from here.
+ * Nothing is created until it is requested, so this class can be used without a window.
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.0
+ */
+public final class BuiltInContent {
+    /**
+     * Creates each built-in screen by id
+     */
+    public static final Map<String, Supplier<Screen>> SCREENS;
+
+    static {
+        final Map<String, Supplier<Screen>> screens = new LinkedHashMap<>();
+        screens.put("travel", TravelingScreen::new);
+        screens.put("consequence", ConsequenceScreen::new);
+        screens.put("victory", VictoryScreen::new);
+        screens.put("loss", LossScreen::new);
+        screens.put("intro", IntroScreen::new);
+        screens.put("inventory", InventoryViewer::new);
+        screens.put("sleep", SleepScreen::new);
+        screens.put("river", RiverCrossingScreen::new);
+        SCREENS = Collections.unmodifiableMap(screens);
+    }
+
+    /**
+     * Creates the built-in statuses
+     * @return A new instance of each built-in status
+     */
+    public static List<StatusContainer> createStatuses() {
+        return List.of(new StatusContainer("hunger", (byte) 1, (byte) 5, "status.hunger.obtained", false, 0.1F));
+    }
+}
@@ -0,0 +1,280 @@
+package io.github.onu_eccs1621_sp2025.westward.utils.registry;
+
+import io.github.onu_eccs1621_sp2025.westward.TrailApplication;
+import io.github.onu_eccs1621_sp2025.westward.data.Landmark;
+import io.github.onu_eccs1621_sp2025.westward.data.StatusContainer;
+import io.github.onu_eccs1621_sp2025.westward.data.member.Gender;
+import io.github.onu_eccs1621_sp2025.westward.data.member.Role;
+import io.github.onu_eccs1621_sp2025.westward.game.ItemStack;
+import io.github.onu_eccs1621_sp2025.westward.game.event.Event;
+import io.github.onu_eccs1621_sp2025.westward.game.event.EventAction;
+import io.github.onu_eccs1621_sp2025.westward.game.event.EventConstraint;
+import io.github.onu_eccs1621_sp2025.westward.utils.DebugLogger;
+import io.github.onu_eccs1621_sp2025.westward.utils.math.IntegerRange;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * The default game data compiled at build time by the compileContent Gradle task.<p>
+ * The bundle is used in place of a data file when the file in the game data directory is unchanged
+ * from the default and no content pack adds to it, so those categories are loaded without parsing JSON.<p>
+ * The content compiler shares {@link ContentBundle#MAGIC} and {@link ContentBundle#VERSION} with this class,
+ * and writes enum values by their constant names so they are read with {@code valueOf}.
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.1
+ */
+public final class ContentBundle {
+    /**
+     * The bundle inside the jar
+     */
+    private static final String RESOURCE = "/defaultData/content.bundle";
+    /**
+     * Identifies a content bundle. The content compiler writes the same value
+     */
+    public static final int MAGIC = 0x57574342;
+    /**
+     * The format version this class reads and the content compiler writes.<p>
+     * Must be increased whenever the layout of a section changes
+     */
+    public static final short VERSION = 1;
+    /**
+     * The loaded bundle
+     */
+    private static ContentBundle instance;
+    /**
+     * If loading the bundle has been attempted
+     */
+    private static boolean opened;
+
+    private final String[] strings;
+    private final Map<String, Long> checksums = new HashMap<>();
+    private final List<ItemStack> items = new ArrayList<>();
+    private final List<StatusContainer> statuses = new ArrayList<>();
+    private final List<Role> roles = new ArrayList<>();
+    private final List<Landmark> landmarks = new ArrayList<>();
+    private final List<Event> events = new ArrayList<>();
+
+    private ContentBundle(final DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a content bundle");
+        }
+        final short version = in.readShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported content bundle version " + version);
+        }
+        this.strings = new String[in.readInt()];
+        for (int i = 0; i < this.strings.length; i++) {
+            this.strings[i] = in.readUTF();
+        }
+        final int files = in.readInt();
+        for (int i = 0; i < files; i++) {
+            this.checksums.put(readString(in), in.readLong());
+        }
+        for (int i = in.readInt(); i > 0; i--) {
+            final String id = readString(in);
+            final short count = in.readShort();
+            final float barterValue = in.readFloat();
+            final ItemStack.ItemType type = ItemStack.ItemType.valueOf(readString(in));
+            this.items.add(new ItemStack(id, count, readString(in), barterValue, type));
+        }
+        for (int i = in.readInt(); i > 0; i--) {
+            final String name = readString(in);
+            final String obtainedTranslationKey = readString(in);
+            final boolean healable = in.readBoolean();
+            final byte level = in.readByte();
+            final byte maxLevel = in.readByte();
+            this.statuses.add(new StatusContainer(name, level, maxLevel, obtainedTranslationKey, healable, in.readFloat()));
+        }
+        for (int i = in.readInt(); i > 0; i--) {
+            final String id = readString(in);
+            final String gender = readString(in);
+            final Integer bonusMoney = readOptionalInt(in);
+            final Integer bonusPoints = readOptionalInt(in);
+            this.roles.add(new Role(id, gender == null ? null : Gender.valueOf(gender), bonusMoney, bonusPoints, in.readInt(), in.readBoolean()));
+        }
+        for (int i = in.readInt(); i > 0; i--) {
+            this.landmarks.add(new Landmark(readString(in), readString(in), readString(in), readString(in), in.readInt(), in.readBoolean()));
+        }
+        for (int i = in.readInt(); i > 0; i--) {
+            final String name = readString(in);
+            final String screenId = readString(in);
+            final float chance = in.readFloat();
+            final String action = readString(in);
+            final String type = readString(in);
+            final IntegerRange amount = readRange(in);
+            final int constraintCount = in.readInt();
+            List<EventConstraint> constraints = null;
+            if (constraintCount >= 0) {
+                constraints = new ArrayList<>(constraintCount);
+                for (int j = 0; j < constraintCount; j++) {
+                    constraints.add(readConstraint(in));
+                }
+            }
+            this.events.add(new Event(name, screenId, chance, new EventAction(constraints, amount, type, action)));
+        }
+    }
+
+    private EventConstraint readConstraint(final DataInputStream in) throws IOException {
+        final EventConstraint.Argument argument = readArgument(in);
+        final EventConstraint.ComplexArgument complexArgument = readComplexArgument(in);
+        final String compareOperator = readString(in);
+        final Integer intValue = readOptionalInt(in);
+        final String stringValue = readString(in);
+        EventConstraint.Equation equation = null;
+        if (in.readBoolean()) {
+            final EventConstraint.Argument equationArgument = readArgument(in);
+            final EventConstraint.ComplexArgument equationComplexArgument = readComplexArgument(in);
+            final String operator = readString(in);
+            equation = new EventConstraint.Equation(equationArgument, equationComplexArgument,
+                    operator == null ? null : EventConstraint.Equation.ArithmeticOperator.valueOf(operator), in.readInt());
+        }
+        return new EventConstraint(argument, complexArgument,
+                compareOperator == null ? null : EventConstraint.CompareOperator.valueOf(compareOperator),
+                intValue, stringValue, equation);
+    }
+
+    private EventConstraint.Argument readArgument(final DataInputStream in) throws IOException {
+        final String argument = readString(in);
+        return argument == null ? null : EventConstraint.Argument.valueOf(argument);
+    }
+
+    private EventConstraint.ComplexArgument readComplexArgument(final DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        final EventConstraint.Argument argument = readArgument(in);
+        return new EventConstraint.ComplexArgument(argument, readString(in));
+    }
+
+    private static IntegerRange readRange(final DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        final int min = in.readInt();
+        final int max = in.readInt();
+        final boolean normal = in.readBoolean();
+        final Double mean = in.readBoolean() ? in.readDouble() : null;
+        final Double stdDev = in.readBoolean() ? in.readDouble() : null;
+        return new IntegerRange(min, max, normal, mean, stdDev);
+    }
+
+    private static Integer readOptionalInt(final DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+
+    private String readString(final DataInputStream in) throws IOException {
+        final int index = in.readInt();
+        return index == -1 ? null : this.strings[index];
+    }
+
+    /**
+     * Gets the compiled items
+     * @return A new map of the items by id
+     */
+    public Map<String, ItemStack> getItems() {
+        final Map<String, ItemStack> loaded = new HashMap<>();
+        for (ItemStack item : this.items) {
+            loaded.put(item.getId(), item);
+        }
+        return loaded;
+    }
+
+    /**
+     * Gets the compiled statuses
+     * @return A new map of the statuses by name
+     */
+    public Map<String, StatusContainer> getStatuses() {
+        final Map<String, StatusContainer> loaded = new HashMap<>();
+        for (StatusContainer status : this.statuses) {
+            loaded.put(status.getName(), status);
+        }
+        return loaded;
+    }
+
+    /**
+     * Gets the compiled roles
+     * @return A new map of the roles by id
+     */
+    public Map<String, Role> getRoles() {
+        final Map<String, Role> loaded = new HashMap<>();
+        for (Role role : this.roles) {
+            loaded.put(role.id(), role);
+        }
+        return loaded;
+    }
+
+    /**
+     * Gets the compiled landmarks
+     * @return A new list of the landmarks sorted by mile
+     */
+    public List<Landmark> getLandmarks() {
+        return new ArrayList<>(this.landmarks);
+    }
+
+    /**
+     * Gets the compiled events
+     * @return A new map of the events by name
+     */
+    public Map<String, Event> getEvents() {
+        final Map<String, Event> loaded = new HashMap<>();
+        for (Event event : this.events) {
+            loaded.put(event.name(), event);
+        }
+        return loaded;
+    }
+
+    /**
+     * Gets the bundle if the data file has not been modified from the default
+     * @param dataFile The data file in the game data directory
+     * @return The bundle, or null if the data file has to be parsed
+     */
+    public static ContentBundle getIfUnmodified(final Path dataFile) {
+        final ContentBundle bundle = getInstance();
+        if (bundle == null || ContentPacks.getLayers(dataFile).size() > 1) {
+            return null;
+        }
+        // Data files are relative to the game data directory, which is the parent of the packs directory
+        final String relative = TrailApplication.getDataPaths().packsPath().getParent()
+                .relativize(dataFile).toString().replace(File.separatorChar, '/');
+        final Long checksum = bundle.checksums.get(relative);
+        if (checksum == null) {
+            return null;
+        }
+        try {
+            final CRC32 crc = new CRC32();
+            crc.update(Files.readAllBytes(dataFile));
+            return crc.getValue() == checksum ? bundle : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static synchronized ContentBundle getInstance() {
+        if (!opened) {
+            opened = true;
+            try (InputStream resource = ContentBundle.class.getResourceAsStream(RESOURCE)) {
+                if (resource == null) {
+                    DebugLogger.info("No content bundle found, game data will be parsed from JSON");
+                } else {
+                    instance = new ContentBundle(new DataInputStream(new BufferedInputStream(resource)));
+                    DebugLogger.info("Loaded content bundle");
+                }
+            } catch (IOException | IllegalArgumentException e) {
+                DebugLogger.error("Failed to load the content bundle", e);
+            }
+        }
+        return instance;
+    }
+}
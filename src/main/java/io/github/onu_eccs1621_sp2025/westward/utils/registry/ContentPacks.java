@@ -0,0 +1,109 @@
+package io.github.onu_eccs1621_sp2025.westward.utils.registry;
+
+import io.github.onu_eccs1621_sp2025.westward.TrailApplication;
+import io.github.onu_eccs1621_sp2025.westward.utils.Config;
+import io.github.onu_eccs1621_sp2025.westward.utils.DebugLogger;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resolves the enabled content packs.<p>
+ * A content pack is a directory or a zip archive inside the packs directory that mirrors the layout of the game data directory.
+ * Packs are layered on top of the game data in the order they are enabled in the Config,
+ * and the Registry merges all layers of a category once when it is loaded.
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.1
+ */
+public final class ContentPacks {
+    /**
+     * The root of each enabled pack in the order they are applied
+     */
+    private static List<Path> roots;
+
+    /**
+     * Gets the root of each enabled pack
+     * @return The pack roots in the order they are applied
+     */
+    public static synchronized List<Path> getRoots() {
+        if (roots == null) {
+            roots = openPacks();
+        }
+        return roots;
+    }
+
+    /**
+     * Gets every layer of a game data file or directory.<p>
+     * The first layer is always the game data path itself, followed by each pack that contains the same path.
+     * @param basePath The path inside the game data directory
+     * @return The layers in the order they should be applied
+     */
+    public static List<Path> getLayers(final Path basePath) {
+        final List<Path> packRoots = getRoots();
+        if (packRoots.isEmpty()) {
+            return List.of(basePath);
+        }
+        // Pack file systems may be archives, so resolve with a String instead of a Path from the default file system
+        final String relative = TrailApplication.getDataPaths().packsPath().getParent()
+                .relativize(basePath).toString().replace(File.separatorChar, '/');
+        final List<Path> layers = new ArrayList<>(packRoots.size() + 1);
+        layers.add(basePath);
+        for (Path root : packRoots) {
+            final Path layer = root.resolve(relative);
+            if (Files.exists(layer)) {
+                layers.add(layer);
+            }
+        }
+        return layers;
+    }
+
+    /**
+     * Gets the game data path that a file inside an enabled pack adds to
+     * @param file A file that may be inside a pack
+     * @return The same path inside the game data directory, or the file itself if it is not inside an enabled pack
+     */
+    public static Path getBasePath(final Path file) {
+        final Path absolute = file.toAbsolutePath().normalize();
+        for (Path root : getRoots()) {
+            if (root.getFileSystem() != absolute.getFileSystem()) {
+                continue;
+            }
+            final Path packRoot = root.toAbsolutePath().normalize();
+            if (absolute.startsWith(packRoot)) {
+                return TrailApplication.getDataPaths().packsPath().toAbsolutePath().getParent().resolve(packRoot.relativize(absolute));
+            }
+        }
+        return file;
+    }
+
+    private static List<Path> openPacks() {
+        final Path packsPath = TrailApplication.getDataPaths().packsPath();
+        final List<Path> packRoots = new ArrayList<>();
+        for (String name : Config.getConfig().getContentPacks()) {
+            final Path directory = packsPath.resolve(name);
+            final Path archive = packsPath.resolve(name + ".zip");
+            if (Files.isDirectory(directory)) {
+                packRoots.add(directory);
+            } else if (Files.isRegularFile(archive)) {
+                try {
+                    // Left open for the rest of the session because audio is read from the pack when played
+                    packRoots.add(FileSystems.newFileSystem(archive).getPath("/"));
+                } catch (IOException e) {
+                    DebugLogger.error("Failed to open content pack [{}]", archive, e);
+                    continue;
+                }
+            } else {
+                DebugLogger.warn("Content pack [{}] not found in [{}]", name, packsPath);
+                continue;
+            }
+            DebugLogger.info("Loaded content pack [{}]", name);
+        }
+        return List.copyOf(packRoots);
+    }
+}
@@ -0,0 +1,191 @@
+package io.github.onu_eccs1621_sp2025.westward.utils.registry;
+
+import io.github.onu_eccs1621_sp2025.westward.TrailApplication;
+import io.github.onu_eccs1621_sp2025.westward.data.DataPaths;
+import io.github.onu_eccs1621_sp2025.westward.utils.Config;
+import io.github.onu_eccs1621_sp2025.westward.utils.DebugLogger;
+import io.github.onu_eccs1621_sp2025.westward.utils.text.Translations;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches the game data files while in development mode and reloads them when they change.<p>
+ * Changes are debounced so that editors writing a file in several steps only cause one reload,
+ * and each changed data file is re-parsed on a background thread. Translations are reloaded on the GL thread,
+ * because the Renderer copies them into arrays that it draws from.<p>
+ * Enabled content packs that are unpacked directories are watched as well. Packs in zip archives are not.
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.2
+ */
+public final class DataWatcher {
+    /**
+     * The time to wait for more changes before reloading
+     */
+    private static final long DEBOUNCE_MS = 250L;
+    /**
+     * Files that changed since the last reload
+     */
+    private static final Set<Path> PENDING = new LinkedHashSet<>();
+    /**
+     * The thread that reloads changed files
+     */
+    private static ScheduledExecutorService reloader;
+    /**
+     * The watcher for the data directories
+     */
+    private static WatchService watchService;
+    /**
+     * The scheduled reload
+     */
+    private static ScheduledFuture<?> pendingReload;
+
+    /**
+     * Starts watching the game data directories
+     */
+    public static synchronized void start() {
+        if (watchService != null) {
+            return;
+        }
+        final DataPaths paths = TrailApplication.getDataPaths();
+        final Set<Path> directories = new LinkedHashSet<>();
+        directories.add(paths.itemsPath().toAbsolutePath().getParent());
+        directories.add(paths.perilScreensPath().toAbsolutePath().getParent());
+        directories.add(paths.translationsPath().toAbsolutePath());
+        final Path dataPath = paths.packsPath().toAbsolutePath().getParent();
+        for (Path root : ContentPacks.getRoots()) {
+            if (root.getFileSystem() != FileSystems.getDefault()) {
+                continue;
+            }
+            // Each pack mirrors the data, screens and lang directories of the game data
+            for (Path directory : List.copyOf(directories)) {
+                final Path packDirectory = root.toAbsolutePath().resolve(dataPath.relativize(directory));
+                if (Files.isDirectory(packDirectory)) {
+                    directories.add(packDirectory);
+                }
+            }
+        }
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            for (Path directory : directories) {
+                directory.register(watchService,
+                        StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY);
+            }
+        } catch (IOException e) {
+            DebugLogger.error("Failed to watch game data", e);
+            watchService = null;
+            return;
+        }
+        reloader = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "Data Reloader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final Thread watchThread = new Thread(DataWatcher::watch, "Data Watcher");
+        watchThread.setDaemon(true);
+        watchThread.start();
+        DebugLogger.info("Watching game data for changes");
+    }
+
+    /**
+     * Stops watching the game data directories
+     */
+    public static synchronized void stop() {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            DebugLogger.warn("Failed to close the data watcher", e);
+        }
+        reloader.shutdownNow();
+        watchService = null;
+        reloader = null;
+    }
+
+    private static void watch() {
+        final WatchService service = watchService;
+        while (true) {
+            final WatchKey key;
+            try {
+                key = service.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+            final Path directory = (Path) key.watchable();
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    continue;
+                }
+                final Path file = directory.resolve((Path) event.context());
+                if (file.getFileName().toString().endsWith(".json")) {
+                    schedule(file);
+                }
+            }
+            key.reset();
+        }
+    }
+
+    private static synchronized void schedule(final Path file) {
+        if (reloader == null) {
+            return;
+        }
+        PENDING.add(file);
+        if (pendingReload != null) {
+            pendingReload.cancel(false);
+        }
+        pendingReload = reloader.schedule(DataWatcher::reloadPending, DEBOUNCE_MS, TimeUnit.MILLISECONDS);
+    }
+
+    private static void reloadPending() {
+        final List<Path> files;
+        synchronized (DataWatcher.class) {
+            files = new ArrayList<>(PENDING);
+            PENDING.clear();
+            pendingReload = null;
+        }
+        final Path translations = TrailApplication.getDataPaths().translationsPath().toAbsolutePath().normalize();
+        for (Path changed : files) {
+            // A pack file reloads the game data file it adds to, which reads every layer again
+            final Path file = ContentPacks.getBasePath(changed);
+            try {
+                if (file.getParent().normalize().equals(translations)) {
+                    final String lang = Config.getConfig().getLanguage();
+                    if (file.getFileName().toString().equals(lang + ".json")) {
+                        TrailApplication.runOnGlThread(() -> {
+                            try {
+                                Translations.loadTranslations(lang);
+                                DebugLogger.info("Reloaded [{}]", file);
+                            } catch (RuntimeException e) {
+                                DebugLogger.error("Failed to reload [{}]", file, e);
+                            }
+                        });
+                    }
+                } else {
+                    Registry.reloadFile(file);
+                }
+            } catch (RuntimeException e) {
+                // Usually a partially written file, the next change will reload it again
+                DebugLogger.error("Failed to reload [{}]", file, e);
+            }
+        }
+    }
+}
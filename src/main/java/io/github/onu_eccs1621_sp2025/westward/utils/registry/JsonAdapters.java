@@ -0,0 +1,264 @@
+package io.github.onu_eccs1621_sp2025.westward.utils.registry;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.github.onu_eccs1621_sp2025.westward.data.Date;
+import io.github.onu_eccs1621_sp2025.westward.data.Landmark;
+import io.github.onu_eccs1621_sp2025.westward.data.SaveData;
+import io.github.onu_eccs1621_sp2025.westward.data.ShopListing;
+import io.github.onu_eccs1621_sp2025.westward.data.StatusContainer;
+import io.github.onu_eccs1621_sp2025.westward.data.loot_table.LootTable;
+import io.github.onu_eccs1621_sp2025.westward.data.loot_table.LootTableEntry;
+import io.github.onu_eccs1621_sp2025.westward.data.member.Member;
+import io.github.onu_eccs1621_sp2025.westward.data.member.Role;
+import io.github.onu_eccs1621_sp2025.westward.game.Inventory;
+import io.github.onu_eccs1621_sp2025.westward.game.ItemStack;
+import io.github.onu_eccs1621_sp2025.westward.game.event.Event;
+import io.github.onu_eccs1621_sp2025.westward.game.event.EventAction;
+import io.github.onu_eccs1621_sp2025.westward.game.event.EventConstraint;
+import io.github.onu_eccs1621_sp2025.westward.screen.default_screens.accident.PerilScreenData;
+import io.github.onu_eccs1621_sp2025.westward.screen.default_screens.hunting.GameAnimal;
+import io.github.onu_eccs1621_sp2025.westward.screen.default_screens.hunting.HuntingConfig;
+import io.github.onu_eccs1621_sp2025.westward.screen.default_screens.landmark.LandmarkScreenData;
+import io.github.onu_eccs1621_sp2025.westward.screen.default_screens.shop.ShopScreenData;
+import io.github.onu_eccs1621_sp2025.westward.screen.default_screens.trading.TradingItem;
+import io.github.onu_eccs1621_sp2025.westward.screen.default_screens.trading.TradingScreenData;
+import io.github.onu_eccs1621_sp2025.westward.utils.Config;
+import io.github.onu_eccs1621_sp2025.westward.utils.math.IntegerRange;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The hand-written Gson adapters for every type the game reads or writes as JSON.<p>
+ * Gson normally reads fields through reflection, which is slow to warm up and has to be described
+ * to GraalVM in the reachability metadata. Each type instead has an adapter that reads its fields by name
+ * and builds it through a constructor. Unknown fields are skipped and missing fields keep their default value,
+ * the same as with reflection.
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.0
+ */
+public final class JsonAdapters {
+    /**
+     * Reads and writes Strings that may be null
+     */
+    private static final TypeAdapter<String> STRING = new TypeAdapter<>() {
+        @Override
+        public void write(JsonWriter out, String value) throws IOException {
+            out.value(value);
+        }
+
+        @Override
+        public String read(JsonReader in) throws IOException {
+            return nextString(in);
+        }
+    };
+
+    /**
+     * Creates a Gson builder with every adapter registered
+     * @return The builder
+     */
+    public static GsonBuilder builder() {
+        return new GsonBuilder()
+                .registerTypeAdapter(Config.class, new Config.JsonAdapter().nullSafe())
+                .registerTypeAdapter(ItemStack.class, new ItemStack.JsonAdapter().nullSafe())
+                .registerTypeAdapter(StatusContainer.class, new StatusContainer.JsonAdapter().nullSafe())
+                .registerTypeAdapter(Role.class, new Role.JsonAdapter().nullSafe())
+                .registerTypeAdapter(Landmark.class, new Landmark.JsonAdapter().nullSafe())
+                .registerTypeAdapter(Event.class, new Event.JsonAdapter().nullSafe())
+                .registerTypeAdapter(EventAction.class, new EventAction.JsonAdapter().nullSafe())
+                .registerTypeAdapter(EventConstraint.class, new EventConstraint.JsonAdapter().nullSafe())
+                .registerTypeAdapter(IntegerRange.class, new IntegerRange.JsonAdapter().nullSafe())
+                .registerTypeAdapter(SaveData.class, new SaveData.JsonAdapter().nullSafe())
+                .registerTypeAdapter(Member.class, new Member.JsonAdapter().nullSafe())
+                .registerTypeAdapter(Inventory.class, new Inventory.JsonAdapter().nullSafe())
+                .registerTypeAdapter(Date.class, new Date.JsonAdapter().nullSafe())
+                .registerTypeAdapter(PerilScreenData.class, new PerilScreenData.JsonAdapter().nullSafe())
+                .registerTypeAdapter(LandmarkScreenData.class, new LandmarkScreenData.JsonAdapter().nullSafe())
+                .registerTypeAdapter(ShopScreenData.class, new ShopScreenData.JsonAdapter().nullSafe())
+                .registerTypeAdapter(ShopListing.class, new ShopListing.JsonAdapter().nullSafe())
+                .registerTypeAdapter(TradingScreenData.class, new TradingScreenData.JsonAdapter().nullSafe())
+                .registerTypeAdapter(TradingItem.class, new TradingItem.JsonAdapter().nullSafe())
+                .registerTypeAdapter(HuntingConfig.class, new HuntingConfig.JsonAdapter().nullSafe())
+                .registerTypeAdapter(GameAnimal.class, new GameAnimal.JsonAdapter().nullSafe())
+                .registerTypeAdapter(LootTable.class, new LootTable.JsonAdapter().nullSafe())
+                .registerTypeAdapter(LootTableEntry.class, new LootTableEntry.JsonAdapter().nullSafe());
+    }
+
+    /**
+     * Creates an adapter for an enum from a table of names
+     * @param constants Every constant of the enum, from {@code values()}
+     * @param names The JSON name of each constant in the same order, or nothing to use the constant names
+     * @param <E> The enum
+     * @return The adapter. Unknown names are read as null
+     */
+    public static <E extends Enum<E>> TypeAdapter<E> enumAdapter(final E[] constants, final String... names) {
+        if (names.length != 0 && names.length != constants.length) {
+            throw new IllegalArgumentException("Expected " + constants.length + " names but got " + names.length);
+        }
+        final Map<String, E> byName = new HashMap<>();
+        final String[] nameOf = new String[constants.length];
+        for (E constant : constants) {
+            final String name = names.length == 0 ? constant.name() : names[constant.ordinal()];
+            byName.put(name, constant);
+            nameOf[constant.ordinal()] = name;
+        }
+        return new TypeAdapter<E>() {
+            @Override
+            public void write(JsonWriter out, E value) throws IOException {
+                out.value(value == null ? null : nameOf[value.ordinal()]);
+            }
+
+            @Override
+            public E read(JsonReader in) throws IOException {
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    return null;
+                }
+                return byName.get(in.nextString());
+            }
+        };
+    }
+
+    /**
+     * Reads a String that may be null
+     * @param in The reader
+     * @return The String, or null
+     * @throws IOException If the value cannot be read
+     */
+    public static String nextString(final JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextString();
+    }
+
+    /**
+     * Reads an Integer that may be null
+     * @param in The reader
+     * @return The Integer, or null
+     * @throws IOException If the value cannot be read
+     */
+    public static Integer nextInteger(final JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextInt();
+    }
+
+    /**
+     * Reads a Double that may be null
+     * @param in The reader
+     * @return The Double, or null
+     * @throws IOException If the value cannot be read
+     */
+    public static Double nextDouble(final JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextDouble();
+    }
+
+    /**
+     * Reads a number that must fit in a short
+     * @param in The reader
+     * @return The short
+     * @throws IOException If the value cannot be read
+     */
+    public static short nextShort(final JsonReader in) throws IOException {
+        final int value = in.nextInt();
+        if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+            throw new JsonParseException("Value " + value + " is out of range at " + in.getPath());
+        }
+        return (short) value;
+    }
+
+    /**
+     * Reads a number that must fit in a byte
+     * @param in The reader
+     * @return The byte
+     * @throws IOException If the value cannot be read
+     */
+    public static byte nextByte(final JsonReader in) throws IOException {
+        final int value = in.nextInt();
+        if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) {
+            throw new JsonParseException("Value " + value + " is out of range at " + in.getPath());
+        }
+        return (byte) value;
+    }
+
+    /**
+     * Reads an array that may be null
+     * @param in The reader
+     * @param adapter Reads each element
+     * @param <T> The type of each element
+     * @return The elements, or null
+     * @throws IOException If the array cannot be read
+     */
+    public static <T> List<T> readList(final JsonReader in, final TypeAdapter<T> adapter) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        final List<T> list = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            list.add(adapter.read(in));
+        }
+        in.endArray();
+        return list;
+    }
+
+    /**
+     * Writes a list as an array. Writes null for a null list
+     * @param out The writer
+     * @param list The list, or null
+     * @param adapter Writes each element
+     * @param <T> The type of each element
+     * @throws IOException If the array cannot be written
+     */
+    public static <T> void writeList(final JsonWriter out, final List<T> list, final TypeAdapter<T> adapter) throws IOException {
+        if (list == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginArray();
+        for (T element : list) {
+            adapter.write(out, element);
+        }
+        out.endArray();
+    }
+
+    /**
+     * Reads an array of Strings that may be null
+     * @param in The reader
+     * @return The Strings, or null
+     * @throws IOException If the array cannot be read
+     */
+    public static String[] readStrings(final JsonReader in) throws IOException {
+        final List<String> list = readList(in, STRING);
+        return list == null ? null : list.toArray(new String[0]);
+    }
+
+    /**
+     * Writes an array of Strings. Nothing is written for a null array
+     * @param out The writer
+     * @param strings The Strings, or null
+     * @throws IOException If the array cannot be written
+     */
+    public static void writeStrings(final JsonWriter out, final String[] strings) throws IOException {
+        writeList(out, strings == null ? null : Arrays.asList(strings), STRING);
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.onu_eccs1621_sp2025.westward.utils.registry;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import io.github.onu_eccs1621_sp2025.westward.TrailApplication;
+import io.github.onu_eccs1621_sp2025.westward.utils.DebugLogger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Reads game data files one element at a time.<p>
+ * Each element is decoded, validated and handed to the caller as soon as it is read,
+ * so a file never has to be held in memory as a whole list before it is indexed.
+ * Errors report the line and column of the element that caused them.
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.0
+ */
+public final class JsonStream {
+    /**
+     * Reads every element of a JSON array file.<p>
+     * Elements that fail validation are logged and skipped. Malformed JSON stops the file from being read.
+     * @param path The JSON file containing an array
+     * @param type The type of each element
+     * @param consumer Validates and stores each element.
+     *                 Throws a {@link JsonParseException} if the element is invalid
+     * @param <T> The type of each element
+     * @throws IOException If the file cannot be read or is not valid JSON
+     */
+    public static <T> void forEach(final Path path, final Class<T> type, final Consumer<T> consumer) throws IOException {
+        try (JsonReader reader = new JsonReader(Files.newBufferedReader(path))) {
+            reader.beginArray();
+            while (reader.hasNext()) {
+                reader.peek();
+                final String location = getLocation(reader);
+                final T element;
+                try {
+                    element = TrailApplication.getGsonInstance().fromJson(reader, type);
+                } catch (JsonParseException e) {
+                    throw new IOException("Invalid " + type.getSimpleName() + " in " + path + " " + location + ": " + e.getMessage(), e);
+                }
+                try {
+                    if (element == null) {
+                        throw new JsonParseException("Element is null");
+                    }
+                    consumer.accept(element);
+                } catch (JsonParseException e) {
+                    DebugLogger.error("Skipping invalid element in [{}]: {}", path, location + ": " + e.getMessage());
+                }
+            }
+            reader.endArray();
+        } catch (IllegalStateException e) {
+            // Thrown when the file has the wrong structure, such as an object instead of an array
+            throw new IOException("Invalid file " + path + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads every entry of a JSON object file where all values are Strings
+     * @param path The JSON file containing an object
+     * @param into The map the entries are added to. Existing entries with the same key are replaced
+     * @throws IOException If the file cannot be read or is not valid JSON
+     */
+    public static void readStrings(final Path path, final Map<String, String> into) throws IOException {
+        try (JsonReader reader = new JsonReader(Files.newBufferedReader(path))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                final String key = reader.nextName();
+                if (reader.peek() == JsonToken.STRING) {
+                    into.put(key, reader.nextString());
+                } else {
+                    DebugLogger.error("Skipping invalid entry [{}]: {}", key, path + " " + getLocation(reader));
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+        } catch (IllegalStateException e) {
+            throw new IOException("Invalid file " + path + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Ensures a required field of an element was present
+     * @param value The value of the field
+     * @param field The name of the field
+     * @throws JsonParseException If the field is missing
+     */
+    public static void require(final Object value, final String field) {
+        if (value == null) {
+            throw new JsonParseException("Missing required field [" + field + "]");
+        }
+    }
+
+    private static String getLocation(final JsonReader reader) {
+        // JsonReader only exposes its position through toString, formatted as "JsonReader at line 1 column 2 path $[0]"
+        final String description = reader.toString();
+        final int index = description.indexOf(" at line ");
+        return index == -1 ? description : description.substring(index + 1);
+    }
+}
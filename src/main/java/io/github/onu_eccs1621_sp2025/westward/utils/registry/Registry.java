@@ -1,92 +1,127 @@
 package io.github.onu_eccs1621_sp2025.westward.utils.registry;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.annotations.SerializedName;
-import com.google.gson.reflect.TypeToken;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.TypeAdapter;
 import io.github.onu_eccs1621_sp2025.westward.TrailApplication;
+import io.github.onu_eccs1621_sp2025.westward.data.DataPaths;
 import io.github.onu_eccs1621_sp2025.westward.data.Landmark;
 import io.github.onu_eccs1621_sp2025.westward.data.SaveData;
 import io.github.onu_eccs1621_sp2025.westward.data.StatusContainer;
 import io.github.onu_eccs1621_sp2025.westward.data.member.Role;
+import io.github.onu_eccs1621_sp2025.westward.data.save.SaveCatalog;
+import io.github.onu_eccs1621_sp2025.westward.data.save.SaveCodec;
+import io.github.onu_eccs1621_sp2025.westward.data.save.SaveJournal;
+import io.github.onu_eccs1621_sp2025.westward.data.save.SaveLock;
+import io.github.onu_eccs1621_sp2025.westward.data.save.SaveSummary;
+import io.github.onu_eccs1621_sp2025.westward.data.save.SaveThumbnails;
+import io.github.onu_eccs1621_sp2025.westward.data.save.SaveWriter;
 import io.github.onu_eccs1621_sp2025.westward.game.ItemStack;
 import io.github.onu_eccs1621_sp2025.westward.game.event.Event;
-import io.github.onu_eccs1621_sp2025.westward.screen.InventoryViewer;
 import io.github.onu_eccs1621_sp2025.westward.screen.Screen;
-import io.github.onu_eccs1621_sp2025.westward.screen.default_screens.IntroScreen;
-import io.github.onu_eccs1621_sp2025.westward.screen.default_screens.LossScreen;
-import io.github.onu_eccs1621_sp2025.westward.screen.default_screens.SleepScreen;
-import io.github.onu_eccs1621_sp2025.westward.screen.default_screens.VictoryScreen;
-import io.github.onu_eccs1621_sp2025.westward.screen.default_screens.accident.ConsequenceScreen;
 import io.github.onu_eccs1621_sp2025.westward.screen.default_screens.accident.PerilScreen;
 import io.github.onu_eccs1621_sp2025.westward.screen.default_screens.accident.PerilScreenData;
 import io.github.onu_eccs1621_sp2025.westward.screen.default_screens.hunting.HuntingConfig;
 import io.github.onu_eccs1621_sp2025.westward.screen.default_screens.hunting.HuntingGameScreen;
-import io.github.onu_eccs1621_sp2025.westward.screen.default_screens.landmark.LandmarkScreenData;
 import io.github.onu_eccs1621_sp2025.westward.screen.default_screens.landmark.LandmarkScreen;
-import io.github.onu_eccs1621_sp2025.westward.screen.default_screens.river.RiverCrossingScreen;
+import io.github.onu_eccs1621_sp2025.westward.screen.default_screens.landmark.LandmarkScreenData;
 import io.github.onu_eccs1621_sp2025.westward.screen.default_screens.shop.ShopScreen;
 import io.github.onu_eccs1621_sp2025.westward.screen.default_screens.shop.ShopScreenData;
 import io.github.onu_eccs1621_sp2025.westward.screen.default_screens.trading.TradingScreen;
 import io.github.onu_eccs1621_sp2025.westward.screen.default_screens.trading.TradingScreenData;
-import io.github.onu_eccs1621_sp2025.westward.screen.default_screens.travel.TravelingScreen;
 import io.github.onu_eccs1621_sp2025.westward.utils.DebugLogger;
+import io.github.onu_eccs1621_sp2025.westward.utils.profiling.RegistryLoadEvent;
+import io.github.onu_eccs1621_sp2025.westward.utils.FileUtils;
 import io.github.onu_eccs1621_sp2025.westward.utils.ListUtils;
-import io.github.onu_eccs1621_sp2025.westward.utils.rendering.RenderUtils;
+import io.github.onu_eccs1621_sp2025.westward.utils.rendering.TextureAtlas;
+import io.github.onu_eccs1621_sp2025.westward.utils.rendering.TextureRegion;
 
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
 
 /**
  * Manages all data-driven assets and organizes them in a simplistic way.
- * The class also loads all assets when the game is started.
+ * The class also loads all assets when the game is started.<p>
+ * Each data category is held in its own map that is swapped as a whole when the category is reloaded
+ * or an asset is registered, so readers on other threads only ever see a complete category.
  * @author Dylan Catte, Ben Westover, Noah Sumerauer, Micah Lee
  * @since 1.0.0 Alpha 1
- * @version 1.2
+ * @version 1.12
  */
 @SuppressWarnings("DataFlowIssue") // Used to ignore IDE thinking there are NPEs
 public class Registry {
     /**
      * GSON instance
      */
-    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final Gson GSON = JsonAdapters.builder().setPrettyPrinting().create();
     /**
      * Item registry
      */
-    private static final Map<String, ItemStack> ITEMS;
+    private static volatile Map<String, ItemStack> items;
     /**
      * Status registry
      */
-    private static final Map<String, StatusContainer> STATUSES;
+    private static volatile Map<String, StatusContainer> statuses;
     /**
      * Screen / Screen Data registry
      */
-    private static final Map<String, Screen> SCREENS;
+    private static volatile Map<String, Screen> screens;
     /**
      * Hunting Screen Data registry
      */
-    private static final Map<String, Screen> HUNTING_SCREENS;
+    private static volatile Map<String, Screen> huntingScreens;
     /**
      * Event registry
      */
-    private static final Map<String, Event> EVENTS;
+    private static volatile Map<String, Event> events;
+    /**
+     * Events indexed for random selection
+     */
+    private static volatile Event[] eventIndex;
     /**
      * Landmark registry
      */
-    private static final List<Landmark> LANDMARKS;
+    private static volatile List<Landmark> landmarks;
     /**
      * Role registry
      */
-    private static final Map<String, Role> ROLES;
+    private static volatile Map<String, Role> roles;
+    /**
+     * Assets registered at runtime that have not been written to their data file
+     */
+    private static final Map<AssetType, List<Object>> REGISTERED = new EnumMap<>(AssetType.class);
+    /**
+     * Screens loaded from each screen data file
+     */
+    private static final Map<Path, Map<String, Screen>> SCREEN_LAYERS = new LinkedHashMap<>();
+    /**
+     * Screens that are not defined by data files
+     */
+    private static final Map<String, Screen> BUILT_IN_SCREENS = new HashMap<>();
+    /**
+     * Large images that are always loaded, because they are part of the main menu
+     */
+    private static final String[] PINNED_IMAGES = { "courthouseAndJailRocks", "button" };
     /**
      * Image / Asset registry
      */
-    private static Map<String, Long> images;
+    private static Map<String, TextureRegion> images;
+    /**
+     * The file of each image
+     */
+    private static Map<String, Path> imageFiles;
     /**
      * Music registry
      */
@@ -98,170 +133,118 @@ public class Registry {
     /**
      * Game saves
      */
-    private static final List<String> SAVES = new ArrayList<>();
-    /**
-     * Game save dates
-     */
-    private static final List<String> SAVES_DATE = new ArrayList<>();
+    private static final SaveCatalog SAVES = new SaveCatalog(TrailApplication.getDataPaths().savesDirectoryPath());
 
     // Load Assets
     static {
         // Load statuses
-        Map<String, StatusContainer> statuses;
-        try (BufferedReader reader = Files.newBufferedReader(TrailApplication.getDataPaths().statusesPath())) {
-            List<StatusContainer> statusList = TrailApplication.getGsonInstance().fromJson(reader, new TypeToken<List<StatusContainer>>(){}.getType());
-            statuses = new HashMap<>(getCapacity(statusList.size()));
-            for (StatusContainer status : statusList) {
-                statuses.put(status.getName(), status);
-            }
+        RegistryLoadEvent phase = beginPhase();
+        try {
+            statuses = loadStatuses();
         } catch (IOException e) {
             DebugLogger.error("Failed to load statuses.json", e);
             statuses = new HashMap<>();
+            putHardCodedStatuses(statuses);
         }
-        // Hard coded hunger status
-        statuses.put("hunger", new StatusContainer("hunger", (byte) 1, (byte) 5, "status.hunger.obtained", false, 0.1F));
-        STATUSES = statuses;
+        commitPhase(phase, "statuses", statuses.size());
 
         // Load items
-        Map<String, ItemStack> items;
-        try (BufferedReader reader = Files.newBufferedReader(TrailApplication.getDataPaths().itemsPath())) {
-            List<ItemStack> itemStackList = TrailApplication.getGsonInstance().fromJson(reader, new TypeToken<List<ItemStack>>(){}.getType());
-            items = new HashMap<>(getCapacity(itemStackList.size()));
-            for (ItemStack itemStack : itemStackList) {
-                items.put(itemStack.getId(), itemStack);
-            }
+        phase = beginPhase();
+        try {
+            items = loadItems();
         } catch (IOException e) {
             DebugLogger.error("Failed to load items.json", e);
             items = new HashMap<>();
         }
-        ITEMS = items;
+        commitPhase(phase, "items", items.size());
 
         // Load landmarks
-        List<Landmark> landmarks;
-        try (BufferedReader reader = Files.newBufferedReader(TrailApplication.getDataPaths().landmarksPath())) {
-            landmarks = TrailApplication.getGsonInstance().fromJson(reader, new TypeToken<List<Landmark>>(){}.getType());
-            // Sort list based on miles
-            Collections.sort(landmarks);
+        phase = beginPhase();
+        try {
+            landmarks = loadLandmarks();
         } catch (IOException e) {
             DebugLogger.error("Failed to load landmarks.json", e);
             landmarks = new ArrayList<>();
         }
-        LANDMARKS = landmarks;
+        commitPhase(phase, "landmarks", landmarks.size());
 
         // Load events
-        Map<String, Event> events;
-        try (BufferedReader reader = Files.newBufferedReader(TrailApplication.getDataPaths().eventsPath())) {
-            List<Event> eventList = TrailApplication.getGsonInstance().fromJson(reader, new TypeToken<List<Event>>(){}.getType());
-            events = new HashMap<>(getCapacity(eventList.size()));
-            for (Event event : eventList) {
-                events.put(event.name(), event);
-            }
+        phase = beginPhase();
+        try {
+            setEvents(loadEvents());
         } catch (IOException e) {
             DebugLogger.error("Failed to load events.json", e);
-            events = new HashMap<>();
+            setEvents(new HashMap<>());
         }
-        EVENTS = events;
+        commitPhase(phase, "events", events.size());
 
         // Load screens
-        Map<String, Screen> screens;
-        Map<String, Screen> huntingScreens;
-        List<PerilScreenData> perilScreenList = null;
-        List<LandmarkScreenData> landmarkScreenList = null;
-        List<ShopScreenData> shopScreenList = null;
-        List<TradingScreenData> tradingScreenList = null;
-        List<HuntingConfig> huntingGameScreenList = null;
-
-        int totalScreens = 0;
-        try (BufferedReader reader = Files.newBufferedReader(TrailApplication.getDataPaths().perilScreensPath())) {
-            perilScreenList = TrailApplication.getGsonInstance().fromJson(reader, new TypeToken<List<PerilScreenData>>(){}.getType());
-            totalScreens += perilScreenList.size();
-        } catch (IOException e) {
-            DebugLogger.error("Failed to load peril screens from JSON", e);
-        }
-        try (BufferedReader reader = Files.newBufferedReader(TrailApplication.getDataPaths().landmarkScreensPath())) {
-            landmarkScreenList = TrailApplication.getGsonInstance().fromJson(reader, new TypeToken<List<LandmarkScreenData>>(){}.getType());
-            totalScreens += landmarkScreenList.size();
-        } catch (IOException e) {
-            DebugLogger.error("Failed to load landmark screens from JSON", e);
-        }
-        try (BufferedReader reader = Files.newBufferedReader(TrailApplication.getDataPaths().shopScreensPath())) {
-            shopScreenList = TrailApplication.getGsonInstance().fromJson(reader, new TypeToken<List<ShopScreenData>>(){}.getType());
-        } catch (IOException e) {
-            DebugLogger.error("Failed to load shop screens from JSON", e);
-        }
-        try (BufferedReader reader = Files.newBufferedReader(TrailApplication.getDataPaths().tradingScreensPath())) {
-            tradingScreenList = TrailApplication.getGsonInstance().fromJson(reader, new TypeToken<List<TradingScreenData>>(){}.getType());
-        } catch (IOException e) {
-            DebugLogger.error("Failed to load trading screens from JSON", e);
+        phase = beginPhase();
+        for (Path path : getScreenPaths()) {
+            try {
+                SCREEN_LAYERS.put(path, loadScreens(path));
+            } catch (IOException e) {
+                DebugLogger.error("Failed to load screens from [{}]", path, e);
+                SCREEN_LAYERS.put(path, new HashMap<>());
+            }
         }
-        int totalHuntingScreens = 0;
-        try (BufferedReader reader = Files.newBufferedReader(TrailApplication.getDataPaths().huntingGameScreensPath())) {
-            huntingGameScreenList = TrailApplication.getGsonInstance().fromJson(reader, new TypeToken<List<HuntingConfig>>(){}.getType());
-            totalHuntingScreens += huntingGameScreenList.size();
+        try {
+            huntingScreens = loadHuntingScreens();
         } catch (IOException e) {
             DebugLogger.error("Failed to load hunting screens from JSON", e);
+            huntingScreens = new HashMap<>();
         }
 
-        screens = new HashMap<>(getCapacity(totalScreens));
-        for (PerilScreenData screenData : perilScreenList) {
-            screens.put(screenData.id(), new PerilScreen(screenData));
-        }
-        for (LandmarkScreenData screenData : landmarkScreenList) {
-            screens.put(screenData.id(), new LandmarkScreen(screenData));
-        }
-        for (ShopScreenData screenData : shopScreenList) {
-            screens.put(screenData.id(), new ShopScreen(screenData));
-        }
-        for (TradingScreenData screenData : tradingScreenList) {
-            screens.put(screenData.id(), new TradingScreen(screenData));
-        }
-        huntingScreens = new HashMap<>(getCapacity(totalHuntingScreens));
-        for (HuntingConfig screenData : huntingGameScreenList) {
-            huntingScreens.put(screenData.id(), new HuntingGameScreen(screenData));
-        }
-
-        screens.put("travel", new TravelingScreen());
-        screens.put("consequence", new ConsequenceScreen());
-        screens.put("victory", new VictoryScreen());
-        screens.put("loss", new LossScreen());
-        screens.put("intro", new IntroScreen());
-        screens.put("inventory", new InventoryViewer());
-        screens.put("sleep", new SleepScreen());
-        screens.put("river", new RiverCrossingScreen());
-        SCREENS = screens;
-        HUNTING_SCREENS = huntingScreens;
+        BuiltInContent.SCREENS.forEach((id, screen) -> BUILT_IN_SCREENS.put(id, screen.get()));
+        screens = mergeScreens();
+        commitPhase(phase, "screens", screens.size() + huntingScreens.size());
 
         // Load roles
-        Map<String, Role> roles;
-        try (BufferedReader reader = Files.newBufferedReader(TrailApplication.getDataPaths().rolesPath())) {
-            List<Role> roleList = TrailApplication.getGsonInstance().fromJson(reader, new TypeToken<List<Role>>(){}.getType());
-            roles = new HashMap<>(getCapacity(roleList.size()));
-            for (Role role : roleList) {
-                roles.put(role.id(), role);
-            }
+        phase = beginPhase();
+        try {
+            roles = loadRoles();
         } catch (IOException e) {
             DebugLogger.error("Failed to load roles.json", e);
             roles = new HashMap<>();
         }
-        ROLES = roles;
+        commitPhase(phase, "roles", roles.size());
 
         // Load saves
-        try (DirectoryStream<Path> stream = Files.newDirectoryStream(TrailApplication.getDataPaths().savesDirectoryPath())) {
+        phase = beginPhase();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(TrailApplication.getDataPaths().savesDirectoryPath(), "*" + SaveCodec.JSON_EXTENSION)) {
             for (Path save : stream) {
-                SAVES.add(save.getFileName().toString().replace(".json", ""));
-                SaveData data;
-
-                try (BufferedReader reader = Files.newBufferedReader(save)) {
-                    data = TrailApplication.getGsonInstance().fromJson(reader, new TypeToken<SaveData>(){}.getType());
+                try {
+                    // Saves from older versions and imported saves are converted once
+                    SaveLock.withLock(() -> SaveCodec.migrate(save));
                 } catch (IOException e) {
                     DebugLogger.error("Failed to load {}", save.getFileName(), e);
-                    data = null;
                 }
-                SAVES_DATE.add(data.dateSaved());
             }
+            SAVES.refresh();
         } catch (IOException e) {
             DebugLogger.error("Failed to load saves", e);
         }
+        commitPhase(phase, "saves", SAVES.size());
+    }
+
+    private static RegistryLoadEvent beginPhase() {
+        final RegistryLoadEvent event = new RegistryLoadEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Records a load phase for the flight recorder
+     * @param event The event begun when the phase started
+     * @param phase The category of data that was loaded
+     * @param items The number of assets loaded
+     */
+    private static void commitPhase(final RegistryLoadEvent event, final String phase, final int items) {
+        if (event.shouldCommit()) {
+            event.phase = phase;
+            event.items = items;
+            event.commit();
+        }
     }
 
     /**
@@ -273,21 +256,23 @@ public class Registry {
     }
 
     /**
-     * Loads the image texture ids
+     * Starts loading the images, packing sprites and icons into shared textures.<p>
+     * Images are drawn with a placeholder until they finish loading
      */
     public static void loadImages() {
-        // Load assets
-        Map<String, Long> images = new HashMap<>();
-        try (DirectoryStream<Path> stream = Files.newDirectoryStream(TrailApplication.getDataPaths().imagesPath())) {
-            for (Path path : stream) {
-                long imageId = RenderUtils.loadTextureFromFile(path.toString());
-                String name = path.getFileName().toString().substring(0, path.getFileName().toString().lastIndexOf("."));
-                images.put(name, imageId);
-            }
-        } catch (IOException e) {
-            DebugLogger.error("Failed to load images", e);
-        }
-        Registry.images = images;
+        // The main menu is shown as soon as the window appears
+        TextureAtlas.pin(PINNED_IMAGES);
+        Registry.imageFiles = listLayeredFiles(TrailApplication.getDataPaths().imagesPath());
+        Registry.images = TextureAtlas.load(Registry.imageFiles);
+    }
+
+    /**
+     * Gets the file an image was loaded from
+     * @param identifier The identifier of the image
+     * @return The file, or null if the image does not exist or was registered at runtime
+     */
+    public static Path getImageFile(final String identifier) {
+        return imageFiles.get(identifier);
     }
 
     /**
@@ -295,16 +280,7 @@ public class Registry {
      */
     public static void loadAudio() {
         // Load audio
-        Map<String, Path> audio = new HashMap<>();
-        try (DirectoryStream<Path> stream = Files.newDirectoryStream(TrailApplication.getDataPaths().audioPath())) {
-            for (Path path : stream) {
-                String name = path.getFileName().toString().substring(0, path.getFileName().toString().lastIndexOf("."));
-                audio.put(name, path);
-            }
-        } catch (IOException e) {
-            DebugLogger.error("Failed to load audio", e);
-        }
-        Registry.audio = audio;
+        Registry.audio = listLayeredFiles(TrailApplication.getDataPaths().audioPath());
     }
 
     /**
@@ -312,16 +288,244 @@ public class Registry {
      */
     public static void loadSFX() {
         // Load sfx
-        Map<String, Path> sfx = new HashMap<>();
-        try (DirectoryStream<Path> stream = Files.newDirectoryStream(TrailApplication.getDataPaths().sfxPath())) {
-            for (Path path : stream) {
-                String name = path.getFileName().toString().substring(0, path.getFileName().toString().lastIndexOf("."));
-                sfx.put(name, path);
+        Registry.sfx = listLayeredFiles(TrailApplication.getDataPaths().sfxPath());
+    }
+
+    /**
+     * Lists the files in a game data directory and the same directory in every enabled content pack.<p>
+     * Files from later layers replace files with the same name from earlier layers,
+     * so only the files that are used get loaded.
+     * @param directory The game data directory
+     * @return The file paths by file name without the extension
+     */
+    private static Map<String, Path> listLayeredFiles(final Path directory) {
+        Map<String, Path> files = new HashMap<>();
+        for (Path layer : ContentPacks.getLayers(directory)) {
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(layer)) {
+                for (Path path : stream) {
+                    String name = path.getFileName().toString().substring(0, path.getFileName().toString().lastIndexOf("."));
+                    files.put(name, path);
+                }
+            } catch (IOException e) {
+                DebugLogger.error("Failed to load [{}]", layer, e);
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Re-parses a single data file and swaps its category into the Registry.<p>
+     * Only indexes that are built from the reloaded category are rebuilt.
+     * The previous category is kept if the file cannot be read.
+     * @param file The data file that changed
+     * @return If the file belongs to a Registry category
+     */
+    public static synchronized boolean reloadFile(final Path file) {
+        final DataPaths paths = TrailApplication.getDataPaths();
+        for (AssetType type : AssetType.values()) {
+            final Path dataPath = getDataPath(type);
+            if (dataPath != null && isSameFile(file, dataPath) && AssetPersister.isDirty(type)) {
+                // The pending write will replace the file with the registered assets
+                DebugLogger.info("Skipping reload of [{}] with unsaved changes", file);
+                return true;
+            }
+        }
+        try {
+            if (isSameFile(file, paths.statusesPath())) {
+                statuses = loadStatuses();
+            } else if (isSameFile(file, paths.itemsPath())) {
+                items = loadItems();
+            } else if (isSameFile(file, paths.landmarksPath())) {
+                landmarks = loadLandmarks();
+            } else if (isSameFile(file, paths.eventsPath())) {
+                setEvents(loadEvents());
+            } else if (isSameFile(file, paths.rolesPath())) {
+                roles = loadRoles();
+            } else if (isSameFile(file, paths.huntingGameScreensPath())) {
+                huntingScreens = loadHuntingScreens();
+            } else {
+                Path screenPath = null;
+                for (Path path : SCREEN_LAYERS.keySet()) {
+                    if (isSameFile(file, path)) {
+                        screenPath = path;
+                        break;
+                    }
+                }
+                if (screenPath == null) {
+                    return false;
+                }
+                SCREEN_LAYERS.put(screenPath, loadScreens(screenPath));
+                screens = mergeScreens();
             }
         } catch (IOException e) {
-            DebugLogger.error("Failed to load sfx", e);
+            DebugLogger.error("Failed to reload [{}]", file, e);
+            return true;
+        }
+        DebugLogger.info("Reloaded [{}]", file);
+        return true;
+    }
+
+    private static boolean isSameFile(final Path first, final Path second) {
+        return first.toAbsolutePath().normalize().equals(second.toAbsolutePath().normalize());
+    }
+
+    /**
+     * Streams a data file and the same file from every enabled content pack into an index
+     * @param basePath The data file
+     * @param type The type of each element in the file
+     * @param consumer Validates each element and adds it to the index
+     * @throws IOException If a layer cannot be read
+     */
+    private static <T> void readLayers(final Path basePath, final Class<T> type, final Consumer<T> consumer) throws IOException {
+        for (Path layer : ContentPacks.getLayers(basePath)) {
+            JsonStream.forEach(layer, type, consumer);
         }
-        Registry.sfx = sfx;
+    }
+
+    private static Map<String, StatusContainer> loadStatuses() throws IOException {
+        final Path path = TrailApplication.getDataPaths().statusesPath();
+        final ContentBundle bundle = ContentBundle.getIfUnmodified(path);
+        if (bundle != null) {
+            Map<String, StatusContainer> loaded = bundle.getStatuses();
+            putHardCodedStatuses(loaded);
+            return loaded;
+        }
+        Map<String, StatusContainer> loaded = new HashMap<>();
+        readLayers(path, StatusContainer.class, status -> {
+            JsonStream.require(status.getName(), "name");
+            loaded.put(status.getName(), status);
+        });
+        putHardCodedStatuses(loaded);
+        return loaded;
+    }
+
+    private static void putHardCodedStatuses(final Map<String, StatusContainer> loaded) {
+        for (StatusContainer status : BuiltInContent.createStatuses()) {
+            loaded.put(status.getName(), status);
+        }
+    }
+
+    private static Map<String, ItemStack> loadItems() throws IOException {
+        final Path path = TrailApplication.getDataPaths().itemsPath();
+        final ContentBundle bundle = ContentBundle.getIfUnmodified(path);
+        if (bundle != null) {
+            return bundle.getItems();
+        }
+        Map<String, ItemStack> loaded = new HashMap<>();
+        readLayers(path, ItemStack.class, itemStack -> {
+            JsonStream.require(itemStack.getId(), "id");
+            JsonStream.require(itemStack.getType(), "type");
+            loaded.put(itemStack.getId(), itemStack);
+        });
+        return loaded;
+    }
+
+    private static List<Landmark> loadLandmarks() throws IOException {
+        final Path path = TrailApplication.getDataPaths().landmarksPath();
+        final ContentBundle bundle = ContentBundle.getIfUnmodified(path);
+        if (bundle != null) {
+            return bundle.getLandmarks();
+        }
+        // Content packs replace landmarks with the same name
+        Map<String, Landmark> byName = new LinkedHashMap<>();
+        readLayers(path, Landmark.class, landmark -> {
+            JsonStream.require(landmark.name(), "name");
+            byName.put(landmark.name(), landmark);
+        });
+        List<Landmark> loaded = new ArrayList<>(byName.values());
+        // Sort list based on miles
+        Collections.sort(loaded);
+        return loaded;
+    }
+
+    private static Map<String, Event> loadEvents() throws IOException {
+        final Path path = TrailApplication.getDataPaths().eventsPath();
+        final ContentBundle bundle = ContentBundle.getIfUnmodified(path);
+        if (bundle != null) {
+            return bundle.getEvents();
+        }
+        Map<String, Event> loaded = new HashMap<>();
+        readLayers(path, Event.class, event -> {
+            JsonStream.require(event.name(), "name");
+            JsonStream.require(event.screenId(), "screenId");
+            JsonStream.require(event.action(), "action");
+            loaded.put(event.name(), event);
+        });
+        return loaded;
+    }
+
+    private static void setEvents(final Map<String, Event> loaded) {
+        eventIndex = loaded.values().toArray(new Event[0]);
+        events = loaded;
+    }
+
+    private static Map<String, Role> loadRoles() throws IOException {
+        final Path path = TrailApplication.getDataPaths().rolesPath();
+        final ContentBundle bundle = ContentBundle.getIfUnmodified(path);
+        if (bundle != null) {
+            return bundle.getRoles();
+        }
+        Map<String, Role> loaded = new HashMap<>();
+        readLayers(path, Role.class, role -> {
+            JsonStream.require(role.id(), "id");
+            loaded.put(role.id(), role);
+        });
+        return loaded;
+    }
+
+    private static List<Path> getScreenPaths() {
+        final DataPaths paths = TrailApplication.getDataPaths();
+        return List.of(paths.perilScreensPath(), paths.landmarkScreensPath(), paths.shopScreensPath(), paths.tradingScreensPath());
+    }
+
+    private static Map<String, Screen> loadScreens(final Path path) throws IOException {
+        final DataPaths paths = TrailApplication.getDataPaths();
+        Map<String, Screen> loaded = new HashMap<>();
+        if (path.equals(paths.perilScreensPath())) {
+            readLayers(path, PerilScreenData.class, screenData -> {
+                JsonStream.require(screenData.id(), "id");
+                loaded.put(screenData.id(), new PerilScreen(screenData));
+            });
+        } else if (path.equals(paths.landmarkScreensPath())) {
+            readLayers(path, LandmarkScreenData.class, screenData -> {
+                JsonStream.require(screenData.id(), "id");
+                loaded.put(screenData.id(), new LandmarkScreen(screenData));
+            });
+        } else if (path.equals(paths.shopScreensPath())) {
+            readLayers(path, ShopScreenData.class, screenData -> {
+                JsonStream.require(screenData.id(), "id");
+                JsonStream.require(screenData.items(), "items");
+                loaded.put(screenData.id(), new ShopScreen(screenData));
+            });
+        } else if (path.equals(paths.tradingScreensPath())) {
+            readLayers(path, TradingScreenData.class, screenData -> {
+                JsonStream.require(screenData.id(), "id");
+                loaded.put(screenData.id(), new TradingScreen(screenData));
+            });
+        }
+        return loaded;
+    }
+
+    private static Map<String, Screen> loadHuntingScreens() throws IOException {
+        Map<String, Screen> loaded = new HashMap<>();
+        readLayers(TrailApplication.getDataPaths().huntingGameScreensPath(), HuntingConfig.class, screenData -> {
+            JsonStream.require(screenData.id(), "id");
+            loaded.put(screenData.id(), new HuntingGameScreen(screenData));
+        });
+        return loaded;
+    }
+
+    private static Map<String, Screen> mergeScreens() {
+        int totalScreens = BUILT_IN_SCREENS.size();
+        for (Map<String, Screen> layer : SCREEN_LAYERS.values()) {
+            totalScreens += layer.size();
+        }
+        Map<String, Screen> merged = new HashMap<>(getCapacity(totalScreens));
+        for (Map<String, Screen> layer : SCREEN_LAYERS.values()) {
+            merged.putAll(layer);
+        }
+        merged.putAll(BUILT_IN_SCREENS);
+        return merged;
     }
 
     private static int getCapacity(final int elements) {
@@ -338,27 +542,31 @@ public class Registry {
     public static Object getAsset(final AssetType assetType, final String identifier) {
         switch (assetType) {
             case ITEM -> {
-                return ITEMS.get(identifier);
+                return items.get(identifier);
             }
             case STATUS -> {
-                return STATUSES.get(identifier);
+                return statuses.get(identifier);
             }
             case SCREEN -> {
-                return SCREENS.get(identifier);
+                return screens.get(identifier);
             }
             case HUNTING_SCREEN -> {
-                return HUNTING_SCREENS.get(identifier);
+                return huntingScreens.get(identifier);
             }
             case EVENT -> {
-                return EVENTS.get(identifier);
+                return events.get(identifier);
             }
             case LANDMARK -> {
-                return LANDMARKS.get(Integer.parseInt(identifier));
+                return landmarks.get(Integer.parseInt(identifier));
             }
             case ROLE -> {
-                return ROLES.get(identifier);
+                return roles.get(identifier);
             }
             case ASSET -> {
+                if (identifier == null) {
+                    return null;
+                }
+                TextureAtlas.touch(identifier);
                 return images.get(identifier);
             }
             case AUDIO -> {
@@ -368,13 +576,15 @@ public class Registry {
                 return sfx.get(identifier);
             }
             case SAVE -> {
-                String file = SAVES.get(Integer.parseInt(identifier));
-                Path path = TrailApplication.getDataPaths().savesDirectoryPath().resolve(file + ".json");
+                if (!SAVES.contains(identifier)) {
+                    DebugLogger.warn("Save [{}] not found", identifier);
+                    return null;
+                }
                 SaveData data;
-                try (BufferedReader reader = Files.newBufferedReader(path)) {
-                    data = TrailApplication.getGsonInstance().fromJson(reader, new TypeToken<SaveData>(){}.getType());
+                try {
+                    data = SaveJournal.recover(identifier);
                 } catch (IOException e) {
-                    DebugLogger.error("Failed to load {}.json", file, e);
+                    DebugLogger.error("Failed to load save [{}]", identifier, e);
                     data = null;
                 }
                 return data;
@@ -387,44 +597,20 @@ public class Registry {
     }
 
     /**
-     * Gets the save name and save date for an index
-     * @param i Index of the save data
-     * @return Save name [0] and Save date [1]
+     * Gets the index of every save, used to list the saves
+     * @return The save catalog
      */
-    public static String[] getSaveData(final int i) {
-        return new String[] {
-                SAVES.get(i),
-                SAVES_DATE.get(i)
-        };
+    public static SaveCatalog getSaveCatalog() {
+        return SAVES;
     }
 
     /**
-     * Replaces the date of the save file
-     * @param name Name of save
+     * Updates the listing of a save after it was written
+     * @param save The save that was written
      */
-    public static void replaceSaveData(final String name) {
-        if (SAVES.contains(name)) {
-            int index = SAVES.indexOf(name);
-            SAVES_DATE.set(index, SaveData.getTimeNow());
-        } else {
-            registerAsset(AssetType.SAVE, name);
-        }
-    }
-
-    /**
-     * Removes the save data from the Registry.
-     * Also deletes the save data file
-     * @param i Index of the save
-     */
-    public static void removeSaveData(final int i) {
-        SAVES_DATE.remove(i);
-        String save = SAVES.remove(i);
-        Path path = TrailApplication.getDataPaths().savesDirectoryPath().resolve(save + ".json");
-        try {
-            Files.delete(path);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+    public static synchronized void replaceSaveData(final SaveData save) {
+        SAVES.put(SaveSummary.of(save));
+        SaveThumbnails.invalidate(save.saveName());
     }
 
     /**
@@ -432,17 +618,19 @@ public class Registry {
      * Also deletes the save data file
      * @param name The name of the save file
      */
-    public static void removeSaveData(final String name) {
-        int index = SAVES.indexOf(name);
-        if (index != -1) {
-            SAVES.remove(index);
-            SAVES_DATE.remove(index);
-        }
+    public static synchronized void removeSaveData(final String name) {
+        SAVES.remove(name);
+        SaveThumbnails.invalidate(name);
+        deleteSaveFiles(name);
+    }
 
-        Path gameDir = TrailApplication.getDataPaths().savesDirectoryPath().resolve(name + ".json");
-        if (Files.exists(gameDir)) {
-            gameDir.toFile().delete();
-        }
+    private static void deleteSaveFiles(final String name) {
+        // Deleted on the save thread so a pending autosave cannot recreate the save
+        SaveWriter.delete(name).whenComplete((ignored, error) -> {
+            if (error != null) {
+                DebugLogger.error("Failed to delete save [{}]", name, error);
+            }
+        });
     }
 
     /**
@@ -453,24 +641,24 @@ public class Registry {
      */
     public static boolean containsAsset(final AssetType type, final String id) {
         return switch (type) {
-            case ITEM -> ITEMS.containsKey(id);
-            case STATUS -> STATUSES.containsKey(id);
-            case SCREEN -> SCREENS.containsKey(id);
-            case EVENT -> EVENTS.containsKey(id);
+            case ITEM -> items.containsKey(id);
+            case STATUS -> statuses.containsKey(id);
+            case SCREEN -> screens.containsKey(id);
+            case EVENT -> events.containsKey(id);
             case LANDMARK -> {
-                for (Landmark landmark : LANDMARKS) {
+                for (Landmark landmark : landmarks) {
                     if (landmark.name().equals(id)) {
                         yield true;
                     }
                 }
                 yield false;
             }
-            case ROLE -> ROLES.containsKey(id);
+            case ROLE -> roles.containsKey(id);
             case ASSET -> images.containsKey(id);
             case AUDIO -> audio.containsKey(id);
             case SFX -> sfx.containsKey(id);
             case SAVE -> SAVES.contains(id);
-            case HUNTING_SCREEN -> HUNTING_SCREENS.containsKey(id);
+            case HUNTING_SCREEN -> huntingScreens.containsKey(id);
         };
     }
 
@@ -480,7 +668,7 @@ public class Registry {
      * @return The landmark at the index
      */
     public static Landmark getLandmarkAsset(final int index) {
-        return LANDMARKS.get(index);
+        return landmarks.get(index);
     }
 
     /**
@@ -491,31 +679,31 @@ public class Registry {
     public static Object[] getAssets(final AssetType assetType) {
         switch (assetType) {
             case ITEM -> {
-                return ITEMS.values().toArray(new ItemStack[0]);
+                return items.values().toArray(new ItemStack[0]);
             }
             case STATUS -> {
-                return STATUSES.values().toArray(new StatusContainer[0]);
+                return statuses.values().toArray(new StatusContainer[0]);
             }
             case SCREEN -> {
-                return SCREENS.values().toArray(new Screen[0]);
+                return screens.values().toArray(new Screen[0]);
             }
             case EVENT -> {
-                return EVENTS.values().toArray(new Event[0]);
+                return events.values().toArray(new Event[0]);
             }
             case LANDMARK -> {
-                return LANDMARKS.toArray(new Landmark[0]);
+                return landmarks.toArray(new Landmark[0]);
             }
             case ROLE -> {
-                return ROLES.values().toArray(new Role[0]);
+                return roles.values().toArray(new Role[0]);
             }
             case ASSET -> {
-                return images.values().toArray(new Long[0]);
+                return images.values().toArray(new TextureRegion[0]);
             }
             case AUDIO -> {
                 return audio.values().toArray(new Path[0]);
             }
             case SAVE -> {
-                return SAVES.toArray();
+                return SAVES.names();
             }
             default -> {
                 DebugLogger.warn("Type [{}] not found", assetType);
@@ -532,23 +720,23 @@ public class Registry {
     public static String[] getAssetIdentifiers(final AssetType assetType) {
         switch (assetType) {
             case ITEM -> {
-                return ITEMS.keySet().toArray(new String[0]);
+                return items.keySet().toArray(new String[0]);
             }
             case STATUS -> {
-                return STATUSES.keySet().toArray(new String[0]);
+                return statuses.keySet().toArray(new String[0]);
             }
             case SCREEN -> {
-                return SCREENS.keySet().toArray(new String[0]);
+                return screens.keySet().toArray(new String[0]);
             }
             case EVENT -> {
-                return EVENTS.keySet().toArray(new String[0]);
+                return events.keySet().toArray(new String[0]);
             }
             case LANDMARK -> {
                 // Landmarks don't have identifiers
                 return new String[0];
             }
             case ROLE -> {
-                return ROLES.keySet().toArray(new String[0]);
+                return roles.keySet().toArray(new String[0]);
             }
             case ASSET -> {
                 return images.keySet().toArray(new String[0]);
@@ -587,17 +775,20 @@ public class Registry {
      */
     public static Object randomAsset(final AssetType assetType) {
         return switch (assetType) {
-            case ITEM -> ListUtils.getRandomElement(ITEMS.values());
-            case STATUS -> ListUtils.getRandomElement(STATUSES.values());
-            case SCREEN -> ListUtils.getRandomElement(SCREENS.values());
-            case EVENT -> ListUtils.getRandomElement(EVENTS.values());
-            case LANDMARK -> ListUtils.getRandomElement(LANDMARKS);
-            case ROLE -> ListUtils.getRandomElement(ROLES.values());
+            case ITEM -> ListUtils.getRandomElement(items.values());
+            case STATUS -> ListUtils.getRandomElement(statuses.values());
+            case SCREEN -> ListUtils.getRandomElement(screens.values());
+            case EVENT -> {
+                Event[] index = eventIndex;
+                yield index.length == 0 ? null : index[ThreadLocalRandom.current().nextInt(index.length)];
+            }
+            case LANDMARK -> ListUtils.getRandomElement(landmarks);
+            case ROLE -> ListUtils.getRandomElement(roles.values());
             case ASSET -> ListUtils.getRandomElement(images.values());
             case AUDIO -> ListUtils.getRandomElement(audio.values());
             case SFX -> ListUtils.getRandomElement(sfx.values());
-            case SAVE -> ListUtils.getRandomElement(SAVES);
-            case HUNTING_SCREEN -> ListUtils.getRandomElement(HUNTING_SCREENS.values());
+            case SAVE -> ListUtils.getRandomElement(List.of(SAVES.names()));
+            case HUNTING_SCREEN -> ListUtils.getRandomElement(huntingScreens.values());
         };
     }
 
@@ -609,22 +800,22 @@ public class Registry {
     public static int getLoadedAssetsCount(final AssetType assetType) {
         switch (assetType) {
             case ITEM -> {
-                return ITEMS.size();
+                return items.size();
             }
             case STATUS -> {
-                return STATUSES.size();
+                return statuses.size();
             }
             case SCREEN -> {
-                return SCREENS.size();
+                return screens.size();
             }
             case EVENT -> {
-                return EVENTS.size();
+                return events.size();
             }
             case LANDMARK -> {
-                return LANDMARKS.size();
+                return landmarks.size();
             }
             case ROLE -> {
-                return ROLES.size();
+                return roles.size();
             }
             case ASSET -> {
                 return images.size();
@@ -640,81 +831,96 @@ public class Registry {
     }
 
     /**
-     * Adds assets during runtime
+     * Adds assets during runtime.<p>
+     * Data file backed categories are written back to disk in the background by {@link AssetPersister}
      * @param assetType The type of asset adding
      * @param asset     The asset
      */
-    public static void registerAsset(final AssetType assetType, final Object asset) {
+    public static synchronized void registerAsset(final AssetType assetType, final Object asset) {
         switch (assetType) {
             case ITEM -> {
-                if (ITEMS.containsKey(((ItemStack)asset).getId())) {
+                if (items.containsKey(((ItemStack)asset).getId())) {
                     return;
                 }
-                ITEMS.put(((ItemStack)asset).getId(), (ItemStack) asset);
-                saveAssets(AssetType.ITEM);
+                final Map<String, ItemStack> copy = new HashMap<>(items);
+                copy.put(((ItemStack)asset).getId(), (ItemStack) asset);
+                items = copy;
+                REGISTERED.computeIfAbsent(AssetType.ITEM, key -> new ArrayList<>()).add(asset);
+                AssetPersister.markDirty(AssetType.ITEM);
             }
             case STATUS -> {
-                if (STATUSES.containsKey(((StatusContainer)asset).getName())) {
+                if (statuses.containsKey(((StatusContainer)asset).getName())) {
                     return;
                 }
-                STATUSES.put(((StatusContainer)asset).getName(), (StatusContainer) asset);
-                saveAssets(AssetType.STATUS);
+                final Map<String, StatusContainer> copy = new HashMap<>(statuses);
+                copy.put(((StatusContainer)asset).getName(), (StatusContainer) asset);
+                statuses = copy;
+                REGISTERED.computeIfAbsent(AssetType.STATUS, key -> new ArrayList<>()).add(asset);
+                AssetPersister.markDirty(AssetType.STATUS);
             }
             case ROLE -> {
-                if (ROLES.containsKey(((Role)asset).id())) {
+                if (roles.containsKey(((Role)asset).id())) {
                     return;
                 }
-                ROLES.put(((Role)asset).id(), (Role) asset);
-                saveAssets(AssetType.ROLE);
+                final Map<String, Role> copy = new HashMap<>(roles);
+                copy.put(((Role)asset).id(), (Role) asset);
+                roles = copy;
+                REGISTERED.computeIfAbsent(AssetType.ROLE, key -> new ArrayList<>()).add(asset);
+                AssetPersister.markDirty(AssetType.ROLE);
             }
             case EVENT -> {
-                if (EVENTS.containsKey(((Event)asset).name())) {
+                if (events.containsKey(((Event)asset).name())) {
                     return;
                 }
-                EVENTS.put(((Event)asset).name(), (Event) asset);
-                saveAssets(AssetType.EVENT);
+                final Map<String, Event> copy = new HashMap<>(events);
+                copy.put(((Event)asset).name(), (Event) asset);
+                setEvents(copy);
+                REGISTERED.computeIfAbsent(AssetType.EVENT, key -> new ArrayList<>()).add(asset);
+                AssetPersister.markDirty(AssetType.EVENT);
             }
             case LANDMARK -> {
-                if (LANDMARKS.contains(asset)) {
+                if (landmarks.contains(asset)) {
                     return;
                 }
-                LANDMARKS.add((Landmark) asset);
-                saveAssets(AssetType.LANDMARK);
+                final List<Landmark> copy = new ArrayList<>(landmarks);
+                copy.add((Landmark) asset);
+                landmarks = copy;
+                REGISTERED.computeIfAbsent(AssetType.LANDMARK, key -> new ArrayList<>()).add(asset);
+                AssetPersister.markDirty(AssetType.LANDMARK);
             }
             case ASSET -> {
-                if (images.containsKey(((Long)asset).toString())) {
+                // Registered images have their own texture, so the texture id is unique
+                final String id = Long.toString(((TextureRegion) asset).textureId());
+                if (images.containsKey(id)) {
                     return;
                 }
-                images.put(((Long)asset).toString(), (Long) asset);
-                saveAssets(AssetType.ASSET);
+                images.put(id, (TextureRegion) asset);
             }
             case AUDIO -> {
                 if (audio.containsKey(((Path)asset).toString())) {
                     return;
                 }
                 audio.put(((Path)asset).toString(), (Path) asset);
-                saveAssets(AssetType.AUDIO);
             }
             case SFX -> {
                 if (sfx.containsKey(((Path)asset).toString())) {
                     return;
                 }
                 sfx.put(((Path)asset).toString(), (Path) asset);
-                saveAssets(AssetType.SFX);
             }
             case SCREEN -> {
-                if (SCREENS.containsKey(((Screen)asset).getId())) {
+                if (screens.containsKey(((Screen)asset).getId())) {
                     return;
                 }
-                SCREENS.put(((Screen)asset).getId(), (Screen) asset);
-                saveAssets(AssetType.SCREEN);
+                final Map<String, Screen> copy = new HashMap<>(screens);
+                copy.put(((Screen)asset).getId(), (Screen) asset);
+                screens = copy;
             }
             case SAVE -> {
-                if (SAVES.contains(asset)) {
+                if (SAVES.contains(((SaveSummary)asset).name())) {
                     return;
                 }
-                SAVES.add((String) asset);
-                SAVES_DATE.add(SaveData.getTimeNow());
+                SAVES.put((SaveSummary) asset);
             }
         }
     }
@@ -724,75 +930,70 @@ public class Registry {
      */
     public static void loadAssets() {}
 
-    private static void saveAssets(final AssetType type) {
-        switch (type) {
-            case ITEM -> {
-                Path path = TrailApplication.getDataPaths().itemsPath();
-                try (BufferedWriter writer = Files.newBufferedWriter(path)) {
-                    GSON.toJson(ITEMS.values(), new TypeToken<List<ItemStack>>(){}.getType(), writer);
-                    DebugLogger.info("Saved items to [{}]", path);
-                } catch (IOException e) {
-                    throw new RuntimeException(e);
-                }
-            }
-            case STATUS -> {
-                Path path = TrailApplication.getDataPaths().statusesPath();
-                try (BufferedWriter writer = Files.newBufferedWriter(path)) {
-                    GSON.toJson(STATUSES.values(), new TypeToken<List<StatusContainer>>(){}.getType(), writer);
-                } catch (IOException e) {
-                    throw new RuntimeException(e);
-                }
-            }
-            case EVENT -> {
-                Path path = TrailApplication.getDataPaths().eventsPath();
-                try (BufferedWriter writer = Files.newBufferedWriter(path)) {
-                    GSON.toJson(EVENTS.values(), new TypeToken<List<Event>>(){}.getType(), writer);
-                } catch (IOException e) {
-                    throw new RuntimeException(e);
-                }
-            }
-            case LANDMARK -> {
-                Path path = TrailApplication.getDataPaths().landmarksPath();
-                try (BufferedWriter writer = Files.newBufferedWriter(path)) {
-                    GSON.toJson(LANDMARKS, new TypeToken<List<Landmark>>(){}.getType(), writer);
-                } catch (IOException e) {
-                    throw new RuntimeException(e);
-                }
-            }
-            case ROLE -> {
-                Path path = TrailApplication.getDataPaths().rolesPath();
-                try (BufferedWriter writer = Files.newBufferedWriter(path)) {
-                    GSON.toJson(ROLES.values(), new TypeToken<List<Role>>(){}.getType(), writer);
-                } catch (IOException e) {
-                    throw new RuntimeException(e);
-                }
-            }
-            case ASSET -> {
-                Path path = TrailApplication.getDataPaths().imagesPath();
-                try (BufferedWriter writer = Files.newBufferedWriter(path)) {
-                    GSON.toJson(images.values(), new TypeToken<List<Long>>(){}.getType(), writer);
-                } catch (IOException e) {
-                    throw new RuntimeException(e);
-                }
+    /**
+     * Gets the data file that a category is saved to
+     * @param type The category
+     * @return The path to the data file, or null if the category is not saved to a single file
+     */
+    private static Path getDataPath(final AssetType type) {
+        final DataPaths paths = TrailApplication.getDataPaths();
+        return switch (type) {
+            case ITEM -> paths.itemsPath();
+            case STATUS -> paths.statusesPath();
+            case EVENT -> paths.eventsPath();
+            case LANDMARK -> paths.landmarksPath();
+            case ROLE -> paths.rolesPath();
+            default -> null;
+        };
+    }
+
+    /**
+     * Writes the assets registered at runtime to the data file of their category.<p>
+     * Only registered assets are appended to the data file, so content pack assets are never copied into the game data.
+     * The file is written to a temporary file that replaces the data file.
+     * @param type The category to write
+     * @throws IOException If the data file cannot be written
+     */
+    static void writeAssets(final AssetType type) throws IOException {
+        final Path path = getDataPath(type);
+        final List<Object> registered;
+        synchronized (Registry.class) {
+            final List<Object> pending = REGISTERED.get(type);
+            if (path == null || pending == null || pending.isEmpty()) {
+                return;
             }
-            case AUDIO -> {
-                Path path = TrailApplication.getDataPaths().audioPath();
-                try (BufferedWriter writer = Files.newBufferedWriter(path)) {
-                    GSON.toJson(audio.values(), new TypeToken<List<Path>>(){}.getType(), writer);
-                } catch (IOException e) {
-                    throw new RuntimeException(e);
+            registered = new ArrayList<>(pending);
+        }
+        JsonArray assets = new JsonArray();
+        if (Files.exists(path)) {
+            try (BufferedReader reader = Files.newBufferedReader(path)) {
+                JsonElement element = JsonParser.parseReader(reader);
+                if (element.isJsonArray()) {
+                    assets = element.getAsJsonArray();
                 }
             }
         }
+        for (Object asset : registered) {
+            assets.add(GSON.toJsonTree(asset));
+        }
+        final JsonArray written = assets;
+        FileUtils.writeAtomically(path, out -> {
+            final Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            GSON.toJson(written, writer);
+            writer.flush();
+        });
+        synchronized (Registry.class) {
+            // Assets are only ever appended, so the written assets are at the start of the list
+            REGISTERED.get(type).subList(0, registered.size()).clear();
+        }
+        DebugLogger.info("Saved {} assets to [{}]", type, path);
     }
 
     /**
      * The type of asset for the Registry to locate
      */
     public enum AssetType {
-        @SerializedName("item")
         ITEM,
-        @SerializedName("status")
         STATUS,
         SCREEN,
         EVENT,
@@ -802,6 +1003,12 @@ public class Registry {
         AUDIO,
         SFX,
         SAVE,
-        HUNTING_SCREEN,
+        HUNTING_SCREEN;
+
+        /**
+         * Reads and writes asset types by their JSON names
+         */
+        public static final TypeAdapter<AssetType> JSON_ADAPTER = JsonAdapters.enumAdapter(values(),
+                "item", "status", "SCREEN", "EVENT", "LANDMARK", "ROLE", "ASSET", "AUDIO", "SFX", "SAVE", "HUNTING_SCREEN");
     }
 }
@@ -0,0 +1,197 @@
+package io.github.onu_eccs1621_sp2025.westward.utils.rendering;
+
+import io.github.onu_eccs1621_sp2025.westward.utils.DebugLogger;
+import org.lwjgl.glfw.GLFW;
+import org.lwjgl.glfw.GLFWVidMode;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Paces frames to the frame rate limit.<p>
+ * When the limit divides the refresh rate of the display, frames are paced by vsync. Otherwise the time
+ * each frame took is measured and only the rest of the frame is waited out. Most of the wait is spent
+ * sleeping and the end of it is spent spinning, since sleeps can overshoot by a millisecond or more.<p>
+ * When nothing on screen is animating, the game waits for input instead of drawing frames. A frame is
+ * drawn when input arrives, when a redraw is requested, or at least every {@code IDLE_TIMEOUT_SECONDS}.
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.1
+ */
+public final class FrameScheduler {
+    /**
+     * The end of a wait shorter than this is spun instead of slept
+     */
+    private static final long SPIN_NANOS = 2_000_000L;
+    /**
+     * How often the achieved frame rate is measured
+     */
+    private static final long MEASURE_NANOS = 1_000_000_000L;
+    /**
+     * The longest time between frames while idle
+     */
+    private static final double IDLE_TIMEOUT_SECONDS = 0.5;
+    /**
+     * The frames drawn after input before going idle, since ImGui takes a few frames to settle hover and focus
+     */
+    private static final int SETTLE_FRAMES = 3;
+    /**
+     * The frame rate limit, or 0 for no limit
+     */
+    private static int targetFps;
+    private static boolean vsync;
+    private static boolean initialized;
+    /**
+     * The refresh rate of the display, or 0 before the window is created or if it is unknown
+     */
+    private static int refreshRate;
+    /**
+     * If vsync paces frames, so they are not waited out
+     */
+    private static boolean pacedByVsync;
+    /**
+     * When the last frame ended
+     */
+    private static long lastFrame = System.nanoTime();
+    private static long measureStart = lastFrame;
+    private static int measuredFrames;
+    private static volatile float achievedFps;
+    private static boolean idleRendering;
+    /**
+     * If something on screen changes every frame
+     */
+    private static boolean animating;
+    private static volatile boolean redrawRequested;
+    /**
+     * The frames left to draw before going idle
+     */
+    private static int settleFrames = SETTLE_FRAMES;
+
+    /**
+     * Reads the refresh rate of the display and applies the frame rate limit.<p>
+     * Must be called on the GL thread once the window is created
+     * @param useVsync If frames should be synced to the display when possible
+     * @param useIdleRendering If frames are only drawn when something changes while nothing is animating
+     */
+    public static void init(final boolean useVsync, final boolean useIdleRendering) {
+        vsync = useVsync;
+        idleRendering = useIdleRendering;
+        final long monitor = GLFW.glfwGetPrimaryMonitor();
+        final GLFWVidMode mode = monitor == 0 ? null : GLFW.glfwGetVideoMode(monitor);
+        refreshRate = mode == null ? 0 : mode.refreshRate();
+        initialized = true;
+        apply();
+    }
+
+    /**
+     * Sets the frame rate limit
+     * @param fps The Frames Per Second limit, or 0 or less for no limit
+     */
+    public static void setTargetFps(final int fps) {
+        targetFps = Math.max(0, fps);
+        if (initialized) {
+            apply();
+        }
+    }
+
+    /**
+     * Chooses between vsync and waiting to pace frames
+     */
+    private static void apply() {
+        int interval = 0;
+        if (vsync && refreshRate > 0) {
+            if (targetFps == 0 || targetFps >= refreshRate) {
+                interval = 1;
+            } else if (refreshRate % targetFps == 0) {
+                // Showing each frame for several refreshes hits the limit exactly without tearing
+                interval = refreshRate / targetFps;
+            }
+        }
+        pacedByVsync = interval != 0 || targetFps == 0;
+        GLFW.glfwSwapInterval(interval);
+        DebugLogger.info("Frame rate limit {} at {}", targetFps == 0 ? "off" : targetFps + " FPS",
+                interval == 0 ? "without vsync" : "swap interval " + interval);
+    }
+
+    /**
+     * Waits out the rest of the frame. Must be called once at the end of every frame
+     */
+    public static void endFrame() {
+        long now = System.nanoTime();
+        if (!pacedByVsync && targetFps != 0) {
+            final long next = lastFrame + 1_000_000_000L / targetFps;
+            // A frame that ran late is not made up for by shortening the next frames
+            if (next - now > 0) {
+                waitUntil(next);
+                now = next;
+            }
+        }
+        lastFrame = now;
+
+        measuredFrames++;
+        if (now - measureStart >= MEASURE_NANOS) {
+            achievedFps = measuredFrames * 1_000_000_000F / (now - measureStart);
+            measureStart = now;
+            measuredFrames = 0;
+        }
+
+        if (!idleRendering || animating || redrawRequested) {
+            redrawRequested = false;
+            settleFrames = SETTLE_FRAMES;
+        } else if (settleFrames > 0) {
+            settleFrames--;
+        } else {
+            GLFW.glfwWaitEventsTimeout(IDLE_TIMEOUT_SECONDS);
+            // Waking up before the timeout means there was input or a redraw was requested
+            if (System.nanoTime() - now < IDLE_TIMEOUT_SECONDS * 1_000_000_000L) {
+                settleFrames = SETTLE_FRAMES;
+            }
+        }
+    }
+
+    /**
+     * Sets if something on screen changes every frame, which keeps frames from going idle.<p>
+     * Must be set every frame
+     * @param isAnimating If something is animating
+     */
+    public static void setAnimating(final boolean isAnimating) {
+        animating = isAnimating;
+    }
+
+    /**
+     * Draws at least one more frame, waking the GL thread if it is idle.<p>
+     * Should be called from any thread after something drawn on screen changes without input
+     */
+    public static void requestRedraw() {
+        redrawRequested = true;
+        if (initialized) {
+            GLFW.glfwPostEmptyEvent();
+        }
+    }
+
+    private static void waitUntil(final long deadline) {
+        long remaining = deadline - System.nanoTime();
+        while (remaining > SPIN_NANOS) {
+            LockSupport.parkNanos(remaining - SPIN_NANOS);
+            remaining = deadline - System.nanoTime();
+        }
+        while (deadline - System.nanoTime() > 0) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Gets the frame rate limit
+     * @return The Frames Per Second limit, or 0 for no limit
+     */
+    public static int getTargetFps() {
+        return targetFps;
+    }
+
+    /**
+     * Gets the frame rate over the last second
+     * @return The achieved Frames Per Second
+     */
+    public static float getAchievedFps() {
+        return achievedFps;
+    }
+}
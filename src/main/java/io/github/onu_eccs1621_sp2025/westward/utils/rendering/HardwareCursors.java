@@ -0,0 +1,132 @@
+package io.github.onu_eccs1621_sp2025.westward.utils.rendering;
+
+import imgui.ImGui;
+import imgui.flag.ImGuiConfigFlags;
+import io.github.onu_eccs1621_sp2025.westward.utils.DebugLogger;
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.Registry;
+import org.lwjgl.glfw.GLFW;
+import org.lwjgl.glfw.GLFWImage;
+import org.lwjgl.stb.STBImage;
+import org.lwjgl.stb.STBImageResize;
+import org.lwjgl.system.MemoryStack;
+import org.lwjgl.system.MemoryUtil;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Shows images as the mouse cursor through the operating system.<p>
+ * The operating system moves the cursor at the refresh rate of the display without the game drawing a frame.
+ * While an image cursor is shown, ImGui is kept from changing the cursor. Some platforms cannot create
+ * cursors from images, in which case the image has to be drawn by the caller.
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.0
+ */
+public final class HardwareCursors {
+    /**
+     * The width and height of a cursor in pixels. The hot spot is in the center
+     */
+    public static final int SIZE = 48;
+    /**
+     * The created cursors by image name. Images that cannot be made into a cursor are 0
+     */
+    private static final Map<String, Long> CURSORS = new HashMap<>();
+    /**
+     * The cursor shown, or 0 if ImGui chooses the cursor
+     */
+    private static long shown;
+
+    /**
+     * Shows an image as the cursor. Must be called on the main thread
+     * @param imageId The name of the image
+     * @return False if the image cannot be made into a cursor, in which case ImGui chooses the cursor again
+     */
+    public static boolean show(final String imageId) {
+        final long cursor = CURSORS.computeIfAbsent(imageId, HardwareCursors::create);
+        if (cursor == 0) {
+            release();
+            return false;
+        }
+        if (shown != cursor) {
+            ImGui.getIO().addConfigFlags(ImGuiConfigFlags.NoMouseCursorChange);
+            final long window = RenderUtils.getWindowHandle();
+            // ImGui hides the cursor while it draws its own
+            GLFW.glfwSetInputMode(window, GLFW.GLFW_CURSOR, GLFW.GLFW_CURSOR_NORMAL);
+            GLFW.glfwSetCursor(window, cursor);
+            shown = cursor;
+        }
+        return true;
+    }
+
+    /**
+     * Lets ImGui choose the cursor again
+     */
+    public static void release() {
+        if (shown != 0) {
+            ImGui.getIO().removeConfigFlags(ImGuiConfigFlags.NoMouseCursorChange);
+            shown = 0;
+        }
+    }
+
+    /**
+     * Destroys every cursor. Must be called on the main thread before the window is destroyed
+     */
+    public static void destroy() {
+        release();
+        GLFW.glfwSetCursor(RenderUtils.getWindowHandle(), 0);
+        for (long cursor : CURSORS.values()) {
+            if (cursor != 0) {
+                GLFW.glfwDestroyCursor(cursor);
+            }
+        }
+        CURSORS.clear();
+    }
+
+    private static long create(final String imageId) {
+        final Path path = Registry.getImageFile(imageId);
+        if (path == null) {
+            return 0;
+        }
+        final ByteBuffer encoded;
+        try {
+            final byte[] bytes = Files.readAllBytes(path);
+            encoded = MemoryUtil.memAlloc(bytes.length).put(bytes).flip();
+        } catch (IOException e) {
+            DebugLogger.warn("Failed to read cursor [{}]", path, e);
+            return 0;
+        }
+        final ByteBuffer scaled = MemoryUtil.memAlloc(SIZE * SIZE * 4);
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            final IntBuffer width = stack.mallocInt(1);
+            final IntBuffer height = stack.mallocInt(1);
+            final IntBuffer channels = stack.mallocInt(1);
+            final ByteBuffer pixels = STBImage.stbi_load_from_memory(encoded, width, height, channels, 4);
+            if (pixels == null) {
+                DebugLogger.warn("Failed to decode cursor [{}]: {}", path, STBImage.stbi_failure_reason());
+                return 0;
+            }
+            try {
+                // The cursor is the size the image used to be drawn at
+                STBImageResize.stbir_resize_uint8_srgb(pixels, width.get(0), height.get(0), 0,
+                        scaled, SIZE, SIZE, 0, STBImageResize.STBIR_RGBA);
+            } finally {
+                STBImage.stbi_image_free(pixels);
+            }
+            final GLFWImage image = GLFWImage.malloc(stack).set(SIZE, SIZE, scaled);
+            final long cursor = GLFW.glfwCreateCursor(image, SIZE / 2, SIZE / 2);
+            if (cursor == 0) {
+                DebugLogger.warn("Cursor [{}] cannot be shown by the operating system and will be drawn instead", imageId);
+            }
+            return cursor;
+        } finally {
+            MemoryUtil.memFree(scaled);
+            MemoryUtil.memFree(encoded);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package io.github.onu_eccs1621_sp2025.westward.utils.rendering;
+
+import imgui.ImGui;
+import imgui.ImGuiIO;
+import imgui.ImVec2;
+
+/**
+ * The positions and sizes of the widgets on a screen.<p>
+ * Widgets are placed relative to the display, so they only move when the display is resized or the font scale
+ * changes. A layout computes them once into fields that are reused every frame, so drawing a screen does not
+ * allocate for its layout. Sizes that depend on text are still measured while drawing, since text changes
+ * with the language.
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.0
+ */
+public abstract class Layout {
+    /**
+     * The display width the layout was computed for, or -1 before it is computed
+     */
+    private float width = -1;
+    /**
+     * The display height the layout was computed for, or -1 before it is computed
+     */
+    private float height = -1;
+    /**
+     * The font scale the layout was computed for, or -1 before it is computed
+     */
+    private float fontScale = -1;
+
+    /**
+     * Recomputes the layout if the display size or font scale changed.<p>
+     * Must be called on the GL thread every frame before the layout is used
+     */
+    public final void update() {
+        final ImGuiIO io = ImGui.getIO();
+        final float displayWidth = io.getDisplaySizeX();
+        final float displayHeight = io.getDisplaySizeY();
+        final float scale = RenderUtils.getFontScaleFactor();
+        if (displayWidth != this.width || displayHeight != this.height || scale != this.fontScale) {
+            this.width = displayWidth;
+            this.height = displayHeight;
+            this.fontScale = scale;
+            this.compute(displayWidth, displayHeight);
+        }
+    }
+
+    /**
+     * Computes the positions and sizes of the widgets
+     * @param width The width of the display
+     * @param height The height of the display
+     */
+    protected abstract void compute(float width, float height);
+
+    /**
+     * Stores a position or size relative to the display size
+     * @param dest The vector to store the coordinates in
+     * @param relativeX The relative x percentage of the object
+     * @param relativeY The relative y percentage of the object
+     * @return The destination vector
+     */
+    protected final ImVec2 relative(final ImVec2 dest, final float relativeX, final float relativeY) {
+        return RenderUtils.getCursorRelative(dest, relativeX, relativeY);
+    }
+
+    /**
+     * Stores a size relative to the display size that keeps its aspect ratio
+     * @param dest The vector to store the size in
+     * @param relativeX The relative x percentage of the object
+     * @param relativeY The relative y percentage of the object
+     * @return The destination vector
+     */
+    protected final ImVec2 keepAspect(final ImVec2 dest, final float relativeX, final float relativeY) {
+        return RenderUtils.getItemScaleMaintainAspectRatio(dest, relativeX, relativeY);
+    }
+
+    /**
+     * Gets the x coordinate that centers an object on the display
+     * @param objectWidth The width of the object
+     * @return The x coordinate of the left edge of the object
+     */
+    public final float centerX(final float objectWidth) {
+        return this.width / 2 - objectWidth / 2;
+    }
+
+    /**
+     * Gets the display width the layout was computed for
+     * @return The width in pixels
+     */
+    public final float getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Gets the display height the layout was computed for
+     * @return The height in pixels
+     */
+    public final float getHeight() {
+        return this.height;
+    }
+
+    /**
+     * Gets the font scale the layout was computed for
+     * @return The font scale factor
+     */
+    public final float getFontScale() {
+        return this.fontScale;
+    }
+}
@@ -1,6 +1,8 @@
 package io.github.onu_eccs1621_sp2025.westward.utils.rendering;
 
+import imgui.ImDrawList;
 import imgui.ImGui;
+import imgui.ImGuiIO;
 import imgui.ImVec2;
 import imgui.app.Window;
 import io.github.onu_eccs1621_sp2025.westward.data.Audio;
@@ -11,16 +13,21 @@ import io.github.onu_eccs1621_sp2025.westward.utils.text.Format;
 import io.github.onu_eccs1621_sp2025.westward.utils.text.Translations;
 import org.lwjgl.BufferUtils;
 import org.lwjgl.glfw.GLFWImage;
-import org.lwjgl.opengl.GL;
 import org.lwjgl.opengl.GL11;
+import org.lwjgl.opengl.GL12;
+import org.lwjgl.opengl.GL;
 import org.lwjgl.stb.STBImage;
+import static org.lwjgl.BufferUtils.createByteBuffer;
+import static org.lwjgl.glfw.GLFW.*;
+import static org.lwjgl.stb.STBImage.stbi_image_free;
+import static org.lwjgl.stb.STBImage.stbi_load_from_memory;
+import static org.lwjgl.system.MemoryUtil.memAllocInt;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.IntBuffer;
 import java.nio.channels.Channels;
-import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Files;
@@ -28,17 +35,11 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 
-import static org.lwjgl.BufferUtils.createByteBuffer;
-import static org.lwjgl.glfw.GLFW.*;
-import static org.lwjgl.stb.STBImage.stbi_image_free;
-import static org.lwjgl.stb.STBImage.stbi_load_from_memory;
-import static org.lwjgl.system.MemoryUtil.memAllocInt;
-
 /**
  * Contains utilities for the ImGUI renderer.
  * @author Dylan Catte, Ben Westover, Noah Sumerauer, Micah Lee
  * @since 1.0.0 Alpha 1
- * @version 1.2
+ * @version 1.6
  */
 public final class RenderUtils {
     /**
@@ -66,8 +67,19 @@ public final class RenderUtils {
      * @return A 2D vector containing the x and y coordinates for the object
      */
     public static ImVec2 getCursorRelative(final float relativeX, final float relativeY) {
-        final ImVec2 vec2 = ImGui.getIO().getDisplaySize();
-        return vec2.times(relativeX, relativeY);
+        return getCursorRelative(new ImVec2(), relativeX, relativeY);
+    }
+
+    /**
+     * Gets the position the cursor to the relative (%) location specified based on the window size
+     * @param dest The vector to store the coordinates in
+     * @param relativeX The relative x percentage of the object
+     * @param relativeY The relative y percentage of the object
+     * @return The destination vector
+     */
+    public static ImVec2 getCursorRelative(final ImVec2 dest, final float relativeX, final float relativeY) {
+        final ImGuiIO io = ImGui.getIO();
+        return dest.set(io.getDisplaySizeX() * relativeX, io.getDisplaySizeY() * relativeY);
     }
 
     /**
@@ -77,18 +89,29 @@ public final class RenderUtils {
      * @return A 2D vector containing the x and y coordinates for the object
      */
     public static ImVec2 getItemScaleMaintainAspectRatio(final float relativeX, final float relativeY) {
-        final ImVec2 displaySize = ImGui.getIO().getDisplaySize();
+        return getItemScaleMaintainAspectRatio(new ImVec2(), relativeX, relativeY);
+    }
+
+    /**
+     * Gets the coordinates of a scaled object based on the screen size while maintaining the same aspect ratio
+     * @param dest The vector to store the coordinates in
+     * @param relativeX The relative x percentage of the object
+     * @param relativeY The relative y percentage of the object
+     * @return The destination vector
+     */
+    public static ImVec2 getItemScaleMaintainAspectRatio(final ImVec2 dest, final float relativeX, final float relativeY) {
+        final ImGuiIO io = ImGui.getIO();
         final float aspectRatio = relativeX / relativeY;
 
-        float width = displaySize.x * relativeX;
+        float width = io.getDisplaySizeX() * relativeX;
         float height = width / aspectRatio;
 
-        if (height > displaySize.y * relativeY) {
-            height = displaySize.y * relativeY;
+        if (height > io.getDisplaySizeY() * relativeY) {
+            height = io.getDisplaySizeY() * relativeY;
             width = height * aspectRatio;
         }
 
-        return new ImVec2(width, height);
+        return dest.set(width, height);
     }
 
     /**
@@ -97,8 +120,7 @@ public final class RenderUtils {
      * @param y Y coordinate
      */
     public static void centeredHorizontal(final float width, final float y) {
-        final ImVec2 vec = new ImVec2(ImGui.getIO().getDisplaySize().x / 2 - width / 2, y);
-        ImGui.setCursorPos(vec);
+        ImGui.setCursorPos(ImGui.getIO().getDisplaySizeX() / 2 - width / 2, y);
     }
 
     /**
@@ -107,9 +129,9 @@ public final class RenderUtils {
      * @return The new scale of fonts based on the screen size
      */
     public static float getFontScaleFactor() {
-        final ImVec2 vec2 = ImGui.getIO().getDisplaySize();
-        final float xInfluence = vec2.x / DEFAULT_WINDOW_WIDTH;
-        final float yInfluence = vec2.y / DEFAULT_WINDOW_HEIGHT;
+        final ImGuiIO io = ImGui.getIO();
+        final float xInfluence = io.getDisplaySizeX() / DEFAULT_WINDOW_WIDTH;
+        final float yInfluence = io.getDisplaySizeY() / DEFAULT_WINDOW_HEIGHT;
         return Math.max(Math.min(xInfluence, yInfluence), 0.01F);
     }
 
@@ -195,6 +217,17 @@ public final class RenderUtils {
      * @throws IOException If the file cannot be read.
      */
     public static int loadTextureFromFile(final String filePath) throws IOException {
+        return loadTextureFromFile(Path.of(filePath));
+    }
+
+    /**
+     * Loads a texture from a path and uploads it to the GPU.
+     * The path may be inside an archive.
+     * @param filePath Path to the image file.
+     * @return The texture ID.
+     * @throws IOException If the file cannot be read.
+     */
+    public static int loadTextureFromFile(final Path filePath) throws IOException {
         // Ensure OpenGL context is initialized
         if (!GL.getCapabilities().OpenGL20) {
             DebugLogger.error("OpenGL " + GL11.glGetString(GL11.GL_VERSION) + " Has Had An Error: OpenGL 2.0 is not supported on this device");
@@ -202,7 +235,7 @@ public final class RenderUtils {
         }
 
         final ByteBuffer imageBuffer;
-        try (FileChannel fc = (FileChannel) Files.newByteChannel(Path.of(filePath), StandardOpenOption.READ)) {
+        try (SeekableByteChannel fc = Files.newByteChannel(filePath, StandardOpenOption.READ)) {
             imageBuffer = BufferUtils.createByteBuffer((int) fc.size() + 1);
             while (fc.read(imageBuffer) != -1) {}
         }
@@ -218,21 +251,115 @@ public final class RenderUtils {
             throw new RuntimeException("Failed to load image: " + STBImage.stbi_failure_reason());
         }
 
-        // Generate a new OpenGL texture ID
+        final int textureId = uploadTexture(imageData, width.get(0), height.get(0));
+
+        // Free the image memory
+        STBImage.stbi_image_free(imageData);
+
+        return textureId;
+    }
+
+    /**
+     * Uploads RGBA pixels to a new texture on the GPU
+     * @param pixels The pixels, row by row from the top
+     * @param width The width of the image
+     * @param height The height of the image
+     * @return The texture ID
+     */
+    public static int uploadTexture(final ByteBuffer pixels, final int width, final int height) {
+        final int textureId = newTexture();
+        GL11.glTexImage2D(GL11.GL_TEXTURE_2D, 0, GL11.GL_RGBA, width, height, 0, GL11.GL_RGBA, GL11.GL_UNSIGNED_BYTE, pixels);
+        return textureId;
+    }
+
+    /**
+     * Creates an empty RGBA texture on the GPU, to be filled in later with {@code glTexSubImage2D}
+     * @param width The width of the texture
+     * @param height The height of the texture
+     * @return The texture ID. The texture is left bound
+     */
+    public static int createTexture(final int width, final int height) {
+        final int textureId = newTexture();
+        GL11.glTexImage2D(GL11.GL_TEXTURE_2D, 0, GL11.GL_RGBA, width, height, 0, GL11.GL_RGBA, GL11.GL_UNSIGNED_BYTE, (ByteBuffer) null);
+        return textureId;
+    }
+
+    private static int newTexture() {
         final int textureId = GL11.glGenTextures();
         GL11.glBindTexture(GL11.GL_TEXTURE_2D, textureId);
 
         // Set texture parameters
         GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_MIN_FILTER, GL11.GL_LINEAR);
         GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_MAG_FILTER, GL11.GL_LINEAR);
+        // Keeps filtering at the edges of an image from wrapping around to the other side
+        GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_WRAP_S, GL12.GL_CLAMP_TO_EDGE);
+        GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_WRAP_T, GL12.GL_CLAMP_TO_EDGE);
+        return textureId;
+    }
 
-        // Upload the texture data
-        GL11.glTexImage2D(GL11.GL_TEXTURE_2D, 0, GL11.GL_RGBA, width.get(0), height.get(0), 0, GL11.GL_RGBA, GL11.GL_UNSIGNED_BYTE, imageData);
+    /**
+     * Draws an image at the cursor. Nothing is drawn if the image is missing, but its space is kept
+     * @param image The image
+     * @param size The size to draw the image at
+     */
+    public static void image(final TextureRegion image, final ImVec2 size) {
+        if (image == null) {
+            ImGui.dummy(size);
+            return;
+        }
+        ImGui.image(image.textureId(), size.x, size.y, image.u0(), image.v0(), image.u1(), image.v1());
+    }
 
-        // Free the image memory
-        STBImage.stbi_image_free(imageData);
+    /**
+     * Draws a button showing an image
+     * @param id The ImGui id of the button
+     * @param image The image
+     * @param width The width of the button
+     * @param height The height of the button
+     * @return True if the button was clicked
+     */
+    public static boolean imageButton(final String id, final TextureRegion image, final float width, final float height) {
+        if (image == null) {
+            return ImGui.button(id, width, height);
+        }
+        return ImGui.imageButton(id, image.textureId(), width, height, image.u0(), image.v0(), image.u1(), image.v1());
+    }
 
-        return textureId;
+    /**
+     * Draws a button showing an image
+     * @param id The ImGui id of the button
+     * @param image The image
+     * @param size The size of the button
+     * @return True if the button was clicked
+     */
+    public static boolean imageButton(final String id, final TextureRegion image, final ImVec2 size) {
+        return imageButton(id, image, size.x, size.y);
+    }
+
+    /**
+     * Adds an image to a draw list
+     * @param drawList The draw list
+     * @param image The image. Nothing is drawn if it is missing
+     * @param min The top left corner of the image
+     * @param max The bottom right corner of the image
+     */
+    public static void addImage(final ImDrawList drawList, final TextureRegion image, final ImVec2 min, final ImVec2 max) {
+        addImage(drawList, image, min.x, min.y, max.x, max.y);
+    }
+
+    /**
+     * Adds an image to a draw list
+     * @param drawList The draw list
+     * @param image The image. Nothing is drawn if it is missing
+     * @param minX The left edge of the image
+     * @param minY The top edge of the image
+     * @param maxX The right edge of the image
+     * @param maxY The bottom edge of the image
+     */
+    public static void addImage(final ImDrawList drawList, final TextureRegion image, final float minX, final float minY, final float maxX, final float maxY) {
+        if (image != null) {
+            drawList.addImage(image.textureId(), minX, minY, maxX, maxY, image.u0(), image.v0(), image.u1(), image.v1());
+        }
     }
 
     /**
@@ -241,11 +368,11 @@ public final class RenderUtils {
      * @param screen Screen that is currently open
      */
     public static void closeButtonCentered(final Screen screen) {
-        final ImVec2 closeButtonPos = RenderUtils.getCursorRelative(0, 0.90F);
-        final ImVec2 buttonSize = getCursorRelative(0.2F, 0.05F);
-        RenderUtils.centeredHorizontal(buttonSize.x, closeButtonPos.y);
+        final ImGuiIO io = ImGui.getIO();
+        final float buttonWidth = io.getDisplaySizeX() * 0.2F;
+        RenderUtils.centeredHorizontal(buttonWidth, io.getDisplaySizeY() * 0.90F);
         Format.setFontSize(Format.DESCRIPTION_FONT_SIZE);
-        if (ImGui.button(Translations.getTranslatedText("menu.trailSelection.continue"), buttonSize)) {
+        if (ImGui.button(Translations.getTranslatedText("menu.trailSelection.continue"), buttonWidth, io.getDisplaySizeY() * 0.05F)) {
             SoundEngine.loadSFX(Audio.CLICK_2);
             screen.close();
         }
@@ -280,7 +407,7 @@ public final class RenderUtils {
      * @param factor The width of the wrap
      */
     public static void textWrapScaling(final float factor) {
-        ImGui.pushTextWrapPos(factor * ImGui.getIO().getDisplaySize().x / DEFAULT_WINDOW_WIDTH);
+        ImGui.pushTextWrapPos(factor * ImGui.getIO().getDisplaySizeX() / DEFAULT_WINDOW_WIDTH);
     }
 
     /**
@@ -289,7 +416,16 @@ public final class RenderUtils {
      * @return The RGB value to correspond to the health
      */
     public static float[] interpolateColor(final float healthFraction) {
-        final float[] color = new float[3];
+        return interpolateColor(healthFraction, new float[3]);
+    }
+
+    /**
+     * Shifts the color from green to yellow to red based on the health of a Member
+     * @param healthFraction Member's health percentage
+     * @param color The array of at least 3 floats to store the RGB value in
+     * @return The RGB value to correspond to the health
+     */
+    public static float[] interpolateColor(final float healthFraction, final float[] color) {
         final float t;
         if (healthFraction > 0.5) {
             t = (healthFraction - 0.5f) * 2;
@@ -312,6 +448,14 @@ public final class RenderUtils {
         windowHandle = handle;
     }
 
+    /**
+     * Gets the current Window's handle
+     * @return Window's handle
+     */
+    public static long getWindowHandle() {
+        return windowHandle;
+    }
+
     /**
      * Sets the LWJGL window's resizable attribute
      * @param resizable If the window can be resized
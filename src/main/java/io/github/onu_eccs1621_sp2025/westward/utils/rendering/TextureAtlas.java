@@ -0,0 +1,736 @@
+package io.github.onu_eccs1621_sp2025.westward.utils.rendering;
+
+import io.github.onu_eccs1621_sp2025.westward.TrailApplication;
+import io.github.onu_eccs1621_sp2025.westward.utils.Config;
+import io.github.onu_eccs1621_sp2025.westward.utils.DebugLogger;
+import io.github.onu_eccs1621_sp2025.westward.utils.FileUtils;
+import io.github.onu_eccs1621_sp2025.westward.utils.profiling.TextureLoadEvent;
+import org.lwjgl.PointerBuffer;
+import org.lwjgl.glfw.GLFW;
+import org.lwjgl.glfw.GLFWVidMode;
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GL11;
+import org.lwjgl.opengl.GL30;
+import org.lwjgl.stb.STBImage;
+import org.lwjgl.stb.STBImageResize;
+import org.lwjgl.system.MemoryStack;
+import org.lwjgl.system.MemoryUtil;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Packs images into shared textures when they are loaded.<p>
+ * ImGui starts a new draw call whenever the texture changes, so sprites and icons drawn
+ * together are packed into as few textures as possible. Large images such as backgrounds
+ * are drawn on their own and keep their own texture.<p>
+ * Images are decoded on worker threads so the window appears without waiting for them. Decoded images
+ * are uploaded on the GL thread by {@link TextureAtlas#update(long)} a few rows at a time, within
+ * a time budget each frame. Until an image is uploaded it is drawn with a transparent placeholder texture.<p>
+ * Images are never drawn larger than the display, so larger images are downscaled to fit it. The downscaled
+ * pixels are cached until the image or the display changes. Large images also get mipmaps, which keep them
+ * smooth and cheap to sample when they are drawn much smaller.<p>
+ * Atlases are always loaded. Large images are only loaded once they are drawn, and the least recently drawn
+ * ones are unloaded when the textures use more memory than the budget in the config. Large images that are
+ * always needed, such as the main menu, can be pinned so they are loaded up front and never unloaded.
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.5
+ */
+public final class TextureAtlas {
+    /**
+     * The largest atlas texture, if the GPU supports it
+     */
+    private static final int MAX_PAGE_SIZE = 2048;
+    /**
+     * Images wider or taller than this keep their own texture
+     */
+    private static final int MAX_PACKED_SIZE = 512;
+    /**
+     * The edge pixels of each image are repeated this many times around it,
+     * so filtering never blends in a neighboring image
+     */
+    private static final int PADDING = 1;
+    /**
+     * The most pixel data uploaded between checks of the time budget
+     */
+    private static final int UPLOAD_STEP_BYTES = 1 << 20;
+    /**
+     * Identifies a downscaled image in the cache
+     */
+    private static final int CACHE_MAGIC = 0x57494D47;
+    /**
+     * The size of the header before the pixels of a cached image
+     */
+    private static final int CACHE_HEADER_BYTES = 36;
+    /**
+     * The threads that decode images
+     */
+    private static final ExecutorService DECODERS = Executors.newFixedThreadPool(
+            Math.max(1, Runtime.getRuntime().availableProcessors() - 1), runnable -> {
+                final Thread thread = new Thread(runnable, "Image Decoder");
+                thread.setDaemon(true);
+                return thread;
+            });
+    /**
+     * Textures waiting to be uploaded, in the order they were decoded
+     */
+    private static final Queue<Upload> UPLOADS = new ConcurrentLinkedQueue<>();
+    /**
+     * The texture being uploaded. Only used on the GL thread
+     */
+    private static Upload uploading;
+    /**
+     * The transparent texture drawn until an image is uploaded
+     */
+    private static TextureRegion placeholder;
+    /**
+     * Large images by name, loaded when they are drawn
+     */
+    private static final Map<String, Resident> RESIDENTS = new ConcurrentHashMap<>();
+    /**
+     * Large images that are loaded up front and never unloaded
+     */
+    private static final Set<String> PINNED = ConcurrentHashMap.newKeySet();
+    /**
+     * The largest size images are drawn at
+     */
+    private static MaxSize maxSize = MaxSize.UNLIMITED;
+    /**
+     * The number of the current frame, used to find the least recently drawn images
+     */
+    private static volatile long frame;
+    /**
+     * The GPU memory used by loaded textures in bytes. Only used on the GL thread
+     */
+    private static long textureBytes;
+
+    /**
+     * A decoded image
+     * @param name The name of the image
+     * @param pixels The RGBA pixels
+     * @param width The width in pixels
+     * @param height The height in pixels
+     * @param decoded If the pixels came from STB, which may use a different allocator than {@link MemoryUtil}
+     */
+    private record Image(String name, ByteBuffer pixels, int width, int height, boolean decoded) {
+        private void free() {
+            if (this.decoded) {
+                STBImage.stbi_image_free(this.pixels);
+            } else {
+                MemoryUtil.memFree(this.pixels);
+            }
+        }
+    }
+
+    /**
+     * The largest size an image is drawn at
+     * @param width The maximum width in pixels
+     * @param height The maximum height in pixels
+     */
+    private record MaxSize(int width, int height) {
+        /**
+         * Images are never downscaled
+         */
+        private static final MaxSize UNLIMITED = new MaxSize(Integer.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Where an image is placed in an atlas
+     * @param image The image
+     * @param x The left edge of the image in the atlas
+     * @param y The top edge of the image in the atlas
+     */
+    private record Placement(Image image, int x, int y) {}
+
+    /**
+     * Starts loading images, packing the small ones into atlases.<p>
+     * Must be called on the GL thread. The images are decoded in the background and each image is
+     * the placeholder until it is uploaded
+     * @param files The image files by name
+     * @return The images by name, updated as they are uploaded. Images that cannot be read are logged and removed
+     */
+    public static Map<String, TextureRegion> load(final Map<String, Path> files) {
+        if (placeholder == null) {
+            final ByteBuffer pixel = MemoryUtil.memCalloc(4);
+            try {
+                placeholder = TextureRegion.whole(RenderUtils.uploadTexture(pixel, 1, 1), 1, 1);
+            } finally {
+                MemoryUtil.memFree(pixel);
+            }
+        }
+        final Map<String, TextureRegion> regions = new ConcurrentHashMap<>();
+        for (String name : files.keySet()) {
+            regions.put(name, placeholder);
+        }
+        if (files.isEmpty()) {
+            return regions;
+        }
+        // Read here because the workers have no GL context
+        final int pageSize = Math.min(MAX_PAGE_SIZE, GL11.glGetInteger(GL11.GL_MAX_TEXTURE_SIZE));
+        maxSize = Config.getConfig().isDownscaleImages() ? displaySize() : MaxSize.UNLIMITED;
+        final Queue<Image> packed = new ConcurrentLinkedQueue<>();
+        final AtomicInteger remaining = new AtomicInteger(files.size());
+        for (Map.Entry<String, Path> entry : files.entrySet()) {
+            DECODERS.execute(() -> {
+                try {
+                    final ByteBuffer encoded = readFile(entry.getValue());
+                    try {
+                        if (fitsAtlas(encoded)) {
+                            packed.add(decode(entry.getKey(), encoded));
+                        } else {
+                            final Resident resident = new Resident(entry.getKey(), entry.getValue(), regions);
+                            RESIDENTS.put(entry.getKey(), resident);
+                            if (PINNED.contains(entry.getKey())) {
+                                resident.request();
+                            }
+                        }
+                    } finally {
+                        MemoryUtil.memFree(encoded);
+                    }
+                } catch (IOException e) {
+                    DebugLogger.error("Failed to load image [{}]", entry.getValue(), e);
+                    regions.remove(entry.getKey());
+                } finally {
+                    // The last image to be decoded packs the atlases
+                    if (remaining.decrementAndGet() == 0) {
+                        final List<Image> images = new ArrayList<>(packed);
+                        final int pages = pack(images, pageSize, regions);
+                        DebugLogger.info("Packed {} images into {} atlas textures", images.size(), pages);
+                    }
+                }
+            });
+        }
+        return regions;
+    }
+
+    /**
+     * Pins large images so they are loaded up front and never unloaded.<p>
+     * Must be called before the images are loaded
+     * @param names The names of the images
+     */
+    public static void pin(final String... names) {
+        PINNED.addAll(List.of(names));
+    }
+
+    /**
+     * Marks an image as drawn this frame, loading it in the background if it is not loaded
+     * @param name The name of the image
+     */
+    public static void touch(final String name) {
+        final Resident resident = RESIDENTS.get(name);
+        if (resident != null) {
+            resident.lastUsed = frame;
+            resident.request();
+        }
+    }
+
+    /**
+     * Gets the GPU memory used by loaded images
+     * @return The memory in bytes
+     */
+    public static long getTextureBytes() {
+        return textureBytes;
+    }
+
+    /**
+     * Starts a new frame, unloading images that are over the memory budget and uploading
+     * decoded images until the time budget is used up.<p>
+     * Must be called on the GL thread, once a frame. At least part of one image is uploaded each call,
+     * so loading always finishes even with no budget
+     * @param budgetNanos The time that may be spent uploading
+     */
+    public static void update(final long budgetNanos) {
+        frame++;
+        evict();
+        final long deadline = System.nanoTime() + budgetNanos;
+        do {
+            if (uploading == null) {
+                uploading = UPLOADS.poll();
+                if (uploading == null) {
+                    return;
+                }
+            }
+            if (uploading.step()) {
+                uploading.finish();
+                uploading = null;
+            }
+        } while (System.nanoTime() - deadline < 0);
+    }
+
+    /**
+     * Checks if every image has been uploaded
+     * @return True if no images are waiting to be uploaded. Images still being decoded are not counted
+     */
+    public static boolean isIdle() {
+        return uploading == null && UPLOADS.isEmpty();
+    }
+
+    /**
+     * Queues a decoded texture to be uploaded, waking the GL thread if it is idle
+     */
+    private static void queue(final Upload upload) {
+        UPLOADS.add(upload);
+        FrameScheduler.requestRedraw();
+    }
+
+    /**
+     * Unloads the least recently drawn images until the textures fit the memory budget.<p>
+     * Images drawn last frame are kept even if the budget is exceeded, since they will likely be drawn again
+     */
+    private static void evict() {
+        final long budget = Config.getConfig().getTextureMemoryMb() * 1024L * 1024L;
+        if (budget <= 0 || textureBytes <= budget) {
+            return;
+        }
+        final List<Resident> candidates = new ArrayList<>();
+        for (Resident resident : RESIDENTS.values()) {
+            if (resident.isEvictable()) {
+                candidates.add(resident);
+            }
+        }
+        candidates.sort(Comparator.comparingLong(resident -> resident.lastUsed));
+        for (Resident resident : candidates) {
+            if (textureBytes <= budget) {
+                break;
+            }
+            resident.unload();
+        }
+    }
+
+    /**
+     * Gets the size of the largest display, in pixels
+     */
+    private static MaxSize displaySize() {
+        final PointerBuffer monitors = GLFW.glfwGetMonitors();
+        if (monitors == null) {
+            return MaxSize.UNLIMITED;
+        }
+        int width = 0;
+        int height = 0;
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            final FloatBuffer scaleX = stack.mallocFloat(1);
+            final FloatBuffer scaleY = stack.mallocFloat(1);
+            for (int i = 0; i < monitors.limit(); i++) {
+                final GLFWVidMode mode = GLFW.glfwGetVideoMode(monitors.get(i));
+                if (mode == null) {
+                    continue;
+                }
+                // Some platforms give the video mode in screen coordinates rather than pixels
+                GLFW.glfwGetMonitorContentScale(monitors.get(i), scaleX, scaleY);
+                width = Math.max(width, Math.round(mode.width() * Math.max(1, scaleX.get(0))));
+                height = Math.max(height, Math.round(mode.height() * Math.max(1, scaleY.get(0))));
+            }
+        }
+        return width == 0 || height == 0 ? MaxSize.UNLIMITED : new MaxSize(width, height);
+    }
+
+    /**
+     * Loads an image, downscaling it to fit the largest size it is drawn at
+     * @param name The name of the image
+     * @param path The image file
+     * @param maxSize The largest size the image is drawn at
+     * @return The image
+     * @throws IOException If the image cannot be read
+     */
+    private static Image loadImage(final String name, final Path path, final MaxSize maxSize) throws IOException {
+        final Path cached = TrailApplication.getDataPaths().cachePath().resolve("images").resolve(name + ".rgba");
+        final BasicFileAttributes source = Files.readAttributes(path, BasicFileAttributes.class);
+        if (maxSize != MaxSize.UNLIMITED) {
+            final Image image = readCached(name, cached, source, maxSize);
+            if (image != null) {
+                return image;
+            }
+        }
+        final Image image;
+        final ByteBuffer encoded = readFile(path);
+        try {
+            image = decode(name, encoded);
+        } finally {
+            MemoryUtil.memFree(encoded);
+        }
+        final double scale = Math.min((double) maxSize.width() / image.width(), (double) maxSize.height() / image.height());
+        if (scale >= 1) {
+            return image;
+        }
+        final int width = Math.max(1, (int) Math.round(image.width() * scale));
+        final int height = Math.max(1, (int) Math.round(image.height() * scale));
+        final ByteBuffer pixels = MemoryUtil.memAlloc(width * height * 4);
+        try {
+            if (STBImageResize.stbir_resize_uint8_srgb(image.pixels(), image.width(), image.height(), 0,
+                    pixels, width, height, 0, STBImageResize.STBIR_RGBA) == null) {
+                throw new IOException("Failed to downscale image [" + name + "]");
+            }
+        } catch (IOException | RuntimeException e) {
+            MemoryUtil.memFree(pixels);
+            throw e;
+        } finally {
+            image.free();
+        }
+        DebugLogger.info("Downscaled image [{}] to {}", name, width + "x" + height);
+        final Image scaled = new Image(name, pixels, width, height, false);
+        writeCached(scaled, cached, source, maxSize);
+        return scaled;
+    }
+
+    /**
+     * Reads a downscaled image from the cache
+     * @return The image, or null if it is not cached or was cached from a different file or for a different display
+     */
+    private static Image readCached(final String name, final Path cached, final BasicFileAttributes source, final MaxSize maxSize) {
+        try (FileChannel channel = FileChannel.open(cached, StandardOpenOption.READ)) {
+            final ByteBuffer header = ByteBuffer.allocate(CACHE_HEADER_BYTES);
+            while (header.hasRemaining() && channel.read(header) != -1) {}
+            header.flip();
+            if (header.remaining() < CACHE_HEADER_BYTES || header.getInt() != CACHE_MAGIC
+                    || header.getInt() != maxSize.width() || header.getInt() != maxSize.height()
+                    || header.getLong() != source.size() || header.getLong() != source.lastModifiedTime().toMillis()) {
+                return null;
+            }
+            final int width = header.getInt();
+            final int height = header.getInt();
+            if (width <= 0 || height <= 0 || channel.size() != CACHE_HEADER_BYTES + (long) width * height * 4) {
+                return null;
+            }
+            final ByteBuffer pixels = MemoryUtil.memAlloc(width * height * 4);
+            try {
+                while (pixels.hasRemaining() && channel.read(pixels) != -1) {}
+            } catch (IOException e) {
+                MemoryUtil.memFree(pixels);
+                throw e;
+            }
+            pixels.flip();
+            return new Image(name, pixels, width, height, false);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            DebugLogger.warn("Failed to read cached image [{}]", cached, e);
+            return null;
+        }
+    }
+
+    /**
+     * Writes a downscaled image to the cache. Failures are logged, since the image can be downscaled again
+     */
+    private static void writeCached(final Image image, final Path cached, final BasicFileAttributes source, final MaxSize maxSize) {
+        try {
+            Files.createDirectories(cached.getParent());
+            FileUtils.writeAtomically(cached, out -> {
+                final ByteBuffer header = ByteBuffer.allocate(CACHE_HEADER_BYTES)
+                        .putInt(CACHE_MAGIC)
+                        .putInt(maxSize.width())
+                        .putInt(maxSize.height())
+                        .putLong(source.size())
+                        .putLong(source.lastModifiedTime().toMillis())
+                        .putInt(image.width())
+                        .putInt(image.height());
+                out.write(header.array());
+                final ByteBuffer pixels = image.pixels().duplicate();
+                final byte[] chunk = new byte[64 * 1024];
+                while (pixels.hasRemaining()) {
+                    final int length = Math.min(chunk.length, pixels.remaining());
+                    pixels.get(chunk, 0, length);
+                    out.write(chunk, 0, length);
+                }
+            });
+        } catch (IOException e) {
+            DebugLogger.warn("Failed to cache image [{}]", cached, e);
+        }
+    }
+
+    /**
+     * Reads an encoded image
+     * @param path The image file
+     * @return The file contents, freed with {@link MemoryUtil#memFree(java.nio.Buffer)}
+     * @throws IOException If the file cannot be read
+     */
+    private static ByteBuffer readFile(final Path path) throws IOException {
+        final byte[] bytes = Files.readAllBytes(path);
+        return MemoryUtil.memAlloc(bytes.length).put(bytes).flip();
+    }
+
+    /**
+     * Checks if an image is small enough to be packed into an atlas, only reading its header
+     * @param encoded The encoded image
+     * @return True if the image fits in an atlas, or its header cannot be read
+     */
+    private static boolean fitsAtlas(final ByteBuffer encoded) {
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            final IntBuffer width = stack.mallocInt(1);
+            final IntBuffer height = stack.mallocInt(1);
+            final IntBuffer channels = stack.mallocInt(1);
+            // Unreadable images are decoded anyway so the reason they failed is logged
+            return !STBImage.stbi_info_from_memory(encoded, width, height, channels)
+                    || (width.get(0) <= MAX_PACKED_SIZE && height.get(0) <= MAX_PACKED_SIZE);
+        }
+    }
+
+    private static Image decode(final String name, final ByteBuffer encoded) throws IOException {
+        final TextureLoadEvent event = new TextureLoadEvent();
+        event.begin();
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            final IntBuffer width = stack.mallocInt(1);
+            final IntBuffer height = stack.mallocInt(1);
+            final IntBuffer channels = stack.mallocInt(1);
+            final int encodedBytes = encoded.remaining();
+            final ByteBuffer pixels = STBImage.stbi_load_from_memory(encoded, width, height, channels, 4);
+            if (pixels == null) {
+                throw new IOException("Failed to decode image: " + STBImage.stbi_failure_reason());
+            }
+            if (event.shouldCommit()) {
+                event.image = name;
+                event.encodedBytes = encodedBytes;
+                event.width = width.get(0);
+                event.height = height.get(0);
+                event.commit();
+            }
+            return new Image(name, pixels, width.get(0), height.get(0), true);
+        }
+    }
+
+    /**
+     * Packs images into atlases using shelves of images with similar heights
+     * @param images The images to pack, freed once they are copied into an atlas
+     * @param pageSize The width and height of an atlas
+     * @param regions Where the packed images are added once they are uploaded
+     * @return The number of atlases created
+     */
+    private static int pack(final List<Image> images, final int pageSize, final Map<String, TextureRegion> regions) {
+        if (images.isEmpty()) {
+            return 0;
+        }
+        // Tallest first so each shelf wastes little space. Sorting by name keeps the layout the same between runs
+        images.sort(Comparator.comparingInt(Image::height).reversed().thenComparing(Image::name));
+
+        int pages = 0;
+        final List<Placement> page = new ArrayList<>();
+        int x = 0;
+        int y = 0;
+        int shelfHeight = 0;
+        int usedWidth = 0;
+        for (Image image : images) {
+            final int width = image.width() + PADDING * 2;
+            final int height = image.height() + PADDING * 2;
+            if (x + width > pageSize) {
+                y += shelfHeight;
+                x = 0;
+                shelfHeight = 0;
+            }
+            if (y + height > pageSize) {
+                queuePage(page, usedWidth, y + shelfHeight, regions);
+                pages++;
+                page.clear();
+                x = 0;
+                y = 0;
+                shelfHeight = 0;
+                usedWidth = 0;
+            }
+            page.add(new Placement(image, x + PADDING, y + PADDING));
+            x += width;
+            shelfHeight = Math.max(shelfHeight, height);
+            usedWidth = Math.max(usedWidth, x);
+        }
+        queuePage(page, usedWidth, y + shelfHeight, regions);
+        return pages + 1;
+    }
+
+    private static void queuePage(final List<Placement> page, final int width, final int height, final Map<String, TextureRegion> regions) {
+        final ByteBuffer pixels = MemoryUtil.memCalloc(width * height * 4);
+        for (Placement placement : page) {
+            copy(placement, pixels, width);
+            placement.image().free();
+        }
+        queue(new Upload(List.copyOf(page), new Image("atlas", pixels, width, height, false), regions, null));
+    }
+
+    /**
+     * Copies an image into an atlas and repeats its edge pixels into the padding around it
+     */
+    private static void copy(final Placement placement, final ByteBuffer atlas, final int atlasWidth) {
+        final Image image = placement.image();
+        final ByteBuffer pixels = image.pixels();
+        final int rowBytes = image.width() * 4;
+        for (int row = -PADDING; row < image.height() + PADDING; row++) {
+            final int source = Math.clamp(row, 0, image.height() - 1) * rowBytes;
+            final int target = ((placement.y() + row) * atlasWidth + placement.x()) * 4;
+            MemoryUtil.memCopy(MemoryUtil.memAddress(pixels) + source, MemoryUtil.memAddress(atlas) + target, rowBytes);
+            final int left = pixels.getInt(source);
+            final int right = pixels.getInt(source + rowBytes - 4);
+            for (int i = 1; i <= PADDING; i++) {
+                atlas.putInt(target - i * 4, left);
+                atlas.putInt(target + rowBytes + (i - 1) * 4, right);
+            }
+        }
+    }
+
+    /**
+     * A texture being uploaded a few rows at a time
+     */
+    private static final class Upload {
+        private final List<Placement> placements;
+        private final Image texture;
+        private final Map<String, TextureRegion> regions;
+        /**
+         * The large image being uploaded, or null for an atlas
+         */
+        private final Resident resident;
+        private int textureId;
+        private int row;
+
+        private Upload(final List<Placement> placements, final Image texture, final Map<String, TextureRegion> regions, final Resident resident) {
+            this.placements = placements;
+            this.texture = texture;
+            this.regions = regions;
+            this.resident = resident;
+        }
+
+        /**
+         * Uploads the next rows of the texture
+         * @return True if the whole texture has been uploaded
+         */
+        private boolean step() {
+            final int width = this.texture.width();
+            final int height = this.texture.height();
+            if (this.textureId == 0) {
+                this.textureId = RenderUtils.createTexture(width, height);
+            } else {
+                GL11.glBindTexture(GL11.GL_TEXTURE_2D, this.textureId);
+            }
+            final int rowBytes = width * 4;
+            final int rows = Math.min(Math.max(1, UPLOAD_STEP_BYTES / rowBytes), height - this.row);
+            GL11.glTexSubImage2D(GL11.GL_TEXTURE_2D, 0, 0, this.row, width, rows, GL11.GL_RGBA, GL11.GL_UNSIGNED_BYTE,
+                    MemoryUtil.memAddress(this.texture.pixels()) + (long) this.row * rowBytes);
+            this.row += rows;
+            return this.row == height;
+        }
+
+        /**
+         * Replaces the placeholders with the uploaded images and frees the pixels
+         */
+        private void finish() {
+            final int width = this.texture.width();
+            final int height = this.texture.height();
+            long bytes = (long) width * height * 4;
+            // Sprites are drawn close to their size, and mipmaps would blend neighboring sprites at small sizes
+            if (this.resident != null && GL.getCapabilities().OpenGL30) {
+                GL11.glBindTexture(GL11.GL_TEXTURE_2D, this.textureId);
+                GL30.glGenerateMipmap(GL11.GL_TEXTURE_2D);
+                GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_MIN_FILTER, GL11.GL_LINEAR_MIPMAP_LINEAR);
+                bytes += bytes / 3;
+            }
+            textureBytes += bytes;
+            for (Placement placement : this.placements) {
+                final Image image = placement.image();
+                final TextureRegion region = new TextureRegion(this.textureId,
+                        (float) placement.x() / width,
+                        (float) placement.y() / height,
+                        (float) (placement.x() + image.width()) / width,
+                        (float) (placement.y() + image.height()) / height,
+                        image.width(), image.height());
+                // Removed images failed to load, or were replaced while loading
+                this.regions.replace(image.name(), placeholder, region);
+                if (this.resident != null) {
+                    this.resident.loaded(region, bytes);
+                }
+            }
+            this.texture.free();
+        }
+    }
+
+    /**
+     * A large image with its own texture, loaded when it is drawn
+     */
+    private static final class Resident {
+        private final String name;
+        private final Path path;
+        private final Map<String, TextureRegion> regions;
+        /**
+         * The last frame the image was drawn
+         */
+        private volatile long lastUsed;
+        private State state = State.UNLOADED;
+        /**
+         * The loaded image and its GPU memory in bytes. Only used on the GL thread
+         */
+        private TextureRegion region;
+        private long bytes;
+
+        private enum State {
+            UNLOADED,
+            LOADING,
+            LOADED,
+            FAILED
+        }
+
+        private Resident(final String name, final Path path, final Map<String, TextureRegion> regions) {
+            this.name = name;
+            this.path = path;
+            this.regions = regions;
+        }
+
+        /**
+         * Starts loading the image if it is not loaded
+         */
+        private synchronized void request() {
+            if (this.state == State.UNLOADED) {
+                this.state = State.LOADING;
+                DECODERS.execute(this::load);
+            }
+        }
+
+        private void load() {
+            try {
+                final Image image = loadImage(this.name, this.path, maxSize);
+                queue(new Upload(List.of(new Placement(image, 0, 0)), image, this.regions, this));
+            } catch (IOException e) {
+                DebugLogger.error("Failed to load image [{}]", this.path, e);
+                this.regions.remove(this.name);
+                synchronized (this) {
+                    this.state = State.FAILED;
+                }
+            }
+        }
+
+        private synchronized void loaded(final TextureRegion region, final long bytes) {
+            this.region = region;
+            this.bytes = bytes;
+            this.state = State.LOADED;
+        }
+
+        private synchronized boolean isEvictable() {
+            return this.state == State.LOADED && !PINNED.contains(this.name) && this.lastUsed < frame - 1;
+        }
+
+        /**
+         * Deletes the texture, drawing the placeholder until the image is drawn again
+         */
+        private synchronized void unload() {
+            this.regions.replace(this.name, this.region, placeholder);
+            GL11.glDeleteTextures((int) this.region.textureId());
+            textureBytes -= this.bytes;
+            this.region = null;
+            this.bytes = 0;
+            this.state = State.UNLOADED;
+            DebugLogger.info("Unloaded image [{}]", this.name);
+        }
+    }
+}
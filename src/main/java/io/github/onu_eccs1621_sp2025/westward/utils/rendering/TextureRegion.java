@@ -0,0 +1,30 @@
+package io.github.onu_eccs1621_sp2025.westward.utils.rendering;
+
+/**
+ * An image inside a GL texture.<p>
+ * Images are packed into shared atlas textures, so an image is drawn from
+ * part of a texture given by its UV coordinates.
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.0
+ * @param textureId The GL texture holding the image
+ * @param u0 The left edge of the image in the texture, from 0 to 1
+ * @param v0 The top edge of the image in the texture, from 0 to 1
+ * @param u1 The right edge of the image in the texture, from 0 to 1
+ * @param v1 The bottom edge of the image in the texture, from 0 to 1
+ * @param width The width of the image in pixels
+ * @param height The height of the image in pixels
+ */
+public record TextureRegion(long textureId, float u0, float v0, float u1, float v1, int width, int height) {
+
+    /**
+     * Creates a region covering a whole texture
+     * @param textureId The GL texture
+     * @param width The width of the texture in pixels
+     * @param height The height of the texture in pixels
+     * @return The region
+     */
+    public static TextureRegion whole(final long textureId, final int width, final int height) {
+        return new TextureRegion(textureId, 0, 0, 1, 1, width, height);
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.onu_eccs1621_sp2025.westward.utils.sound;
+
+import io.github.onu_eccs1621_sp2025.westward.utils.Config;
+import io.github.onu_eccs1621_sp2025.westward.utils.DebugLogger;
+import io.github.onu_eccs1621_sp2025.westward.utils.profiling.SoundLoadEvent;
+import org.lwjgl.openal.AL10;
+
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps recently played sounds loaded in OpenAL buffers.<p>
+ * A sound is loaded the first time it is played and kept until the loaded sounds use more memory
+ * than the budget in the config. The least recently played sounds that are not playing are unloaded first.
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.1
+ */
+public final class AudioBuffers {
+    /**
+     * Loaded sounds by file, least recently played first
+     */
+    private static final Map<Path, Buffer> BUFFERS = new LinkedHashMap<>(16, 0.75F, true);
+    /**
+     * The memory used by loaded sounds in bytes
+     */
+    private static long totalBytes;
+
+    /**
+     * A loaded sound
+     */
+    private static final class Buffer {
+        private final int id;
+        private final int bytes;
+        /**
+         * The number of sources playing the sound
+         */
+        private int users;
+
+        private Buffer(final int id, final int bytes) {
+            this.id = id;
+            this.bytes = bytes;
+        }
+    }
+
+    /**
+     * Gets the buffer for a sound, loading it if it is not loaded.<p>
+     * The buffer is kept loaded until it is released
+     * @param path The WAV file
+     * @return The OpenAL buffer id, or 0 if the sound cannot be loaded
+     */
+    public static synchronized int acquire(final Path path) {
+        Buffer buffer = BUFFERS.get(path);
+        if (buffer == null) {
+            final SoundLoadEvent event = new SoundLoadEvent();
+            event.begin();
+            final int id = SimpleWavLoader.loadWavToOpenALBuffer(path);
+            if (id == 0) {
+                return 0;
+            }
+            buffer = new Buffer(id, AL10.alGetBufferi(id, AL10.AL_SIZE));
+            BUFFERS.put(path, buffer);
+            totalBytes += buffer.bytes;
+            if (event.shouldCommit()) {
+                event.file = path.getFileName().toString();
+                event.bytes = buffer.bytes;
+                event.commit();
+            }
+        }
+        buffer.users++;
+        evict();
+        return buffer.id;
+    }
+
+    /**
+     * Releases a buffer once no source plays it, so it may be unloaded
+     * @param id The OpenAL buffer id
+     */
+    public static synchronized void release(final int id) {
+        for (Buffer buffer : BUFFERS.values()) {
+            if (buffer.id == id) {
+                buffer.users = Math.max(0, buffer.users - 1);
+                break;
+            }
+        }
+        evict();
+    }
+
+    /**
+     * Gets the memory used by loaded sounds
+     * @return The memory in bytes
+     */
+    public static synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * Unloads every sound. Sources must be deleted first
+     */
+    public static synchronized void clear() {
+        for (Buffer buffer : BUFFERS.values()) {
+            AL10.alDeleteBuffers(buffer.id);
+        }
+        BUFFERS.clear();
+        totalBytes = 0;
+    }
+
+    /**
+     * Unloads the least recently played sounds that are not playing until the sounds fit the budget
+     */
+    private static void evict() {
+        final long budget = Config.getConfig().getAudioMemoryMb() * 1024L * 1024L;
+        if (budget <= 0) {
+            return;
+        }
+        final Iterator<Map.Entry<Path, Buffer>> iterator = BUFFERS.entrySet().iterator();
+        while (totalBytes > budget && iterator.hasNext()) {
+            final Map.Entry<Path, Buffer> entry = iterator.next();
+            final Buffer buffer = entry.getValue();
+            if (buffer.users == 0) {
+                AL10.alDeleteBuffers(buffer.id);
+                totalBytes -= buffer.bytes;
+                iterator.remove();
+                DebugLogger.info("Unloaded sound [{}]", entry.getKey());
+            }
+        }
+    }
+}
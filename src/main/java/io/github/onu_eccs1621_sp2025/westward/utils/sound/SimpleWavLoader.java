@@ -4,11 +4,12 @@ import io.github.onu_eccs1621_sp2025.westward.utils.DebugLogger;
 import org.lwjgl.openal.AL10;
 import org.lwjgl.system.MemoryUtil;
 
-import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 /**
  * A simple WAV file loader for PCM 16‑bit mono 44100Hz files,
@@ -25,10 +26,10 @@ public final class SimpleWavLoader {
      * @param wavFile the WAV file to load
      * @return the OpenAL buffer id, or 0 on failure
      */
-    public static int loadWavToOpenALBuffer(File wavFile) {
-        try (FileInputStream fis = new FileInputStream(wavFile)) {
+    public static int loadWavToOpenALBuffer(Path wavFile) {
+        try (InputStream fis = Files.newInputStream(wavFile)) {
             // Read entire file into ByteBuffer
-            long fileLength = wavFile.length();
+            long fileLength = Files.size(wavFile);
             ByteBuffer fileBuffer = MemoryUtil.memAlloc((int) fileLength);
             byte[] temp = new byte[8192];
             int read;
@@ -19,7 +19,7 @@ import static org.lwjgl.system.MemoryUtil.NULL;
  * Manages the audio playback for the game using OpenAL
  * @author Dylan Catte
  * @since 1.0.0 Beta 1
- * @version 2.0
+ * @version 2.1
  */
 public final class SoundEngine {
 
@@ -79,8 +79,7 @@ public final class SoundEngine {
             AL10.alSourcei(sfxSource, AL10.AL_BUFFER, 0);
             AL10.alDeleteSources(musicSource);
             AL10.alDeleteSources(sfxSource);
-            AL10.alDeleteBuffers(musicBuffer);
-            AL10.alDeleteBuffers(sfxBuffer);
+            AudioBuffers.clear();
 
             ALC10.alcDestroyContext(context);
             ALC10.alcCloseDevice(device);
@@ -135,22 +134,22 @@ public final class SoundEngine {
     }
 
     private static void process(final Path filePath, boolean shouldLoop, boolean music) {
-        // Reset previous
+        // Reset previous. The buffer stays loaded in case it is played again
         if (music) {
             stopMusic();
-            if (musicBuffer != 0) {
-                AL10.alDeleteBuffers(musicBuffer);
+            if (musicSource != 0) {
                 AL10.alDeleteSources(musicSource);
+                AudioBuffers.release(musicBuffer);
             }
         } else {
-            if (sfxBuffer != 0) {
-                AL10.alDeleteBuffers(sfxBuffer);
+            if (sfxSource != 0) {
                 AL10.alDeleteSources(sfxSource);
+                AudioBuffers.release(sfxBuffer);
             }
         }
 
-        // Load PCM data from WAV file
-        int bufferId = SimpleWavLoader.loadWavToOpenALBuffer(filePath.toFile());
+        // Load PCM data from WAV file, unless it was played recently
+        int bufferId = AudioBuffers.acquire(filePath);
         int source = AL10.alGenSources();
         AL10.alSourcei(source, AL10.AL_BUFFER, bufferId);
 
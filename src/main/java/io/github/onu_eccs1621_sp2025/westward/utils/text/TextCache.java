@@ -0,0 +1,173 @@
+package io.github.onu_eccs1621_sp2025.westward.utils.text;
+
+import imgui.ImGui;
+import io.github.onu_eccs1621_sp2025.westward.utils.rendering.RenderUtils;
+
+/**
+ * A translated text and its measured size, kept between frames.<p>
+ * Each place that draws a translation every frame keeps its own cache. The text is only translated and formatted
+ * again when the language or the arguments change, and only measured again when the font scale changes.
+ * Must only be used on the GL thread.
+ * @author Dylan Catte
+ * @since 1.0.0 Beta 2
+ * @version 1.0
+ */
+public final class TextCache {
+    /**
+     * Incremented every time translations are loaded
+     */
+    private static volatile int languageVersion;
+    /**
+     * The translation key
+     */
+    private final String key;
+    private String text;
+    private float width;
+    private float height;
+    /**
+     * The language version the text was translated in, or -1 before it is translated
+     */
+    private int textVersion = -1;
+    /**
+     * The font scale the text was measured at, or -1 if it needs to be measured
+     */
+    private float fontScale = -1;
+    // The arguments the text was formatted with
+    private String firstArg;
+    private String secondArg;
+    private double numberArg;
+
+    /**
+     * Creates a cache for a translation
+     * @param key The translation key
+     */
+    public TextCache(final String key) {
+        this.key = key;
+    }
+
+    /**
+     * Invalidates every cached translation. Called when translations are loaded
+     */
+    public static void invalidateAll() {
+        languageVersion++;
+    }
+
+    /**
+     * Gets the translation
+     * @return This cache
+     */
+    public TextCache get() {
+        if (this.isStale()) {
+            this.set(Translations.getTranslatedText(this.key));
+        }
+        return this.measure();
+    }
+
+    /**
+     * Gets the translation filled in with an argument
+     * @param arg The argument for the first %s pattern
+     * @return This cache
+     */
+    public TextCache get(final String arg) {
+        if (this.isStale() || !arg.equals(this.firstArg)) {
+            this.firstArg = arg;
+            this.set(Translations.getTranslatedText(this.key, arg));
+        }
+        return this.measure();
+    }
+
+    /**
+     * Gets the translation filled in with two arguments
+     * @param firstArg The argument for the first %s pattern
+     * @param secondArg The argument for the second %s pattern
+     * @return This cache
+     */
+    public TextCache get(final String firstArg, final String secondArg) {
+        if (this.isStale() || !firstArg.equals(this.firstArg) || !secondArg.equals(this.secondArg)) {
+            this.firstArg = firstArg;
+            this.secondArg = secondArg;
+            this.set(Translations.getTranslatedText(this.key, firstArg, secondArg));
+        }
+        return this.measure();
+    }
+
+    /**
+     * Gets the translation filled in with a whole number. The number is only converted to text when it changes
+     * @param number The argument for the first %s pattern
+     * @return This cache
+     */
+    public TextCache get(final long number) {
+        if (this.isStale() || number != this.numberArg) {
+            this.numberArg = number;
+            this.set(Translations.getTranslatedText(this.key, Long.toString(number)));
+        }
+        return this.measure();
+    }
+
+    /**
+     * Gets the translation filled in with a formatted number. The number is only formatted when it changes
+     * @param format The {@link String#format(String, Object...)} pattern for the number
+     * @param number The argument for the first %s pattern
+     * @return This cache
+     */
+    public TextCache get(final String format, final double number) {
+        if (this.isStale() || Double.compare(number, this.numberArg) != 0) {
+            this.numberArg = number;
+            this.set(Translations.getTranslatedText(this.key, String.format(format, number)));
+        }
+        return this.measure();
+    }
+
+    /**
+     * Draws the text centered horizontally on the screen
+     * @param y The y coordinate of the text
+     */
+    public void textCentered(final float y) {
+        RenderUtils.centeredHorizontal(this.width, y);
+        ImGui.text(this.text);
+    }
+
+    /**
+     * Gets the translated text
+     * @return The text
+     */
+    public String getText() {
+        return this.text;
+    }
+
+    /**
+     * Gets the width of the text at the font scale it was last gotten at
+     * @return The width in pixels
+     */
+    public float getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Gets the height of the text at the font scale it was last gotten at
+     * @return The height in pixels
+     */
+    public float getHeight() {
+        return this.height;
+    }
+
+    private boolean isStale() {
+        return this.textVersion != languageVersion;
+    }
+
+    private void set(final String translated) {
+        this.text = translated;
+        this.textVersion = languageVersion;
+        this.fontScale = -1;
+    }
+
+    private TextCache measure() {
+        final float scale = ImGui.getFont().getScale();
+        if (scale != this.fontScale) {
+            this.fontScale = scale;
+            this.width = ImGui.calcTextSizeX(this.text);
+            this.height = ImGui.calcTextSizeY(this.text);
+        }
+        return this;
+    }
+}
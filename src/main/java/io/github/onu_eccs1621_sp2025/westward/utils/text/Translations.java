@@ -1,27 +1,28 @@
 package io.github.onu_eccs1621_sp2025.westward.utils.text;
 
-import com.google.gson.reflect.TypeToken;
 import io.github.onu_eccs1621_sp2025.westward.TrailApplication;
 import io.github.onu_eccs1621_sp2025.westward.game.Game;
 import io.github.onu_eccs1621_sp2025.westward.screen.Renderer;
 import io.github.onu_eccs1621_sp2025.westward.utils.DebugLogger;
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.ContentPacks;
+import io.github.onu_eccs1621_sp2025.westward.utils.registry.JsonStream;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
  * For changing text in the game.
  * @author Dylan Catte, Ben Westover, Noah Sumerauer, Micah Lee
- * @version 1.0
+ * @version 1.2
  * @since 1.0.0 Alpha 1
  */
 public class Translations {
     /**
-     * The translation map for all text
+     * The translation map for all text, which the game thread also reads
      */
-    private static Map<String, String> translationMap;
+    private static volatile Map<String, String> translationMap;
     /**
      * The message displayed when no translation is available
      */
@@ -57,17 +58,24 @@ public class Translations {
     }
 
     /**
-     * Loads the translations from the specified language file
+     * Loads the translations from the specified language file.<p>
+     * Must be called on the GL thread or before the window opens, since the translation caches of the Renderer are refilled
      */
     public static void loadTranslations(final String lang) {
         final Path path = TrailApplication.getDataPaths().translationsPath().resolve(lang + ".json");
         try {
-            translationMap = TrailApplication.getGsonInstance().fromJson(Files.newBufferedReader(path), new TypeToken<Map<String, String>>(){}.getType());
+            // Content packs add to and replace translations from the game data
+            final Map<String, String> translations = new HashMap<>();
+            for (Path layer : ContentPacks.getLayers(path)) {
+                JsonStream.readStrings(layer, translations);
+            }
+            translationMap = translations;
         } catch (IOException e) {
-            DebugLogger.warn("Translation file not found: {}", lang + ".json");
+            DebugLogger.warn("Failed to load translation file {}: {}", lang + ".json", e.getMessage());
         }
 
         // Reload translation caches
+        TextCache.invalidateAll();
         Renderer.reloadTranslations();
         Game.reloadTranslationCaches();
     }